@@ -0,0 +1,212 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: AstArena
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test packing of object AST into typed-array arena and node views
+// Philosophy: Hand-built ESTree fixtures, no tokenizer/parser dependency
+// Speed: Fast (in-memory only)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { AstArena, ArenaNodeView, NO_NODE } from '../../src/grammars/shared/arena-ast.js';
+
+// ══════════════════════════════════════════════════════════════════════════════
+// FIXTURE: Small program covering arrays, single children and scalars
+// ══════════════════════════════════════════════════════════════════════════════
+
+const identifier = (name) => ({ type: 'Identifier', name });
+
+const fixtureAst = {
+    type: 'Program',
+    start: 0,
+    end: 20,
+    body: [
+        {
+            type: 'VariableDeclaration',
+            kind: 'const',
+            declarations: [
+                {
+                    type: 'VariableDeclarator',
+                    id: identifier('timeout'),
+                    init: { type: 'Literal', value: 3000, raw: '3000' }
+                }
+            ]
+        },
+        {
+            type: 'FunctionDeclaration',
+            async: true,
+            id: identifier('load'),
+            params: [identifier('a'), identifier('b')],
+            body: {
+                type: 'BlockStatement',
+                body: [
+                    {
+                        type: 'ExpressionStatement',
+                        expression: {
+                            type: 'ObjectExpression',
+                            properties: [
+                                { type: 'Property', key: identifier('retry'), value: identifier('b'), kind: 'init', computed: false }
+                            ]
+                        }
+                    },
+                    {
+                        type: 'ExpressionStatement',
+                        expression: {
+                            type: 'LogicalExpression',
+                            operator: '||',
+                            left: identifier('a'),
+                            right: { type: 'Literal', value: null, raw: 'null' }
+                        }
+                    }
+                ]
+            }
+        }
+    ]
+};
+
+const collectTypes = (node, out = []) => {
+    if (!node || typeof node !== 'object') return out;
+    if (Array.isArray(node)) {
+        node.forEach(item => collectTypes(item, out));
+        return out;
+    }
+    if (typeof node.type !== 'string') return out;
+    out.push(node.type);
+    for (const key in node) {
+        if (key !== 'type') collectTypes(node[key], out);
+    }
+    return out;
+};
+
+// ══════════════════════════════════════════════════════════════════════════════
+// PACKING
+// ══════════════════════════════════════════════════════════════════════════════
+
+describe('AstArena.fromTree', () => {
+    test('should store nodes in the same pre-order as a recursive walk', () => {
+        const arena = AstArena.fromTree(fixtureAst);
+        const types = [];
+        arena.forEach(view => types.push(view.type));
+
+        expect(types).toEqual(collectTypes(fixtureAst));
+        expect(arena.count).toBe(types.length);
+    });
+
+    test('should record parent links and contiguous subtree ranges', () => {
+        const arena = AstArena.fromTree(fixtureAst);
+
+        expect(arena.parent[0]).toBe(NO_NODE);
+        expect(arena.subtreeEnd[0]).toBe(arena.count);
+
+        for (let i = 1; i < arena.count; i++) {
+            const parent = arena.parent[i];
+            expect(parent).toBeLessThan(i);
+            expect(arena.subtreeEnd[parent]).toBeGreaterThanOrEqual(arena.subtreeEnd[i]);
+        }
+    });
+
+    test('should reject input without a root node type', () => {
+        expect(() => AstArena.fromTree({ body: [] })).toThrow();
+    });
+
+    test('should enforce the node limit', () => {
+        expect(() => AstArena.fromTree(fixtureAst, 3)).toThrow(/maximum node count/);
+    });
+
+    test('should keep string ids past the 16-bit range', () => {
+        const body = [];
+        for (let i = 0; i < 70000; i++) body.push({ type: 'ExpressionStatement', expression: identifier(`name${i}`) });
+        const arena = AstArena.fromTree({ type: 'Program', body });
+        expect(arena.kind).toBeInstanceOf(Uint32Array);
+        expect(arena.view(arena.count - 1).name).toBe('name69999');
+    });
+});
+
+describe('AstArena.open / append / close', () => {
+    test('should build the same arena statement by statement as fromTree', () => {
+        const { body, ...program } = fixtureAst;
+        const arena = AstArena.open({ ...program, body: [] });
+        for (const statement of body) arena.append(0, 'body', statement);
+        arena.close(fixtureAst.end);
+
+        const packed = AstArena.fromTree(fixtureAst);
+        expect(arena.count).toBe(packed.count);
+        expect(arena.view(0).toJSON()).toEqual(packed.view(0).toJSON());
+        expect(Array.from(arena.subtreeEnd.slice(0, arena.count))).toEqual(Array.from(packed.subtreeEnd.slice(0, packed.count)));
+        expect(arena.end[0]).toBe(fixtureAst.end);
+        expect(() => arena.append(0, 'body', body[0])).toThrow('after close()');
+    });
+
+    test('should enforce the node limit while appending', () => {
+        const arena = AstArena.open({ type: 'Program', body: [] }, 3);
+        expect(() => arena.append(0, 'body', fixtureAst.body[0])).toThrow(/maximum node count of 3/);
+    });
+});
+
+// ══════════════════════════════════════════════════════════════════════════════
+// NODE VIEW
+// ══════════════════════════════════════════════════════════════════════════════
+
+describe('ArenaNodeView', () => {
+    test('should expose ESTree-compatible fields', () => {
+        const program = AstArena.fromTree(fixtureAst).view(0);
+        const [declaration, fn] = program.body;
+
+        expect(declaration.kind).toBe('const');
+        expect(declaration.declarations[0].id.name).toBe('timeout');
+        expect(declaration.declarations[0].init.value).toBe(3000);
+        expect(declaration.declarations[0].init.raw).toBe('3000');
+
+        expect(fn.async).toBe(true);
+        expect(fn.params.map(p => p.name)).toEqual(['a', 'b']);
+        expect(Array.isArray(fn.body)).toBe(false);
+        expect(fn.body.type).toBe('BlockStatement');
+
+        const property = fn.body.body[0].expression.properties[0];
+        expect(property.kind).toBe('init');
+        expect(property.key.name).toBe('retry');
+        expect(property.value.name).toBe('b');
+        expect(property.computed).toBe(false);
+
+        const logical = fn.body.body[1].expression;
+        expect(logical.operator).toBe('||');
+        expect(logical.left.name).toBe('a');
+        expect(logical.right.value).toBeNull();
+        expect(logical.parent.type).toBe('ExpressionStatement');
+    });
+
+    test('should return null or empty arrays for missing fields', () => {
+        const program = AstArena.fromTree(fixtureAst).view(0);
+
+        expect(program.callee).toBeNull();
+        expect(program.arguments).toEqual([]);
+        expect(program.loc).toBeUndefined();
+        expect(program.name).toBeUndefined();
+    });
+
+    test('should be instances of ArenaNodeView', () => {
+        const arena = AstArena.fromTree(fixtureAst);
+        expect(arena.view(1)).toBeInstanceOf(ArenaNodeView);
+    });
+});
+
+// ══════════════════════════════════════════════════════════════════════════════
+// TRANSFER
+// ══════════════════════════════════════════════════════════════════════════════
+
+describe('AstArena transferable', () => {
+    test('should round-trip through toTransferable/fromTransferable', () => {
+        const arena = AstArena.fromTree(fixtureAst);
+        const expected = arena.view(0).toJSON();
+        const { message, transferList } = arena.toTransferable();
+
+        expect(transferList.every(buffer => buffer instanceof ArrayBuffer)).toBe(true);
+
+        const restored = AstArena.fromTransferable(message);
+        expect(restored.count).toBe(arena.count);
+        expect(restored.view(0).toJSON()).toEqual(expected);
+    });
+
+    test('should reject foreign messages', () => {
+        expect(() => AstArena.fromTransferable({})).toThrow();
+    });
+});
@@ -0,0 +1,77 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Bulk Scan primitives + tokenizer strings/comments/whitespace
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test indexOf/RegExp skips against a plain character loop, and the token edges they affect
+// Philosophy: Every jump must land where the character-by-character walk would stop
+// Speed: Fast (a few thousand short strings)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { readFileSync } from 'fs';
+import { createRunSkipper, createCharFinder, NextOccurrence } from '../../src/grammars/shared/bulk-scan.js';
+import { GrammarIndex } from '../../src/grammars/shared/grammar-index.js';
+import { PureBinaryTokenizer } from '../../src/grammars/shared/tokenizer-helper.js';
+
+const javascriptGrammar = JSON.parse(
+    readFileSync(new URL('../../src/grammars/shared/grammars/javascript.grammar.json', import.meta.url), 'utf8')
+);
+
+function tokenize(source) {
+    const tokenizer = new PureBinaryTokenizer(new GrammarIndex(javascriptGrammar));
+    return tokenizer.tokenize(source).map(token => [token.type, token.value]);
+}
+
+describe('bulk scan primitives', () => {
+    test('should stop where a character loop stops', () => {
+        const whitespace = [32, 9, 10, 13];
+        const skip = createRunSkipper(whitespace);
+        const find = createCharFinder([60, 123]);
+        const alphabet = [' ', '\t', '\n', 'a', '<', '{', 'ก'];
+        let seed = 5;
+        for (let n = 0; n < 2000; n++) {
+            let input = '';
+            for (let i = 0; i < n % 13; i++) {
+                seed = (seed * 1103515245 + 12345) & 0x7fffffff;
+                input += alphabet[(seed >> 8) % alphabet.length];
+            }
+            for (let from = 0; from <= input.length; from++) {
+                let expectedSkip = from;
+                while (expectedSkip < input.length && whitespace.includes(input.charCodeAt(expectedSkip))) expectedSkip++;
+                let expectedFind = from;
+                while (expectedFind < input.length && input[expectedFind] !== '<' && input[expectedFind] !== '{') expectedFind++;
+                expect(skip(input, from)).toBe(expectedSkip);
+                expect(find(input, from)).toBe(expectedFind === input.length ? -1 : expectedFind);
+            }
+        }
+    });
+
+    test('should answer increasing positions from one cached search', () => {
+        const backslashes = new NextOccurrence('\\');
+        backslashes.reset('a\\b\\\\c');
+        expect(backslashes.from(0)).toBe(1);
+        expect(backslashes.from(2)).toBe(3);
+        expect(backslashes.from(4)).toBe(4);
+        expect(backslashes.from(5)).toBe(-1);
+        expect(() => new NextOccurrence('')).toThrow('non-empty sequence');
+        expect(() => createRunSkipper([])).toThrow('non-empty array');
+    });
+});
+
+describe('PureBinaryTokenizer bulk paths', () => {
+    test('should keep escapes, unterminated strings and comments intact', () => {
+        expect(tokenize('a = "x\\"y\\\\" + \'q\';')).toEqual([
+            ['IDENTIFIER', 'a'], ['OPERATOR', '='], ['STRING', '"x\\"y\\\\"'], ['OPERATOR', '+'], ['STRING', "'q'"], ['PUNCTUATION', ';']
+        ]);
+        expect(tokenize('s = `a\\`b ${c}`')[2]).toEqual(['STRING', '`a\\`b ${c}`']);
+        expect(tokenize('s = "open\\')[2]).toEqual(['STRING', '"open\\']);
+        expect(tokenize('/* never closed')).toEqual([['COMMENT', '/* never closed']]);
+        expect(tokenize('x // tail')).toEqual([['IDENTIFIER', 'x'], ['COMMENT', '// tail']]);
+    });
+
+    test('should skip whitespace runs and keep positions', () => {
+        const tokenizer = new PureBinaryTokenizer(new GrammarIndex(javascriptGrammar));
+        const tokens = tokenizer.tokenize('a\n\n\t    \r\n  b');
+        expect(tokens.map(token => [token.value, token.start])).toEqual([['a', 0], ['b', 12]]);
+        expect(tokens[1].location.line).toBe(4);
+    });
+});
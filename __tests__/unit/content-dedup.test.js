@@ -0,0 +1,69 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: ContentDedup
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test that duplicate contents replay the first file's outcome and nothing else is kept
+// Philosophy: Real hashing from cli-config.json, hand-built violations
+// Speed: Fast (in-memory only)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import fs from 'fs';
+import { ContentDedup } from '../../src/dedup/content-dedup.js';
+
+const CLI_CONFIG = JSON.parse(fs.readFileSync(new URL('../../cli-config.json', import.meta.url), 'utf8'));
+
+const createDedup = () => new ContentDedup({
+    hashAlgorithm: CLI_CONFIG.contentDedup.hashAlgorithm,
+    duplicateLabel: CLI_CONFIG.messages.duplicateOf
+});
+
+const violation = { ruleId: 'NO_MOCKING', severity: 'CRITICAL', message: 'AST: jest.fn() mock function detected', location: { line: 3, column: 10 } };
+
+describe('ContentDedup', () => {
+    test('should hash identical bytes identically and different bytes differently', () => {
+        const dedup = createDedup();
+        expect(dedup.hash(Buffer.from('const a = 1;\n'))).toBe(dedup.hash(Buffer.from('const a = 1;\n')));
+        expect(dedup.hash(Buffer.from('const a = 1;\n'))).not.toBe(dedup.hash(Buffer.from('const a = 2;\n')));
+    });
+
+    test('should keep only violations and declarations of the first file', () => {
+        const dedup = createDedup();
+        const contentHash = dedup.hash(Buffer.from('const f = jest.fn(1);\n'));
+        expect(dedup.has(contentHash)).toBe(false);
+
+        dedup.record(contentHash, 'a/util.js', [violation], ['f']);
+        expect(dedup.entries.get(contentHash)).toEqual({ file: 'a/util.js', violations: [violation], declarations: ['f'] });
+
+        const replayed = dedup.replay(contentHash);
+        expect(replayed).toEqual({ violations: [violation], duplicateOf: 'a/util.js', declarations: ['f'] });
+        // ! สำเนาต่อไฟล์ - baseline / reporter แก้ violation ของไฟล์ซ้ำได้โดยไม่กระทบไฟล์แรก
+        replayed.violations[0].message = 'changed';
+        expect(dedup.replay(contentHash).violations[0].message).toBe(violation.message);
+        expect(dedup.size).toBe(1);
+    });
+
+    test('should rethrow the first file\'s error for every duplicate', () => {
+        const dedup = createDedup();
+        const contentHash = dedup.hash(Buffer.from('const x = [1];\n'));
+        const parseError = new Error('Unexpected token in primary expression: "["');
+        parseError.moduleSurface = [{ type: 'VariableDeclaration' }];
+        dedup.recordError(contentHash, 'a/broken.js', parseError);
+
+        expect(dedup.entries.get(contentHash)).toEqual({ file: 'a/broken.js', error: parseError.message });
+        let thrown = null;
+        try {
+            dedup.replay(contentHash);
+        } catch (error) {
+            thrown = error;
+        }
+        expect(thrown.message).toBe(`${parseError.message} (${CLI_CONFIG.messages.duplicateOf} a/broken.js)`);
+        expect(thrown.duplicateOf).toBe('a/broken.js');
+        expect(thrown.moduleSurface).toBeUndefined();
+    });
+
+    test('should reject missing configuration and unknown hashes', () => {
+        expect(() => new ContentDedup({ duplicateLabel: 'x' })).toThrow('requires hashAlgorithm');
+        expect(() => new ContentDedup({ hashAlgorithm: 'sha1' })).toThrow('requires duplicateLabel');
+        expect(() => createDedup().replay('missing')).toThrow('has no entry for missing');
+    });
+});
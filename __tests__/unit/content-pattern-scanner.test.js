@@ -0,0 +1,53 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: ContentPatternScanner
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test that the combined pass reports exactly what the per-pattern loop reports
+// Philosophy: Real suspicious-patterns.json against hand-written snippets
+// Speed: Fast (a few short strings)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { ContentPatternScanner } from '../../src/security/content-pattern-scanner.js';
+import { createSecurityConfig } from '../../src/security/security-config.js';
+
+const content = createSecurityConfig().policies.content;
+
+function naiveScan(patterns, text) {
+    const issues = [];
+    for (const patternConfig of patterns) {
+        const matches = [...text.matchAll(new RegExp(patternConfig.pattern.source, patternConfig.pattern.flags))];
+        if (matches.length > 0) {
+            issues.push({ name: patternConfig.name, matches: matches.length, first: matches[0].index });
+        }
+    }
+    return issues;
+}
+
+describe('ContentPatternScanner', () => {
+    test('should find every pattern the per-pattern loop finds, overlapping ones included', () => {
+        const scanner = new ContentPatternScanner(content.suspiciousPatterns, { maxPositions: 10 });
+        expect(scanner.gates.length).toBe(1);
+
+        const samples = [
+            'const total = items.reduce(add, 0);\n',
+            'const run = new Function("return 1");\nel.innerHTML = html;\nEVAL (code); eval(more)',
+            'setTimeout("tick()", 5); setInterval(\'tock()\', 5);\n<script src="x"></script>'
+        ];
+        for (const sample of samples) {
+            const summary = scanner.scan(sample).map(issue => ({ name: issue.name, matches: issue.matches, first: issue.positions[0].index }));
+            expect(summary).toEqual(naiveScan(content.suspiciousPatterns, sample));
+        }
+        expect(scanner.scan(samples[0])).toEqual([]);
+    });
+
+    test('should cap positions and refuse patterns that cannot be combined', () => {
+        const scanner = new ContentPatternScanner(content.suspiciousPatterns, { maxPositions: 2 });
+        const [issue] = scanner.scan('eval(a); eval(b); eval(c)');
+        expect(issue.matches).toBe(3);
+        expect(issue.positions).toEqual([{ index: 0, length: 5 }, { index: 9, length: 5 }]);
+
+        const backreference = { name: 'Quoted', pattern: /(["'])x\1/g };
+        expect(() => new ContentPatternScanner([backreference], { maxPositions: 2 })).toThrow('uses a backreference');
+        expect(() => new ContentPatternScanner(content.suspiciousPatterns, {})).toThrow('requires maxPositions');
+    });
+});
@@ -0,0 +1,100 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: CorpusTester Benchmark
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test benchmark summaries, the baseline regression check and when the baseline is written
+// Philosophy: Hand-built results for the arithmetic, one real worker run over a temp corpus
+// Speed: Fast (two tiny fixture files, one worker)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import { CorpusTester } from '../../src/grammars/shared/corpus-tester.js';
+
+function fileResult(overrides) {
+    return {
+        project: 'Alpha', filePath: path.join(process.cwd(), 'a.js'), bytes: 100, tokens: 1000,
+        tokenizeMs: 10, parseMs: 5, tokenizeError: null, parseError: null, heapUsed: 1000,
+        ...overrides
+    };
+}
+
+const rates = (tokensPerSecond) => ({ tokensPerSecond });
+
+describe('CorpusTester compareWithBaseline', () => {
+    test('should report only drops beyond the threshold', () => {
+        const tester = new CorpusTester();
+        const report = { overall: rates(80), projects: { Alpha: rates(90), Beta: rates(50), Gamma: rates(10) } };
+        const baseline = { overall: rates(100), projects: { Alpha: rates(100), Beta: rates(100) } };
+
+        const regressions = tester.compareWithBaseline(report, baseline, 0.15);
+        // ! overall -20% และ Beta -50% เกิน 15%, Alpha -10% ไม่เกิน, Gamma ไม่มีใน baseline
+        expect(regressions.map(regression => regression.scope)).toEqual(['overall', 'Beta']);
+        expect(regressions[0]).toEqual({ scope: 'overall', baselineTokensPerSecond: 100, currentTokensPerSecond: 80, change: -0.2 });
+    });
+
+    test('should ignore improvements and zero-throughput baselines', () => {
+        const tester = new CorpusTester();
+        const report = { overall: rates(200), projects: { Alpha: rates(0) } };
+        const baseline = { overall: rates(100), projects: { Alpha: rates(0) } };
+        expect(tester.compareWithBaseline(report, baseline, 0.15)).toEqual([]);
+    });
+});
+
+describe('CorpusTester summarizeBenchmark', () => {
+    test('should exclude tokenize failures from throughput and keep the max post-file heap', () => {
+        const tester = new CorpusTester();
+        const report = tester.summarizeBenchmark([
+            fileResult({ heapUsed: 3000 }),
+            fileResult({ project: 'Beta', tokens: 500, tokenizeMs: 5, parseError: 'unexpected token', heapUsed: 7000 }),
+            fileResult({ tokens: 0, tokenizeMs: 2, tokenizeError: 'bad char', heapUsed: 2000 })
+        ], 50, 2);
+
+        expect(report.overall).toEqual({
+            files: 3, bytes: 200, tokens: 1500, tokenizeMs: 15, parseMs: 10,
+            tokenizeFailures: 1, parseFailures: 1, tokensPerSecond: 100000, bytesPerSecond: 8000
+        });
+        expect(report.projects.Alpha.files).toBe(2);
+        expect(report.projects.Alpha.tokensPerSecond).toBe(100000);
+        expect(report.maxPostFileHeapBytes).toBe(7000);
+        expect(report.files[0].file).toBe('a.js');
+    });
+});
+
+describe('CorpusTester benchmarkAll', () => {
+    test('should write a baseline on the first run and flag a regression against a faster one', async () => {
+        const directory = fs.mkdtempSync(path.join(os.tmpdir(), 'corpus-benchmark-'));
+        const baselinePath = path.join(directory, 'baseline.json');
+        const sources = ['const f = jest.fn(1);\n', 'const g = jest.fn(2);\n'].map((code, index) => {
+            const filePath = path.join(directory, `f${index}.js`);
+            fs.writeFileSync(filePath, code);
+            return filePath;
+        });
+
+        try {
+            const tester = new CorpusTester();
+            tester.collectBenchmarkJobs = () => sources.map(filePath => ({ filePath, language: 'javascript', project: 'Fixture' }));
+
+            const first = await tester.benchmarkAll({ workerCount: 1, baselinePath });
+            expect(first.regressions).toEqual([]);
+            expect(first.report.overall.files).toBe(2);
+            expect(first.report.overall.tokens).toBeGreaterThan(0);
+            expect(first.report.maxPostFileHeapBytes).toBeGreaterThan(0);
+            expect(JSON.parse(fs.readFileSync(baselinePath, 'utf8')).overall.tokens).toBe(first.report.overall.tokens);
+
+            // ! baseline ที่เร็วกว่า 1000 เท่า = ต้องเจอ regression ทั้ง overall และ project
+            const faster = JSON.parse(fs.readFileSync(baselinePath, 'utf8'));
+            faster.overall.tokensPerSecond *= 1000;
+            faster.projects.Fixture.tokensPerSecond *= 1000;
+            fs.writeFileSync(baselinePath, JSON.stringify(faster));
+
+            const second = await tester.benchmarkAll({ workerCount: 1, baselinePath });
+            expect(second.regressions.map(regression => regression.scope)).toEqual(['overall', 'Fixture']);
+            // ! ไม่มี --update-baseline = baseline เดิมต้องไม่ถูกเขียนทับ
+            expect(JSON.parse(fs.readFileSync(baselinePath, 'utf8')).overall.tokensPerSecond).toBe(faster.overall.tokensPerSecond);
+        } finally {
+            fs.rmSync(directory, { recursive: true, force: true });
+        }
+    });
+});
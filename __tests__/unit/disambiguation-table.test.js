@@ -0,0 +1,118 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Disambiguation Table + tokenizer '/' and '<'
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test AMBIGUOUS_SYMBOLS compiled into a lookup table and its use in the tokenizer
+// Philosophy: Real registry, real parser-config.json labels, real JavaScript grammar read as each language
+// Speed: Fast (one table compile, a few short inputs)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { readFileSync } from 'fs';
+import { compileDisambiguationTable } from '../../src/grammars/shared/disambiguation-table.js';
+import { GrammarIndex } from '../../src/grammars/shared/grammar-index.js';
+import { PureBinaryTokenizer } from '../../src/grammars/shared/tokenizer-helper.js';
+
+const javascriptGrammar = JSON.parse(
+    readFileSync(new URL('../../src/grammars/shared/grammars/javascript.grammar.json', import.meta.url), 'utf8')
+);
+
+// ! jsx / typescript grammar เป็นส่วนขยาย - tokenizer อ่านด้วย JavaScript grammar แล้วเปลี่ยนแค่ภาษา
+function tokenize(source, language = 'jsx') {
+    const tokenizer = new PureBinaryTokenizer(new GrammarIndex(javascriptGrammar));
+    tokenizer.setLanguage(language);
+    return tokenizer.tokenize(source).map(token => [token.type, token.value]);
+}
+
+describe('compileDisambiguationTable', () => {
+    const table = compileDisambiguationTable('javascript');
+
+    test('should split / between division and regex by the previous token', () => {
+        expect(table.resolve('a / b', 2, { type: 'IDENTIFIER', value: 'a' }).type).toBe('DIVISION');
+        expect(table.resolve('a++ / 2', 4, { type: 'OPERATOR', value: '++' }).type).toBe('DIVISION');
+        expect(table.resolve('x = /ab/', 4, { type: 'OPERATOR', value: '=' }).type).toBe('REGEXP_START');
+        expect(table.resolve('(/a/', 1, { type: 'PUNCTUATION', value: '(' }).type).toBe('REGEXP_START');
+        expect(table.resolve('/a/', 0, null).type).toBe('REGEXP_START');
+    });
+
+    test('should split < between comparison, shift and JSX', () => {
+        const jsx = compileDisambiguationTable('jsx');
+        expect(table.resolve('a < b', 2, { type: 'IDENTIFIER', value: 'a' }).type).toBe('LESS_THAN');
+        expect(table.resolve('a<<2', 1, { type: 'IDENTIFIER', value: 'a' }).type).toBe('SHIFT_LEFT');
+        expect(jsx.resolve('return <div>', 7, { type: 'KEYWORD', value: 'return' }).type).toBe('JSX_OPEN');
+        expect(jsx.resolve('x && <A', 5, { type: 'OPERATOR', value: '&&' }).type).toBe('JSX_OPEN');
+    });
+
+    test('should drop patterns for other languages', () => {
+        const typescript = compileDisambiguationTable('typescript');
+        expect(typescript.patterns.some(pattern => pattern.type === 'GENERIC_OPEN')).toBe(true);
+        expect(table.patterns.some(pattern => pattern.type === 'GENERIC_OPEN')).toBe(false);
+        // ! JSX มีเฉพาะ jsx / tsx
+        expect(table.patterns.some(pattern => pattern.type === 'JSX_OPEN')).toBe(false);
+        expect(typescript.patterns.some(pattern => pattern.type === 'JSX_OPEN')).toBe(false);
+        expect(compileDisambiguationTable('tsx').patterns.some(pattern => pattern.type === 'JSX_OPEN')).toBe(true);
+    });
+
+    test('should read < after function as a type parameter list in typescript and tsx', () => {
+        const source = 'return function <T extends (...args: any[]) => any>(fn: T) {}';
+        const previous = { type: 'KEYWORD', value: 'function' };
+        expect(compileDisambiguationTable('typescript').resolve(source, 16, previous).type).toBe('GENERIC_OPEN');
+        expect(compileDisambiguationTable('tsx').resolve(source, 16, previous).type).toBe('GENERIC_OPEN');
+        expect(table.resolve(source, 16, previous).type).not.toBe('JSX_OPEN');
+    });
+});
+
+describe('PureBinaryTokenizer with the disambiguation table', () => {
+    test('should read regex literals as one REGEX token', () => {
+        expect(tokenize('x = /[/]\\//gi; y = a / b;')).toEqual([
+            ['IDENTIFIER', 'x'], ['OPERATOR', '='], ['REGEX', '/[/]\\//gi'], ['PUNCTUATION', ';'],
+            ['IDENTIFIER', 'y'], ['OPERATOR', '='], ['IDENTIFIER', 'a'], ['OPERATOR', '/'], ['IDENTIFIER', 'b'], ['PUNCTUATION', ';']
+        ]);
+        expect(tokenize("s.replace(/'/g, '')")[4]).toEqual(['REGEX', "/'/g"]);
+    });
+
+    test('should read JSX text without treating quotes as strings', () => {
+        expect(tokenize("return <p title=\"t\">Don't {name}</p>;")).toEqual([
+            ['KEYWORD', 'return'], ['OPERATOR', '<'], ['IDENTIFIER', 'p'], ['IDENTIFIER', 'title'], ['OPERATOR', '='],
+            ['STRING', '"t"'], ['OPERATOR', '>'], ['JSX_TEXT', "Don't "], ['PUNCTUATION', '{'], ['IDENTIFIER', 'name'],
+            ['PUNCTUATION', '}'], ['OPERATOR', '<'], ['OPERATOR', '/'], ['IDENTIFIER', 'p'], ['OPERATOR', '>'], ['PUNCTUATION', ';']
+        ]);
+    });
+
+    test('should return to JavaScript after nested, self-closing and fragment elements', () => {
+        const tokens = tokenize('a = <A b={c ? <B/> : 1}><>x</></A>; d >= e;');
+        expect(tokens.filter(([type]) => type === 'JSX_TEXT')).toEqual([['JSX_TEXT', 'x']]);
+        expect(tokens.slice(-5)).toEqual([
+            ['PUNCTUATION', ';'], ['IDENTIFIER', 'd'], ['OPERATOR', '>='], ['IDENTIFIER', 'e'], ['PUNCTUATION', ';']
+        ]);
+    });
+
+    test('should not open JSX in typescript or javascript', () => {
+        const source = 'return function <T extends (...args: any[]) => any>(fn: T) { return fn; }';
+        for (const language of ['typescript', 'javascript']) {
+            const tokens = tokenize(source, language);
+            expect(tokens.slice(0, 4)).toEqual([['KEYWORD', 'return'], ['KEYWORD', 'function'], ['OPERATOR', '<'], ['IDENTIFIER', 'T']]);
+            expect(tokens.some(([type]) => type === 'JSX_TEXT')).toBe(false);
+        }
+    });
+
+    test('should reject a regex literal that runs into a newline', () => {
+        expect(() => tokenize('x = /abc\n')).toThrow('Unterminated regular expression');
+    });
+
+    test('should reject JSX that is still open at the end of the file', () => {
+        // ! '<' ที่ถูกอ่านเป็น JSX ผิด ต้องไม่กลืนโค้ดที่เหลือเป็น JSX text แบบเงียบๆ
+        let thrown = null;
+        try {
+            tokenize('x = <div>hello\nconst y = jest.fn();\n');
+        } catch (error) {
+            thrown = error;
+        }
+        expect(thrown.errorCode).toBe('UNTERMINATED_JSX');
+        expect(thrown.position).toBe(4);
+    });
+
+    test('should reject a JSX closing tag with no open element', () => {
+        expect(() => tokenize('x = </div>;')).toThrow('JSX closing tag at 4 has no open element');
+        expect(() => tokenize('a = <A>{</B>}</A>;')).toThrow('JSX closing tag at 8 has no open element');
+    });
+});
@@ -0,0 +1,165 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: DocumentScanScheduler
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test adaptive debounce, EWMA scan timing, coalescing and the concurrency lanes
+// Philosophy: Real timers with millisecond delays, scans held open by deferred promises
+// Speed: Fast (every wait is a few milliseconds)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { DocumentScanScheduler } from '../../src/workers/document-scan-scheduler.js';
+
+const TIMING = { baseDelayMs: 5, minDebounceMs: 1, maxDebounceMs: 40, scanTimeMultiplier: 2, smoothingFactor: 0.5, maxConcurrentScans: 2 };
+
+const wait = (ms) => new Promise(resolve => setTimeout(resolve, ms));
+
+function deferred() {
+    let resolve;
+    const promise = new Promise(done => { resolve = done; });
+    return { promise, resolve };
+}
+
+// ! scan ค้างไว้จนกว่า test จะปล่อย - บันทึกลำดับ payload ที่ถูกสแกน
+function heldScanner() {
+    const calls = [];
+    return {
+        calls,
+        scan: (payload) => {
+            const gate = deferred();
+            calls.push({ payload, release: gate.resolve });
+            return gate.promise;
+        }
+    };
+}
+
+function createScheduler(overrides = {}) {
+    return new DocumentScanScheduler({
+        scan: async () => {},
+        isPriority: () => false,
+        onError: () => {},
+        ...TIMING,
+        ...overrides
+    });
+}
+
+describe('DocumentScanScheduler debounce', () => {
+    test('should clamp the base delay and the adaptive delay', () => {
+        const scheduler = createScheduler();
+        const state = scheduler.stateFor('a');
+        expect(scheduler.debounceFor(state)).toBe(5);
+
+        state.avgScanMs = 0.1;
+        expect(scheduler.debounceFor(state)).toBe(1);
+        state.avgScanMs = 8;
+        expect(scheduler.debounceFor(state)).toBe(16);
+        state.avgScanMs = 500;
+        expect(scheduler.debounceFor(state)).toBe(40);
+    });
+
+    test('should smooth scan time with EWMA', async () => {
+        const scheduler = createScheduler();
+        scheduler.stateFor('a').avgScanMs = 100;
+        scheduler.request('a', 'v1');
+        await wait(80);
+        // ! scan ใช้เวลาเกือบ 0ms: 0.5 * ~0 + 0.5 * 100
+        const average = scheduler.documents.get('a').avgScanMs;
+        expect(average).toBeGreaterThanOrEqual(50);
+        expect(average).toBeLessThan(60);
+        scheduler.dispose();
+    });
+
+    test('should reject invalid options', () => {
+        expect(() => createScheduler({ smoothingFactor: 0 })).toThrow('smoothingFactor must be in (0, 1]');
+        expect(() => createScheduler({ maxConcurrentScans: 1.5 })).toThrow('maxConcurrentScans must be a positive integer');
+        expect(() => createScheduler({ scan: null })).toThrow('requires a scan function');
+    });
+});
+
+describe('DocumentScanScheduler coalescing', () => {
+    test('should scan only the latest payload of a burst', async () => {
+        const scanned = [];
+        const scheduler = createScheduler({ scan: async (payload) => { scanned.push(payload); } });
+        scheduler.request('a', 'v1');
+        scheduler.request('a', 'v2');
+        scheduler.request('a', 'v3');
+        await wait(30);
+        expect(scanned).toEqual(['v3']);
+        scheduler.dispose();
+    });
+
+    test('should rescan once after a change that arrives mid-scan, never concurrently', async () => {
+        const scanner = heldScanner();
+        const scheduler = createScheduler({ scan: scanner.scan });
+        scheduler.request('a', 'v1');
+        await wait(20);
+        expect(scanner.calls.map(call => call.payload)).toEqual(['v1']);
+
+        scheduler.request('a', 'v2');
+        scheduler.request('a', 'v3');
+        await wait(20);
+        expect(scanner.calls.length).toBe(1);
+
+        // ! scan แรกค้าง ~40ms - rescan รอ debounce ที่ปรับตามเวลาสแกน (clamp ที่ maxDebounceMs)
+        scanner.calls[0].release();
+        await wait(70);
+        expect(scanner.calls.map(call => call.payload)).toEqual(['v1', 'v3']);
+        scanner.calls[1].release();
+        scheduler.dispose();
+    });
+
+    test('should not rescan a document forgotten during its scan', async () => {
+        const scanner = heldScanner();
+        const scheduler = createScheduler({ scan: scanner.scan });
+        scheduler.request('a', 'v1');
+        await wait(20);
+        scheduler.request('a', 'v2');
+        scheduler.forget('a');
+        scanner.calls[0].release();
+        await wait(70);
+        expect(scanner.calls.length).toBe(1);
+        scheduler.dispose();
+    });
+});
+
+describe('DocumentScanScheduler lanes', () => {
+    test('should keep one slot for the active editor', async () => {
+        const scanner = heldScanner();
+        const scheduler = createScheduler({ scan: scanner.scan, isPriority: (key) => key === 'active' });
+        scheduler.request('b', 'b');
+        scheduler.request('c', 'c');
+        await wait(20);
+        // ! cap 2: คิวปกติใช้ได้ 1 ช่อง
+        expect(scanner.calls.map(call => call.payload)).toEqual(['b']);
+        expect(scheduler.getStats()).toEqual({ trackedDocuments: 2, running: 1, queuedPriority: 0, queuedNormal: 1 });
+
+        scheduler.request('active', 'active');
+        await wait(20);
+        expect(scanner.calls.map(call => call.payload)).toEqual(['b', 'active']);
+
+        scanner.calls[0].release();
+        await wait(10);
+        expect(scanner.calls.map(call => call.payload)).toEqual(['b', 'active', 'c']);
+        scanner.calls[1].release();
+        scanner.calls[2].release();
+        scheduler.dispose();
+    });
+
+    test('should report scan failures through onError and keep scheduling', async () => {
+        const errors = [];
+        const scheduler = createScheduler({
+            scan: async (payload) => {
+                if (payload === 'broken') {
+                    const error = new Error('parse failed');
+                    error.isOperational = true;
+                    throw error;
+                }
+            },
+            onError: (error, key) => errors.push([key, error.message])
+        });
+        scheduler.request('a', 'broken');
+        await wait(20);
+        expect(errors).toEqual([['a', 'parse failed']]);
+        expect(scheduler.getStats().running).toBe(0);
+        scheduler.dispose();
+    });
+});
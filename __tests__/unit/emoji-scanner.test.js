@@ -0,0 +1,70 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: EmojiScanner
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test codepoint-table emoji detection (BMP bitset + astral ranges)
+// Philosophy: Real Unicode input, ranges in the same format as parser-config.json
+// Speed: Fast (in-memory only)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { readFileSync } from 'fs';
+import { EmojiScanner } from '../../src/grammars/shared/emoji-scanner.js';
+
+const PARSER_CONFIG = JSON.parse(
+    readFileSync(new URL('../../src/grammars/shared/parser-config.json', import.meta.url), 'utf8')
+);
+const configuredRanges = PARSER_CONFIG.ruleChecking.customPatterns.emojiRanges;
+
+describe('EmojiScanner', () => {
+    const scanner = EmojiScanner.fromConfig(configuredRanges);
+
+    test('should find nothing in ASCII and non-emoji Unicode text', () => {
+        expect(scanner.findAll('const total = price * 2; // plain ASCII')).toEqual([]);
+        expect(scanner.findAll('ภาษาไทย และ café')).toEqual([]);
+    });
+
+    test('should find astral emoji encoded as surrogate pairs', () => {
+        const text = 'ok \u{1F600} done \u{1F680}';
+
+        expect(scanner.findAll(text)).toEqual([
+            { emoji: '\u{1F600}', index: 3 },
+            { emoji: '\u{1F680}', index: 11 }
+        ]);
+    });
+
+    test('should find BMP symbols from the bitset', () => {
+        expect(scanner.findAll('\u2600 and \u2705')).toEqual([
+            { emoji: '\u2600', index: 0 },
+            { emoji: '\u2705', index: 6 }
+        ]);
+    });
+
+    test('should match the configured regex ranges exactly at their edges', () => {
+        expect(scanner.isEmojiCodePoint(0x1F600)).toBe(true);
+        expect(scanner.isEmojiCodePoint(0x1F64F)).toBe(true);
+        expect(scanner.isEmojiCodePoint(0x1F650)).toBe(false);
+        expect(scanner.isEmojiCodePoint(0x25FF)).toBe(false);
+        expect(scanner.isEmojiCodePoint(0xFE0F)).toBe(true);
+    });
+
+    test('should ignore lone surrogates', () => {
+        expect(scanner.findAll('\uD83D text \uDE00')).toEqual([]);
+    });
+
+    test('should stop when the callback returns false', () => {
+        const seen = [];
+        const found = scanner.scan('\u{1F600}\u{1F601}\u{1F602}', (emoji) => {
+            seen.push(emoji);
+            return false;
+        });
+
+        expect(found).toBe(1);
+        expect(seen).toEqual(['\u{1F600}']);
+    });
+
+    test('should reject malformed range entries', () => {
+        expect(() => EmojiScanner.fromConfig(['1F600-'])).toThrow();
+        expect(() => EmojiScanner.fromConfig(['27BF-2700'])).toThrow();
+        expect(() => EmojiScanner.fromConfig([])).toThrow();
+    });
+});
@@ -0,0 +1,93 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Fuzzy Search (bounded Levenshtein + SuggestionIndex)
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test "Did you mean" lookups against the exact full-matrix distance
+// Philosophy: Every fast path must return the same answer as the slow reference
+// Speed: Fast (a few thousand short strings)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import {
+    levenshteinDistance,
+    boundedLevenshteinDistance,
+    findClosestMatch,
+    SuggestionIndex
+} from '../../src/grammars/shared/fuzzy-search.js';
+import { GrammarIndex } from '../../src/grammars/shared/grammar-index.js';
+
+function makeRandom(seed) {
+    return limit => {
+        seed = (seed * 1103515245 + 12345) & 0x7fffffff;
+        return (seed >> 8) % limit;
+    };
+}
+
+function randomWord(next, alphabet) {
+    let word = '';
+    const length = next(9);
+    for (let i = 0; i < length; i++) word += alphabet[next(alphabet.length)];
+    return word;
+}
+
+describe('boundedLevenshteinDistance', () => {
+    test('should equal the exact distance when within the bound and exceed it otherwise', () => {
+        const next = makeRandom(11);
+        const alphabet = ['a', 'b', 'c', 'd', 'ก', '😀'];
+        for (let n = 0; n < 3000; n++) {
+            const source = randomWord(next, alphabet);
+            const target = randomWord(next, alphabet);
+            const maxDistance = next(5);
+            const exact = levenshteinDistance(source, target);
+            const bounded = boundedLevenshteinDistance(source, target, maxDistance);
+            if (exact <= maxDistance) {
+                expect(bounded).toBe(exact);
+            } else {
+                expect(bounded).toBe(maxDistance + 1);
+            }
+        }
+    });
+});
+
+describe('SuggestionIndex', () => {
+    test('should find the same closest match as a linear scan', () => {
+        const next = makeRandom(23);
+        const alphabet = ['a', 'e', 'n', 't', 'r', 's'];
+        const words = [];
+        for (let n = 0; n < 400; n++) words.push(randomWord(next, alphabet));
+        const index = SuggestionIndex.fromWords(words);
+
+        for (let n = 0; n < 500; n++) {
+            const input = randomWord(next, alphabet);
+            const expected = findClosestMatch(input, words, 2);
+            const actual = index.findClosest(input, 2);
+            expect(actual.found).toBe(expected.found);
+            expect(actual.match).toBe(expected.match);
+            expect(actual.distance).toBe(expected.distance);
+        }
+    });
+
+    test('should rank suggestions by distance and skip the exact word', () => {
+        const index = SuggestionIndex.fromWords(['function', 'functional', 'fiction', 'return']);
+        const suggestions = index.suggest('funtion', 3, 3);
+        expect(suggestions.map(suggestion => suggestion.word)).toEqual(['function', 'fiction', 'functional']);
+        expect(suggestions[0].distance).toBe(1);
+        expect(index.suggest('return', 3, 1)).toEqual([]);
+    });
+
+    test('should ignore duplicates and reject non-strings', () => {
+        const index = new SuggestionIndex(['const']);
+        expect(index.add('const')).toBe(false);
+        expect(index.add('let')).toBe(true);
+        expect(index.size).toBe(2);
+        expect(() => index.add(42)).toThrow('only indexes strings');
+    });
+});
+
+describe('GrammarIndex suggestions', () => {
+    test('should suggest keywords and added identifiers for a typo', () => {
+        const grammarIndex = new GrammarIndex({ keywords: { function: {}, return: {} }, operators: { '===': {} } });
+        expect(grammarIndex.suggestSimilar('fucntion')[0].word).toBe('function');
+        expect(grammarIndex.addSuggestionCandidates(['userName', 'return'])).toBe(1);
+        expect(grammarIndex.suggestSimilar('usrName')[0].word).toBe('userName');
+    });
+});
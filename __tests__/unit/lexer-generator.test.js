@@ -0,0 +1,88 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Lexer Generator (grammar JSON → specialized lexer module)
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test that the generated lexer returns exactly the interpreter's tokens and errors
+// Philosophy: Real grammars, generated into a throwaway directory, compared token by token
+// Speed: Fast (four small modules, a few short inputs)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import {
+    writeGeneratedLexer,
+    loadGeneratedLexer,
+    listGrammarLanguages
+} from '../../src/grammars/shared/lexer-generator.js';
+import { GrammarIndex } from '../../src/grammars/shared/grammar-index.js';
+import { PureBinaryTokenizer } from '../../src/grammars/shared/tokenizer-helper.js';
+
+const directory = fs.mkdtempSync(path.join(os.tmpdir(), 'sentinel-lexers-'));
+
+function readGrammar(language) {
+    return JSON.parse(fs.readFileSync(
+        new URL(`../../src/grammars/shared/grammars/${language}.grammar.json`, import.meta.url), 'utf8'
+    ));
+}
+
+function run(tokenizer, source) {
+    try {
+        return JSON.stringify(tokenizer.tokenize(source));
+    } catch (error) {
+        return `ERROR ${error.message}`;
+    }
+}
+
+const SAMPLES = [
+    '﻿#!/usr/bin/env node\nconst x = 10; // note\nif (x !== 20) { x >>>= 2; }',
+    '/* block\n comment */ let s = "a\\"b" + \'c\' + `t ${x}`; a?.b ?? c; [...xs].map(v => v ** 2);',
+    'x = /[/]\\//gi; y = a / b; z = 1.5e3 / 2;',
+    'return <A b={c ? <B/> : 1}><>x</></A>; d >= e;',
+    'function f() { return typeof x === "undefined" && y instanceof Z; }',
+    'const ชื่อ = 1;',
+    'a @ b',
+    'x = /abc\n',
+    '/* unterminated'
+];
+
+describe('Generated lexer', () => {
+    test('should tokenize like PureBinaryTokenizer for every grammar', async () => {
+        for (const language of listGrammarLanguages()) {
+            writeGeneratedLexer(language, { directory });
+            const { LexerClass, reason } = await loadGeneratedLexer(language, { directory });
+            expect(reason).toBeNull();
+
+            const grammarIndex = new GrammarIndex(readGrammar(language));
+            const interpreted = new PureBinaryTokenizer(grammarIndex);
+            const generated = new LexerClass(grammarIndex);
+            expect(generated instanceof PureBinaryTokenizer).toBe(true);
+            for (const sample of SAMPLES) {
+                expect(run(generated, sample)).toBe(run(interpreted, sample));
+            }
+        }
+    });
+
+    test('should recognise keywords, longest operators and comments', async () => {
+        writeGeneratedLexer('javascript', { directory });
+        const { LexerClass } = await loadGeneratedLexer('javascript', { directory });
+        const tokens = new LexerClass(new GrammarIndex(readGrammar('javascript')))
+            .tokenize('if (a >>>= b) return; // done');
+        expect(tokens.map(token => [token.type, token.value])).toEqual([
+            ['KEYWORD', 'if'], ['PUNCTUATION', '('], ['IDENTIFIER', 'a'], ['OPERATOR', '>>>='], ['IDENTIFIER', 'b'],
+            ['PUNCTUATION', ')'], ['KEYWORD', 'return'], ['PUNCTUATION', ';'], ['COMMENT', '// done']
+        ]);
+    });
+
+    test('should report a missing or stale lexer instead of loading it', async () => {
+        const emptyDirectory = fs.mkdtempSync(path.join(os.tmpdir(), 'sentinel-lexers-empty-'));
+        expect((await loadGeneratedLexer('javascript', { directory: emptyDirectory })).reason).toBe('missing');
+
+        const { file } = writeGeneratedLexer('java', { directory });
+        const source = fs.readFileSync(file, 'utf8');
+        fs.writeFileSync(file, source.replace(/export const fingerprint = "[0-9a-f]+";/, 'export const fingerprint = "0";'));
+        const stale = await loadGeneratedLexer('java', { directory });
+        expect(stale.LexerClass).toBeNull();
+        expect(stale.reason).toBe('grammar or tokenizer changed since it was built');
+    });
+});
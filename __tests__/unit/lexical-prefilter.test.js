@@ -0,0 +1,74 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: LexicalPrefilter
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test tier-0 feature bitmap and per-rule "needs AST" decisions
+// Philosophy: Hand-built token streams, vocabulary from parser-config.json
+// Speed: Fast (in-memory only)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { readFileSync } from 'fs';
+import { LexicalPrefilter, FEATURES } from '../../src/grammars/shared/lexical-prefilter.js';
+import { EmojiScanner } from '../../src/grammars/shared/emoji-scanner.js';
+import { RULE_IDS } from '../../src/grammars/shared/constants.js';
+
+const PARSER_CONFIG = JSON.parse(
+    readFileSync(new URL('../../src/grammars/shared/parser-config.json', import.meta.url), 'utf8')
+);
+
+const prefilter = new LexicalPrefilter({
+    vocabulary: PARSER_CONFIG.lexicalPrefilter.vocabulary,
+    isHardcodedLiteral: (value) => value.includes('://'),
+    isSuspiciousNumber: (value) => value === 3000,
+    emojiScanner: EmojiScanner.fromConfig(PARSER_CONFIG.ruleChecking.customPatterns.emojiRanges)
+});
+
+const token = (type, value) => ({ type, value });
+
+describe('LexicalPrefilter', () => {
+    test('should report no features for code without trigger vocabulary', () => {
+        const tokens = [
+            token('KEYWORD', 'const'), token('IDENTIFIER', 'total'), token('OPERATOR', '='),
+            token('NUMBER', '42'), token('OPERATOR', '+'), token('STRING', '"label"')
+        ];
+
+        expect(prefilter.computeFeatures(tokens)).toBe(0);
+        expect(LexicalPrefilter.requiresParse(0, Object.values(RULE_IDS))).toBe(false);
+    });
+
+    test('should map tokens to the features their AST checkers depend on', () => {
+        expect(prefilter.featuresOfToken(token('KEYWORD', 'catch'))).toBe(FEATURES.CATCH_KEYWORD);
+        expect(prefilter.featuresOfToken(token('KEYWORD', 'async'))).toBe(FEATURES.ASYNC_KEYWORD);
+        expect(prefilter.featuresOfToken(token('OPERATOR', '||'))).toBe(FEATURES.LOGICAL_OR);
+        expect(prefilter.featuresOfToken(token('IDENTIFIER', 'spyOn'))).toBe(FEATURES.MOCK_IDENTIFIER);
+        expect(prefilter.featuresOfToken(token('IDENTIFIER', 'mockResolvedValue'))).toBe(FEATURES.MOCK_IDENTIFIER);
+        expect(prefilter.featuresOfToken(token('IDENTIFIER', 'useMemo'))).toBe(FEATURES.CACHE_IDENTIFIER);
+        expect(prefilter.featuresOfToken(token('NUMBER', '3000'))).toBe(FEATURES.SUSPICIOUS_NUMBER);
+        expect(prefilter.featuresOfToken(token('STRING', "'redis://host'"))).toBe(FEATURES.HARDCODE_STRING);
+        expect(prefilter.featuresOfToken(token('STRING', '"ok \u{1F600}"'))).toBe(FEATURES.EMOJI);
+        expect(prefilter.featuresOfToken(token('REGEX', '/\u{1F600}+/u'))).toBe(FEATURES.EMOJI);
+        expect(prefilter.featuresOfToken(token('REGEX', '/^[a-z]+$/i'))).toBe(0);
+    });
+
+    test('should only require a parse when an enabled rule is triggered', () => {
+        const features = FEATURES.CACHE_IDENTIFIER;
+
+        expect(LexicalPrefilter.needsAST(RULE_IDS.NO_INTERNAL_CACHING, features)).toBe(true);
+        expect(LexicalPrefilter.needsAST(RULE_IDS.NO_MOCKING, features)).toBe(false);
+        expect(LexicalPrefilter.requiresParse(features, [RULE_IDS.NO_MOCKING, RULE_IDS.NO_EMOJI])).toBe(false);
+        expect(LexicalPrefilter.requiresParse(features, [RULE_IDS.NO_INTERNAL_CACHING])).toBe(true);
+    });
+
+    test('should stop scanning once every requested feature is found', () => {
+        // ! token ที่สองจะ throw ถ้าถูกอ่าน (STRING ที่ไม่มี value)
+        const tokens = [token('OPERATOR', '||'), token('STRING', null)];
+
+        expect(prefilter.computeFeatures(tokens, FEATURES.LOGICAL_OR)).toBe(FEATURES.LOGICAL_OR);
+        expect(() => prefilter.computeFeatures(tokens)).toThrow();
+    });
+
+    test('should reject unknown rules and missing vocabulary', () => {
+        expect(() => LexicalPrefilter.triggerMaskFor(['NO_SUCH_RULE'])).toThrow();
+        expect(() => new LexicalPrefilter({ vocabulary: {} })).toThrow();
+    });
+});
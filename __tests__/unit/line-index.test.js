@@ -0,0 +1,92 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: LineIndex
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test offset  line/column mapping and joined-token lookups
+// Philosophy: Plain strings and hand-built tokens, no grammar loading
+// Speed: Fast (in-memory only)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { LineIndex, JoinedTokenText } from '../../src/grammars/shared/line-index.js';
+
+describe('LineIndex', () => {
+    const source = 'const a = 1;\nlet b;\n\nreturn a;';
+
+    test('should record one start offset per line', () => {
+        const index = new LineIndex(source);
+
+        expect(index.lineCount).toBe(4);
+        expect(Array.from(index.lineStarts)).toEqual([0, 13, 20, 21]);
+    });
+
+    test('should map offsets to 1-based lines and 0-based columns', () => {
+        const index = new LineIndex(source);
+
+        expect(index.offsetToLineColumn(0)).toEqual({ line: 1, column: 0 });
+        expect(index.offsetToLineColumn(12)).toEqual({ line: 1, column: 12 });
+        expect(index.offsetToLineColumn(13)).toEqual({ line: 2, column: 0 });
+        expect(index.offsetToLineColumn(20)).toEqual({ line: 3, column: 0 });
+        expect(index.offsetToLineColumn(28)).toEqual({ line: 4, column: 7 });
+    });
+
+    test('should shift lookups by baseOffset when a prefix was skipped', () => {
+        const withShebang = '#!/usr/bin/env node\nconst x = 1;';
+        const index = new LineIndex(withShebang, 20);
+
+        expect(index.offsetToLineColumn(0)).toEqual({ line: 2, column: 0 });
+        expect(index.offsetToLineColumn(6)).toEqual({ line: 2, column: 6 });
+    });
+
+    test('should return line text without line terminators', () => {
+        const index = new LineIndex('first\r\nsecond\nthird');
+
+        expect(index.lineText(1)).toBe('first');
+        expect(index.lineText(2)).toBe('second');
+        expect(index.lineText(3)).toBe('third');
+        expect(() => index.lineText(4)).toThrow();
+    });
+
+    test('should annotate ordered tokens in a single pass', () => {
+        const index = new LineIndex(source);
+        const tokens = [
+            { value: 'const', start: 0 },
+            { value: 'let', start: 13 },
+            { value: 'return', start: 21 }
+        ];
+
+        index.annotate(tokens);
+
+        expect(tokens.map(token => token.location)).toEqual([
+            { line: 1, column: 0 },
+            { line: 2, column: 0 },
+            { line: 4, column: 0 }
+        ]);
+    });
+
+    test('should reject tokens that are out of source order', () => {
+        const index = new LineIndex(source);
+        const tokens = [{ value: 'let', start: 13 }, { value: 'const', start: 0 }];
+
+        expect(() => index.annotate(tokens)).toThrow();
+    });
+});
+
+describe('JoinedTokenText', () => {
+    test('should map joined text offsets back to tokens', () => {
+        const tokens = [
+            { value: 'value', location: { line: 1, column: 0 } },
+            { value: '||', location: { line: 1, column: 6 } },
+            { value: 'null', location: { line: 2, column: 4 } }
+        ];
+        const joined = new JoinedTokenText(tokens);
+
+        expect(joined.text).toBe('value || null');
+        expect(joined.tokenAt(0)).toBe(tokens[0]);
+        expect(joined.tokenAt(6)).toBe(tokens[1]);
+        expect(joined.tokenAt(joined.text.indexOf('null'))).toBe(tokens[2]);
+    });
+
+    test('should return null for an empty token stream', () => {
+        expect(new JoinedTokenText([]).tokenAt(0)).toBeNull();
+    });
+});
@@ -0,0 +1,154 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Project Symbol Index + cross-file rules
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test module surface parsing, import resolution across files and the persisted index
+// Philosophy: Real parser, real parser-config.json vocabulary, a throwaway project on disk
+// Speed: Fast (one engine, a handful of tiny files)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import { createSmartParserEngine } from '../../src/grammars/index.js';
+import { ProjectSymbolIndex, summarizeModuleSurface, fingerprintFile } from '../../src/symbols/project-symbol-index.js';
+import { CrossFileRules } from '../../src/symbols/cross-file-rules.js';
+import { RULE_IDS } from '../../src/grammars/shared/constants.js';
+
+const PARSER_CONFIG = JSON.parse(
+    fs.readFileSync(new URL('../../src/grammars/shared/parser-config.json', import.meta.url), 'utf8')
+);
+const INDEX_CONFIG = JSON.parse(
+    fs.readFileSync(new URL('../../cli-config.json', import.meta.url), 'utf8')
+).symbolIndex;
+
+const engine = await createSmartParserEngine();
+const surfaceOf = (code) => engine.collectModuleSurface(engine.tokenizer.tokenize(code));
+
+const root = fs.mkdtempSync(path.join(os.tmpdir(), 'sentinel-symbols-'));
+const FILES = {
+    'src/registry.js': 'export const results = new Map();\nconst seen = new Set();\nexport { seen as visited };\n',
+    'src/index.js': 'export * from "./registry.js";\n',
+    'src/__mocks__/api.js': 'export function apiClient() { return null; }\n',
+    'src/service.js': [
+        'import { results, visited } from "./index";',
+        'import { apiClient } from "./__mocks__/api.js";',
+        'export async function run(key) { if (!results.has(key)) results.set(key, await apiClient(key)); return results.get(key); }',
+        'export function seenBefore(id) { return visited.has(id) || audit.visited.add(id); }',
+        ''
+    ].join('\n'),
+    '__tests__/service.test.js': 'import { apiClient } from "../src/__mocks__/api.js";\n'
+};
+for (const [name, code] of Object.entries(FILES)) {
+    fs.mkdirSync(path.dirname(path.join(root, name)), { recursive: true });
+    fs.writeFileSync(path.join(root, name), code);
+}
+
+function buildIndex() {
+    const index = ProjectSymbolIndex.fromConfig(INDEX_CONFIG, root, (file) => surfaceOf(fs.readFileSync(file, 'utf8')));
+    for (const [name, code] of Object.entries(FILES)) {
+        const file = path.join(root, name);
+        index.update(file, surfaceOf(code), fingerprintFile(file));
+    }
+    return index;
+}
+
+describe('parseModuleSurface', () => {
+    test('should read imports, exports and module-level declarations only', () => {
+        const summary = summarizeModuleSurface(surfaceOf([
+            "import def, { a as b } from './x.js'; import * as ns from 'pkg'",
+            'const meta = import.meta.url',
+            'export default async function () { const inner = new Map() }',
+            'export { q as renamed } from "./q.js"; export * from "./all.js"',
+            '/* note */ export let store = new WeakMap(), count = make(1)',
+            'if (ready) { var hidden = 1 }'
+        ].join('\n')));
+
+        expect(summary.imports.map(entry => [entry.source, entry.imported, entry.local])).toEqual([
+            ['./x.js', 'default', 'def'], ['./x.js', 'a', 'b'], ['pkg', '*', 'ns']
+        ]);
+        expect(summary.declarations.map(entry => [entry.name, entry.kind, entry.init?.type, entry.init?.name])).toEqual([
+            ['meta', 'const', 'Expression', null],
+            ['store', 'let', 'NewExpression', 'WeakMap'],
+            ['count', 'let', 'CallExpression', 'make']
+        ]);
+        expect(summary.exports.map(entry => [entry.exported, entry.local, entry.source])).toEqual([
+            ['default', null, null], ['renamed', 'q', './q.js'], ['store', 'store', null], ['count', 'count', null]
+        ]);
+        expect(summary.starExports).toEqual(['./all.js']);
+    });
+});
+
+describe('ProjectSymbolIndex', () => {
+    const rules = CrossFileRules.fromConfig(PARSER_CONFIG.crossFileRules, Object.values(RULE_IDS));
+
+    test('should resolve imports through export * and flag shared containers and mocks', () => {
+        const index = buildIndex();
+        const resolved = index.resolveImport(path.join(root, 'src/service.js'), './index', 'visited');
+        expect(resolved.file).toBe(path.join(root, 'src/registry.js'));
+        expect(resolved.declaration.init).toEqual({ type: 'NewExpression', name: 'Set' });
+
+        // ! results: has + set + get = cache, visited: has อย่างเดียว (audit.visited.add ไม่ใช่ binding ที่ import)
+        const violations = rules.checkFile(index, path.join(root, 'src/service.js'));
+        expect(violations.map(violation => violation.ruleId)).toEqual([RULE_IDS.NO_INTERNAL_CACHING, RULE_IDS.NO_MOCKING]);
+        expect(violations[0].message).toContain('"results"');
+        expect(violations[0].message).toContain('looked up (has/get) and stored into (set)');
+        expect(rules.checkFile(index, path.join(root, '__tests__/service.test.js'))).toEqual([]);
+    });
+
+    test('should give a duplicate file its own copy of the first file\'s record', () => {
+        const index = buildIndex();
+        const copy = path.join(root, 'vendor/registry.js');
+        fs.mkdirSync(path.dirname(copy), { recursive: true });
+        fs.writeFileSync(copy, FILES['src/registry.js']);
+
+        expect(index.copyRecord(path.join(root, 'src/registry.js'), copy, fingerprintFile(copy))).toBe(true);
+        expect(index.lookupExport(copy, 'results').file).toBe(copy);
+        expect(index.lookupExport(copy, 'visited').local).toBe('seen');
+        expect(index.getRecord(copy).fingerprint).toBe(fingerprintFile(copy));
+        expect(index.copyRecord(path.join(root, 'src/missing.js'), copy, fingerprintFile(copy))).toBe(false);
+        fs.rmSync(path.dirname(copy), { recursive: true, force: true });
+    });
+
+    test('should resolve only inside the scope and index other files by surface', () => {
+        const service = path.join(root, 'src/service.js');
+        const scoped = buildIndex();
+        // ! registry.js อยู่ใน index (เช่นจากการรันก่อน) แต่ไม่อยู่ในรอบนี้ = resolve ไม่ได้
+        scoped.restrictTo(Object.keys(FILES).filter(name => name !== 'src/registry.js').map(name => path.join(root, name)));
+        expect(scoped.resolveImport(service, './index', 'results')).toBeNull();
+        expect(rules.checkFile(scoped, service).map(violation => violation.ruleId)).toEqual([RULE_IDS.NO_MOCKING]);
+
+        // ! ไฟล์ของ shard อื่น: surface อย่างเดียวผ่าน reindex() - ผลเท่ากับ index ที่สแกนครบ
+        const shard = ProjectSymbolIndex.fromConfig(INDEX_CONFIG, root, (file) => surfaceOf(fs.readFileSync(file, 'utf8')));
+        shard.update(service, surfaceOf(FILES['src/service.js']), fingerprintFile(service));
+        for (const name of ['src/index.js', 'src/registry.js', 'src/__mocks__/api.js']) {
+            shard.indexSurface(path.join(root, name));
+        }
+        shard.restrictTo(Object.keys(FILES).map(name => path.join(root, name)));
+        expect(rules.checkFile(shard, service)).toEqual(rules.checkFile(buildIndex(), service));
+
+        const broken = path.join(root, 'src/broken.js');
+        fs.writeFileSync(broken, 'x = /abc\n');
+        expect(() => shard.indexSurface(broken)).toThrow('Unterminated regular expression');
+        expect(shard.getRecord(broken)).toBeNull();
+        fs.rmSync(broken);
+    });
+
+    test('should persist and re-index only files that changed since the save', () => {
+        const saved = path.join(root, '.sentinel-cache', 'symbol-index.bin');
+        buildIndex().save(saved);
+
+        fs.writeFileSync(path.join(root, 'src/registry.js'), 'export const results = {};\nexport const visited = [];\n');
+        const empty = ProjectSymbolIndex.fromConfig(INDEX_CONFIG, root, (file) => surfaceOf(fs.readFileSync(file, 'utf8')));
+        const { index, reason } = ProjectSymbolIndex.load(saved, empty);
+        expect(reason).toBeNull();
+        expect(index.size).toBe(Object.keys(FILES).length);
+
+        const violations = rules.checkFile(index, path.join(root, 'src/service.js'));
+        expect(violations.map(violation => violation.ruleId)).toEqual([RULE_IDS.NO_MOCKING]);
+        expect(index.dirty).toBe(true);
+
+        fs.writeFileSync(saved, 'not an index');
+        expect(() => ProjectSymbolIndex.load(saved, empty)).toThrow('is not a Sentinel symbol index');
+    });
+});
@@ -0,0 +1,52 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Rule Documentation (lazy)
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test the hot/cold split of the 5 rules and on-demand doc loading
+// Philosophy: Real rule modules - no stubs
+// Speed: Fast (dynamic import of 5 doc modules)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { ABSOLUTE_RULES, RULE_DOC_FIELDS, loadRuleDocumentation } from '../../src/rules/validator.js';
+import { ErrorAssistant } from '../../src/grammars/shared/error-assistant.js';
+
+describe('Rule documentation', () => {
+    test('hot rules carry detection fields only', () => {
+        for (const rule of Object.values(ABSOLUTE_RULES)) {
+            expect(rule.patterns.length).toBeGreaterThan(0);
+            for (const field of RULE_DOC_FIELDS) {
+                expect(Object.hasOwn(rule, field)).toBe(false);
+            }
+        }
+    });
+
+    test('loadRuleDocumentation merges docs into the detection rule', async () => {
+        for (const ruleId of Object.keys(ABSOLUTE_RULES)) {
+            const rule = await loadRuleDocumentation(ruleId);
+            expect(rule.id).toBe(ruleId);
+            expect(rule.patterns).toBe(ABSOLUTE_RULES[ruleId].patterns);
+            expect(typeof rule.explanation.en).toBe('string');
+            expect(typeof rule.fix.th).toBe('string');
+            expect(rule.correctExamples.en.length).toBeGreaterThan(0);
+            expect(rule.violationExamples.en.length).toBeGreaterThan(0);
+        }
+    });
+
+    test('unknown rule is rejected', async () => {
+        await expect(loadRuleDocumentation('NO_SUCH_RULE')).rejects.toThrow('not found');
+    });
+
+    test('ErrorAssistant formats a violation with the loaded fix', async () => {
+        const assistant = new ErrorAssistant();
+        const rule = await loadRuleDocumentation('NO_EMOJI');
+        const output = await assistant.formatRuleViolation({
+            ruleId: 'NO_EMOJI',
+            message: 'Emoji detected',
+            location: { line: 3, column: 4 }
+        });
+        expect(output).toContain('[NO_EMOJI]');
+        expect(output).toContain('at Line 3, Column 4');
+        expect(output).toContain(rule.fix.en.trim());
+        expect(output).not.toContain('Why:');
+    });
+});
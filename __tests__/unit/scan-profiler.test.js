@@ -0,0 +1,77 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: ScanProfiler
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test stage/rule accounting, slowest-file ranking and trace output
+// Philosophy: Drive the profiler directly with synthetic hrtime marks
+// Speed: Fast (in-memory only)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { ScanProfiler } from '../../src/reporters/scan-profiler.js';
+
+const options = { slowestFiles: 2, maxTraceEvents: 100, trackAllocations: false };
+
+describe('ScanProfiler', () => {
+    test('should reject incomplete configuration', () => {
+        expect(() => new ScanProfiler({})).toThrow();
+        expect(() => new ScanProfiler({ ...options, trackAllocations: 'yes' })).toThrow();
+    });
+
+    test('should accumulate stage time and call counts', () => {
+        const profiler = new ScanProfiler(options);
+        profiler.beginFile('a.js');
+        profiler.endStage('tokenize', { start: process.hrtime.bigint() - 2000000n, heap: 0 });
+        profiler.endStage('tokenize', { start: process.hrtime.bigint() - 1000000n, heap: 0 });
+        profiler.endFile(10);
+
+        const [stage] = profiler.report().stages;
+        expect(stage.name).toBe('tokenize');
+        expect(stage.calls).toBe(2);
+        expect(stage.timeMs).toBeGreaterThanOrEqual(3);
+        expect(stage.allocBytes).toBe(0);
+    });
+
+    test('should group rule time by rule and method', () => {
+        const profiler = new ScanProfiler(options);
+        const start = process.hrtime.bigint() - 500000n;
+        profiler.recordRule('NO_HARDCODE', 'checkHardcodeInAST', start);
+        profiler.recordRule('NO_HARDCODE', 'checkNumericHardcodeInAST', start);
+        profiler.recordRule('NO_EMOJI', 'checkEmojiInAST', start);
+
+        const rules = profiler.report().rules;
+        const hardcode = rules.find(rule => rule.ruleId === 'NO_HARDCODE');
+        expect(rules).toHaveLength(2);
+        expect(hardcode.calls).toBe(2);
+        expect(hardcode.methods.map(entry => entry.method).sort()).toEqual(['checkHardcodeInAST', 'checkNumericHardcodeInAST']);
+    });
+
+    test('should keep only the N slowest files, slowest first', () => {
+        const profiler = new ScanProfiler(options);
+        profiler.recordSlowest({ file: 'fast.js', timeNs: 1n, bytes: 0 });
+        profiler.recordSlowest({ file: 'slow.js', timeNs: 30n, bytes: 0 });
+        profiler.recordSlowest({ file: 'medium.js', timeNs: 20n, bytes: 0 });
+
+        expect(profiler.report().slowestFiles.map(entry => entry.file)).toEqual(['slow.js', 'medium.js']);
+    });
+
+    test('should reject unbalanced file boundaries', () => {
+        const profiler = new ScanProfiler(options);
+        expect(() => profiler.endFile()).toThrow();
+        profiler.beginFile('a.js');
+        expect(() => profiler.beginFile('b.js')).toThrow();
+    });
+
+    test('should emit Chrome trace events and cap them at maxTraceEvents', () => {
+        const profiler = new ScanProfiler({ ...options, maxTraceEvents: 2 });
+        profiler.beginFile('a.js');
+        profiler.endStage('read', profiler.startStage());
+        profiler.endStage('tokenize', profiler.startStage());
+        profiler.endFile(10);
+
+        const trace = profiler.toChromeTrace('Sentinel');
+        expect(trace.traceEvents[0]).toEqual({ name: 'process_name', ph: 'M', pid: process.pid, tid: 0, args: { name: 'Sentinel' } });
+        expect(trace.traceEvents.slice(1).map(event => event.name)).toEqual(['read', 'tokenize']);
+        expect(trace.traceEvents[1].ph).toBe('X');
+        expect(trace.otherData.droppedTraceEvents).toBe(1);
+    });
+});
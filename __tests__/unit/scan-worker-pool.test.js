@@ -0,0 +1,78 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: ScanWorkerPool
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test job dispatch, per-job failures and recovery from workers that exit mid-job
+// Philosophy: Real worker_threads running tiny inline workers (data: URLs), no engine
+// Speed: Fast (a handful of short-lived workers)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { ScanWorkerPool } from '../../src/workers/scan-worker-pool.js';
+
+// ! protocol เดียวกับ workers/scan-worker.js: 'ready' แล้วตอบ 'result' / 'error' ต่อ job
+// ! filePath 'crash' = process.exit กลางงาน (ไม่มี 'error' event), 'bad' = ส่ง error กลับ
+const WORKER_SOURCE = `
+import { parentPort } from 'worker_threads';
+parentPort.on('message', (message) => {
+    if (message.filePath === 'crash') process.exit(3);
+    if (message.filePath === 'bad') {
+        parentPort.postMessage({ type: 'error', id: message.id, filePath: message.filePath, message: 'unparseable' });
+        return;
+    }
+    parentPort.postMessage({ type: 'result', id: message.id, filePath: message.filePath, violations: [] });
+});
+parentPort.postMessage({ type: 'ready' });
+`;
+const workerUrl = new URL(`data:text/javascript,${encodeURIComponent(WORKER_SOURCE)}`);
+const exitsAtStartup = new URL(`data:text/javascript,${encodeURIComponent('process.exit(7);')}`);
+
+const jobsFor = (...names) => names.map(filePath => ({ filePath }));
+
+describe('ScanWorkerPool', () => {
+    test('should stream one result per job', async () => {
+        const pool = new ScanWorkerPool({ size: 2, workerUrl });
+        await pool.start();
+        const seen = [];
+        const outcome = await pool.scan(jobsFor('a.js', 'b.js', 'c.js', 'd.js'), { onResult: ({ filePath }) => seen.push(filePath) });
+        await pool.terminate();
+
+        expect(outcome).toEqual({ completed: 4, cancelled: false });
+        expect(seen.sort()).toEqual(['a.js', 'b.js', 'c.js', 'd.js']);
+    });
+
+    test('should reject the job of a worker that exits and keep scanning on a replacement', async () => {
+        const pool = new ScanWorkerPool({ size: 1, workerUrl });
+        await pool.start();
+        const seen = [];
+        const failed = [];
+        const handlers = {
+            onResult: ({ filePath }) => seen.push(filePath),
+            onJobError: ({ filePath, error }) => failed.push([filePath, error.message])
+        };
+        const outcome = await pool.scan(jobsFor('a.js', 'crash', 'bad', 'b.js'), handlers);
+
+        expect(outcome).toEqual({ completed: 4, cancelled: false });
+        expect(seen).toEqual(['a.js', 'b.js']);
+        expect(failed.map(([filePath]) => filePath)).toEqual(['crash', 'bad']);
+        expect(failed[0][1]).toContain('exit code 3');
+
+        // ! slot ได้ worker ตัวใหม่ - pool ยังใช้สแกนรอบต่อไปได้
+        const again = await pool.scan(jobsFor('c.js'), handlers);
+        await pool.terminate();
+        expect(again.completed).toBe(1);
+        expect(seen).toEqual(['a.js', 'b.js', 'c.js']);
+    });
+
+    test('should reject the whole scan on a crash when there is no onJobError', async () => {
+        const pool = new ScanWorkerPool({ size: 2, workerUrl });
+        await pool.start();
+        await expect(pool.scan(jobsFor('a.js', 'crash', 'b.js'), { onResult: () => {} }))
+            .rejects.toThrow('crashed while scanning crash');
+        expect(pool.workers.length).toBe(0);
+    });
+
+    test('should fail start() when a worker exits before it is ready', async () => {
+        const pool = new ScanWorkerPool({ size: 1, workerUrl: exitsAtStartup });
+        await expect(pool.start()).rejects.toThrow('exited before it was ready');
+    });
+});
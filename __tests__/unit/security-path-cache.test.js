@@ -0,0 +1,88 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: SecurityManager directory cache + batched validation
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test that per-directory forbidden-path checks decide exactly like the per-file loop
+// Philosophy: Real security-defaults.json patterns, real files in a throwaway directory
+// Speed: Fast (a few dozen paths, logging to file disabled)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import { SecurityManager } from '../../src/security/security-manager.js';
+
+const root = fs.mkdtempSync(path.join(os.tmpdir(), 'sentinel-security-'));
+fs.mkdirSync(path.join(root, 'src'));
+for (const name of ['a.js', 'b.js', 'c.js', 'app.config.js']) {
+    fs.writeFileSync(path.join(root, 'src', name), 'x');
+}
+
+function createManager(options = {}) {
+    return new SecurityManager({ rateLimitStore: new Map(), ENABLE_SECURITY_LOGGING: false, ...options });
+}
+
+function isForbidden(check) {
+    try {
+        check();
+        return false;
+    } catch (error) {
+        return error.name === 'AccessDeniedError';
+    }
+}
+
+describe('SecurityManager forbidden paths', () => {
+    test('should split prefix and segment patterns without changing any decision', () => {
+        const directoryCache = new Map();
+        const manager = createManager({ directoryCache });
+        expect(manager.forbiddenPathMatchers.prefix.every(pattern => pattern.source.startsWith('^'))).toBe(true);
+        expect(manager.forbiddenPathMatchers.segment.length).toBe(1);
+
+        const paths = [
+            '/etc/passwd', '/etc', '/etcetera/x.js', '/usr/bin/node', '/usr/lib/x.js', '/', '/bin',
+            path.join(root, 'src', 'a.js'), path.join(root, 'src', 'app.config.js'),
+            path.join(root, 'node_modules', 'x.js'), path.join(root, '.github', 'ci.yml')
+        ];
+        const naive = (resolvedPath) => manager.config.FORBIDDEN_PATHS.some(pattern => pattern.test(resolvedPath));
+        for (const round of [1, 2]) {
+            for (const resolvedPath of paths) {
+                expect([round, resolvedPath, isForbidden(() => manager.checkForbiddenPaths(resolvedPath))])
+                    .toEqual([round, resolvedPath, naive(resolvedPath)]);
+            }
+        }
+        expect(directoryCache.has('/etc')).toBe(false);
+        expect(directoryCache.has(path.join(root, 'src'))).toBe(true);
+        expect(() => createManager({ directoryCache: { get() {} } })).toThrow('directoryCache must implement set()');
+    });
+});
+
+describe('SecurityManager.validateFiles', () => {
+    test('should validate in batches and log routine successes as one event', async () => {
+        const manager = createManager({ directoryCache: new Map(), MAX_FILES_BATCH: 2 });
+        const files = ['a.js', 'b.js', 'app.config.js', 'c.js'].map(name => path.join(root, 'src', name));
+        const { validated, rejected } = await manager.validateFiles(files);
+
+        expect(validated).toEqual([files[0], files[1], files[3]]);
+        expect(rejected.map(entry => [entry.filePath, entry.error.name])).toEqual([[files[2], 'AccessDeniedError']]);
+
+        const stats = manager.getSecurityStats();
+        expect(stats.routineEvents).toEqual({ PATH_VALIDATED: 3, FILE_VALIDATED: 3 });
+        expect(manager.securityLog.filter(event => event.type === 'ROUTINE_EVENTS').length).toBe(1);
+        expect(manager.securityLog.filter(event => event.type === 'PATH_VIOLATION').length).toBe(1);
+        await expect(manager.validateFiles('src')).rejects.toThrow('requires an array');
+    });
+
+    test('should write pending routine events and wait for the log on shutdown', async () => {
+        const manager = createManager({ directoryCache: new Map(), ENABLE_SECURITY_LOGGING: true });
+        manager.securityLogPath = path.join(root, 'security.log');
+        await manager.validateFiles([path.join(root, 'src', 'a.js'), path.join(root, 'src', 'b.js')]);
+        expect(manager.routineEventsPending).toBe(4);
+
+        await manager.shutdown();
+        expect(manager.routineEventsPending).toBe(0);
+        expect(manager.pendingLogWrites.size).toBe(0);
+        const logged = fs.readFileSync(manager.securityLogPath, 'utf8').trim().split('\n').map(line => JSON.parse(line));
+        expect(logged[logged.length - 1].type).toBe('ROUTINE_EVENTS');
+        expect(logged[logged.length - 1].details.counts).toEqual({ PATH_VALIDATED: 2, FILE_VALIDATED: 2 });
+    });
+});
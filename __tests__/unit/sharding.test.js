@@ -0,0 +1,196 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Shard Partitioner & Shard Merge
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test deterministic shard assignment and merging of shard reports
+// Philosophy: Synthetic paths and in-memory reports, plus one real CLI project scanned whole and in shards
+// Speed: Medium (in-memory cases, then five CLI runs over eight tiny files)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { spawnSync } from 'child_process';
+import { fileURLToPath } from 'url';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import { ShardPartitioner, parseShardSpec, shardKeyFor } from '../../src/workers/shard-partitioner.js';
+import { mergeShardReports } from '../../src/reporters/shard-merge.js';
+
+const keys = Array.from({ length: 40 }, (_, i) => `src/module-${i}/index.js`);
+
+describe('ShardPartitioner', () => {
+    test('should parse 1-based shard specs and reject invalid ones', () => {
+        expect(parseShardSpec('2/4')).toEqual({ index: 2, count: 4 });
+        expect(() => parseShardSpec('0/4')).toThrow();
+        expect(() => parseShardSpec('5/4')).toThrow();
+        expect(() => parseShardSpec('1-4')).toThrow();
+    });
+
+    test('should build posix keys relative to the base directory', () => {
+        const baseDir = path.resolve('/repo');
+        expect(shardKeyFor(path.join(baseDir, 'src', 'a.js'), baseDir)).toBe('src/a.js');
+        expect(() => shardKeyFor(path.resolve('/elsewhere/a.js'), baseDir)).toThrow();
+    });
+
+    test('should assign every file to exactly one shard, independent of input order', () => {
+        const partitioner = new ShardPartitioner({ count: 3, hashAlgorithm: 'sha1' });
+        const forward = partitioner.assign(keys);
+        const reversed = partitioner.assign([...keys].reverse());
+
+        expect(forward.size).toBe(keys.length);
+        for (const key of keys) {
+            expect(forward.get(key)).toBe(reversed.get(key));
+            expect([1, 2, 3]).toContain(forward.get(key));
+        }
+    });
+
+    test('should balance shard sizes from a manifest', () => {
+        const sizes = {};
+        keys.forEach((key, i) => { sizes[key] = i === 0 ? 4000 : 100; });
+        const manifest = ShardPartitioner.buildManifest(Object.entries(sizes).map(([key, bytes]) => ({ key, bytes })));
+        const assignment = new ShardPartitioner({ count: 2, hashAlgorithm: 'sha1', manifest }).assign(keys);
+
+        const loads = [0, 0];
+        for (const key of keys) loads[assignment.get(key) - 1] += sizes[key];
+        expect(Math.abs(loads[0] - loads[1])).toBeLessThanOrEqual(100);
+        // ! ไฟล์ใหญ่ที่สุดอยู่ shard ของตัวเองเกือบทั้งหมด
+        expect(keys.filter(key => assignment.get(key) === assignment.get(keys[0]))).toHaveLength(1);
+    });
+
+    test('should reject malformed manifests', () => {
+        expect(() => new ShardPartitioner({ count: 2, hashAlgorithm: 'sha1', manifest: { files: {} } })).toThrow();
+        expect(() => new ShardPartitioner({ count: 2, hashAlgorithm: 'sha1', manifest: { version: 1, files: { 'a.js': -1 } } })).toThrow();
+    });
+});
+
+function shardReport(index, count, records, overrides = {}) {
+    return {
+        source: `shard-${index}.ndjson`,
+        summary: {
+            type: 'summary',
+            totalFiles: 2,
+            processedFiles: 2,
+            failedFiles: 0,
+            uniqueContents: 2,
+            duplicateFiles: 0,
+            shard: { index, count },
+            ...overrides
+        },
+        records
+    };
+}
+
+const violation = (file, line) => ({ type: 'violation', file, ruleId: 'NO_HARDCODE', severity: 'ERROR', line, column: 7, message: 'Hardcoded credential' });
+
+describe('mergeShardReports', () => {
+    test('should combine shards, sort files and sum stats', () => {
+        const merged = mergeShardReports([
+            shardReport(2, 2, [violation('src/b.js', 3)]),
+            shardReport(1, 2, [violation('src/a.js', 1), { type: 'fileError', file: 'src/c.js', message: 'Parse failed' }], { failedFiles: 1 })
+        ]);
+
+        expect(merged.files.map(entry => entry.file)).toEqual(['src/a.js', 'src/b.js', 'src/c.js']);
+        expect(merged.files[0].violations[0].location).toEqual({ line: 1, column: 6 });
+        expect(merged.files[2].error).toBe('Parse failed');
+        expect(merged.summary.totalFiles).toBe(4);
+        expect(merged.summary.failedFiles).toBe(1);
+        expect(merged.summary.totalViolations).toBe(2);
+    });
+
+    test('should keep identical violations reported by one shard', () => {
+        // ! กฎ AST สองจุดในไฟล์เดียวอาจได้ rule + ตำแหน่ง + message ตรงกัน - ต้องนับทั้งคู่
+        const merged = mergeShardReports([
+            shardReport(1, 2, [violation('src/a.js', 1), violation('src/a.js', 1)]),
+            shardReport(2, 2, [violation('src/b.js', 2)])
+        ]);
+
+        expect(merged.files[0].violations).toHaveLength(2);
+        expect(merged.files[0].source).toBeUndefined();
+        expect(merged.summary.totalViolations).toBe(3);
+    });
+
+    test('should refuse a file reported by two shards', () => {
+        expect(() => mergeShardReports([
+            shardReport(1, 2, [violation('src/a.js', 1)]),
+            shardReport(2, 2, [violation('src/a.js', 1)])
+        ])).toThrow('reported by both shard-1.ndjson and shard-2.ndjson');
+    });
+
+    test('should refuse incomplete or inconsistent shard sets', () => {
+        expect(() => mergeShardReports([shardReport(1, 2, [])])).toThrow();
+        expect(() => mergeShardReports([shardReport(1, 2, []), shardReport(1, 2, [])])).toThrow();
+        expect(() => mergeShardReports([shardReport(1, 2, []), shardReport(2, 3, [])])).toThrow();
+        expect(() => mergeShardReports([])).toThrow();
+    });
+});
+
+// ! import ข้ามไฟล์ที่ปลายทางอยู่คนละ shard: use.js  src/index.js  src/registry.js, src/service.js  src/__mocks__/api.js
+const CROSS_FILE_PROJECT = {
+    'src/registry.js': 'export const results = new Map();\n',
+    'src/index.js': 'export * from "./registry.js";\n',
+    'src/__mocks__/api.js': 'export function apiClient() { return null; }\n',
+    'src/service.js': 'import { apiClient } from "./__mocks__/api.js";\nexport function run(key) { return apiClient(key); }\n',
+    'use.js': 'import { results } from "./src/index.js";\nexport function remember(key, value) { if (!results.has(key)) results.set(key, value); return results.get(key); }\n',
+    'mocked.js': 'const f = jest.fn();\n',
+    'plain.js': 'export const a = 1;\n',
+    'broken.js': 'x = /abc\n'
+};
+const SHARD_COUNT = 3;
+
+describe('CLI shards with cross-file rules', () => {
+    const cliPath = fileURLToPath(new URL('../../cli.js', import.meta.url));
+
+    // ! security manager รับเฉพาะไฟล์ใต้ cwd - รันจากในโปรเจกต์ (exit code != 0 เพราะเจอ violation)
+    function runCli(directory, args) {
+        const { stdout } = spawnSync(process.execPath, [cliPath, ...args, '--no-snapshot'], {
+            cwd: directory, encoding: 'utf8', stdio: ['ignore', 'pipe', 'ignore']
+        });
+        return stdout;
+    }
+
+    // ! ทุกการรันเริ่มจาก cache ว่าง - ผลต้องไม่ขึ้นกับ symbol index ของการรันก่อน
+    function clearCache(directory) {
+        fs.rmSync(path.join(directory, '.sentinel-cache'), { recursive: true, force: true });
+    }
+
+    const records = (ndjson) => ndjson.trim().split('\n').map(line => JSON.parse(line));
+
+    test('should merge shard reports into the single-scan result', () => {
+        const directory = fs.mkdtempSync(path.join(os.tmpdir(), 'sentinel-shards-'));
+        for (const [name, code] of Object.entries(CROSS_FILE_PROJECT)) {
+            fs.mkdirSync(path.dirname(path.join(directory, name)), { recursive: true });
+            fs.writeFileSync(path.join(directory, name), code);
+        }
+
+        try {
+            const single = records(runCli(directory, ['.', '--format=ndjson']));
+            clearCache(directory);
+            const reports = [];
+            for (let index = 1; index <= SHARD_COUNT; index++) {
+                const report = `shard-${index}.ndjson`;
+                runCli(directory, ['.', `--shard=${index}/${SHARD_COUNT}`, '--format=ndjson', `--output=${report}`]);
+                clearCache(directory);
+                reports.push(report);
+            }
+            const merged = records(runCli(directory, ['merge', ...reports, '--format=ndjson']));
+
+            const crossFile = single.filter(record => record.message?.startsWith('Cross-file:'));
+            expect(crossFile.map(record => [record.file, record.ruleId])).toEqual([
+                ['src/service.js', 'NO_MOCKING'], ['use.js', 'NO_INTERNAL_CACHING']
+            ]);
+            // ! import อย่างน้อยหนึ่งตัวต้องข้าม shard จริง ไม่เช่นนั้น test ไม่ได้พิสูจน์อะไร
+            const partitioner = new ShardPartitioner({ count: SHARD_COUNT, hashAlgorithm: 'sha1' });
+            const assigned = partitioner.assign(Object.keys(CROSS_FILE_PROJECT));
+            expect(assigned.get('use.js') === assigned.get('src/registry.js') &&
+                assigned.get('src/service.js') === assigned.get('src/__mocks__/api.js')).toBe(false);
+
+            const body = (list) => list.filter(record => record.type !== 'summary');
+            expect(body(merged)).toEqual(body(single));
+            const summaryOf = (list) => list.find(record => record.type === 'summary');
+            for (const field of ['totalFiles', 'processedFiles', 'failedFiles', 'totalViolations']) {
+                expect(summaryOf(merged)[field]).toBe(summaryOf(single)[field]);
+            }
+        } finally {
+            fs.rmSync(directory, { recursive: true, force: true });
+        }
+    });
+});
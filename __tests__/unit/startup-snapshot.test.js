@@ -0,0 +1,76 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Startup Snapshot
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test snapshot round-trip and stale-source detection
+// Philosophy: Real files in a throwaway package layout under the OS temp dir
+// Speed: Fast (a few small files)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import { writeStartupSnapshot, loadStartupSnapshot } from '../../src/startup/startup-snapshot.js';
+
+function createPackageRoot() {
+    const rootDir = fs.mkdtempSync(path.join(os.tmpdir(), 'sentinel-snapshot-'));
+    const grammarsDir = path.join(rootDir, 'src', 'grammars', 'shared', 'grammars');
+    fs.mkdirSync(path.join(rootDir, 'src', 'rules'), { recursive: true });
+    fs.mkdirSync(grammarsDir, { recursive: true });
+    fs.writeFileSync(path.join(rootDir, 'src', 'rules', 'NO_EMOJI.js'), 'export const ABSOLUTE_RULES = {};\n');
+    fs.writeFileSync(path.join(grammarsDir, 'javascript.grammar.json'), '{}');
+    fs.writeFileSync(path.join(rootDir, 'src', 'grammars', 'shared', 'parser-config.json'), '{}');
+    return rootDir;
+}
+
+const state = {
+    rules: { NO_EMOJI: { id: 'NO_EMOJI', severity: 'ERROR', patterns: [{ regex: /x/g, name: 'x' }] } },
+    grammar: { keywords: { const: { category: 'declaration' } } },
+    parserConfig: { tokenizerConstants: { maxTokens: 10 } }
+};
+const options = rootDir => ({ rootDir, language: 'javascript' });
+
+describe('Startup snapshot', () => {
+    test('should round-trip rules, grammar and parser config', () => {
+        const rootDir = createPackageRoot();
+        const file = path.join(rootDir, '.sentinel-cache', 'startup-snapshot.bin');
+
+        writeStartupSnapshot(file, state, options(rootDir));
+        const loaded = loadStartupSnapshot(file, options(rootDir));
+
+        expect(loaded.reason).toBeNull();
+        expect(loaded.state.grammar).toEqual(state.grammar);
+        expect(loaded.state.parserConfig).toEqual(state.parserConfig);
+        expect(loaded.state.rules.NO_EMOJI.patterns[0].regex).toBeInstanceOf(RegExp);
+    });
+
+    test('should report a missing snapshot without throwing', () => {
+        const rootDir = createPackageRoot();
+        expect(loadStartupSnapshot(path.join(rootDir, 'none.bin'), options(rootDir))).toEqual({ state: null, reason: 'missing' });
+    });
+
+    test('should refuse a snapshot once a source file changes', () => {
+        const rootDir = createPackageRoot();
+        const file = path.join(rootDir, 'snapshot.bin');
+        writeStartupSnapshot(file, state, options(rootDir));
+
+        fs.appendFileSync(path.join(rootDir, 'src', 'rules', 'NO_EMOJI.js'), '// edited\n');
+        const loaded = loadStartupSnapshot(file, options(rootDir));
+
+        expect(loaded.state).toBeNull();
+        expect(loaded.reason).toContain('changed');
+    });
+
+    test('should reject files that are not snapshots', () => {
+        const rootDir = createPackageRoot();
+        const file = path.join(rootDir, 'garbage.bin');
+        fs.writeFileSync(file, 'not a snapshot');
+
+        expect(() => loadStartupSnapshot(file, options(rootDir))).toThrow();
+    });
+
+    test('should require every part of the boot state', () => {
+        const rootDir = createPackageRoot();
+        expect(() => writeStartupSnapshot(path.join(rootDir, 's.bin'), { rules: {}, grammar: {} }, options(rootDir))).toThrow();
+    });
+});
@@ -0,0 +1,168 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Streaming Reporters
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test NDJSON/SARIF/summary output and drain-aware writes
+// Philosophy: Real Writable streams collecting output in memory, one real CLI run for the run summary
+// Speed: Fast (in-memory, plus one CLI scan over three files)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { Writable } from 'stream';
+import { spawnSync } from 'child_process';
+import { fileURLToPath } from 'url';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import { ReportStream, createReporter } from '../../src/reporters/streaming-reporters.js';
+import { reporterOwnsStdout, routeConsoleToStderr } from '../../src/reporters/stdout-guard.js';
+
+function collector(options = {}) {
+    const chunks = [];
+    const writable = new Writable({
+        highWaterMark: options.highWaterMark,
+        write(chunk, encoding, callback) {
+            chunks.push(chunk.toString());
+            setImmediate(callback);
+        }
+    });
+    return { writable, text: () => chunks.join('') };
+}
+
+const baseDir = path.resolve('/project');
+const violation = {
+    ruleId: 'NO_EMOJI',
+    severity: 'ERROR',
+    message: 'Emoji found',
+    location: { line: 3, column: 4 }
+};
+const summary = { totalFiles: 2, failedFiles: 1, totalViolations: 1 };
+const sarifOptions = {
+    sarif: {
+        version: '2.1.0',
+        schema: 'https://json.schemastore.org/sarif-2.1.0.json',
+        levels: { CRITICAL: 'error', ERROR: 'error', WARNING: 'warning', INFO: 'note' }
+    },
+    tool: { name: 'Sentinel', version: '1.0.0' },
+    rules: { NO_EMOJI: { name: { en: 'No Emoji' }, description: { en: 'No emoji in code' } } },
+    baseDir
+};
+
+async function runReporter(format, options = {}) {
+    const output = collector();
+    const reporter = createReporter(format, new ReportStream(output.writable), options);
+    await reporter.begin();
+    await reporter.fileResult(path.join(baseDir, 'src', 'a.js'), [violation]);
+    await reporter.fileResult(path.join(baseDir, 'src', 'b.js'), [], { error: 'Parse failed' });
+    await reporter.end(summary);
+    return output.text();
+}
+
+describe('Streaming reporters', () => {
+    test('ndjson should write one record per line with 1-based columns', async () => {
+        const lines = (await runReporter('ndjson')).trim().split('\n').map(line => JSON.parse(line));
+
+        expect(lines.map(line => line.type)).toEqual(['violation', 'fileError', 'summary']);
+        expect(lines[0]).toMatchObject({ ruleId: 'NO_EMOJI', line: 3, column: 5 });
+        expect(lines[2].totalViolations).toBe(1);
+    });
+
+    test('sarif should produce a valid 2.1.0 document', async () => {
+        const log = JSON.parse(await runReporter('sarif', sarifOptions));
+        const run = log.runs[0];
+
+        expect(log.version).toBe('2.1.0');
+        expect(run.tool.driver.rules[0].id).toBe('NO_EMOJI');
+        expect(run.results).toHaveLength(1);
+        expect(run.results[0]).toMatchObject({ ruleId: 'NO_EMOJI', level: 'error', ruleIndex: 0 });
+        expect(run.results[0].locations[0].physicalLocation).toEqual({
+            artifactLocation: { uri: 'src/a.js' },
+            region: { startLine: 3, startColumn: 5 }
+        });
+        expect(run.invocations[0].executionSuccessful).toBe(false);
+        expect(run.invocations[0].toolExecutionNotifications).toHaveLength(1);
+    });
+
+    test('summary should count by rule and severity', async () => {
+        const report = JSON.parse(await runReporter('summary'));
+
+        expect(report.byRule).toEqual({ NO_EMOJI: 1 });
+        expect(report.bySeverity).toEqual({ ERROR: 1 });
+        expect(report.filesWithViolations).toBe(1);
+    });
+
+    test('summary should count a file once when cross-file results report it again', async () => {
+        const output = collector();
+        const reporter = createReporter('summary', new ReportStream(output.writable));
+        const file = path.join(baseDir, 'src', 'a.js');
+        await reporter.begin();
+        await reporter.fileResult(file, [violation]);
+        await reporter.fileResult(file, [{ ...violation, ruleId: 'NO_UNUSED_EXPORT' }]);
+        await reporter.end(summary);
+        const report = JSON.parse(output.text());
+
+        expect(report.filesWithViolations).toBe(1);
+        expect(report.byRule).toEqual({ NO_EMOJI: 1, NO_UNUSED_EXPORT: 1 });
+    });
+
+    test('ReportStream should wait for drain when the writable is full', async () => {
+        const output = collector({ highWaterMark: 8 });
+        const stream = new ReportStream(output.writable);
+
+        await stream.write('0123456789');
+        expect(output.writable.writableLength).toBe(0);
+
+        await stream.write('abc');
+        await stream.close();
+        expect(output.text()).toBe('0123456789abc');
+    });
+
+    test('createReporter should reject unknown formats', () => {
+        expect(() => createReporter('xml', new ReportStream(collector().writable))).toThrow();
+    });
+});
+
+describe('Stdout guard', () => {
+    test('should claim stdout only for --format without --output', () => {
+        expect(reporterOwnsStdout(['src', '--format=ndjson'])).toBe(true);
+        expect(reporterOwnsStdout(['merge', 'a.ndjson', '--format=sarif'])).toBe(true);
+        expect(reporterOwnsStdout(['--format=sarif', '--output=report.sarif'])).toBe(false);
+        expect(reporterOwnsStdout(['src', '--json'])).toBe(false);
+    });
+
+    test('should send console.log progress to stderr', () => {
+        const { log, info, debug, error } = console;
+        const toStderr = [];
+        console.error = (...args) => toStderr.push(args.join(' '));
+        try {
+            routeConsoleToStderr();
+            console.log('Parser configuration loaded');
+            console.info('progress', 2);
+            expect(toStderr).toEqual(['Parser configuration loaded', 'progress 2']);
+        } finally {
+            Object.assign(console, { log, info, debug, error });
+        }
+    });
+});
+
+describe('CLI run summary', () => {
+    test('should count every scanned file once', () => {
+        const cliPath = fileURLToPath(new URL('../../cli.js', import.meta.url));
+        const directory = fs.mkdtempSync(path.join(os.tmpdir(), 'reporter-summary-'));
+        ['const a = 1;\n', 'const b = 2;\n', 'const c = jest.fn();\n'].forEach((code, index) => {
+            fs.writeFileSync(path.join(directory, `f${index}.js`), code);
+        });
+
+        try {
+            // ! security manager รับเฉพาะไฟล์ใต้ cwd - รันจากในโฟลเดอร์ที่สแกน  (exit code != 0 เพราะเจอ violation)
+            const { stdout } = spawnSync(process.execPath, [cliPath, '.', '--format=ndjson', '--no-snapshot'], {
+                cwd: directory, encoding: 'utf8', stdio: ['ignore', 'pipe', 'ignore']
+            });
+            const summaryLine = stdout.trim().split('\n').map(line => JSON.parse(line)).find(line => line.type === 'summary');
+            expect(summaryLine.totalFiles).toBe(3);
+            expect(summaryLine.processedFiles).toBe(3);
+            expect(summaryLine.totalViolations).toBe(1);
+        } finally {
+            fs.rmSync(directory, { recursive: true, force: true });
+        }
+    });
+});
@@ -0,0 +1,125 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Structural Query + StructuralMatcher
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test the query language, the combined per-node matcher and its Tier 0 anchors
+// Philosophy: Hand-built ESTree fixtures, matched as object tree and as ArenaNodeView
+// Speed: Fast (in-memory only)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { readFileSync } from 'fs';
+import { StructuralMatcher, parseStructuralQuery, anchorOf } from '../../src/grammars/shared/structural-query.js';
+import { AstArena, ArenaNodeView } from '../../src/grammars/shared/arena-ast.js';
+import { ABSOLUTE_RULES } from '../../src/rules/validator.js';
+import { RULE_IDS } from '../../src/grammars/shared/constants.js';
+
+const TYPE_ALIASES = JSON.parse(
+    readFileSync(new URL('../../src/grammars/shared/parser-config.json', import.meta.url), 'utf8')
+).structuralQueries.typeAliases;
+
+const identifier = (name) => ({ type: 'Identifier', name });
+const member = (object, property) => ({ type: 'MemberExpression', object: identifier(object), property: identifier(property) });
+const call = (callee, args) => ({ type: 'CallExpression', callee, arguments: args });
+const arrow = (body) => ({ type: 'ArrowFunctionExpression', params: [], body: { type: 'BlockStatement', body } });
+
+// ! p.catch(() => {}); p.catch(() => { log(e) }); vi.fn(); jest.mock()
+const fixtureAst = {
+    type: 'Program',
+    body: [
+        { type: 'ExpressionStatement', expression: call(member('p', 'catch'), [arrow([])]) },
+        { type: 'ExpressionStatement', expression: call(member('p', 'catch'), [arrow([{ type: 'ExpressionStatement', expression: call(identifier('log'), []) }])]) },
+        { type: 'ExpressionStatement', expression: call(member('vi', 'fn'), []) },
+        { type: 'ExpressionStatement', expression: call(member('jest', 'mock'), []) }
+    ]
+};
+
+function* walk(node) {
+    if (node === null || typeof node !== 'object') return;
+    if (Array.isArray(node)) {
+        for (const child of node) yield* walk(child);
+        return;
+    }
+    if (typeof node.type === 'string') yield node;
+    for (const key of Object.keys(node)) {
+        if (key !== 'type') yield* walk(node[key]);
+    }
+}
+
+function runObject(matcher, ast) {
+    const violations = [];
+    for (const node of walk(ast)) matcher.match(node, violations);
+    return violations;
+}
+
+function runArena(matcher, ast) {
+    const arena = AstArena.fromTree(ast);
+    const violations = [];
+    for (let index = 0; index < arena.count; index++) {
+        matcher.match(new ArenaNodeView(arena, index), violations);
+    }
+    return violations;
+}
+
+describe('parseStructuralQuery', () => {
+    test('should parse fields, lists, captures and absent fields', () => {
+        const pattern = parseStructuralQuery('(Call callee:(_ !computed) @target arguments:[_ "x" /^y/i 3 ...])');
+        expect(pattern.type).toBe('Call');
+        expect(pattern.fields[0].pattern).toEqual({
+            kind: 'capture', name: 'target', pattern: { kind: 'node', type: '_', fields: [], absent: ['computed'] }
+        });
+        const list = pattern.fields[1].pattern;
+        expect(list.open).toBe(true);
+        expect(list.items.map(item => item.kind)).toEqual(['any', 'text', 'regex', 'scalar']);
+        expect(anchorOf(pattern)).toEqual({ kind: 'text', value: 'x' });
+        expect(anchorOf(parseStructuralQuery('(Block [])'))).toBeNull();
+    });
+
+    test('should reject malformed queries with the position', () => {
+        expect(() => parseStructuralQuery('"catch"')).toThrow('must start with a node pattern');
+        expect(() => parseStructuralQuery('(Call callee:(Member)')).toThrow('Structural query syntax error');
+        expect(() => parseStructuralQuery('(Call name:catch)')).toThrow("bare word 'catch'");
+        expect(() => parseStructuralQuery('(Call name:"open)')).toThrow('unterminated string');
+    });
+});
+
+describe('StructuralMatcher', () => {
+    test('should match the rule pack queries identically on object tree and arena', () => {
+        const matcher = StructuralMatcher.fromRules(ABSOLUTE_RULES, Object.values(RULE_IDS), TYPE_ALIASES);
+        const expected = [
+            [RULE_IDS.NO_SILENT_FALLBACKS, 'AST: Empty Promise catch handler detected'],
+            [RULE_IDS.NO_MOCKING, 'AST: vi.fn() mock function detected']
+        ];
+        const summarize = (violations) => violations.map(violation => [violation.ruleId, violation.message]);
+        expect(summarize(runObject(matcher, fixtureAst))).toEqual(expected);
+        expect(summarize(runArena(matcher, fixtureAst))).toEqual(expected);
+        expect(matcher.anchors.words).toEqual(new Set(['catch', 'fn']));
+        expect(matcher.unanchored).toBe(0);
+    });
+
+    test('should bucket by root type and skip disabled rules', () => {
+        const entries = [
+            { ruleId: RULE_IDS.NO_HARDCODE, query: '(Function)', message: 'fn', severity: 'INFO' },
+            { ruleId: RULE_IDS.NO_HARDCODE, query: '(_ name:"p")', message: '{0}', severity: 'INFO' }
+        ];
+        const matcher = new StructuralMatcher(entries, TYPE_ALIASES);
+        expect([...matcher.byType.keys()]).toEqual(TYPE_ALIASES.Function);
+        expect(matcher.anyType.length).toBe(1);
+        expect(matcher.unanchored).toBe(1);
+
+        const onlyMocking = StructuralMatcher.fromRules(ABSOLUTE_RULES, [RULE_IDS.NO_MOCKING], TYPE_ALIASES);
+        expect(runObject(onlyMocking, fixtureAst).map(violation => violation.ruleId)).toEqual([RULE_IDS.NO_MOCKING]);
+        expect(() => new StructuralMatcher([{ ...entries[0], severity: 'LOUD' }], TYPE_ALIASES)).toThrow("unknown severity 'LOUD'");
+    });
+
+    test('should place violations through the attached locator', () => {
+        const matcher = StructuralMatcher.fromRules(ABSOLUTE_RULES, [RULE_IDS.NO_MOCKING], TYPE_ALIASES);
+        expect(runObject(matcher, fixtureAst)[0].location).toEqual({ line: 0, column: 0 });
+
+        // ! engine แปลง node.start (index ของ token) เป็น location ของ token นั้น
+        const tokenLocations = [{ line: 7, column: 4 }];
+        matcher.attachLocator((node) => tokenLocations[node.start]);
+        const located = { type: 'Program', body: [{ type: 'ExpressionStatement', expression: { ...call(member('vi', 'fn'), []), start: 0 } }] };
+        expect(runObject(matcher, located)[0].location).toEqual({ line: 7, column: 4 });
+        expect(runArena(matcher, located)[0].location).toEqual({ line: 7, column: 4 });
+    });
+});
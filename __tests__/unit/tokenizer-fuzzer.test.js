@@ -0,0 +1,100 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: TokenizerFuzzer
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test growth-exponent fitting, grammar-derived families and the console silencers
+// Philosophy: Synthetic timing points for the math, the real JavaScript grammar for families
+// Speed: Fast (profiles run at a few hundred bytes, one repetition)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import { GrammarIndex } from '../../src/grammars/shared/grammar-index.js';
+import {
+    TokenizerFuzzer,
+    buildFamilies,
+    growthExponent,
+    createRandom,
+    withConsoleSilenced,
+    withConsoleSilencedAsync
+} from '../../src/grammars/shared/tokenizer-fuzzer.js';
+
+const SMALL = { stages: ['tokenize'], startBytes: 64, maxBytes: 256, repetitions: 1, randomFamilies: 2, randomAtomCount: 8, seed: 7 };
+
+describe('TokenizerFuzzer helpers', () => {
+    test('should fit ~1 for linear and ~2 for quadratic growth', () => {
+        const sizes = [1024, 2048, 4096, 8192];
+        expect(growthExponent(sizes.map(bytes => ({ bytes, ms: bytes / 100 })))).toBeCloseTo(1, 5);
+        expect(growthExponent(sizes.map(bytes => ({ bytes, ms: (bytes / 100) ** 2 })))).toBeCloseTo(2, 5);
+        // ! จุดที่วัดได้ 0ms ใช้ fit ไม่ได้ - เหลือไม่ถึง 2 จุด = null
+        expect(growthExponent([{ bytes: 1024, ms: 0 }, { bytes: 2048, ms: 1 }])).toBe(null);
+    });
+
+    test('should replay the same sequence for the same seed', () => {
+        const first = createRandom(42);
+        const second = createRandom(42);
+        const draws = Array.from({ length: 5 }, () => first());
+        expect(Array.from({ length: 5 }, () => second())).toEqual(draws);
+        expect(draws.every(value => value >= 0 && value < 1)).toBe(true);
+    });
+});
+
+describe('TokenizerFuzzer console silencing', () => {
+    test('should keep the console silent until an async task settles', async () => {
+        const { log } = console;
+        const seen = [];
+        console.log = (...args) => seen.push(args.join(' '));
+        try {
+            const value = await withConsoleSilencedAsync(async () => {
+                await new Promise(resolve => setTimeout(resolve, 5));
+                console.log('inside');
+                return 'loaded';
+            });
+            expect(value).toBe('loaded');
+            expect(seen).toEqual([]);
+
+            await expect(withConsoleSilencedAsync(async () => { throw new Error('load failed'); })).rejects.toThrow('load failed');
+            console.log('after');
+            expect(seen).toEqual(['after']);
+        } finally {
+            console.log = log;
+        }
+    });
+
+    test('should restore the console after a sync task throws', () => {
+        const { log, warn } = console;
+        expect(() => withConsoleSilenced(() => { throw new Error('boom'); })).toThrow('boom');
+        expect(console.log).toBe(log);
+        expect(console.warn).toBe(warn);
+    });
+});
+
+describe('TokenizerFuzzer families and profiling', () => {
+    test('should build deterministic families of the requested size from the grammar', async () => {
+        const grammar = await withConsoleSilencedAsync(() => GrammarIndex.loadGrammar('javascript'));
+        const families = buildFamilies(grammar, SMALL);
+        const names = families.map(family => family.name);
+
+        expect(names[0]).toBe('whitespace');
+        expect(names).toContain('unterminatedBlockComment');
+        expect(names).toContain('operatorPrefixRun');
+        expect(names.filter(name => name.startsWith('random'))).toHaveLength(2);
+        expect(families.find(family => family.name === 'longNumber').build(100)).toBe('1'.repeat(100));
+
+        const again = buildFamilies(grammar, SMALL);
+        for (let i = 0; i < families.length; i++) {
+            expect(again[i].build(128)).toBe(families[i].build(128));
+        }
+    });
+
+    test('should profile a family at doubling sizes', async () => {
+        const grammar = await withConsoleSilencedAsync(() => GrammarIndex.loadGrammar('javascript'));
+        const fuzzer = new TokenizerFuzzer(grammar, SMALL);
+        const family = buildFamilies(grammar, SMALL).find(entry => entry.name === 'identifierList');
+        const profile = fuzzer.profileFamily(family, 'tokenize');
+
+        expect(profile.family).toBe('identifierList');
+        expect(profile.points.map(point => point.bytes)).toEqual([64, 128, 256]);
+        expect(profile.points.every(point => point.outcome === 'ok')).toBe(true);
+        // ! ms ต่ำกว่า minMeasurableMs = ไม่ตัดสินว่า superlinear
+        expect(profile.superlinear).toBe(false);
+    });
+});
@@ -0,0 +1,78 @@
+// ══════════════════════════════════════════════════════════════════════════════
+// UNIT TEST: Violation Baseline
+// ══════════════════════════════════════════════════════════════════════════════
+// Purpose: Test stable fingerprints, counted suppression and the binary baseline file
+// Philosophy: Hand-built violations + real LineIndex, a throwaway baseline on disk
+// Speed: Fast (a handful of hashes)
+// ══════════════════════════════════════════════════════════════════════════════
+
+import { describe, test, expect } from '@jest/globals';
+import fs from 'fs';
+import os from 'os';
+import path from 'path';
+import { ViolationBaseline, enclosingSymbol } from '../../src/baseline/violation-baseline.js';
+import { LineIndex } from '../../src/grammars/shared/line-index.js';
+
+const BASELINE_CONFIG = JSON.parse(
+    fs.readFileSync(new URL('../../cli-config.json', import.meta.url), 'utf8')
+).baseline;
+
+const root = fs.mkdtempSync(path.join(os.tmpdir(), 'sentinel-baseline-'));
+const emptyBaseline = () => ViolationBaseline.fromConfig(BASELINE_CONFIG, root);
+const hardcode = (line) => ({ ruleId: 'NO_HARDCODE', message: 'Hardcoded URL', location: { line, column: 0 } });
+
+function contextOf(source, declarations) {
+    return { lineIndex: new LineIndex(source), declarations };
+}
+
+describe('ViolationBaseline fingerprints', () => {
+    test('should survive line shifts and re-indentation but not a move to another symbol', () => {
+        const baseline = emptyBaseline();
+        const before = contextOf('function load() {\n  fetch("http://a")\n}\n', [{ name: 'load', location: { line: 1 } }]);
+        const shifted = contextOf('// header\n\nfunction load() {\n        fetch("http://a")\n}\n', [{ name: 'load', location: { line: 3 } }]);
+        const moved = contextOf('function save() {\n  fetch("http://a")\n}\n', [{ name: 'save', location: { line: 1 } }]);
+
+        const original = baseline.fingerprintOf('src/a.js', hardcode(2), before);
+        expect(baseline.fingerprintOf(path.join(root, 'src/a.js'), hardcode(4), shifted)).toBe(original);
+        expect(baseline.fingerprintOf('src/a.js', hardcode(2), moved)).not.toBe(original);
+        expect(baseline.fingerprintOf('src/b.js', hardcode(2), before)).not.toBe(original);
+        expect(baseline.fingerprintOf('src/a.js', { ...hardcode(2), ruleId: 'NO_MOCKING' }, before)).not.toBe(original);
+        expect(enclosingSymbol([{ name: 'load', location: { line: 3 } }], 2, '<module>')).toBe('<module>');
+    });
+
+    test('should suppress only as many violations as the baseline recorded', () => {
+        const baseline = emptyBaseline();
+        const context = contextOf('a()\na()\na()\n', []);
+        baseline.record('src/a.js', [hardcode(1), hardcode(2)], context);
+
+        const fresh = baseline.suppress('src/a.js', [hardcode(1), hardcode(2), hardcode(3)], context);
+        expect(fresh).toEqual([hardcode(3)]);
+        expect(baseline.suppressed).toBe(2);
+        expect(baseline.unmatched).toBe(0);
+        // ! ไม่มี source (bytecode / cross-file) = fingerprint จาก message
+        expect(baseline.suppress('src/a.js', [hardcode(0)], null)).toEqual([hardcode(0)]);
+    });
+});
+
+describe('ViolationBaseline file', () => {
+    test('should write sorted 8-byte fingerprints and load them back', () => {
+        const file = path.join(root, '.sentinel-baseline.bin');
+        const baseline = emptyBaseline();
+        baseline.record('src/a.js', [hardcode(0), hardcode(0), { ...hardcode(0), message: 'other' }], null);
+        baseline.save(file);
+
+        const blob = fs.readFileSync(file);
+        const fingerprints = [0, 1, 2].map(index => blob.readBigUInt64LE(blob.length - (3 - index) * 8));
+        expect(fingerprints[0] <= fingerprints[1] && fingerprints[1] <= fingerprints[2]).toBe(true);
+
+        const loaded = ViolationBaseline.load(file, emptyBaseline());
+        expect(loaded.size).toBe(3);
+        expect(loaded.suppress('src/a.js', [hardcode(0), hardcode(0), hardcode(0)], null)).toEqual([hardcode(0)]);
+
+        expect(() => ViolationBaseline.load(path.join(root, 'missing.bin'), emptyBaseline())).toThrow('--update-baseline');
+        fs.writeFileSync(file, blob.subarray(0, blob.length - 3));
+        expect(() => ViolationBaseline.load(file, emptyBaseline())).toThrow('is truncated');
+        fs.writeFileSync(file, 'not a baseline');
+        expect(() => ViolationBaseline.load(file, emptyBaseline())).toThrow('is not a Sentinel baseline');
+    });
+});
@@ -12,18 +12,34 @@
  * WITH SECURITY PROTECTION
  */
 
-import { ABSOLUTE_RULES } from './src/rules/validator.js';
-import { createSmartParserEngine } from './src/grammars/index.js';
+// ! ต้องเป็น import แรก - ย้าย console progress ไป stderr ก่อน module อื่นพิมพ์ลง stdout ของ reporter
+import './src/reporters/stdout-guard.js';
+import { createSmartParserEngine, loadSmartParserInputs, ENGINE_LANGUAGE } from './src/grammars/index.js';
 import { SecurityManager } from './src/security/security-manager.js';
 import { createSecurityConfig } from './src/security/security-config.js';
 import errorHandler from './src/error-handler/ErrorHandler.js';
 import { ErrorDetectionValidator } from './src/error-handler/ast-error-detection-validator.js';
 
 import fs from 'fs';
-import path from 'path';// Load CLI configuration from JSON 
+import path from 'path';
+import { ReportStream, createReporter } from './src/reporters/streaming-reporters.js';
+import { ScanProfiler } from './src/reporters/scan-profiler.js';
+import { readShardReport, mergeShardReports } from './src/reporters/shard-merge.js';
+import { ShardPartitioner, parseShardSpec, shardKeyFor } from './src/workers/shard-partitioner.js';
+import { writeStartupSnapshot, loadStartupSnapshot } from './src/startup/startup-snapshot.js';
+import { BytecodeScanner } from './src/bytecode/bytecode-scanner.js';
+import { ProjectSymbolIndex, fingerprintFile, summarizeModuleSurface } from './src/symbols/project-symbol-index.js';
+import { CrossFileRules } from './src/symbols/cross-file-rules.js';
+import { ViolationBaseline } from './src/baseline/violation-baseline.js';
+import { ContentDedup } from './src/dedup/content-dedup.js';
+import { LineIndex } from './src/grammars/shared/line-index.js';
+import { fileURLToPath } from 'url';
+
+// Load CLI configuration from JSON 
 const cliConfig = JSON.parse(
     fs.readFileSync(new URL('./cli-config.json', import.meta.url), 'utf8')
 );
+const PACKAGE_ROOT = path.dirname(fileURLToPath(import.meta.url));
 
 class ChahuadevCLI {
     constructor() {
@@ -32,12 +48,46 @@ class ChahuadevCLI {
         this.stats = {
             totalFiles: 0,
             totalViolations: 0,
-            processedFiles: 0
+            processedFiles: 0,
+            uniqueContents: 0,
+            duplicateFiles: 0,
+            failedFiles: 0
         };
+        // ! Streaming reporter (--format) - ถ้ามี จะไม่สะสมผลทุกไฟล์ไว้ใน memory
+        this.reporter = null;
+        // ! ScanProfiler (--profile) - null = ไม่วัด (ต่อไฟล์เหลือแค่เช็ค null)
+        this.profiler = null;
+        // ! --shard=i/N: สแกนเฉพาะส่วนของ runner นี้ (ไม่มี coordinator - ทุกเครื่องคำนวณเอง)
+        this.shard = null;
+        this.partitioner = null;
+        // ! --write-shard-manifest: ขนาดของทุกไฟล์ที่พบ (ก่อนแบ่ง shard) สำหรับรันครั้งถัดไป
+        this.manifestEntries = null;
         this.securityManager = null;
+        // ! ไฟล์ที่ securityManager.validateFiles() ไม่ผ่านในรอบนี้  error (scanFile รายงานเป็น file error)
+        this.securityRejections = new Map();
+        // ! Content-addressed dedup ภายในการรันครั้งเดียว (src/dedup/content-dedup.js)
+        // ! ไฟล์ที่ byte ตรงกันทุกตัว (utility ที่ copy มา, generated client) วิเคราะห์ครั้งเดียว
+        // ! อายุเท่ากับ CLI instance หนึ่งตัว - ไม่ข้ามการรัน
+        this.contentDedup = new ContentDedup({
+            hashAlgorithm: cliConfig.contentDedup.hashAlgorithm,
+            duplicateLabel: cliConfig.messages.duplicateOf
+        });
+        // ! .class / .jar: สร้างเมื่อเจอไฟล์ bytecode ไฟล์แรก (สแกนซอร์สล้วนไม่ต้องจ่าย)
+        this.bytecodeScanner = null;
+        // ! Project symbol index (--no-symbol-index = null): ไฟล์ที่สแกนในรอบนี้ update เข้า index
+        // ! แล้วตรวจ import ข้ามไฟล์ตอนจบ - ถาม index อย่างเดียว ไม่อ่านไฟล์ซ้ำ
+        this.symbolIndex = null;
+        this.crossFileRules = null;
+        this.symbolFiles = [];
+        // ! ไฟล์ที่พบในการรันนี้ก่อนแบ่ง shard = ขอบเขตที่ import resolve ไปได้ (ทุก shard เห็นชุดเดียวกัน)
+        this.symbolScope = [];
+        // ! --baseline=<file>: violation ที่รู้อยู่แล้ว (fingerprint 64-bit) - ตัดออกก่อนนับ / report
+        // ! --update-baseline: จำทุก violation ของรอบนี้แล้วเขียนไฟล์ใหม่แทน
+        this.baseline = null;
+        this.updatingBaseline = false;
     }
 
-    async initialize() {
+    async initialize(options = {}) {
         try {
             // Initialize security system
             console.log('[SECURITY] Initializing security protection...');
@@ -64,9 +114,19 @@ class ChahuadevCLI {
                 });
             }
             
-            // อ่านกฎจาก validator.js (หนังสือ) และส่งต่อให้ parser engine
-            this.rules = ABSOLUTE_RULES;
-            this.engine = await createSmartParserEngine(ABSOLUTE_RULES);
+            // อ่านกฎจาก validator.js (หนังสือ) หรือ startup snapshot และส่งต่อให้ parser engine
+            const bootState = await this.loadBootState(options);
+            this.rules = bootState.rules;
+            this.engine = await createSmartParserEngine(bootState.rules, {
+                grammar: bootState.grammar,
+                parserConfig: bootState.parserConfig
+            });
+            if (cliConfig.symbolIndex.enabled && !options.noSymbolIndex) {
+                this.openSymbolIndex(bootState.parserConfig);
+            }
+            if (options.baseline) {
+                this.openBaseline(options);
+            }
             console.log(cliConfig.messages.cliInitialized);
             return true;
         } catch (error) {
@@ -75,6 +135,168 @@ class ChahuadevCLI {
         }
     }
 
+    getSymbolIndexPath() {
+        // ! index เป็นของโปรเจกต์ที่ถูกสแกน (cwd) ไม่ใช่ของ package เหมือน startup snapshot
+        return path.resolve(process.cwd(), cliConfig.symbolIndex.path);
+    }
+
+    /**
+     * โหลด project symbol index ที่บันทึกไว้ (ไม่มี = เริ่มว่าง) และเปิดการเก็บ module surface ใน engine
+     */
+    openSymbolIndex(parserConfig) {
+        const engine = this.engine;
+        const reindex = (file) => engine.collectModuleSurface(engine.tokenizer.tokenize(fs.readFileSync(file, 'utf8')));
+        const emptyIndex = ProjectSymbolIndex.fromConfig(cliConfig.symbolIndex, process.cwd(), reindex);
+        const { index, reason } = ProjectSymbolIndex.load(this.getSymbolIndexPath(), emptyIndex);
+        if (reason && reason !== 'missing') {
+            console.error(`${cliConfig.messages.symbolIndexStale} ${reason}`);
+        }
+        this.symbolIndex = index;
+        this.crossFileRules = CrossFileRules.fromConfig(parserConfig.crossFileRules, engine.enabledRules);
+        engine.enableSymbolCollection();
+    }
+
+    /**
+     * --shard: ไฟล์ของ shard อื่นเข้า index แบบ surface อย่างเดียว (ไม่ตรวจกฎ ไม่ report)
+     * import ของไฟล์ใน shard นี้จึง resolve ได้เหมือนสแกนทั้งโปรเจกต์ในรอบเดียว
+     * ไฟล์ที่ index ไม่ได้ไม่ใช่ error ของ shard นี้ - shard เจ้าของไฟล์รายงานเองตอนสแกน
+     */
+    indexOtherShards(files, options = {}) {
+        let skipped = 0;
+        for (const file of files) {
+            if (this.isBytecodeFile(file) || this.securityRejections.has(file)) continue;
+            try {
+                this.symbolIndex.indexSurface(file);
+            } catch (error) {
+                skipped++;
+            }
+        }
+        if (options.verbose) {
+            console.log(`${cliConfig.messages.shardSurfaceIndexed} ${files.length - skipped}/${files.length} files`);
+        }
+    }
+
+    /**
+     * ตรวจ import ของทุกไฟล์ที่สแกนในรอบนี้กับ index (ตอนนี้ index มีทุกไฟล์ของรอบนี้แล้ว)
+     * แล้วบันทึก index ถ้ามีอะไรเปลี่ยน
+     */
+    async checkCrossFile(results, options = {}) {
+        if (!this.symbolIndex) return;
+        // ! record จากการรันก่อนที่ไม่อยู่ในรอบนี้ไม่ถูกใช้ - ผลเท่ากันทุกครั้งไม่ว่า cache จะมีอะไร
+        this.symbolIndex.restrictTo(this.symbolScope);
+        const resultByFile = new Map(results.map(entry => [entry.file, entry]));
+        let found = 0;
+        for (const file of this.symbolFiles) {
+            let violations;
+            try {
+                violations = this.applyBaseline(file, this.crossFileRules.checkFile(this.symbolIndex, file), null, null);
+            } catch (error) {
+                console.error(`${cliConfig.messages.errorScanning} ${file}: ${error.message}`);
+                this.stats.failedFiles++;
+                continue;
+            }
+            if (violations.length === 0) continue;
+            found += violations.length;
+            this.stats.totalViolations += violations.length;
+            if (this.reporter) {
+                await this.reporter.fileResult(file, violations, {});
+                continue;
+            }
+            const entry = resultByFile.get(file);
+            if (entry) entry.violations.push(...violations);
+            if (!options.quiet) this.printViolations(file, violations, '');
+        }
+        if (options.verbose) {
+            console.log(`${cliConfig.messages.crossFileHeader} ${this.symbolFiles.length} files, ${found} violations`);
+        }
+        if (this.symbolIndex.dirty) {
+            this.symbolIndex.save(this.getSymbolIndexPath());
+        }
+    }
+
+    /**
+     * --baseline=<file>: โหลด fingerprint ของ violation เดิม (ไม่มีไฟล์ = error ไม่ใช่ baseline ว่าง)
+     * --update-baseline: เริ่มว่างแล้วเก็บทุก violation ของรอบนี้
+     */
+    openBaseline(options) {
+        const emptyBaseline = ViolationBaseline.fromConfig(cliConfig.baseline, process.cwd());
+        const baselinePath = path.resolve(process.cwd(), options.baseline);
+        this.baseline = options.updateBaseline ? emptyBaseline : ViolationBaseline.load(baselinePath, emptyBaseline);
+        this.updatingBaseline = Boolean(options.updateBaseline);
+        // ! enclosing symbol ของ fingerprint มาจาก module surface ของไฟล์
+        this.engine.enableSymbolCollection();
+    }
+
+    /**
+     * @param {Buffer|null} sourceBuffer - เนื้อหาไฟล์ที่อ่านไว้แล้ว (null = bytecode / cross-file ใช้ message แทนบรรทัด)
+     * @returns {Object[]} violation ที่ไม่อยู่ใน baseline (--update-baseline: ทุกตัว)
+     */
+    applyBaseline(filePath, violations, sourceBuffer, declarations) {
+        if (!this.baseline || violations.length === 0) return violations;
+        // ! decode + แบ่งบรรทัดเฉพาะไฟล์ที่มี violation
+        const context = sourceBuffer ? {
+            lineIndex: new LineIndex(sourceBuffer.toString('utf8')),
+            declarations: declarations ? declarations : []
+        } : null;
+        if (this.updatingBaseline) {
+            this.baseline.record(filePath, violations, context);
+            return violations;
+        }
+        return this.baseline.suppress(filePath, violations, context);
+    }
+
+    /**
+     * --update-baseline: เขียนไฟล์ (temp + rename) หลังสแกนและตรวจข้ามไฟล์ครบแล้ว
+     */
+    writeBaseline(options) {
+        const baselinePath = path.resolve(process.cwd(), options.baseline);
+        this.baseline.save(baselinePath);
+        console.log(`${cliConfig.messages.baselineWritten} ${options.baseline} (${this.baseline.size} violations)`);
+    }
+
+    getSnapshotPath(options = {}) {
+        const snapshotPath = typeof options.buildSnapshot === 'string' ? options.buildSnapshot : cliConfig.startupSnapshot.path;
+        return path.resolve(PACKAGE_ROOT, snapshotPath);
+    }
+
+    /**
+     * กฎ + grammar + parser config จากไฟล์ต้นทาง (import NO_*.js ทั้ง 5 ไฟล์)
+     */
+    async loadSourceState() {
+        const { ABSOLUTE_RULES } = await import('./src/rules/validator.js');
+        const { grammar, parserConfig } = await loadSmartParserInputs();
+        return { rules: ABSOLUTE_RULES, grammar, parserConfig };
+    }
+
+    /**
+     * ใช้ startup snapshot ถ้ามีและยังตรงกับไฟล์ต้นทาง ไม่เช่นนั้นโหลดจากไฟล์ต้นทาง
+     * snapshot ที่ stale จะแจ้งเหตุผลทาง stderr เสมอ (--no-snapshot = ไม่อ่าน snapshot)
+     */
+    async loadBootState(options = {}) {
+        if (!options.noSnapshot) {
+            const { state, reason } = loadStartupSnapshot(this.getSnapshotPath(), {
+                rootDir: PACKAGE_ROOT,
+                language: ENGINE_LANGUAGE
+            });
+            if (state) {
+                return state;
+            }
+            if (reason !== 'missing') {
+                console.error(`${cliConfig.messages.snapshotStale} ${reason}`);
+            }
+        }
+        return this.loadSourceState();
+    }
+
+    async buildSnapshot(options) {
+        const snapshotPath = this.getSnapshotPath(options);
+        const bytes = writeStartupSnapshot(snapshotPath, await this.loadSourceState(), {
+            rootDir: PACKAGE_ROOT,
+            language: ENGINE_LANGUAGE
+        });
+        console.log(`${cliConfig.messages.snapshotWritten} ${snapshotPath} (${Math.round(bytes / 1024)}KB)`);
+    }
+
     showProjectInfo() {
         console.log(`
 ======================================================================
@@ -111,7 +333,7 @@ ${cliConfig.helpText.footer}`);
 
     async scanFile(filePath, options = {}) {
         try {
-            // Log progress for each file
+            // ! นับครั้งเดียวต่อไฟล์ (รวมไฟล์ที่ error - แยกนับอีกทีใน failedFiles)
             this.stats.processedFiles++;
             if (!options.quiet) {
                 console.log(`[${this.stats.processedFiles}/${this.stats.totalFiles}] Scanning: ${filePath}`);
@@ -120,20 +342,37 @@ ${cliConfig.helpText.footer}`);
             if (!fs.existsSync(filePath)) {
                 throw new Error(`${cliConfig.messages.fileNotFound} ${filePath}`);
             }
+            const securityError = this.securityRejections.get(filePath);
+            if (securityError) {
+                throw new Error(`${cliConfig.messages.securityRejected} ${securityError.message}`);
+            }
+
+            const analyze = this.isBytecodeFile(filePath)
+                ? () => this.analyzeBytecodeFile(filePath, options)
+                : () => this.analyzeFileContent(filePath, options);
+            let results;
+            if (this.profiler) {
+                this.profiler.beginFile(filePath);
+                try {
+                    results = analyze();
+                } finally {
+                    this.profiler.endFile(fs.statSync(filePath).size);
+                }
+            } else {
+                results = analyze();
+            }
+
+            // ! module surface ไปอยู่ใน symbol index เท่านั้น (ไม่ออกใน --json / report)
+            const { moduleSurface, sourceBuffer, declarations, ...fileResults } = results;
+            results = fileResults;
+            this.indexModuleSurface(filePath, moduleSurface, results.duplicateOf);
+            results.violations = this.applyBaseline(filePath, results.violations, sourceBuffer ?? null, declarations ?? null);
 
-            const content = fs.readFileSync(filePath, 'utf8');
-            const results = this.engine.analyzeCode(content, filePath);
-            
-            this.stats.processedFiles++;
             this.stats.totalViolations += results.violations.length;
 
-            if (!options.quiet && results.violations.length > 0) {
-                console.log(`\\n${filePath}:`);
-                results.violations.forEach(violation => {
-                    const location = violation.location ? `${violation.location.line}:${violation.location.column}` : '?:?';
-                    const severityLabel = this.getSeverityLabel(violation.severity);
-                    console.log(`  ${severityLabel} ${location} - ${violation.message} [${violation.ruleId}]`);
-                });
+            if (!options.quiet && !this.reporter && results.violations.length > 0) {
+                const duplicateNote = results.duplicateOf ? ` (${cliConfig.messages.duplicateOf} ${results.duplicateOf})` : '';
+                this.printViolations(filePath, results.violations, duplicateNote);
             } else if (options.verbose && results.violations.length === 0) {
                 console.log(`${filePath} - ${cliConfig.messages.noViolations}`);
             }
@@ -141,10 +380,282 @@ ${cliConfig.helpText.footer}`);
             return results;
         } catch (error) {
             console.error(`${cliConfig.messages.errorScanning} ${filePath}: ${error.message}`);
+            this.stats.failedFiles++;
+            this.indexModuleSurface(filePath, error.moduleSurface, error.duplicateOf);
             return { violations: [], error: error.message };
         }
     }
 
+    /**
+     * @param {string} [duplicateOf] - ไฟล์แรกที่เนื้อหาตรงกัน: ใช้ record ของไฟล์นั้น (ไม่มี moduleSurface ให้)
+     */
+    indexModuleSurface(filePath, moduleSurface, duplicateOf) {
+        if (!this.symbolIndex) return;
+        if (duplicateOf) {
+            if (!this.symbolIndex.copyRecord(duplicateOf, filePath, fingerprintFile(filePath))) {
+                this.symbolIndex.remove(filePath);
+                return;
+            }
+        } else if (moduleSurface) {
+            this.symbolIndex.update(filePath, moduleSurface, fingerprintFile(filePath));
+        } else {
+            // ! รอบนี้ไม่มี surface (tokenize ไม่ผ่าน / security ไม่ผ่าน) - record จากการรันก่อนห้ามใช้
+            this.symbolIndex.remove(filePath);
+            return;
+        }
+        this.symbolFiles.push(filePath);
+    }
+
+    printViolations(filePath, violations, note) {
+        console.log(`\\n${filePath}:${note}`);
+        violations.forEach(violation => {
+            const location = violation.location ? `${violation.location.line}:${violation.location.column}` : '?:?';
+            const severityLabel = this.getSeverityLabel(violation.severity);
+            console.log(`  ${severityLabel} ${location} - ${violation.message} [${violation.ruleId}]`);
+        });
+    }
+
+    /**
+     * อ่านไฟล์เป็น Buffer ครั้งเดียว  hash  วิเคราะห์เฉพาะเนื้อหาที่ยังไม่เคยเห็นในการรันนี้
+     * ไฟล์ซ้ำได้สำเนาของ violations จากไฟล์แรก (report ใช้ชื่อไฟล์ของตัวเองเสมอ)
+     */
+    analyzeFileContent(filePath, options = {}) {
+        const profiler = this.profiler;
+        const readMark = profiler && profiler.startStage();
+        const buffer = fs.readFileSync(filePath);
+        if (profiler) profiler.endStage('read', readMark);
+        const dedupEnabled = cliConfig.contentDedup.enabled && !options.noDedup;
+        if (!dedupEnabled) {
+            this.stats.uniqueContents++;
+            const results = this.engine.analyzeCode(buffer.toString('utf8'), filePath);
+            return { ...results, declarations: this.baselineDeclarations(results.moduleSurface), sourceBuffer: buffer };
+        }
+
+        const hashMark = profiler && profiler.startStage();
+        const contentHash = this.contentDedup.hash(buffer);
+        if (profiler) profiler.endStage('hash', hashMark);
+
+        if (this.contentDedup.has(contentHash)) {
+            this.stats.duplicateFiles++;
+            return { ...this.contentDedup.replay(contentHash), sourceBuffer: buffer };
+        }
+
+        this.stats.uniqueContents++;
+        try {
+            const results = this.engine.analyzeCode(buffer.toString('utf8'), filePath);
+            const declarations = this.baselineDeclarations(results.moduleSurface);
+            this.contentDedup.record(contentHash, filePath, results.violations, declarations);
+            return { ...results, declarations, sourceBuffer: buffer };
+        } catch (error) {
+            // ! เนื้อหาเดียวกันจะ error แบบเดียวกัน - จำไว้เพื่อไม่ต้อง parse ซ้ำ แล้วส่งต่อ
+            this.contentDedup.recordError(contentHash, filePath, error);
+            throw error;
+        }
+    }
+
+    /**
+     * --baseline: ชื่อ declaration ระดับบนสุด (ใช้ใน fingerprint) - ไม่มี baseline = null ไม่สรุปอะไร
+     */
+    baselineDeclarations(moduleSurface) {
+        if (!this.baseline || !moduleSurface) return null;
+        return summarizeModuleSurface(moduleSurface).declarations;
+    }
+
+    isBytecodeFile(filePath) {
+        return cliConfig.bytecode.extensions.includes(path.extname(filePath).toLowerCase());
+    }
+
+    /**
+     * .class / .jar / .war / .ear: ตรวจ string literal ใน constant pool ด้วย patterns ของ NO_HARDCODE
+     * archive อ่านทีละ entry (ไม่ผ่าน content dedup - ไม่ต้องอ่าน JAR ทั้งไฟล์เพื่อ hash)
+     */
+    analyzeBytecodeFile(filePath, options = {}) {
+        if (!this.bytecodeScanner) {
+            const bytecodeConfig = cliConfig.bytecode;
+            this.bytecodeScanner = new BytecodeScanner({
+                rule: this.rules.NO_HARDCODE,
+                archiveExtensions: bytecodeConfig.archiveExtensions,
+                maxEntryBytes: bytecodeConfig.maxEntryBytes,
+                maxNestingDepth: bytecodeConfig.maxNestingDepth,
+                ignoredAnnotations: bytecodeConfig.ignoredAnnotations
+            });
+        }
+
+        const profiler = this.profiler;
+        const scanMark = profiler && profiler.startStage();
+        const scan = this.bytecodeScanner.scanFile(filePath);
+        if (profiler) profiler.endStage('bytecode', scanMark);
+        this.stats.uniqueContents++;
+
+        // !  NO_SILENT_FALLBACKS: entry ที่อ่านไม่ได้ไม่หยุดทั้ง archive แต่ต้องแจ้งทุกตัว
+        for (const entryError of scan.entryErrors) {
+            console.warn(`${cliConfig.messages.bytecodeEntryFailed} ${filePath}!/${entryError.entry}: ${entryError.message}`);
+        }
+        if (options.verbose) {
+            console.log(`${cliConfig.messages.bytecodeScanned} ${filePath} - ${scan.classes} classes, ${scan.entries} entries`);
+        }
+        return { violations: scan.violations, bytecode: { classes: scan.classes, entries: scan.entries, entryErrors: scan.entryErrors } };
+    }
+
+    getDedupRatio() {
+        const analyzed = this.stats.uniqueContents + this.stats.duplicateFiles;
+        return analyzed === 0 ? 0 : this.stats.duplicateFiles / analyzed;
+    }
+
+    /**
+     * เปิด streaming reporter ตาม --format / --output
+     */
+    async openReporter(options) {
+        const writable = options.output
+            ? fs.createWriteStream(path.resolve(process.cwd(), options.output), { encoding: 'utf8' })
+            : process.stdout;
+        const stream = new ReportStream(writable, { closeOnEnd: Boolean(options.output) });
+        const sarifConfig = cliConfig.reporters.sarif;
+
+        this.reporter = createReporter(options.format, stream, {
+            sarif: sarifConfig,
+            tool: {
+                name: sarifConfig.toolName,
+                version: cliConfig.projectInfo.version,
+                informationUri: cliConfig.projectInfo.repository
+            },
+            rules: this.rules,
+            baseDir: process.cwd()
+        });
+        await this.reporter.begin();
+    }
+
+    getRunSummary() {
+        return {
+            totalFiles: this.stats.totalFiles,
+            processedFiles: this.stats.processedFiles,
+            failedFiles: this.stats.failedFiles,
+            totalViolations: this.stats.totalViolations,
+            uniqueContents: this.stats.uniqueContents,
+            duplicateFiles: this.stats.duplicateFiles,
+            dedupRatio: this.getDedupRatio(),
+            ...(this.baseline && !this.updatingBaseline ? { baselineSuppressed: this.baseline.suppressed } : {}),
+            ...(this.shard ? { shard: this.shard } : {})
+        };
+    }
+
+    /**
+     * เตรียม --shard / --shard-manifest / --write-shard-manifest
+     */
+    configureSharding(options) {
+        if (options.writeShardManifest) {
+            this.manifestEntries = [];
+        }
+        if (!options.shard) {
+            if (options.shardManifest) {
+                throw new Error(cliConfig.messages.shardManifestWithoutShard);
+            }
+            return;
+        }
+        this.shard = parseShardSpec(options.shard);
+        const manifest = options.shardManifest
+            ? JSON.parse(fs.readFileSync(path.resolve(process.cwd(), options.shardManifest), 'utf8'))
+            : undefined;
+        this.partitioner = new ShardPartitioner({
+            count: this.shard.count,
+            hashAlgorithm: cliConfig.sharding.hashAlgorithm,
+            manifest
+        });
+    }
+
+    writeShardManifest(outputPath) {
+        const manifest = ShardPartitioner.buildManifest(this.manifestEntries);
+        fs.writeFileSync(path.resolve(process.cwd(), outputPath), JSON.stringify(manifest, null, 2), 'utf8');
+        console.error(`${cliConfig.messages.manifestWritten} ${outputPath}`);
+    }
+
+    /**
+     * sentinel merge: รวม NDJSON report ของทุก shard แล้วเขียนออกด้วย reporter ตาม --format
+     */
+    async mergeShards(reportFiles, options) {
+        if (!options.format) {
+            throw new Error(cliConfig.messages.mergeRequiresFormat);
+        }
+        if (reportFiles.length === 0) {
+            throw new Error(cliConfig.messages.mergeNoInputs);
+        }
+        const reports = [];
+        for (const reportFile of reportFiles) {
+            reports.push(await readShardReport(path.resolve(process.cwd(), reportFile)));
+        }
+        const merged = mergeShardReports(reports);
+
+        this.rules = (await this.loadBootState(options)).rules;
+        await this.openReporter(options);
+        for (const entry of merged.files) {
+            await this.reporter.fileResult(entry.file, entry.violations, {
+                error: entry.error,
+                duplicateOf: entry.duplicateOf
+            });
+        }
+        await this.reporter.end(merged.summary);
+        if (options.output) {
+            console.log(`${cliConfig.messages.reportWritten} ${options.output}`);
+        }
+        return merged.summary.totalViolations > 0 ? 1 : 0;
+    }
+
+    /**
+     * เปิด --profile: วัดทั้ง stage ของ CLI (read/hash) และของ engine (tokenize ... traverse, ต่อกฎ)
+     */
+    enableProfiler() {
+        this.profiler = new ScanProfiler(cliConfig.profiling);
+        this.engine.attachProfiler(this.profiler);
+    }
+
+    /**
+     * พิมพ์ผล profile ไป stderr (stdout อาจเป็น --json หรือ --format stream)
+     * และ export เป็น JSON / Chrome trace ถ้าระบุ --profile-json / --profile-trace
+     */
+    writeProfile(options) {
+        const report = this.profiler.report();
+        const messages = cliConfig.messages;
+        const ms = value => `${value.toFixed(2)}ms`;
+
+        console.error(`\n${messages.profileHeader} ${report.files} files, ${ms(report.fileTimeMs)} in files, ${ms(report.wallTimeMs)} wall`);
+        console.error(`   ${messages.profileStages}`);
+        report.stages.forEach(stage => {
+            const alloc = report.allocationsTracked ? `, ~${(stage.allocBytes / 1024 / 1024).toFixed(1)}MB alloc` : '';
+            console.error(`     ${stage.name.padEnd(10)} ${ms(stage.timeMs).padStart(12)}  ${(stage.share * 100).toFixed(1).padStart(5)}%  ${stage.calls} calls${alloc}`);
+        });
+        console.error(`     ${'(other)'.padEnd(10)} ${ms(report.unattributedMs).padStart(12)}`);
+        console.error(`   ${messages.profileRules}`);
+        report.rules.forEach(rule => {
+            console.error(`     ${rule.ruleId.padEnd(22)} ${ms(rule.timeMs).padStart(12)}  ${rule.calls} calls`);
+        });
+        console.error(`   ${messages.profileSlowest}`);
+        report.slowestFiles.forEach((entry, index) => {
+            console.error(`     ${index + 1}. ${ms(entry.timeMs).padStart(12)}  ${entry.file}`);
+        });
+
+        if (options.profileJson) {
+            fs.writeFileSync(path.resolve(process.cwd(), options.profileJson), JSON.stringify(report, null, 2), 'utf8');
+            console.error(`${messages.reportWritten} ${options.profileJson}`);
+        }
+        if (options.profileTrace) {
+            const trace = this.profiler.toChromeTrace(cliConfig.reporters.sarif.toolName);
+            fs.writeFileSync(path.resolve(process.cwd(), options.profileTrace), JSON.stringify(trace), 'utf8');
+            console.error(`${messages.reportWritten} ${options.profileTrace}`);
+            if (report.droppedTraceEvents > 0) {
+                console.error(`   ${messages.profileTraceDropped} ${report.droppedTraceEvents}`);
+            }
+        }
+    }
+
+    /**
+     * จบการรัน: เขียน routine security event ที่ค้างนับ และรอ security log เขียนเสร็จก่อน process.exit
+     */
+    async close() {
+        if (this.securityManager) {
+            await this.securityManager.shutdown();
+        }
+    }
+
     getSeverityLabel(severity) {
         const level = severity?.toUpperCase() || 'INFO';
         return cliConfig.severityLabels[level] || cliConfig.severityLabels.INFO;
@@ -154,14 +665,43 @@ ${cliConfig.helpText.footer}`);
         try {
             // Use configured patterns with fallback
             const scanPattern = pattern || cliConfig.defaultPatterns.include;
-            const files = await this.findFilesRecursive(scanPattern);
+            const foundFiles = await this.findFilesRecursive(scanPattern, options);
 
-            if (files.length === 0) {
+            if (foundFiles.length === 0) {
                 console.log(`${cliConfig.messages.noFilesFound} ${scanPattern}`);
                 return [];
             }
 
+            if (this.manifestEntries) {
+                for (const file of foundFiles) {
+                    this.manifestEntries.push({ key: shardKeyFor(file, process.cwd()), bytes: fs.statSync(file).size });
+                }
+            }
+
+            const files = this.shard
+                ? this.partitioner.select(foundFiles, this.shard.index, process.cwd())
+                : foundFiles;
+            if (this.shard && !options.quiet) {
+                console.log(`${cliConfig.messages.shardSelected} ${this.shard.index}/${this.shard.count}: ${files.length}/${foundFiles.length} files`);
+            }
+
             this.stats.totalFiles = files.length;
+
+            // ! cross-file + --shard: ไฟล์ของ shard อื่นถูกอ่านเข้า index ด้วย - ต้องผ่าน security เหมือนกัน
+            let otherShardFiles = [];
+            if (this.symbolIndex) {
+                this.symbolScope.push(...foundFiles);
+                if (this.shard) {
+                    const selected = new Set(files);
+                    otherShardFiles = foundFiles.filter(file => !selected.has(file));
+                }
+            }
+
+            // ! path / ขนาด / สิทธิ์อ่านของทั้งชุด ตรวจพร้อมกันทีละ MAX_FILES_BATCH ก่อนสแกน
+            // ! ไฟล์ที่ไม่ผ่านยังอยู่ในลูป - scanFile รายงานเป็น file error (ไม่หายเงียบ)
+            const { rejected } = await this.securityManager.validateFiles([...files, ...otherShardFiles]);
+            this.securityRejections = new Map(rejected.map(({ filePath, error }) => [filePath, error]));
+            this.indexOtherShards(otherShardFiles, options);
             
             if (!options.quiet) {
                 console.log(`\\n${cliConfig.messages.scanningFiles} (${files.length} files)`);
@@ -171,6 +711,14 @@ ${cliConfig.helpText.footer}`);
             for (const file of files) {
                 try {
                     const result = await this.scanFile(file, options);
+                    if (this.reporter) {
+                        // ! เขียนออกทันทีที่ไฟล์เสร็จ (รอ drain ถ้าปลายทางช้า) - ไม่เก็บใน results
+                        await this.reporter.fileResult(file, result.violations, {
+                            error: result.error,
+                            duplicateOf: result.duplicateOf
+                        });
+                        continue;
+                    }
                     results.push({ file, ...result });
                 } catch (fileError) {
                     // !  NO_SILENT_FALLBACKS: Log error but continue to next file
@@ -197,14 +745,19 @@ ${cliConfig.helpText.footer}`);
      * (IMPROVED VERSION - NO EXTERNAL LIBRARIES)
      * FIX: ปรับปรุง Logic ให้สแกนได้ครบทุกไฟล์โดยไม่พลาด
      */
-    async findFilesRecursive(pattern) {
+    async findFilesRecursive(pattern, options = {}) {
         const files = [];
         const scannedDirs = new Set();
         let totalScanned = 0;
         let errorCount = 0;
 
         // FIX: ใช้ extensions และ ignore patterns จาก config
-        const extensionsToScan = this.config.fileExtensions || ['.js', '.ts', '.jsx', '.tsx'];
+        const sourceExtensions = this.config.fileExtensions || ['.js', '.ts', '.jsx', '.tsx'];
+        // ! bytecode ในโฟลเดอร์ (target/, build/libs/) สแกนเมื่อสั่ง --bytecode เท่านั้น
+        // ! ไฟล์ .class / .jar ที่ระบุตรงๆ สแกนเสมอ
+        const extensionsToScan = options.bytecode
+            ? [...sourceExtensions, ...this.config.bytecode.extensions]
+            : sourceExtensions;
         const ignoreDirs = new Set(this.config.ignoreDirectories || ['node_modules', '.git', '.vscode']);
 
         console.log(`Scanning for extensions: [${extensionsToScan.join(', ')}]`);
@@ -263,7 +816,7 @@ ${cliConfig.helpText.footer}`);
                 scan(startPath);
             } else if (stat.isFile()) {
                 // กรณีที่ผู้ใช้ระบุไฟล์เดียวโดยตรง
-                if (extensionsToScan.includes(path.extname(startPath))) {
+                if (extensionsToScan.includes(path.extname(startPath)) || this.isBytecodeFile(startPath)) {
                     files.push(startPath);
                     totalScanned++;
                 }
@@ -281,11 +834,7 @@ ${cliConfig.helpText.footer}`);
         
         if (options.json) {
             const jsonOutput = {
-                summary: {
-                    totalFiles: this.stats.totalFiles,
-                    processedFiles: this.stats.processedFiles,
-                    totalViolations: this.stats.totalViolations
-                },
+                summary: this.getRunSummary(),
                 results: results
             };
             console.log(JSON.stringify(jsonOutput, null, 2));
@@ -293,6 +842,13 @@ ${cliConfig.helpText.footer}`);
             console.log(`\\n${cliConfig.messages.summaryHeader}`);
             console.log(`   ${cliConfig.messages.filesScanned} ${this.stats.processedFiles}/${this.stats.totalFiles}`);
             console.log(`   ${cliConfig.messages.totalViolations} ${this.stats.totalViolations}`);
+            if (this.stats.duplicateFiles > 0) {
+                const percent = (this.getDedupRatio() * 100).toFixed(1);
+                console.log(`   ${cliConfig.messages.duplicateContent} ${this.stats.duplicateFiles} files (${percent}%) analyzed once as ${this.stats.uniqueContents} unique contents`);
+            }
+            if (this.baseline && !this.updatingBaseline) {
+                console.log(`   ${cliConfig.messages.baselineSuppressed} ${this.baseline.suppressed} known violations suppressed, ${this.baseline.unmatched} not found in this scan`);
+            }
             
             if (hasViolations) {
                 console.log(`\\n${cliConfig.messages.qualityCheckFailed}`);
@@ -305,6 +861,20 @@ ${cliConfig.helpText.footer}`);
     }
 }
 
+/**
+ * อ่านค่าของ option รูปแบบ --name=value (null ถ้าไม่ได้ระบุ)
+ */
+function readOptionValue(args, name) {
+    const prefix = `${name}=`;
+    const arg = args.find(item => item.startsWith(prefix));
+    if (!arg) return null;
+    const value = arg.slice(prefix.length);
+    if (!value) {
+        throw new Error(`Option ${name} requires a value (${name}=<value>)`);
+    }
+    return value;
+}
+
 async function main() {
     const args = process.argv.slice(2);
     const options = {
@@ -313,8 +883,23 @@ async function main() {
         json: args.includes('--json'),
         help: args.includes('--help') || args.includes('-h'),
         version: args.includes('--version') || args.includes('-v'),
-        withLogs: args.includes('--with-logs') || args.includes('-l')
+        withLogs: args.includes('--with-logs') || args.includes('-l'),
+        noDedup: args.includes('--no-dedup'),
+        bytecode: args.includes('--bytecode'),
+        format: readOptionValue(args, '--format'),
+        output: readOptionValue(args, '--output'),
+        shard: readOptionValue(args, '--shard'),
+        shardManifest: readOptionValue(args, '--shard-manifest'),
+        writeShardManifest: readOptionValue(args, '--write-shard-manifest'),
+        buildSnapshot: readOptionValue(args, '--build-snapshot') || args.includes('--build-snapshot'),
+        noSnapshot: args.includes('--no-snapshot'),
+        noSymbolIndex: args.includes('--no-symbol-index'),
+        baseline: readOptionValue(args, '--baseline'),
+        updateBaseline: args.includes('--update-baseline'),
+        profileJson: readOptionValue(args, '--profile-json'),
+        profileTrace: readOptionValue(args, '--profile-trace')
     };
+    options.profile = args.includes('--profile') || Boolean(options.profileJson || options.profileTrace);
 
     // WHY: If --with-logs is enabled, delegate to professional logger system (NO_HARDCODE)
     if (options.withLogs) {
@@ -324,6 +909,11 @@ async function main() {
 
     const cli = new ChahuadevCLI();
 
+    if (options.updateBaseline && !options.baseline) {
+        console.error(cliConfig.messages.updateBaselineWithoutFile);
+        return 1;
+    }
+
     if (options.help) {
         cli.showHelp();
         return 0;
@@ -334,14 +924,36 @@ async function main() {
         return 0;
     }
 
+    if (options.buildSnapshot) {
+        try {
+            await cli.buildSnapshot(options);
+            return 0;
+        } catch (error) {
+            console.error(`${cliConfig.messages.cliExecutionFailed} ${error.message}`);
+            return 1;
+        }
+    }
+
+    // ! sentinel merge <shard reports...> - ไม่ต้องโหลด engine
+    if (args[0] === 'merge') {
+        try {
+            const reportFiles = args.slice(1).filter(arg => !arg.startsWith('-'));
+            return await cli.mergeShards(reportFiles, options);
+        } catch (error) {
+            console.error(`${cliConfig.messages.cliExecutionFailed} ${error.message}`);
+            return 1;
+        }
+    }
+
     // Show project info at startup (unless quiet mode)
     if (!options.quiet) {
         cli.showProjectInfo();
     }
 
     // Initialize the engine
-    const initialized = await cli.initialize();
+    const initialized = await cli.initialize(options);
     if (!initialized) {
+        await cli.close();
         return 1;
     }
 
@@ -350,6 +962,16 @@ async function main() {
     
     try {
         let results = [];
+
+        if (options.profile) {
+            cli.enableProfiler();
+        }
+
+        cli.configureSharding(options);
+
+        if (options.format) {
+            await cli.openReporter(options);
+        }
         
         if (patterns.length === 0) {
             // Use default pattern
@@ -362,12 +984,38 @@ async function main() {
             }
         }
 
+        await cli.checkCrossFile(results, options);
+
+        if (cli.updatingBaseline) {
+            cli.writeBaseline(options);
+        }
+
+        if (cli.profiler) {
+            cli.writeProfile(options);
+        }
+
+        if (options.writeShardManifest) {
+            cli.writeShardManifest(options.writeShardManifest);
+        }
+
+        if (cli.reporter) {
+            await cli.reporter.end(cli.getRunSummary());
+            if (options.output) {
+                // ! report อยู่ในไฟล์ - stdout ยังแสดงสรุปแบบข้อความได้
+                console.log(`${cliConfig.messages.reportWritten} ${options.output}`);
+                return cli.showSummary(results, { ...options, json: false });
+            }
+            return cli.stats.totalViolations > 0 ? 1 : 0;
+        }
+
         const exitCode = cli.showSummary(results, options);
         return exitCode;
         
     } catch (error) {
         console.error(`${cliConfig.messages.cliExecutionFailed} ${error.message}`);
         return 1;
+    } finally {
+        await cli.close();
     }
 }
 
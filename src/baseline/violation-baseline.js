@@ -0,0 +1,209 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  VIOLATION BASELINE - violation ที่รู้อยู่แล้วของโค้ด legacy (--baseline=<file>)
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  โปรเจกต์เก่ามี violation เดิมเป็นหมื่น - เทียบ output ทั้งก้อนกับรอบก่อนทั้งช้าและกิน memory
+// !  baseline เก็บ fingerprint 64-bit ต่อ violation แทน แล้วระหว่างสแกนเช็คทีละตัวด้วย Map.get (O(1))
+// !  report / output โตตามปัญหาใหม่ ไม่ใช่ตามขนาดหนี้เดิม
+// !
+// !  fingerprint = hash(ruleId, path relative กับ rootDir, symbol ระดับบนสุดที่ครอบอยู่,
+// !                     บรรทัดของ violation ที่ตัด whitespace แล้ว)
+// !  ไม่มีเลขบรรทัด - แก้โค้ดด้านบนแล้วบรรทัดเลื่อน fingerprint ไม่เปลี่ยน
+// !  ไม่มีบรรทัด (location 0 / bytecode / cross-file) = ใช้ message แทน snippet
+// !
+// !  fingerprint ซ้ำได้ (บรรทัดเหมือนกันในฟังก์ชันเดียวกัน) - นับจำนวน: baseline มี 2 ตัว
+// !  รอบนี้เจอ 3 ตัว = ตัวที่ 3 เป็นของใหม่
+// !
+// !  ไฟล์: MAGIC + UInt32 formatVersion + UInt8 ความยาวชื่อ hash + ชื่อ hash + UInt32 count
+// !        + BigUInt64LE[count] เรียงจากน้อยไปมาก (8 byte ต่อ violation, ผลเหมือนกันทุกครั้ง)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import fs from 'fs';
+import path from 'path';
+import { createHash } from 'crypto';
+
+const MAGIC = Buffer.from('SENTINEL-BASELINE\n', 'utf8');
+const FORMAT_VERSION = 1;
+const FINGERPRINT_BYTES = 8;
+
+/**
+ * ข้อความที่ใช้ hash แทนตัวบรรทัด - whitespace ติดกันเหลือช่องเดียว (แก้ indent ไม่ทำให้กลายเป็นของใหม่)
+ */
+function normalizeSnippet(text) {
+    return text.trim().replace(/\s+/g, ' ');
+}
+
+/**
+ * declaration ระดับบนสุดตัวสุดท้ายที่เริ่มก่อน (หรือที่) บรรทัดนี้
+ * @param {Object[]} declarations - summarizeModuleSurface().declarations (เรียงตามตำแหน่งในไฟล์)
+ */
+function enclosingSymbol(declarations, line, moduleSymbol) {
+    let symbol = moduleSymbol;
+    for (const declaration of declarations) {
+        if (!declaration.location || declaration.location.line > line) break;
+        symbol = declaration.name;
+    }
+    return symbol;
+}
+
+class ViolationBaseline {
+    /**
+     * @param {Object} options
+     * @param {string} options.hashAlgorithm - algorithm ของ crypto.createHash (ต้องตรงกับตอนสร้าง baseline)
+     * @param {string} options.moduleSymbol - ชื่อ symbol ของ violation ที่อยู่นอกทุก declaration
+     * @param {string} options.rootDir - path ใน fingerprint เป็น relative กับ directory นี้
+     */
+    constructor(options) {
+        for (const key of ['hashAlgorithm', 'moduleSymbol', 'rootDir']) {
+            if (typeof options[key] !== 'string' || options[key] === '') {
+                throw new Error(`ViolationBaseline requires ${key}`);
+            }
+        }
+        this.hashAlgorithm = options.hashAlgorithm;
+        this.moduleSymbol = options.moduleSymbol;
+        this.rootDir = options.rootDir;
+        // ! fingerprint  จำนวนที่ยังไม่ถูกจับคู่ในรอบนี้
+        this.known = new Map();
+        this.size = 0;
+        this.suppressed = 0;
+    }
+
+    static fromConfig(config, rootDir) {
+        if (!config) {
+            throw new Error('Configuration missing baseline section');
+        }
+        return new ViolationBaseline({ ...config, rootDir });
+    }
+
+    /**
+     * @param {string} file
+     * @param {Object} violation - { ruleId, message, location }
+     * @param {Object|null} context - { lineIndex: LineIndex, declarations: Object[] } หรือ null (ไม่มี source)
+     * @returns {bigint}
+     */
+    fingerprintOf(file, violation, context) {
+        const line = violation.location?.line;
+        const hasLine = context?.lineIndex && Number.isInteger(line) && line >= 1 && line <= context.lineIndex.lineCount;
+        const snippet = hasLine ? normalizeSnippet(context.lineIndex.lineText(line)) : normalizeSnippet(violation.message);
+        const symbol = hasLine ? enclosingSymbol(context.declarations, line, this.moduleSymbol) : this.moduleSymbol;
+        const relative = path.relative(this.rootDir, path.resolve(this.rootDir, file)).split(path.sep).join('/');
+
+        const digest = createHash(this.hashAlgorithm)
+            .update(`${violation.ruleId}\0${relative}\0${symbol}\0${snippet}`)
+            .digest();
+        return digest.readBigUInt64LE(0);
+    }
+
+    add(fingerprint) {
+        this.known.set(fingerprint, (this.known.get(fingerprint) ?? 0) + 1);
+        this.size++;
+    }
+
+    /**
+     * --update-baseline: จำทุก violation ของไฟล์นี้
+     */
+    record(file, violations, context) {
+        for (const violation of violations) {
+            this.add(this.fingerprintOf(file, violation, context));
+        }
+    }
+
+    /**
+     * ตัด violation ที่อยู่ใน baseline ออก (ใช้จำนวนใน baseline ทีละตัว)
+     * @returns {Object[]} เฉพาะ violation ใหม่
+     */
+    suppress(file, violations, context) {
+        if (violations.length === 0 || this.known.size === 0) return violations;
+        const fresh = [];
+        for (const violation of violations) {
+            const fingerprint = this.fingerprintOf(file, violation, context);
+            const remaining = this.known.get(fingerprint);
+            if (remaining === undefined) {
+                fresh.push(violation);
+                continue;
+            }
+            if (remaining === 1) this.known.delete(fingerprint);
+            else this.known.set(fingerprint, remaining - 1);
+            this.suppressed++;
+        }
+        return fresh;
+    }
+
+    /**
+     * จำนวน violation ใน baseline ที่ไม่เจอในรอบนี้ (ถูกแก้แล้ว หรือไฟล์ไม่ได้อยู่ในการสแกนนี้)
+     */
+    get unmatched() {
+        return this.size - this.suppressed;
+    }
+
+    serialize() {
+        const fingerprints = [];
+        for (const [fingerprint, count] of this.known) {
+            for (let i = 0; i < count; i++) fingerprints.push(fingerprint);
+        }
+        fingerprints.sort((a, b) => (a < b ? -1 : a > b ? 1 : 0));
+
+        const algorithm = Buffer.from(this.hashAlgorithm, 'utf8');
+        const header = Buffer.alloc(4 + 1 + algorithm.length + 4);
+        header.writeUInt32LE(FORMAT_VERSION, 0);
+        header.writeUInt8(algorithm.length, 4);
+        algorithm.copy(header, 5);
+        header.writeUInt32LE(fingerprints.length, 5 + algorithm.length);
+
+        const body = Buffer.alloc(fingerprints.length * FINGERPRINT_BYTES);
+        fingerprints.forEach((fingerprint, index) => body.writeBigUInt64LE(fingerprint, index * FINGERPRINT_BYTES));
+        return Buffer.concat([MAGIC, header, body]);
+    }
+
+    save(file) {
+        const blob = this.serialize();
+        fs.mkdirSync(path.dirname(file), { recursive: true });
+        // ! เขียนไฟล์ชั่วคราวแล้ว rename - process ตายกลางทางไม่เหลือ baseline ครึ่งไฟล์
+        const temporary = `${file}.${process.pid}.tmp`;
+        fs.writeFileSync(temporary, blob);
+        fs.renameSync(temporary, file);
+    }
+
+    /**
+     * @param {string} file
+     * @param {ViolationBaseline} baseline - ว่าง (fromConfig) จะถูกเติมจากไฟล์
+     * @returns {ViolationBaseline}
+     */
+    static load(file, baseline) {
+        if (!fs.existsSync(file)) {
+            throw new Error(`Baseline file not found: ${file} (create it with --update-baseline)`);
+        }
+        const blob = fs.readFileSync(file);
+        if (blob.length < MAGIC.length + 5 || !blob.subarray(0, MAGIC.length).equals(MAGIC)) {
+            throw new Error(`${file} is not a Sentinel baseline`);
+        }
+        let offset = MAGIC.length;
+        const formatVersion = blob.readUInt32LE(offset);
+        if (formatVersion !== FORMAT_VERSION) {
+            throw new Error(`Baseline ${file} has format ${formatVersion}, expected ${FORMAT_VERSION} (run --update-baseline)`);
+        }
+        const algorithmLength = blob.readUInt8(offset + 4);
+        offset += 5;
+        const algorithm = blob.toString('utf8', offset, offset + algorithmLength);
+        offset += algorithmLength;
+        if (algorithm !== baseline.hashAlgorithm) {
+            throw new Error(`Baseline ${file} uses ${algorithm} fingerprints, configuration expects ${baseline.hashAlgorithm} (run --update-baseline)`);
+        }
+        const count = blob.readUInt32LE(offset);
+        offset += 4;
+        if (blob.length !== offset + count * FINGERPRINT_BYTES) {
+            throw new Error(`Baseline ${file} is truncated: expected ${count} fingerprints`);
+        }
+        for (let index = 0; index < count; index++) {
+            baseline.add(blob.readBigUInt64LE(offset + index * FINGERPRINT_BYTES));
+        }
+        return baseline;
+    }
+}
+
+export { ViolationBaseline, normalizeSnippet, enclosingSymbol };
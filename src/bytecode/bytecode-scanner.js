@@ -0,0 +1,211 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  BYTECODE SCANNER - NO_HARDCODE สำหรับ .class / .jar ที่ไม่มีซอร์ส
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  .jar / .war / .ear  ZipArchive (ทีละ entry, jar ซ้อนได้ถึง maxNestingDepth)
+// !  .class              parseClassFile  string literal + ตำแหน่งที่ใช้
+// !  literal             patterns ของกฎ NO_HARDCODE (ชุดเดียวกับที่ใช้กับซอร์ส)
+// !
+// !  ข้อความที่ให้ pattern ตรวจ = literal ในรูปซอร์ส Java: "value" (escape แบบ JSON)
+// !  literal ที่กำหนดให้ field / annotation element ได้ชื่อนั้นนำหน้า: DB_PASSWORD = "value"
+// !  pattern แบบ password = "..." / API_KEY = "..." จึงทำงานเหมือนตอนตรวจซอร์ส
+// !
+// !  ความเร็ว (fat JAR = literal ไม่ซ้ำหลักแสน × pattern ~200):
+// !   - pattern ที่มี substring บังคับ (requiredLiteral) เช็ค includes() ก่อน exec()
+// !   - literal เดียวกันซ้ำในหลาย class (logger name, SQL, key) ตรวจ pattern ครั้งเดียว
+// !     ต่อการสแกนหนึ่งไฟล์ - Map มีอายุเท่ากับ scanFile() หนึ่งครั้ง
+// !
+// !  entry ที่อ่านไม่ได้ (class เสีย, compression ไม่รองรับ) ไม่หยุดการสแกนทั้ง archive
+// !  แต่ถูกรายงานใน entryErrors ทุกตัว
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import fs from 'fs';
+import path from 'path';
+import { ZipArchive } from './zip-archive.js';
+import { parseClassFile } from './class-file.js';
+import { requiredLiteral } from './required-literal.js';
+
+const CLASS_EXTENSION = '.class';
+const ARCHIVE_SEPARATOR = '!/';
+
+class BytecodeScanner {
+    /**
+     * @param {Object} options
+     * @param {Object} options.rule - ABSOLUTE_RULES.NO_HARDCODE { id, patterns, exceptions }
+     * @param {string[]} options.archiveExtensions - cli-config.json bytecode.archiveExtensions
+     * @param {number} options.maxEntryBytes - ขนาดสูงสุดของ entry หลัง inflate
+     * @param {number} options.maxNestingDepth - jar ซ้อน jar ได้กี่ชั้น
+     * @param {string[]} options.ignoredAnnotations - descriptor ของ annotation ที่ไม่ตรวจค่า
+     */
+    constructor(options = {}) {
+        const { rule, archiveExtensions, maxEntryBytes, maxNestingDepth, ignoredAnnotations } = options;
+        if (!rule || !Array.isArray(rule.patterns) || rule.patterns.length === 0) {
+            throw new Error('BytecodeScanner requires the NO_HARDCODE rule with patterns');
+        }
+        if (!Array.isArray(archiveExtensions) || archiveExtensions.length === 0) {
+            throw new Error('BytecodeScanner requires archiveExtensions');
+        }
+        if (!Number.isInteger(maxNestingDepth) || maxNestingDepth < 0) {
+            throw new Error(`BytecodeScanner maxNestingDepth must be a non-negative integer, got: ${maxNestingDepth}`);
+        }
+        this.ruleId = rule.id;
+        // ! สำเนาแบบไม่มี flag g/y - test() ของ regex ที่มี lastIndex จะข้าม match
+        this.patterns = rule.patterns.map(pattern => ({
+            name: pattern.name,
+            severity: pattern.severity,
+            regex: new RegExp(pattern.regex.source, pattern.regex.flags.replace(/[gy]/g, '')),
+            literal: requiredLiteral(pattern.regex),
+            ignoreCase: pattern.regex.flags.includes('i')
+        }));
+        this.exceptions = Array.isArray(rule.exceptions) ? rule.exceptions : [];
+        this.archiveExtensions = archiveExtensions;
+        this.maxEntryBytes = maxEntryBytes;
+        this.maxNestingDepth = maxNestingDepth;
+        this.ignoredAnnotations = new Set(ignoredAnnotations);
+    }
+
+    isArchive(name) {
+        return this.archiveExtensions.includes(path.extname(name).toLowerCase());
+    }
+
+    /**
+     * @param {string} filePath - .class หรือ archive
+     * @returns {{violations: Array, classes: number, entries: number, entryErrors: Array<{entry, message}>}}
+     */
+    scanFile(filePath) {
+        const scan = {
+            violations: [],
+            classes: 0,
+            entries: 0,
+            entryErrors: [],
+            verdicts: new Map()
+        };
+
+        if (this.isArchive(filePath)) {
+            const archive = ZipArchive.open(filePath, { maxEntryBytes: this.maxEntryBytes });
+            try {
+                this.scanArchive(archive, '', 0, scan);
+            } finally {
+                archive.close();
+            }
+        } else if (path.extname(filePath).toLowerCase() === CLASS_EXTENSION) {
+            this.scanClass(fs.readFileSync(filePath), path.basename(filePath), scan);
+        } else {
+            throw new Error(`${filePath} is not a class file or archive (${this.archiveExtensions.join(', ')})`);
+        }
+
+        return {
+            violations: scan.violations,
+            classes: scan.classes,
+            entries: scan.entries,
+            entryErrors: scan.entryErrors
+        };
+    }
+
+    scanArchive(archive, prefix, depth, scan) {
+        for (const entry of archive.entries) {
+            const isClass = entry.name.endsWith(CLASS_EXTENSION);
+            const isNested = !isClass && this.isArchive(entry.name);
+            if (!isClass && !isNested) continue;
+
+            scan.entries++;
+            const entryName = prefix + entry.name;
+            try {
+                if (isClass) {
+                    this.scanClass(archive.readEntry(entry), entryName, scan);
+                } else if (depth < this.maxNestingDepth) {
+                    const nested = ZipArchive.fromBuffer(archive.readEntry(entry), {
+                        name: entryName,
+                        maxEntryBytes: this.maxEntryBytes
+                    });
+                    this.scanArchive(nested, entryName + ARCHIVE_SEPARATOR, depth + 1, scan);
+                } else {
+                    throw new Error(`nested deeper than maxNestingDepth (${this.maxNestingDepth})`);
+                }
+            } catch (error) {
+                scan.entryErrors.push({ entry: entryName, message: error.message });
+            }
+        }
+    }
+
+    scanClass(buffer, entryName, scan) {
+        const classFile = parseClassFile(buffer, { ignoredAnnotations: this.ignoredAnnotations });
+        scan.classes++;
+        const className = classFile.className.replace(/\//g, '.');
+
+        for (const literal of classFile.literals) {
+            const subject = literal.target
+                ? `${literal.target} = ${JSON.stringify(literal.value)}`
+                : JSON.stringify(literal.value);
+            let matches = scan.verdicts.get(subject);
+            if (matches === undefined) {
+                matches = this.matchPatterns(subject);
+                scan.verdicts.set(subject, matches);
+            }
+            for (const match of matches) {
+                scan.violations.push({
+                    ruleId: this.ruleId,
+                    severity: match.severity,
+                    message: `Bytecode: ${match.name}: ${JSON.stringify(literal.value)} in ${describeUsage(className, literal)} (${describeOrigin(entryName, classFile.sourceFile, literal.line)})`,
+                    location: { line: literal.line === null ? 0 : literal.line, column: 0 },
+                    bytecode: {
+                        entry: entryName,
+                        className,
+                        sourceFile: classFile.sourceFile,
+                        kind: literal.kind,
+                        member: literal.member,
+                        descriptor: literal.descriptor
+                    }
+                });
+            }
+        }
+    }
+
+    matchPatterns(subject) {
+        const matches = [];
+        let lowerSubject = null;
+        for (const pattern of this.patterns) {
+            if (pattern.literal) {
+                if (pattern.ignoreCase && lowerSubject === null) lowerSubject = subject.toLowerCase();
+                if (!(pattern.ignoreCase ? lowerSubject : subject).includes(pattern.literal)) continue;
+            }
+            const match = pattern.regex.exec(subject);
+            if (match && !this.exceptions.some(exception => exception.test(match[0]))) {
+                matches.push(pattern);
+            }
+        }
+        return matches;
+    }
+}
+
+function describeUsage(className, literal) {
+    switch (literal.kind) {
+        case 'field':
+        case 'method':
+            return `${className}.${literal.member}`;
+        case 'annotation': {
+            const owner = literal.member === className ? className : `${className}.${literal.member}`;
+            return `@${literal.target} on ${owner}`;
+        }
+        default:
+            return className;
+    }
+}
+
+/**
+ * entry ใน archive + ไฟล์ซอร์สและบรรทัด (จาก SourceFile / LineNumberTable ถ้ามี)
+ */
+function describeOrigin(entryName, sourceFile, line) {
+    if (sourceFile && line !== null) {
+        return `${entryName}, ${sourceFile}:${line}`;
+    }
+    return entryName;
+}
+
+export { BytecodeScanner, ARCHIVE_SEPARATOR };
+export default BytecodeScanner;
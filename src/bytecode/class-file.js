@@ -0,0 +1,477 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  CLASS FILE - ดึง string literal จาก constant pool พร้อมตำแหน่งที่ใช้
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ไม่ decompile: อ่าน constant pool (JVMS §4.4) แล้วเดิน field / method / attribute
+// !  เพื่อบอกว่า string แต่ละตัวถูกใช้ที่ไหน
+// !
+// !  Literal ที่เก็บ = CONSTANT_String (ค่า "..." ในซอร์ส) + ค่า 's' ใน annotation
+// !  (CONSTANT_Utf8 ตัวอื่นเป็นชื่อ class/method/descriptor ของ JVM ไม่ใช่ค่าที่เขียนในโค้ด)
+// !
+// !  ตำแหน่ง (usage):
+// !   - field   : ConstantValue ของ static final หรือ ldc ตามด้วย putstatic/putfield
+// !               (<clinit>/<init> ที่กำหนดค่าให้ field)  ได้ชื่อ field
+// !   - method  : ldc / ldc_w ใน Code  ได้ชื่อ method + descriptor + บรรทัดจาก LineNumberTable
+// !   - annotation : ค่า string ใน RuntimeVisible/InvisibleAnnotations ของ class/field/method
+// !               (พร้อมชื่อ element เช่น password = "...")
+// !               annotation ใน ignoredAnnotations ไม่นับ (kotlin.Metadata เก็บ protobuf
+// !               เป็น string ยาว - ไม่ใช่ค่าที่ผู้เขียนโค้ดพิมพ์เอง)
+// !   - class   : literal ที่ไม่พบการใช้ข้างบน (เช่น bootstrap argument ของ invokedynamic)
+// !
+// !  Utf8 ของ class file เป็น "modified UTF-8" (null = C0 80, supplementary = surrogate
+// !  แยกสองตัว) - ถอดเป็น UTF-16 code unit ตรงๆ จึงได้ string ของ JS ที่ถูกต้อง
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+const CLASS_MAGIC = 0xcafebabe;
+
+const CONSTANT = Object.freeze({
+    Utf8: 1,
+    Integer: 3,
+    Float: 4,
+    Long: 5,
+    Double: 6,
+    Class: 7,
+    String: 8,
+    Fieldref: 9,
+    Methodref: 10,
+    InterfaceMethodref: 11,
+    NameAndType: 12,
+    MethodHandle: 15,
+    MethodType: 16,
+    Dynamic: 17,
+    InvokeDynamic: 18,
+    Module: 19,
+    Package: 20
+});
+
+// ! ขนาด payload (ไม่รวม tag) ของ constant ที่ไม่ใช่ Utf8 - index ด้วย tag (0 = tag ไม่รู้จัก)
+const CONSTANT_SIZES = new Uint8Array(32);
+for (const [tag, size] of [
+    [CONSTANT.Integer, 4], [CONSTANT.Float, 4], [CONSTANT.Long, 8], [CONSTANT.Double, 8],
+    [CONSTANT.Class, 2], [CONSTANT.String, 2], [CONSTANT.Fieldref, 4], [CONSTANT.Methodref, 4],
+    [CONSTANT.InterfaceMethodref, 4], [CONSTANT.NameAndType, 4], [CONSTANT.MethodHandle, 3],
+    [CONSTANT.MethodType, 2], [CONSTANT.Dynamic, 4], [CONSTANT.InvokeDynamic, 4],
+    [CONSTANT.Module, 2], [CONSTANT.Package, 2]
+]) {
+    CONSTANT_SIZES[tag] = size;
+}
+
+const OP = Object.freeze({
+    LDC: 0x12,
+    LDC_W: 0x13,
+    TABLESWITCH: 0xaa,
+    LOOKUPSWITCH: 0xab,
+    PUTSTATIC: 0xb3,
+    PUTFIELD: 0xb5,
+    WIDE: 0xc4,
+    IINC: 0x84
+});
+
+// ! ความยาว instruction (รวม opcode) - 0 = ต้องคำนวณเอง (switch / wide)
+const OPCODE_LENGTHS = new Uint8Array(256).fill(1);
+for (const op of [0x10, 0x12, 0x15, 0x16, 0x17, 0x18, 0x19, 0x36, 0x37, 0x38, 0x39, 0x3a, 0xa9, 0xbc]) {
+    OPCODE_LENGTHS[op] = 2;
+}
+for (let op = 0x99; op <= 0xa8; op++) OPCODE_LENGTHS[op] = 3;
+for (let op = 0xb2; op <= 0xb8; op++) OPCODE_LENGTHS[op] = 3;
+for (const op of [0x11, 0x13, 0x14, 0x84, 0xbb, 0xbd, 0xc0, 0xc1, 0xc6, 0xc7]) {
+    OPCODE_LENGTHS[op] = 3;
+}
+OPCODE_LENGTHS[0xc5] = 4;
+for (const op of [0xb9, 0xba, 0xc8, 0xc9]) {
+    OPCODE_LENGTHS[op] = 5;
+}
+OPCODE_LENGTHS[OP.TABLESWITCH] = 0;
+OPCODE_LENGTHS[OP.LOOKUPSWITCH] = 0;
+OPCODE_LENGTHS[OP.WIDE] = 0;
+
+/**
+ * modified UTF-8  string (fast path: ASCII ล้วน)
+ */
+function decodeModifiedUtf8(buffer, start, end) {
+    let ascii = true;
+    for (let i = start; i < end; i++) {
+        if (buffer[i] & 0x80) {
+            ascii = false;
+            break;
+        }
+    }
+    if (ascii) {
+        return buffer.latin1Slice(start, end);
+    }
+
+    const units = [];
+    let i = start;
+    while (i < end) {
+        const byte = buffer[i];
+        if ((byte & 0x80) === 0) {
+            units.push(byte);
+            i += 1;
+        } else if ((byte & 0xe0) === 0xc0 && i + 1 < end) {
+            units.push(((byte & 0x1f) << 6) | (buffer[i + 1] & 0x3f));
+            i += 2;
+        } else if ((byte & 0xf0) === 0xe0 && i + 2 < end) {
+            units.push(((byte & 0x0f) << 12) | ((buffer[i + 1] & 0x3f) << 6) | (buffer[i + 2] & 0x3f));
+            i += 3;
+        } else {
+            throw new Error(`Invalid modified UTF-8 byte 0x${byte.toString(16)} at ${i}`);
+        }
+    }
+    let text = '';
+    for (let chunk = 0; chunk < units.length; chunk += 8192) {
+        text += String.fromCharCode(...units.slice(chunk, chunk + 8192));
+    }
+    return text;
+}
+
+class ClassFileReader {
+    constructor(buffer) {
+        this.buffer = buffer;
+        this.offset = 0;
+    }
+
+    ensure(length) {
+        if (this.offset + length > this.buffer.length) {
+            throw new Error(`Truncated class file (need ${length} bytes at ${this.offset})`);
+        }
+    }
+
+    u1() {
+        this.ensure(1);
+        return this.buffer[this.offset++];
+    }
+
+    u2() {
+        this.ensure(2);
+        const value = this.buffer.readUInt16BE(this.offset);
+        this.offset += 2;
+        return value;
+    }
+
+    u4() {
+        this.ensure(4);
+        const value = this.buffer.readUInt32BE(this.offset);
+        this.offset += 4;
+        return value;
+    }
+
+    skip(length) {
+        this.ensure(length);
+        this.offset += length;
+    }
+}
+
+/**
+ * @param {Buffer} buffer - เนื้อหาของไฟล์ .class
+ * @param {Object} [options]
+ * @param {Set<string>} [options.ignoredAnnotations] - descriptor ของ annotation ที่ข้าม เช่น Lkotlin/Metadata;
+ * @returns {{className: string, sourceFile: string|null, literals: Array}}
+ *   literal = { value, kind, member, descriptor, target, line }
+ *   target = ชื่อที่ literal ถูกกำหนดให้ (field / annotation element) หรือ null
+ */
+function parseClassFile(buffer, options = {}) {
+    const ignoredAnnotations = options.ignoredAnnotations || new Set();
+    const reader = new ClassFileReader(buffer);
+    if (reader.u4() !== CLASS_MAGIC) {
+        throw new Error('Not a class file (bad magic)');
+    }
+    reader.skip(4); // ! minor_version, major_version
+
+    // ! ─── Constant pool: บันทึก tag + offset ของ payload แล้วถอดเฉพาะที่ต้องใช้ ────
+    // ! loop นี้คือส่วนที่ร้อนที่สุดของการสแกน jar - อ่าน buffer ตรงแล้วเช็คขอบเขตครั้งเดียวตอนจบ
+    const poolCount = reader.u2();
+    const tags = new Uint8Array(poolCount);
+    const offsets = new Uint32Array(poolCount);
+    let offset = reader.offset;
+    for (let index = 1; index < poolCount; index++) {
+        if (offset + 3 > buffer.length) {
+            throw new Error(`Truncated constant pool at index ${index}`);
+        }
+        const tag = buffer[offset];
+        tags[index] = tag;
+        offsets[index] = offset + 1;
+        if (tag === CONSTANT.Utf8) {
+            offset += 3 + ((buffer[offset + 1] << 8) | buffer[offset + 2]);
+        } else if (tag < CONSTANT_SIZES.length && CONSTANT_SIZES[tag] !== 0) {
+            offset += 1 + CONSTANT_SIZES[tag];
+            // ! Long / Double ใช้สอง slot (JVMS §4.4.5)
+            if (tag === CONSTANT.Long || tag === CONSTANT.Double) index++;
+        } else {
+            throw new Error(`Unknown constant pool tag ${tag} at index ${index}`);
+        }
+    }
+    reader.offset = offset;
+    reader.ensure(0);
+
+    // ! ชื่อ attribute / field / annotation ถูกอ้างซ้ำหลายครั้งในไฟล์เดียว - ถอดครั้งเดียวต่อ index
+    const decoded = new Array(poolCount);
+    const utf8 = (index) => {
+        if (index <= 0 || index >= poolCount || tags[index] !== CONSTANT.Utf8) {
+            throw new Error(`Constant pool index ${index} is not CONSTANT_Utf8`);
+        }
+        let text = decoded[index];
+        if (text === undefined) {
+            const start = offsets[index] + 2;
+            text = decodeModifiedUtf8(buffer, start, start + buffer.readUInt16BE(offsets[index]));
+            decoded[index] = text;
+        }
+        return text;
+    };
+    const refAt = (index, tag) => {
+        if (index <= 0 || index >= poolCount || tags[index] !== tag) {
+            throw new Error(`Constant pool index ${index} is not tag ${tag}`);
+        }
+        return buffer.readUInt16BE(offsets[index]);
+    };
+    // ! index ของ CONSTANT_String  index ของ Utf8 ที่เป็นค่า (undefined ถ้าไม่ใช่ String)
+    const stringValueIndex = (index) => (
+        index > 0 && index < poolCount && tags[index] === CONSTANT.String ? buffer.readUInt16BE(offsets[index]) : undefined
+    );
+    const fieldrefName = (index) => {
+        const nameAndType = buffer.readUInt16BE(offsets[index] + 2);
+        return utf8(refAt(nameAndType, CONSTANT.NameAndType));
+    };
+
+    reader.skip(2); // ! access_flags
+    const className = utf8(refAt(reader.u2(), CONSTANT.Class));
+    reader.skip(2); // ! super_class
+    reader.skip(reader.u2() * 2); // ! interfaces
+
+    const usages = [];
+    const usedStrings = new Set();
+    const addUsage = (utf8Index, kind, member, details = {}) => {
+        usedStrings.add(utf8Index);
+        usages.push({
+            utf8Index,
+            kind,
+            member,
+            descriptor: details.descriptor === undefined ? null : details.descriptor,
+            target: details.target === undefined ? null : details.target,
+            line: details.line === undefined ? null : details.line
+        });
+    };
+
+    // ! ─── Annotations (JVMS §4.7.16) ─────────────────────────────────────────────
+    const readElementValue = (member, elementName, record) => {
+        const tag = String.fromCharCode(reader.u1());
+        switch (tag) {
+            case 's': {
+                const valueIndex = reader.u2();
+                if (record) addUsage(valueIndex, 'annotation', member, { target: elementName });
+                break;
+            }
+            case 'B': case 'C': case 'D': case 'F': case 'I': case 'J': case 'S': case 'Z': case 'c':
+                reader.skip(2);
+                break;
+            case 'e':
+                reader.skip(4);
+                break;
+            case '@':
+                readAnnotation(member, record);
+                break;
+            case '[': {
+                const count = reader.u2();
+                for (let i = 0; i < count; i++) readElementValue(member, elementName, record);
+                break;
+            }
+            default:
+                throw new Error(`Unknown annotation element tag '${tag}'`);
+        }
+    };
+    const readAnnotation = (member, record) => {
+        const recordValues = record && !ignoredAnnotations.has(utf8(reader.u2()));
+        const pairs = reader.u2();
+        for (let i = 0; i < pairs; i++) {
+            const elementName = utf8(reader.u2());
+            readElementValue(member, elementName, recordValues);
+        }
+    };
+
+    /**
+     * เดิน attribute ของ class / field / method - handler ตามชื่อ attribute
+     * attribute ที่ไม่สนใจข้ามด้วย length (handler ต้องอ่านให้ครบ length พอดี)
+     */
+    const readAttributes = (member, handlers) => {
+        const count = reader.u2();
+        for (let i = 0; i < count; i++) {
+            const name = utf8(reader.u2());
+            const length = reader.u4();
+            const end = reader.offset + length;
+            reader.ensure(length);
+            if (name === 'RuntimeVisibleAnnotations' || name === 'RuntimeInvisibleAnnotations') {
+                const annotations = reader.u2();
+                for (let a = 0; a < annotations; a++) readAnnotation(member, true);
+            } else if (handlers[name]) {
+                handlers[name](length);
+            }
+            if (reader.offset !== end) {
+                reader.offset = end;
+            }
+        }
+    };
+
+    // ! ─── Fields ─────────────────────────────────────────────────────────────────
+    const fieldCount = reader.u2();
+    for (let i = 0; i < fieldCount; i++) {
+        reader.skip(2); // ! access_flags
+        const fieldName = utf8(reader.u2());
+        reader.skip(2); // ! descriptor
+        readAttributes(fieldName, {
+            ConstantValue: () => {
+                const valueIndex = stringValueIndex(reader.u2());
+                if (valueIndex !== undefined) addUsage(valueIndex, 'field', fieldName, { target: fieldName });
+            }
+        });
+    }
+
+    // ! ─── Methods: ldc ใน Code + LineNumberTable ─────────────────────────────────
+    const methodCount = reader.u2();
+    for (let i = 0; i < methodCount; i++) {
+        reader.skip(2); // ! access_flags
+        const methodName = utf8(reader.u2());
+        const descriptor = utf8(reader.u2());
+        readAttributes(methodName, {
+            Code: () => {
+                reader.skip(4); // ! max_stack, max_locals
+                const codeLength = reader.u4();
+                const codeStart = reader.offset;
+                reader.skip(codeLength);
+                const loads = scanCodeForStrings(buffer, codeStart, codeLength, stringValueIndex, tags, fieldrefName);
+                reader.skip(reader.u2() * 8); // ! exception_table
+
+                let lineTable = null;
+                readAttributes(methodName, {
+                    LineNumberTable: () => {
+                        if (loads.length === 0) return;
+                        const entries = reader.u2();
+                        lineTable = lineTable || [];
+                        for (let e = 0; e < entries; e++) {
+                            lineTable.push({ pc: reader.u2(), line: reader.u2() });
+                        }
+                    }
+                });
+                for (const load of loads) {
+                    const line = lineTable ? lineForPc(lineTable, load.pc) : null;
+                    if (load.field) {
+                        addUsage(load.utf8Index, 'field', load.field, { target: load.field, line });
+                    } else {
+                        addUsage(load.utf8Index, 'method', methodName, { descriptor, line });
+                    }
+                }
+            }
+        });
+    }
+
+    let sourceFile = null;
+    readAttributes(null, {
+        SourceFile: () => {
+            sourceFile = utf8(reader.u2());
+        }
+    });
+    for (const usage of usages) {
+        if (usage.kind === 'annotation' && usage.member === null) usage.member = className;
+    }
+
+    // ! ─── CONSTANT_String ที่ไม่พบการใช้ (bootstrap argument ฯลฯ)  ระดับ class ───
+    for (let index = 1; index < poolCount; index++) {
+        if (tags[index] === CONSTANT.String) {
+            const valueIndex = buffer.readUInt16BE(offsets[index]);
+            if (!usedStrings.has(valueIndex)) {
+                addUsage(valueIndex, 'class', className);
+            }
+        }
+    }
+
+    const values = new Map();
+    const literals = [];
+    const seen = new Set();
+    for (const usage of usages) {
+        let value = values.get(usage.utf8Index);
+        if (value === undefined) {
+            value = utf8(usage.utf8Index);
+            values.set(usage.utf8Index, value);
+        }
+        const key = `${usage.utf8Index}\0${usage.kind}\0${usage.member}\0${usage.descriptor}\0${usage.target}\0${usage.line}`;
+        if (seen.has(key)) continue;
+        seen.add(key);
+        literals.push({
+            value,
+            kind: usage.kind,
+            member: usage.member,
+            descriptor: usage.descriptor,
+            target: usage.target,
+            line: usage.line
+        });
+    }
+    return { className, sourceFile, literals };
+}
+
+/**
+ * เดิน bytecode หา ldc / ldc_w ของ CONSTANT_String
+ * ldc ที่ตามด้วย putstatic / putfield ทันที = การกำหนดค่าให้ field นั้น
+ */
+function scanCodeForStrings(buffer, codeStart, codeLength, stringValueIndex, tags, fieldrefName) {
+    const loads = [];
+    let pending = null;
+    let pc = 0;
+    while (pc < codeLength) {
+        const opcode = buffer[codeStart + pc];
+        let length = OPCODE_LENGTHS[opcode];
+
+        if (opcode === OP.TABLESWITCH || opcode === OP.LOOKUPSWITCH) {
+            const padded = pc + 1 + ((4 - ((pc + 1) % 4)) % 4);
+            if (opcode === OP.TABLESWITCH) {
+                const low = buffer.readInt32BE(codeStart + padded + 4);
+                const high = buffer.readInt32BE(codeStart + padded + 8);
+                length = padded - pc + 12 + (high - low + 1) * 4;
+            } else {
+                const pairs = buffer.readInt32BE(codeStart + padded + 4);
+                length = padded - pc + 8 + pairs * 8;
+            }
+        } else if (opcode === OP.WIDE) {
+            length = buffer[codeStart + pc + 1] === OP.IINC ? 6 : 4;
+        }
+        if (length <= 0 || pc + length > codeLength) {
+            throw new Error(`Malformed bytecode at pc ${pc} (opcode 0x${opcode.toString(16)})`);
+        }
+
+        if (pending && (opcode === OP.PUTSTATIC || opcode === OP.PUTFIELD)) {
+            const fieldIndex = buffer.readUInt16BE(codeStart + pc + 1);
+            if (tags[fieldIndex] === CONSTANT.Fieldref) {
+                pending.field = fieldrefName(fieldIndex);
+            }
+        }
+        pending = null;
+
+        if (opcode === OP.LDC || opcode === OP.LDC_W) {
+            const constantIndex = opcode === OP.LDC ? buffer[codeStart + pc + 1] : buffer.readUInt16BE(codeStart + pc + 1);
+            const utf8Index = stringValueIndex(constantIndex);
+            if (utf8Index !== undefined) {
+                pending = { pc, utf8Index, field: null };
+                loads.push(pending);
+            }
+        }
+        pc += length;
+    }
+    return loads;
+}
+
+/**
+ * LineNumberTable: บรรทัดของ entry ที่ start_pc มากที่สุดซึ่งไม่เกิน pc
+ */
+function lineForPc(lineTable, pc) {
+    let best = null;
+    for (const entry of lineTable) {
+        if (entry.pc <= pc && (best === null || entry.pc >= best.pc)) {
+            best = entry;
+        }
+    }
+    return best ? best.line : null;
+}
+
+export { parseClassFile, decodeModifiedUtf8, CONSTANT };
@@ -0,0 +1,152 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  REQUIRED LITERAL - substring ที่ทุก match ของ RegExp ต้องมี
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ใช้เป็น prefilter: ถ้าข้อความไม่มี substring นี้ regex ไม่มีทาง match
+// !  includes() ถูกกว่า exec() มาก โดยเฉพาะ pattern ที่ขึ้นต้นด้วย ['"].* หรือ class
+// !  (NO_HARDCODE มี ~200 pattern × literal หลักแสนตัวใน fat JAR)
+// !
+// !  วิเคราะห์แบบ conservative เฉพาะลำดับระดับบนสุดของ pattern:
+// !   - ตัวอักษรธรรมดา / escape ของเครื่องหมาย (\. \/ \-) = literal
+// !   - group, class [...], \d \w \s \b, . ^ $ และ atom ที่มี quantifier = ตัดช่วง
+// !   - มี | ระดับบนสุด = ไม่มี literal บังคับ (คืน '')
+// !  ผลคือ run ที่ยาวที่สุด - ผิดพลาดได้ทางเดียวคือคืน '' (ไม่ prefilter) ไม่มี false negative
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+const QUANTIFIER_START = new Set(['*', '+', '?', '{']);
+
+/**
+ * ข้ามจาก '[' ถึงหลัง ']' ที่ปิด class
+ */
+function skipClass(source, index) {
+    let i = index + 1;
+    while (i < source.length && source[i] !== ']') {
+        i += source[i] === '\\' ? 2 : 1;
+    }
+    return i + 1;
+}
+
+/**
+ * ข้ามจาก '(' ถึงหลัง ')' ที่ปิด group (รองรับ group ซ้อน, class และ escape ข้างใน)
+ */
+function skipGroup(source, index) {
+    let depth = 0;
+    let i = index;
+    while (i < source.length) {
+        const char = source[i];
+        if (char === '\\') {
+            i += 2;
+            continue;
+        }
+        if (char === '[') {
+            i = skipClass(source, i);
+            continue;
+        }
+        if (char === '(') depth++;
+        if (char === ')') {
+            depth--;
+            if (depth === 0) return i + 1;
+        }
+        i++;
+    }
+    return i;
+}
+
+/**
+ * ข้าม escape sequence ที่เริ่มที่ index ('\\') ทั้งตัว
+ */
+function skipEscape(source, index) {
+    const escaped = source[index + 1];
+    if (escaped === 'u') {
+        return source[index + 2] === '{' ? source.indexOf('}', index) + 1 : index + 6;
+    }
+    if (escaped === 'x') return index + 4;
+    if (escaped === 'c') return index + 3;
+    if (escaped === 'k' && source[index + 2] === '<') return source.indexOf('>', index) + 1;
+    if (/[1-9]/.test(escaped)) {
+        let i = index + 1;
+        while (/[0-9]/.test(source[i])) i++;
+        return i;
+    }
+    return index + 2;
+}
+
+/**
+ * ข้าม quantifier (ถ้ามี) หลัง atom - คืน index ใหม่ และบอกว่ามี quantifier หรือไม่
+ */
+function skipQuantifier(source, index) {
+    if (!QUANTIFIER_START.has(source[index])) {
+        return { index, quantified: false };
+    }
+    let i = index;
+    if (source[i] === '{') {
+        const close = source.indexOf('}', i);
+        // ! '{' ที่ไม่ใช่ quantifier (ไม่มี '}') เป็นตัวอักษรธรรมดาใน regex ที่ไม่ใช่ unicode mode
+        if (close === -1 || !/^\{\d+(,\d*)?\}$/.test(source.slice(i, close + 1))) {
+            return { index, quantified: false };
+        }
+        i = close + 1;
+    } else {
+        i++;
+    }
+    if (source[i] === '?') i++;
+    return { index: i, quantified: true };
+}
+
+/**
+ * @param {RegExp} regex
+ * @returns {string} substring ที่ match ทุกตัวต้องมี ('' = ไม่ทราบ) - ตัวพิมพ์เล็กถ้า regex มี flag i
+ */
+function requiredLiteral(regex) {
+    const source = regex.source;
+    let longest = '';
+    let run = '';
+    const endRun = () => {
+        if (run.length > longest.length) longest = run;
+        run = '';
+    };
+
+    let i = 0;
+    while (i < source.length) {
+        const char = source[i];
+        let literal = null;
+        let next;
+
+        if (char === '|') {
+            return '';
+        } else if (char === '(') {
+            next = skipGroup(source, i);
+        } else if (char === '[') {
+            next = skipClass(source, i);
+        } else if (char === '\\') {
+            const escaped = source[i + 1];
+            if (escaped !== undefined && !/[0-9A-Za-z]/.test(escaped)) {
+                literal = escaped;
+            }
+            // ! \d \w \n \uXXXX \xHH \cX \k<name> \1 - ไม่ถอด ตัดช่วงแทน
+            next = skipEscape(source, i);
+        } else if (char === '.' || char === '^' || char === '$') {
+            next = i + 1;
+        } else {
+            literal = char;
+            next = i + 1;
+        }
+
+        const quantifier = skipQuantifier(source, next);
+        if (literal !== null && !quantifier.quantified) {
+            run += literal;
+        } else {
+            endRun();
+        }
+        i = quantifier.index;
+    }
+    endRun();
+    return regex.flags.includes('i') ? longest.toLowerCase() : longest;
+}
+
+export { requiredLiteral };
@@ -0,0 +1,262 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ZIP ARCHIVE - อ่าน .jar / .war ทีละ entry โดยไม่โหลดทั้งไฟล์
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  อ่านเฉพาะ central directory (ท้ายไฟล์) ก่อน แล้ว inflate ทีละ entry ด้วย
+// !  positioned read - fat JAR 200MB ใช้ memory เท่ากับ central directory + entry
+// !  ที่ใหญ่ที่สุดเพียงตัวเดียว (ไม่มี dependency นอกจาก zlib ของ Node)
+// !
+// !  รองรับ:
+// !   - method 0 (stored) และ 8 (deflate) - method อื่นแจ้ง error ของ entry นั้น
+// !   - ZIP64 (entry > 65535 ตัว / ไฟล์ > 4GB)
+// !   - ข้อมูลนำหน้า archive (launch script ของ Spring Boot executable jar):
+// !     offset ทั้งหมดเลื่อนตามระยะที่ central directory ย้ายไปจริง
+// !   - jar ซ้อน jar (BOOT-INF/lib/*.jar) ผ่าน ZipArchive.fromBuffer()
+// !
+// !  ขนาดหลัง inflate จำกัดด้วย maxEntryBytes (กัน zip bomb)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import fs from 'fs';
+import zlib from 'zlib';
+
+const EOCD_SIGNATURE = 0x06054b50;
+const EOCD_SIZE = 22;
+const EOCD_MAX_COMMENT = 0xffff;
+const ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+const ZIP64_LOCATOR_SIZE = 20;
+const ZIP64_EOCD_SIGNATURE = 0x06064b50;
+const CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+const CENTRAL_HEADER_SIZE = 46;
+const LOCAL_HEADER_SIGNATURE = 0x04034b50;
+const LOCAL_HEADER_SIZE = 30;
+const ZIP64_EXTRA_ID = 0x0001;
+const UINT16_MAX = 0xffff;
+const UINT32_MAX = 0xffffffff;
+const FLAG_ENCRYPTED = 0x0001;
+const FLAG_UTF8 = 0x0800;
+
+const METHOD_STORED = 0;
+const METHOD_DEFLATE = 8;
+
+class FileSource {
+    constructor(filePath) {
+        this.fd = fs.openSync(filePath, 'r');
+        this.size = fs.fstatSync(this.fd).size;
+    }
+
+    read(position, length) {
+        if (position < 0 || position + length > this.size) {
+            throw new Error(`Read of ${length} bytes at ${position} is outside the archive (${this.size} bytes)`);
+        }
+        const buffer = Buffer.allocUnsafe(length);
+        let offset = 0;
+        while (offset < length) {
+            const bytesRead = fs.readSync(this.fd, buffer, offset, length - offset, position + offset);
+            if (bytesRead === 0) {
+                throw new Error(`Unexpected end of archive at ${position + offset}`);
+            }
+            offset += bytesRead;
+        }
+        return buffer;
+    }
+
+    close() {
+        fs.closeSync(this.fd);
+    }
+}
+
+class BufferSource {
+    constructor(buffer) {
+        this.buffer = buffer;
+        this.size = buffer.length;
+    }
+
+    read(position, length) {
+        if (position < 0 || position + length > this.size) {
+            throw new Error(`Read of ${length} bytes at ${position} is outside the archive (${this.size} bytes)`);
+        }
+        return this.buffer.subarray(position, position + length);
+    }
+
+    close() {}
+}
+
+function readUInt64(buffer, offset) {
+    const value = buffer.readBigUInt64LE(offset);
+    if (value > BigInt(Number.MAX_SAFE_INTEGER)) {
+        throw new Error(`ZIP64 value ${value} is too large`);
+    }
+    return Number(value);
+}
+
+class ZipArchive {
+    /**
+     * @param {FileSource|BufferSource} source
+     * @param {Object} options
+     * @param {string} options.name - ชื่อสำหรับ error message
+     * @param {number} options.maxEntryBytes - ขนาดสูงสุดของ entry หลัง inflate
+     */
+    constructor(source, options = {}) {
+        if (!Number.isInteger(options.maxEntryBytes) || options.maxEntryBytes < 1) {
+            throw new Error(`ZipArchive maxEntryBytes must be a positive integer, got: ${options.maxEntryBytes}`);
+        }
+        this.source = source;
+        this.name = options.name;
+        this.maxEntryBytes = options.maxEntryBytes;
+        this.entries = this.readCentralDirectory();
+    }
+
+    static open(filePath, options) {
+        const source = new FileSource(filePath);
+        try {
+            return new ZipArchive(source, { ...options, name: filePath });
+        } catch (error) {
+            source.close();
+            throw error;
+        }
+    }
+
+    static fromBuffer(buffer, options) {
+        return new ZipArchive(new BufferSource(buffer), options);
+    }
+
+    /**
+     * หา End Of Central Directory จากท้ายไฟล์ (comment ยาวได้ถึง 64KB)
+     */
+    findEndOfCentralDirectory() {
+        const tailLength = Math.min(this.source.size, EOCD_SIZE + EOCD_MAX_COMMENT);
+        const tailStart = this.source.size - tailLength;
+        const tail = this.source.read(tailStart, tailLength);
+        for (let offset = tailLength - EOCD_SIZE; offset >= 0; offset--) {
+            if (tail.readUInt32LE(offset) === EOCD_SIGNATURE) {
+                return { position: tailStart + offset, record: tail.subarray(offset, offset + EOCD_SIZE) };
+            }
+        }
+        throw new Error(`${this.name} is not a ZIP archive (no end of central directory record)`);
+    }
+
+    readCentralDirectory() {
+        const eocd = this.findEndOfCentralDirectory();
+        let entryCount = eocd.record.readUInt16LE(10);
+        let directorySize = eocd.record.readUInt32LE(12);
+        let directoryOffset = eocd.record.readUInt32LE(16);
+        let directoryEnd = eocd.position;
+
+        if (entryCount === UINT16_MAX || directorySize === UINT32_MAX || directoryOffset === UINT32_MAX) {
+            const locatorPosition = eocd.position - ZIP64_LOCATOR_SIZE;
+            const locator = locatorPosition >= 0 ? this.source.read(locatorPosition, ZIP64_LOCATOR_SIZE) : null;
+            if (!locator || locator.readUInt32LE(0) !== ZIP64_LOCATOR_SIGNATURE) {
+                throw new Error(`${this.name} needs ZIP64 but has no ZIP64 locator`);
+            }
+            // ! ZIP64 EOCD record อยู่ก่อน locator เสมอ - หาจากตำแหน่งจริงแทน offset ที่บันทึกไว้
+            // ! (offset ที่บันทึกไม่รวมข้อมูลที่นำหน้า archive)
+            const recordPosition = locatorPosition - 56;
+            const record = this.source.read(recordPosition, 56);
+            if (record.readUInt32LE(0) !== ZIP64_EOCD_SIGNATURE) {
+                throw new Error(`${this.name} has a corrupt ZIP64 end of central directory`);
+            }
+            entryCount = readUInt64(record, 32);
+            directorySize = readUInt64(record, 40);
+            directoryOffset = readUInt64(record, 48);
+            directoryEnd = recordPosition;
+        }
+
+        // ! archive ที่มีข้อมูลนำหน้า: central directory อยู่จริงที่ directoryEnd - size
+        const actualOffset = directoryEnd - directorySize;
+        if (actualOffset < 0) {
+            throw new Error(`${this.name} has a corrupt central directory (size ${directorySize})`);
+        }
+        this.prefixBytes = actualOffset - directoryOffset;
+
+        const directory = this.source.read(actualOffset, directorySize);
+        const entries = [];
+        let offset = 0;
+        for (let index = 0; index < entryCount; index++) {
+            if (offset + CENTRAL_HEADER_SIZE > directory.length || directory.readUInt32LE(offset) !== CENTRAL_HEADER_SIGNATURE) {
+                throw new Error(`${this.name} has a corrupt central directory at entry ${index}`);
+            }
+            const flags = directory.readUInt16LE(offset + 8);
+            const nameLength = directory.readUInt16LE(offset + 28);
+            const extraLength = directory.readUInt16LE(offset + 30);
+            const commentLength = directory.readUInt16LE(offset + 32);
+            const nameStart = offset + CENTRAL_HEADER_SIZE;
+            const entry = {
+                name: directory.toString(flags & FLAG_UTF8 ? 'utf8' : 'latin1', nameStart, nameStart + nameLength),
+                flags,
+                method: directory.readUInt16LE(offset + 10),
+                compressedSize: directory.readUInt32LE(offset + 20),
+                size: directory.readUInt32LE(offset + 24),
+                localHeaderOffset: directory.readUInt32LE(offset + 42)
+            };
+            if (entry.size === UINT32_MAX || entry.compressedSize === UINT32_MAX || entry.localHeaderOffset === UINT32_MAX) {
+                this.applyZip64Extra(entry, directory.subarray(nameStart + nameLength, nameStart + nameLength + extraLength));
+            }
+            entry.localHeaderOffset += this.prefixBytes;
+            entries.push(entry);
+            offset = nameStart + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    /**
+     * ZIP64 extra field มีเฉพาะ field ที่ใน header เป็น 0xFFFFFFFF ตามลำดับ size, compressed, offset
+     */
+    applyZip64Extra(entry, extra) {
+        let offset = 0;
+        while (offset + 4 <= extra.length) {
+            const id = extra.readUInt16LE(offset);
+            const length = extra.readUInt16LE(offset + 2);
+            if (id === ZIP64_EXTRA_ID) {
+                let field = offset + 4;
+                for (const key of ['size', 'compressedSize', 'localHeaderOffset']) {
+                    if (entry[key] === UINT32_MAX) {
+                        entry[key] = readUInt64(extra, field);
+                        field += 8;
+                    }
+                }
+                return;
+            }
+            offset += 4 + length;
+        }
+        throw new Error(`${this.name}: entry ${entry.name} needs ZIP64 but has no ZIP64 extra field`);
+    }
+
+    /**
+     * @returns {Buffer} เนื้อหาของ entry หลัง inflate
+     */
+    readEntry(entry) {
+        if (entry.flags & FLAG_ENCRYPTED) {
+            throw new Error(`${entry.name} is encrypted`);
+        }
+        if (entry.size > this.maxEntryBytes) {
+            throw new Error(`${entry.name} is ${entry.size} bytes (maxEntryBytes is ${this.maxEntryBytes})`);
+        }
+        const header = this.source.read(entry.localHeaderOffset, LOCAL_HEADER_SIZE);
+        if (header.readUInt32LE(0) !== LOCAL_HEADER_SIGNATURE) {
+            throw new Error(`${entry.name} has a corrupt local header`);
+        }
+        // ! ความยาว name/extra ของ local header อาจต่างจาก central directory - ใช้ของ local
+        const dataStart = entry.localHeaderOffset + LOCAL_HEADER_SIZE + header.readUInt16LE(26) + header.readUInt16LE(28);
+        const data = this.source.read(dataStart, entry.compressedSize);
+
+        if (entry.method === METHOD_STORED) {
+            return data;
+        }
+        if (entry.method === METHOD_DEFLATE) {
+            return zlib.inflateRawSync(data, { maxOutputLength: this.maxEntryBytes });
+        }
+        throw new Error(`${entry.name} uses unsupported compression method ${entry.method}`);
+    }
+
+    close() {
+        this.source.close();
+    }
+}
+
+export { ZipArchive };
+export default ZipArchive;
@@ -0,0 +1,81 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  CONTENT DEDUP - ไฟล์ที่ byte ตรงกันทุกตัววิเคราะห์ครั้งเดียวต่อการรัน
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  hash เนื้อหา  สิ่งที่ไฟล์ซ้ำต้องใช้เท่านั้น:
+// !    { file, violations, declarations }   - วิเคราะห์ผ่าน
+// !    { file, error }                      - วิเคราะห์ไม่ผ่าน (เนื้อหาเดียวกันจะ error แบบเดียวกัน)
+// !  ไม่เก็บผลเต็มของ engine (moduleSurface, token ฯลฯ) - entry อยู่จนจบการรัน
+// !  ไฟล์ซ้ำเอา symbol record ของไฟล์แรกจาก ProjectSymbolIndex.copyRecord() แทน
+// !  declarations = ชื่อ declaration ระดับบนสุดสำหรับ --baseline fingerprint (null ถ้าไม่ใช้ baseline)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { createHash } from 'crypto';
+
+class ContentDedup {
+    /**
+     * @param {Object} options
+     * @param {string} options.hashAlgorithm - cli-config.json contentDedup.hashAlgorithm
+     * @param {string} options.duplicateLabel - ข้อความนำหน้าชื่อไฟล์แรก (cli-config.json messages.duplicateOf)
+     */
+    constructor(options) {
+        const { hashAlgorithm, duplicateLabel } = options ?? {};
+        if (typeof hashAlgorithm !== 'string' || hashAlgorithm.length === 0) {
+            throw new Error('ContentDedup requires hashAlgorithm (contentDedup.hashAlgorithm)');
+        }
+        if (typeof duplicateLabel !== 'string') {
+            throw new Error('ContentDedup requires duplicateLabel (messages.duplicateOf)');
+        }
+        this.hashAlgorithm = hashAlgorithm;
+        this.duplicateLabel = duplicateLabel;
+        this.entries = new Map();
+    }
+
+    get size() {
+        return this.entries.size;
+    }
+
+    hash(buffer) {
+        return createHash(this.hashAlgorithm).update(buffer).digest('hex');
+    }
+
+    has(contentHash) {
+        return this.entries.has(contentHash);
+    }
+
+    /**
+     * ผลของไฟล์ซ้ำ: สำเนา violations ของไฟล์แรก + duplicateOf
+     * ไฟล์แรก error = throw error เดียวกัน (error.duplicateOf = ไฟล์แรก)
+     */
+    replay(contentHash) {
+        const firstSeen = this.entries.get(contentHash);
+        if (!firstSeen) {
+            throw new Error(`ContentDedup has no entry for ${contentHash}`);
+        }
+        if (firstSeen.error !== undefined) {
+            const duplicateError = new Error(`${firstSeen.error} (${this.duplicateLabel} ${firstSeen.file})`);
+            duplicateError.duplicateOf = firstSeen.file;
+            throw duplicateError;
+        }
+        return {
+            violations: firstSeen.violations.map(violation => ({ ...violation })),
+            duplicateOf: firstSeen.file,
+            declarations: firstSeen.declarations
+        };
+    }
+
+    record(contentHash, file, violations, declarations) {
+        this.entries.set(contentHash, { file, violations, declarations });
+    }
+
+    recordError(contentHash, file, error) {
+        this.entries.set(contentHash, { file, error: error.message });
+    }
+}
+
+export { ContentDedup };
@@ -99,15 +99,9 @@ class ASTErrorDetectionValidator {
         }
 
         try {
-            let content = fs.readFileSync(filePath, 'utf8');
-            
-            // ข้าม shebang line (#!/usr/bin/env node)
-            if (content.startsWith('#!')) {
-                const firstNewline = content.indexOf('\n');
-                if (firstNewline !== -1) {
-                    content = content.substring(firstNewline + 1);
-                }
-            }
+            // ! ไม่ตัด shebang เอง - tokenizer ข้าม BOM/shebang และ tokens.lineIndex
+            // ! ชดเชย offset ให้ ทำให้เลขบรรทัดตรงกับไฟล์จริง
+            const content = fs.readFileSync(filePath, 'utf8');
             
             this.scannedFiles++;
 
@@ -133,7 +127,7 @@ class ASTErrorDetectionValidator {
                 const violation = this.analyzeCatchBlock(
                     tryCatch,
                     hasErrorHandlerImport,
-                    content,
+                    tokens,
                     filePath
                 );
 
@@ -226,7 +220,7 @@ class ASTErrorDetectionValidator {
     /**
      * วิเคราะห์ catch block ว่าละเมิดกฎหรือไม่
      */
-    analyzeCatchBlock(tryCatch, hasErrorHandlerImport, content, filePath) {
+    analyzeCatchBlock(tryCatch, hasErrorHandlerImport, tokens, filePath) {
         const catchClause = tryCatch.handler;
         if (!catchClause || !catchClause.body) {
             return null; // ไม่มี catch block
@@ -237,12 +231,12 @@ class ASTErrorDetectionValidator {
             // EMPTY_CATCH - ละเมิดร้ายแรง
             return {
                 file: filePath,
-                line: catchClause.start || 0,
+                line: this.getLineNumber(tokens, catchClause.start),
                 pattern: 'EMPTY_CATCH',
                 description: 'Empty catch block - errors are silently ignored',
                 severity: 'CRITICAL',
                 hasErrorHandlerImport: hasErrorHandlerImport,
-                actualCode: this.extractCode(content, catchClause.start, catchClause.end)
+                actualCode: this.extractCode(tokens, catchClause.start, catchClause.end)
             };
         }
 
@@ -256,12 +250,12 @@ class ASTErrorDetectionValidator {
             if (isConsoleOnly) {
                 return {
                     file: filePath,
-                    line: catchClause.start || 0,
+                    line: this.getLineNumber(tokens, catchClause.start),
                     pattern: 'CONSOLE_ERROR_ONLY',
                     description: 'Catch block only uses console.error without errorHandler',
                     severity: 'HIGH',
                     hasErrorHandlerImport: hasErrorHandlerImport,
-                    actualCode: this.extractCode(content, catchClause.start, catchClause.end)
+                    actualCode: this.extractCode(tokens, catchClause.start, catchClause.end)
                 };
             }
 
@@ -274,12 +268,12 @@ class ASTErrorDetectionValidator {
             // ละเมิด: มีการ handle error แต่ไม่ใช้ errorHandler
             return {
                 file: filePath,
-                line: catchClause.start || 0,
+                line: this.getLineNumber(tokens, catchClause.start),
                 pattern: 'NO_ERRORHANDLER_CALL',
                 description: 'Catch block handles error without using errorHandler',
                 severity: 'HIGH',
                 hasErrorHandlerImport: hasErrorHandlerImport,
-                actualCode: this.extractCode(content, catchClause.start, catchClause.end)
+                actualCode: this.extractCode(tokens, catchClause.start, catchClause.end)
             };
         }
 
@@ -369,25 +363,29 @@ class ASTErrorDetectionValidator {
 
     /**
      * ดึงโค้ดจริงจากไฟล์
+     * start/end ของ AST node จาก PureBinaryParser เป็น token index (end = token ถัดจาก node)
      */
-    extractCode(content, start, end) {
-        const lines = content.split('\n');
-        const startLine = this.getLineNumber(content, start);
-        const endLine = this.getLineNumber(content, end);
+    extractCode(tokens, start, end) {
+        const lineIndex = tokens.lineIndex;
+        const startLine = this.getLineNumber(tokens, start);
+        const endLine = this.getLineNumber(tokens, end - 1);
         
         const codeLines = [];
-        for (let i = startLine - 1; i < endLine && i < lines.length; i++) {
-            codeLines.push(`${i + 1}: ${lines[i]}`);
+        for (let line = startLine; line <= endLine; line++) {
+            codeLines.push(`${line}: ${lineIndex.lineText(line)}`);
         }
         return codeLines.join('\n');
     }
 
     /**
-     * หาเลขบรรทัดจาก character position
+     * หาเลขบรรทัดจาก token index - ใช้ token.location ที่ tokenizer คำนวณจาก LineIndex
+     * (binary search ครั้งเดียวต่อไฟล์ แทน substring + split ต่อการเรียก)
      */
-    getLineNumber(content, position) {
-        if (!position) return 1;
-        return content.substring(0, position).split('\n').length;
+    getLineNumber(tokens, tokenIndex) {
+        if (!Number.isInteger(tokenIndex) || tokenIndex < 0 || tokenIndex >= tokens.length) {
+            throw new Error(`Token index ${tokenIndex} is outside the token stream (0..${tokens.length - 1})`);
+        }
+        return tokens[tokenIndex].location.line;
     }
 
     /**
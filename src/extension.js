@@ -7,9 +7,11 @@
 // ! ══════════════════════════════════════════════════════════════════════════════
 import errorHandler from './error-handler/ErrorHandler.js';
 import * as vscode from 'vscode';
-import { ABSOLUTE_RULES, ValidationEngine } from './rules/validator.js';
+import { ABSOLUTE_RULES, ValidationEngine, loadRuleDocumentation } from './rules/validator.js';
 import { SecurityMiddleware } from './security/security-middleware.js';
 import { createSecurityConfig } from './security/security-config.js';
+import { ScanWorkerPool } from './workers/scan-worker-pool.js';
+import { DocumentScanScheduler } from './workers/document-scan-scheduler.js';
 import { readFileSync } from 'fs';
 
 // Load extension configuration
@@ -24,6 +26,7 @@ const extensionConfig = JSON.parse(readFileSync(new URL('./extension-config.json
 let diagnosticCollection;
 let validationEngine;
 let securityMiddleware;
+let scanScheduler;
 
 function showProjectInfo() {
     console.log(`
@@ -91,29 +94,34 @@ function activate(context) {
         throw error; // ! Don't silently continue - extension should fail if security can't initialize
     }
     
-    // ! Real-time scanning on document change (throttled with security)
-    let scanTimeout;
-    const documentChangeListener = vscode.workspace.onDidChangeTextDocument(async (event) => {
+    // ! Real-time scanning on document change (per-document adaptive debounce with security)
+    const userConfig = vscode.workspace.getConfiguration('chahuadev-sentinel');
+    const realtimeConfig = extensionConfig.defaultSettings.realtimeScan;
+    scanScheduler = new DocumentScanScheduler({
+        scan: (document) => secureDocumentScan(document),
+        isPriority: (key) => vscode.window.activeTextEditor?.document.uri.toString() === key,
+        onError: (error, key) => {
+            console.error(` Security error in document scan (${key}):`, error.message);
+        },
+        baseDelayMs: userConfig.get('scanThrottleMs') || extensionConfig.defaultSettings.timing.scanThrottleMs,
+        minDebounceMs: realtimeConfig.minDebounceMs,
+        maxDebounceMs: realtimeConfig.maxDebounceMs,
+        scanTimeMultiplier: realtimeConfig.scanTimeMultiplier,
+        smoothingFactor: realtimeConfig.smoothingFactor,
+        maxConcurrentScans: realtimeConfig.maxConcurrentScans
+    });
+    
+    const documentChangeListener = vscode.workspace.onDidChangeTextDocument((event) => {
         const config = vscode.workspace.getConfiguration('chahuadev-sentinel');
         if (!config.get('enableRealTimeScanning', true)) return;
+        if (event.contentChanges.length === 0) return;
         
-        // ! Throttle scanning to avoid performance issues
-        clearTimeout(scanTimeout);
-        const throttleMs = config.get('scanThrottleMs') || extensionConfig.defaultSettings.timing.scanThrottleMs;
-        scanTimeout = setTimeout(async () => {
-            try {
-                await secureDocumentScan(event.document);
-            } catch (error) {
-                errorHandler.handleError(error, {
-                    source: 'Extension',
-                    method: 'onDidChangeTextDocument',
-                    severity: 'HIGH',
-                    context: 'Security error in document scan'
-                });
-                console.error(' Security error in document scan:', error.message);
-                throw error; // ! Re-throw to let caller handle properly
-            }
-        }, throttleMs);
+        scanScheduler.request(event.document.uri.toString(), event.document);
+    });
+    
+    // ! เอกสารถูกปิด - ทิ้ง scan ที่รออยู่และสถิติเวลาสแกนของเอกสารนั้น
+    const documentCloseListener = vscode.workspace.onDidCloseTextDocument((document) => {
+        scanScheduler.forget(document.uri.toString());
     });
     
     // ! Scan on save with security
@@ -175,8 +183,9 @@ function activate(context) {
     });
     
     // ! Command: Scan Workspace
+    // ! WHY: สแกนบน worker_threads เพื่อไม่ให้ extension host ค้าง (IntelliSense ยังทำงานได้)
     const scanWorkspaceCommand = vscode.commands.registerCommand('chahuadev-sentinel.scanWorkspace', async () => {
-        vscode.window.withProgress({
+        await vscode.window.withProgress({
             location: vscode.ProgressLocation.Notification,
             title: 'Chahuadev Sentinel',
             cancellable: true
@@ -186,49 +195,79 @@ function activate(context) {
             const config = vscode.workspace.getConfiguration('chahuadev-sentinel');
             const includePattern = config.get('scanPatterns.include') || extensionConfig.defaultSettings.scanPatterns.include;
             const excludePattern = config.get('scanPatterns.exclude') || extensionConfig.defaultSettings.scanPatterns.exclude;
+            const workspaceScanConfig = extensionConfig.defaultSettings.workspaceScan;
+            const workerCount = config.get('workspaceScan.workerCount') ?? workspaceScanConfig.workerCount;
+            
+            const files = await vscode.workspace.findFiles(includePattern, excludePattern, undefined, token);
+            if (token.isCancellationRequested) return;
             
-            const files = await vscode.workspace.findFiles(includePattern, excludePattern);
+            // ! ตรวจ path / ขนาด / สิทธิ์อ่านทั้งชุดก่อนส่งให้ worker (กฎเดียวกับ secureReadDocument ของไฟล์ที่เปิดอยู่)
+            // ! ไฟล์ที่ไม่ผ่านถูก log เป็น violation ใน security log แล้ว - แจ้งจำนวนตอนจบสแกน
+            const { rejected } = await securityMiddleware.securityManager.validateFiles(files.map(file => file.fsPath));
+            const rejectedPaths = new Set(rejected.map(entry => entry.filePath));
+            const jobs = orderWorkspaceScanJobs(files.filter(file => !rejectedPaths.has(file.fsPath)));
+            const pool = new ScanWorkerPool({ size: ScanWorkerPool.resolveSize(workerCount) });
+            const cancelListener = token.onCancellationRequested(() => pool.cancel());
             
             let scannedCount = 0;
             let totalViolations = 0;
+            let pendingEntries = [];
+            let lastFlush = Date.now();
             
-            for (const [index, file] of files.entries()) {
-                if (token.isCancellationRequested) break;
-                
-                const fileName = file.path.split('/').pop();
-                const scanMessage = extensionConfig.messages.scanningFile.replace('{fileName}', fileName);
-                progress.report({ 
-                    message: scanMessage,
-                    increment: (100 / files.length)
+            // ! ส่ง diagnostics เป็นชุด (diagnosticCollection.set แบบ array) แทนทีละไฟล์
+            const flushDiagnostics = () => {
+                if (pendingEntries.length === 0) return;
+                diagnosticCollection.set(pendingEntries);
+                progress.report({
+                    message: extensionConfig.messages.scanProgress
+                        .replace('{scannedCount}', scannedCount)
+                        .replace('{totalFiles}', jobs.length),
+                    increment: (100 * pendingEntries.length) / jobs.length
                 });
+                pendingEntries = [];
+                lastFlush = Date.now();
+            };
+            
+            try {
+                await pool.start();
+                if (token.isCancellationRequested) return;
                 
-                try {
-                    const document = await vscode.workspace.openTextDocument(file);
-                    const results = await scanDocument(document);
-                    
-                    if (!results || !results.violations) {
-                        throw new Error(`Invalid scan results for file: ${fileName}`);
+                const outcome = await pool.scan(jobs, {
+                    onResult: ({ filePath, violations }) => {
+                        const uri = vscode.Uri.file(filePath);
+                        pendingEntries.push([uri, createDiagnostics(uri, violations)]);
+                        totalViolations += violations.length;
+                        scannedCount++;
+                        
+                        if (pendingEntries.length >= workspaceScanConfig.diagnosticBatchSize ||
+                            Date.now() - lastFlush >= workspaceScanConfig.diagnosticFlushMs) {
+                            flushDiagnostics();
+                        }
                     }
-                    
-                    totalViolations += results.violations.length;
-                    scannedCount++;
-                } catch (error) {
-                    errorHandler.handleError(error, {
-                        source: 'Extension',
-                        method: 'scanWorkspaceCommand',
-                        severity: 'HIGH',
-                        context: `Scan error for file: ${fileName}`
-                    });
-                    console.error('Scan error:', error);
-                    throw error; // ! Re-throw to surface scanning issues
-                }
-            }
-            
-            if (!token.isCancellationRequested) {
-                const completionMessage = extensionConfig.messages.scanCompleted
+                });
+                flushDiagnostics();
+                
+                const completionMessage = (outcome.cancelled ? extensionConfig.messages.scanCancelled : extensionConfig.messages.scanCompleted)
                     .replace('{scannedCount}', scannedCount)
+                    .replace('{totalFiles}', jobs.length)
                     .replace('{totalViolations}', totalViolations);
                 showSubtleNotification(completionMessage);
+                if (rejected.length > 0) {
+                    showSubtleNotification(extensionConfig.messages.filesRejected.replace('{rejectedCount}', rejected.length));
+                }
+            } catch (error) {
+                flushDiagnostics();
+                errorHandler.handleError(error, {
+                    source: 'Extension',
+                    method: 'scanWorkspaceCommand',
+                    severity: 'HIGH',
+                    context: `Workspace scan failed after ${scannedCount}/${jobs.length} files`
+                });
+                console.error('Scan error:', error);
+                throw error; // ! Re-throw to surface scanning issues
+            } finally {
+                cancelListener.dispose();
+                await pool.terminate();
             }
         });
     });
@@ -238,13 +277,21 @@ function activate(context) {
         vscode.commands.executeCommand('workbench.action.openSettings', '@ext:chahuadev.chahuadev-sentinel');
     });
     
+    // ! Hover: เอกสารของกฎ (fix + ตัวอย่างที่ถูกต้อง) โหลดครั้งแรกที่ผู้ใช้ hover เท่านั้น
+    const ruleHoverProvider = vscode.languages.registerHoverProvider(
+        ['javascript', 'typescript', 'javascriptreact', 'typescriptreact'],
+        { provideHover: provideRuleHover }
+    );
+    
     // ! Register all subscriptions
     context.subscriptions.push(
         documentChangeListener,
+        documentCloseListener,
         saveListener,
         scanFileCommand,
         scanWorkspaceCommand,
-        configureRulesCommand
+        configureRulesCommand,
+        ruleHoverProvider
     );
     
     // ! Initial scan of active document
@@ -266,7 +313,7 @@ function activate(context) {
 // ! ══════════════════════════════════════════════════════════════════════════════
  // ! Scan document and create subtle diagnostics with detailed hover info
  // ! ══════════════════════════════════════════════════════════════════════════════
-async function scanDocument(document) {
+async function scanDocument(document, code = document.getText()) {
     // ! Only scan supported file types
     if (!['javascript', 'typescript', 'javascriptreact', 'typescriptreact'].includes(document.languageId)) {
         // !  NO_SILENT_FALLBACKS: คืน empty result แทน null
@@ -279,7 +326,6 @@ async function scanDocument(document) {
     }
     
     try {
-        const code = document.getText();
         if (!code.trim()) {
             diagnosticCollection.set(document.uri, []);
             return { violations: [] };
@@ -287,66 +333,7 @@ async function scanDocument(document) {
         
         const results = await validationEngine.validateCode(code, document.fileName);
         
-        const diagnostics = results.violations.map(violation => {
-            // ! Explicit validation instead of silent fallback
-            if (!violation.location) {
-                throw new Error('Violation missing required location information');
-            }
-            
-            const line = Math.max(0, (violation.location.line ?? 1) - 1);
-            const column = Math.max(0, violation.location.column ?? 0);
-            
-            // ! Create range for the violation
-            const config = vscode.workspace.getConfiguration('chahuadev-sentinel');
-            const highlightLength = config.get('ui.highlightLength') || extensionConfig.defaultSettings.ui.highlightLength;
-            
-            const range = new vscode.Range(
-                line,
-                column,
-                line,
-                column + highlightLength
-            );
-            
-            const diagnostic = new vscode.Diagnostic(
-                range,
-                getShortMessage(violation),
-                getSeverity(violation.severity)
-            );
-            
-            // ! Set source and code for identification
-            diagnostic.source = 'Chahuadev Sentinel';
-            diagnostic.code = {
-                value: violation.ruleId,
-                target: vscode.Uri.parse('https://github.com/chahuadev/chahuadev-vscode-extension#rules')
-            };
-            
-            // ! Add detailed information for hover
-            diagnostic.relatedInformation = [
-                new vscode.DiagnosticRelatedInformation(
-                    new vscode.Location(document.uri, range),
-                    getFullMessage(violation)
-                )
-            ];
-            
-            // ! Add tags for better categorization
-            diagnostic.tags = getViolationTags(violation);
-            
-            return diagnostic;
-        });
-        
-        // ! Apply subtle blue styling by using Information severity for most issues
-        const subtleDiagnostics = diagnostics.map(d => {
-            const config = vscode.workspace.getConfiguration('chahuadev-sentinel');
-            const notificationStyle = config.get('notificationStyle', 'subtle');
-            
-            if (notificationStyle === 'subtle' && d.severity !== vscode.DiagnosticSeverity.Error) {
-                d.severity = vscode.DiagnosticSeverity.Information;
-            }
-            
-            return d;
-        });
-        
-        diagnosticCollection.set(document.uri, subtleDiagnostics);
+        diagnosticCollection.set(document.uri, createDiagnostics(document.uri, results.violations));
         return results;
         
     } catch (error) {
@@ -371,6 +358,102 @@ async function scanDocument(document) {
     }
 }
 
+// ! ══════════════════════════════════════════════════════════════════════════════
+ // ! Convert engine violations into subtle diagnostics with detailed hover info
+ // ! ══════════════════════════════════════════════════════════════════════════════
+function createDiagnostics(uri, violations) {
+    const diagnostics = violations.map(violation => {
+        // ! Explicit validation instead of silent fallback
+        if (!violation.location) {
+            throw new Error('Violation missing required location information');
+        }
+        
+        const line = Math.max(0, (violation.location.line ?? 1) - 1);
+        const column = Math.max(0, violation.location.column ?? 0);
+        
+        // ! Create range for the violation
+        const config = vscode.workspace.getConfiguration('chahuadev-sentinel');
+        const highlightLength = config.get('ui.highlightLength') || extensionConfig.defaultSettings.ui.highlightLength;
+        
+        const range = new vscode.Range(
+            line,
+            column,
+            line,
+            column + highlightLength
+        );
+        
+        const diagnostic = new vscode.Diagnostic(
+            range,
+            getShortMessage(violation),
+            getSeverity(violation.severity)
+        );
+        
+        // ! Set source and code for identification
+        diagnostic.source = 'Chahuadev Sentinel';
+        diagnostic.code = {
+            value: violation.ruleId,
+            target: vscode.Uri.parse('https://github.com/chahuadev/chahuadev-vscode-extension#rules')
+        };
+        
+        // ! Add detailed information for hover
+        diagnostic.relatedInformation = [
+            new vscode.DiagnosticRelatedInformation(
+                new vscode.Location(uri, range),
+                getFullMessage(violation)
+            )
+        ];
+        
+        // ! Add tags for better categorization
+        diagnostic.tags = getViolationTags(violation);
+        
+        return diagnostic;
+    });
+    
+    // ! Apply subtle blue styling by using Information severity for most issues
+    const subtleDiagnostics = diagnostics.map(d => {
+        const config = vscode.workspace.getConfiguration('chahuadev-sentinel');
+        const notificationStyle = config.get('notificationStyle', 'subtle');
+        
+        if (notificationStyle === 'subtle' && d.severity !== vscode.DiagnosticSeverity.Error) {
+            d.severity = vscode.DiagnosticSeverity.Information;
+        }
+        
+        return d;
+    });
+    
+    return subtleDiagnostics;
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+ // ! Order workspace scan jobs: files open in editors first (with unsaved content)
+ // ! ══════════════════════════════════════════════════════════════════════════════
+function orderWorkspaceScanJobs(files) {
+    const openDocuments = new Map();
+    for (const document of vscode.workspace.textDocuments) {
+        if (document.uri.scheme === 'file') {
+            openDocuments.set(document.uri.fsPath, document);
+        }
+    }
+    
+    const activeDocument = vscode.window.activeTextEditor?.document;
+    const openJobs = [];
+    const diskJobs = [];
+    
+    for (const file of files) {
+        const document = openDocuments.get(file.fsPath);
+        if (!document) {
+            // ! worker อ่านไฟล์จากดิสก์เอง - host ไม่ต้องโหลดเนื้อหา
+            diskJobs.push({ filePath: file.fsPath });
+        } else if (document === activeDocument) {
+            openJobs.unshift({ filePath: file.fsPath, code: document.getText() });
+        } else {
+            openJobs.push({ filePath: file.fsPath, code: document.getText() });
+        }
+    }
+    
+    return [...openJobs, ...diskJobs];
+}
+
 // ! ══════════════════════════════════════════════════════════════════════════════
  // ! Get short, non-intrusive message for inline display
  // ! ══════════════════════════════════════════════════════════════════════════════
@@ -392,6 +475,35 @@ function getFullMessage(violation) {
     return `Code Quality Issue: ${violation.message}\n\n Follow Chahuadev coding standards for better maintainability.`;
 }
 
+// ! ══════════════════════════════════════════════════════════════════════════════
+ // ! Hover with rule documentation (loaded on demand from rules/docs/NO_*.docs.js)
+ // ! ══════════════════════════════════════════════════════════════════════════════
+async function provideRuleHover(document, position) {
+    const ruleIds = new Set();
+    for (const diagnostic of diagnosticCollection.get(document.uri) || []) {
+        const ruleId = diagnostic.code?.value;
+        if (diagnostic.range.contains(position) && ABSOLUTE_RULES[ruleId]) {
+            ruleIds.add(ruleId);
+        }
+    }
+    if (ruleIds.size === 0) return null;
+    
+    const language = vscode.env.language.startsWith('th') ? 'th' : 'en';
+    const contents = [];
+    for (const ruleId of ruleIds) {
+        const rule = await loadRuleDocumentation(ruleId);
+        const markdown = new vscode.MarkdownString();
+        markdown.appendMarkdown(`**${rule.id}** - ${rule.name[language]}\n\n`);
+        markdown.appendMarkdown(`${rule.fix[language].trim()}\n\n`);
+        const correct = rule.correctExamples[language];
+        if (correct && correct.length > 0) {
+            markdown.appendCodeblock(correct[0].trim(), document.languageId);
+        }
+        contents.push(markdown);
+    }
+    return new vscode.Hover(contents);
+}
+
 // ! ══════════════════════════════════════════════════════════════════════════════
  // ! Convert severity to VS Code diagnostic severity with subtle default
  // ! ══════════════════════════════════════════════════════════════════════════════
@@ -450,25 +562,15 @@ function showSubtleNotification(message) {
  // ! ══════════════════════════════════════════════════════════════════════════════
 async function secureDocumentScan(document) {
     try {
-        // ! Validate document security
-        const readResult = await securityMiddleware.secureReadDocument(document);
-        
-        if (!readResult.success) {
-            throw new Error('Document security validation failed');
-        }
-        
-        // ! Perform content security scan
-        const securityScan = await securityMiddleware.secureWorkspaceOperation(
-            'SCAN', 
-            readResult.filePath
+        // ! อ่าน + validate ครั้งเดียว แล้ว security patterns และ rule analysis ใช้ข้อความเดียวกัน
+        const scanResult = await securityMiddleware.secureScanDocument(
+            document,
+            (code) => scanDocument(document, code)
         );
         
-        // ! Regular validation scan
-        const validationResults = await scanDocument(document);
-        
         // ! Add security issues to diagnostics if any
-        if (securityScan.securityIssues && securityScan.securityIssues.length > 0) {
-            const securityDiagnostics = securityScan.securityIssues.map(issue => 
+        if (scanResult.securityIssues.length > 0) {
+            const securityDiagnostics = scanResult.securityIssues.map(issue => 
                 securityMiddleware.createSecureDiagnostic(
                     new vscode.Range(0, 0, 0, 0), // ! Top of file
                     `Security Alert: ${issue.issue}`,
@@ -482,11 +584,11 @@ async function secureDocumentScan(document) {
         }
         
         return {
-            ...validationResults,
+            ...scanResult,
             security: {
                 validated: true,
-                issues: securityScan.securityIssues || [],
-                scanTimestamp: securityScan.scanTimestamp
+                issues: scanResult.securityIssues,
+                scanTimestamp: scanResult.scanTimestamp
             }
         };
         
@@ -579,14 +681,20 @@ async function showDetailedSecurityReport(report) {
     }
 }
 
-function deactivate() {
+async function deactivate() {
     console.log(' Chahuadev Sentinel Extension deactivated');
     
+    if (scanScheduler) {
+        scanScheduler.dispose();
+    }
+    
     if (diagnosticCollection) {
         diagnosticCollection.dispose();
     }
     
     if (securityMiddleware) {
+        // ! routine event ที่ค้างนับต้องลง security log ก่อน extension host ปิด
+        await securityMiddleware.securityManager.shutdown();
         console.log(' Security middleware shutdown');
     }
 }
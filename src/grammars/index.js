@@ -12,9 +12,10 @@
 // ============================================================================
 
 import { GrammarIndex } from './shared/grammar-index.js';
-import { SmartParserEngine } from '../../test/violation-examples/smart-parser-engine.js';
+import { SmartParserEngine } from '../../test/SEE/smart-parser-engine.js';
 import { PureBinaryParser } from './shared/pure-binary-parser.js';
 import { BinaryComputationTokenizer } from './shared/tokenizer-helper.js';
+import { resolveTokenizerClass } from './shared/lexer-generator.js';
 import { readFileSync } from 'fs';
 import { fileURLToPath } from 'url';
 import { dirname, join } from 'path';
@@ -22,17 +23,30 @@ import { dirname, join } from 'path';
 const __filename = fileURLToPath(import.meta.url);
 const __dirname = dirname(__filename);
 
+// Grammar ที่ SmartParserEngine ใช้ (startup snapshot อ้างอิงค่าเดียวกัน)
+export const ENGINE_LANGUAGE = 'javascript';
+
 /**
- * Create Smart Parser Engine instance (Factory Function)
- * @param {Object} rules - Validation rules
- * @returns {Promise<SmartParserEngine>}
+ * Load grammar + parser config for SmartParserEngine - ส่งต่อไป grammar-index.js
+ * @returns {Promise<{grammar: Object, parserConfig: Object}>}
  */
-export async function createSmartParserEngine(rules) {
-    const grammar = await GrammarIndex.loadGrammar('javascript');
+export async function loadSmartParserInputs() {
+    const grammar = await GrammarIndex.loadGrammar(ENGINE_LANGUAGE);
     
     // Load parser config
     const configPath = join(__dirname, 'shared', 'parser-config.json');
     const parserConfig = JSON.parse(readFileSync(configPath, 'utf8'));
+    return { grammar, parserConfig };
+}
+
+/**
+ * Create Smart Parser Engine instance (Factory Function)
+ * @param {Object} rules - Validation rules
+ * @param {Object} [inputs] - { grammar, parserConfig } ที่โหลดไว้แล้ว (เช่น จาก startup snapshot)
+ * @returns {Promise<SmartParserEngine>}
+ */
+export async function createSmartParserEngine(rules, inputs = null) {
+    const { grammar, parserConfig } = inputs ? inputs : await loadSmartParserInputs();
     
     // Merge rules into config
     const fullConfig = {
@@ -40,7 +54,15 @@ export async function createSmartParserEngine(rules) {
         rules: rules
     };
     
-    return new SmartParserEngine(grammar, fullConfig);
+    const engine = new SmartParserEngine(grammar, fullConfig);
+
+    // ! lexer ที่ generate จาก grammar (npm run build:lexers) แทนตัวที่ตีความ grammar ทุกตัวอักษร
+    // ! ไม่มี/stale = ใช้ BinaryComputationTokenizer ต่อ (stale แจ้งเหตุผลทาง stderr)
+    const TokenizerClass = await resolveTokenizerClass(ENGINE_LANGUAGE);
+    if (TokenizerClass !== BinaryComputationTokenizer) {
+        engine.tokenizer = new TokenizerClass(engine.grammarIndex);
+    }
+    return engine;
 }
 
 /**
@@ -0,0 +1,639 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ARENA AST - Compact Typed-Array AST Representation
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  หน้าที่: เก็บ AST ใน typed arrays แทน nested JS objects
+// !
+// !  Layout (หนึ่ง index = หนึ่ง node, เรียงแบบ pre-order):
+// !    kind[i]        - id ของ node type (intern ใน StringTable)
+// !    start[i]       - token index เริ่มต้น
+// !    end[i]         - token index สิ้นสุด
+// !    parent[i]      - index ของ parent (-1 = root)
+// !    firstChild[i]  - index ของลูกตัวแรก (-1 = ไม่มี)
+// !    nextSibling[i] - index ของพี่น้องถัดไป (-1 = ไม่มี)
+// !    subtreeEnd[i]  - index แรกที่ "พ้น" subtree นี้ (descendants = [i+1, subtreeEnd))
+// !    field[i]       - ชื่อ field ที่ parent ใช้อ้างถึง node นี้ (callee, body, ...)
+// !    flags[i]       - boolean fields (async, computed, ...) + IN_ARRAY bit
+// !    payload[i]     - index เข้า payload slab (-1 = ไม่มี scalar)
+// !
+// !  Payload slab: 4 ช่องต่อ record  [valueStringId, rawStringId, scalarTag, scalarFieldId]
+// !  scalarFieldId = ชื่อ field ที่ scalar มาจริง (Property เก็บ kind ไม่ใช่ value ที่เป็น node)
+// !  Strings ทั้งหมด (type, field, name, value, operator) ถูก intern ครั้งเดียว - id เป็น Uint32
+// !
+// !  สร้างได้ 2 แบบ:
+// !   - fromTree(ast): pack object tree ที่ parse เสร็จแล้ว
+// !   - open(program) + append(statement) ทีละ statement ระหว่าง parse แล้ว close()
+// !     object tree ทั้งไฟล์ไม่เคยอยู่ครบพร้อม arena - มีแค่ statement ที่กำลังสร้าง
+// !
+// !  WHY:
+// !   - traverseAST เดิมใช้ for...in ทุก property ของทุก node
+// !   - Arena ทำให้การเดินเป็น linear scan 0..count (pre-order = ลำดับเดียวกับ recursive walk)
+// !   - Buffers ทั้งหมดส่งข้าม worker_threads ได้แบบ transferable (ไม่ต้อง structured-clone object tree)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import errorHandler from '../../error-handler/ErrorHandler.js';
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  CONSTANTS
+// ! ══════════════════════════════════════════════════════════════════════════════
+const NO_NODE = -1;
+const INITIAL_CAPACITY = 256;
+const PAYLOAD_STRIDE = 4;
+
+// ! Scalar tags สำหรับ payload slab (บอกว่า value เดิมเป็น type อะไร)
+const SCALAR_TAGS = Object.freeze({
+    NONE: 0,
+    STRING: 1,
+    NUMBER: 2,
+    NULL: 3,
+    TRUE: 4,
+    FALSE: 5
+});
+
+// ! Boolean fields ของ ESTree ที่เก็บเป็น bit ใน flags[]
+const FLAG_BITS = Object.freeze({
+    async: 1 << 0,
+    computed: 1 << 1,
+    generator: 1 << 2,
+    prefix: 1 << 3,
+    optional: 1 << 4,
+    IN_ARRAY: 1 << 7
+});
+
+// ! Scalar fields ที่เก็บลง payload (field แรกที่เจอคือ value, raw แยกช่อง)
+const VALUE_FIELDS = ['name', 'value', 'operator', 'kind'];
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  STRING TABLE - intern strings ครั้งเดียวต่อไฟล์
+// ! ══════════════════════════════════════════════════════════════════════════════
+class StringTable {
+    constructor(strings = []) {
+        this.strings = strings.slice();
+        this.ids = new Map();
+        for (let i = 0; i < this.strings.length; i++) {
+            this.ids.set(this.strings[i], i);
+        }
+    }
+
+    intern(value) {
+        const existing = this.ids.get(value);
+        if (existing !== undefined) return existing;
+        const id = this.strings.length;
+        this.strings.push(value);
+        this.ids.set(value, id);
+        return id;
+    }
+
+    lookup(value) {
+        const id = this.ids.get(value);
+        return id === undefined ? NO_NODE : id;
+    }
+
+    get(id) {
+        return this.strings[id];
+    }
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  AST ARENA
+// ! ══════════════════════════════════════════════════════════════════════════════
+class AstArena {
+    constructor(capacity = INITIAL_CAPACITY) {
+        this.count = 0;
+        this.payloadCount = 0;
+        this.strings = new StringTable();
+        // ! ลูกตัวล่าสุดของแต่ละ node (ต่อ sibling chain) - มีเฉพาะระหว่างสร้าง
+        this.lastChild = [];
+        this.maxNodes = Infinity;
+        this.allocate(capacity);
+    }
+
+    allocate(capacity) {
+        this.capacity = capacity;
+        this.kind = new Uint32Array(capacity);
+        this.field = new Uint32Array(capacity);
+        this.flags = new Uint8Array(capacity);
+        this.start = new Uint32Array(capacity);
+        this.end = new Uint32Array(capacity);
+        this.parent = new Int32Array(capacity);
+        this.firstChild = new Int32Array(capacity);
+        this.nextSibling = new Int32Array(capacity);
+        this.subtreeEnd = new Int32Array(capacity);
+        this.payload = new Int32Array(capacity);
+        this.payloadData = new Int32Array(capacity * PAYLOAD_STRIDE);
+    }
+
+    /**
+     * ขยาย arrays แบบ doubling (amortized O(1) ต่อ node)
+     */
+    grow() {
+        const old = this;
+        const next = {
+            kind: old.kind, field: old.field, flags: old.flags, start: old.start, end: old.end,
+            parent: old.parent, firstChild: old.firstChild, nextSibling: old.nextSibling,
+            subtreeEnd: old.subtreeEnd, payload: old.payload, payloadData: old.payloadData
+        };
+        this.allocate(old.capacity * 2);
+        for (const key of Object.keys(next)) {
+            this[key].set(next[key]);
+        }
+    }
+
+    // ! ══════════════════════════════════════════════════════════════════════════
+    // !  BUILDING - แปลงจาก object AST (ผลลัพธ์ของ AdvancedStructureParser.parse)
+    // ! ══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * สร้าง arena จาก object tree ใน pass เดียว (pre-order)
+     * @param {Object} ast - Program node จาก AdvancedStructureParser/PureBinaryParser
+     * @param {number} maxNodes - circuit breaker (เหมือน maxASTNodes ของ traverseAST)
+     * @returns {AstArena}
+     */
+    static fromTree(ast, maxNodes = Infinity) {
+        const arena = AstArena.open(ast, maxNodes);
+        try {
+            arena.appendChildrenOf(ast, 0);
+        } catch (error) {
+            errorHandler.handleError(error, {
+                source: 'AstArena',
+                method: 'fromTree',
+                severity: 'HIGH',
+                context: `Arena packing failed after ${arena.count} nodes`
+            });
+            throw error;
+        }
+        arena.close(ast.end);
+        return arena;
+    }
+
+    /**
+     * เริ่ม arena ด้วย root node อย่างเดียว (ลูกมาทีหลังด้วย append)
+     * @param {Object} root - Program node (field ที่เป็น node/array ของ root ถูกข้าม)
+     * @param {number} maxNodes - circuit breaker (เหมือน maxASTNodes ของ traverseAST)
+     */
+    static open(root, maxNodes = Infinity) {
+        if (!root || typeof root !== 'object' || typeof root.type !== 'string') {
+            throw new Error('AstArena requires an AST root node with a string "type"');
+        }
+        const arena = new AstArena();
+        arena.maxNodes = maxNodes;
+        arena.writeNode(root, NO_NODE, arena.strings.intern(''), false);
+        return arena;
+    }
+
+    /**
+     * ต่อ subtree เป็นลูกตัวสุดท้ายของ parentIndex (เช่น statement ที่เพิ่ง parse เสร็จ  Program.body)
+     * ลูกต้องมาตามลำดับ pre-order: ต่อได้เฉพาะ node ที่ subtree ยังไม่ปิด
+     */
+    append(parentIndex, fieldName, node, inArray = true) {
+        if (this.lastChild === null) {
+            throw new Error('AstArena.append called after close()');
+        }
+        this.appendSubtree([{ node, parentIndex, fieldId: this.strings.intern(fieldName), inArray }]);
+    }
+
+    /**
+     * ปิด root: subtree ครอบทุก node ที่ต่อมา + end ที่รู้ตอน parse จบ แล้วทิ้งข้อมูลระหว่างสร้าง
+     */
+    close(rootEnd) {
+        this.subtreeEnd[0] = this.count;
+        this.end[0] = Number.isInteger(rootEnd) && rootEnd >= 0 ? rootEnd : 0;
+        this.lastChild = null;
+    }
+
+    appendChildrenOf(node, index) {
+        const frames = this.childFrames(node, index);
+        frames.reverse();
+        this.appendSubtree(frames);
+    }
+
+    /**
+     * @param {Object[]} stack - frames ที่จะเขียน (pop จากท้าย) { node, parentIndex, fieldId, inArray }
+     */
+    appendSubtree(stack) {
+        // ! Explicit stack แทน recursion - ป้องกัน stack overflow กับ AST ลึกๆ
+        while (stack.length > 0) {
+            const frame = stack.pop();
+
+            // ! Sentinel frame: ปิด subtree เมื่อลูกทุกตัวถูกเขียนแล้ว
+            if (frame.close !== undefined) {
+                this.subtreeEnd[frame.close] = this.count;
+                continue;
+            }
+
+            const index = this.writeNode(frame.node, frame.parentIndex, frame.fieldId, frame.inArray);
+
+            // ! Push sentinel ก่อน แล้ว push ลูกแบบย้อนกลับ (เพื่อ pop ออกตามลำดับเดิม)
+            stack.push({ close: index });
+            const children = this.childFrames(frame.node, index);
+            for (let c = children.length - 1; c >= 0; c--) {
+                stack.push(children[c]);
+            }
+        }
+    }
+
+    writeNode(node, parentIndex, fieldId, inArray) {
+        if (this.count >= this.maxNodes) {
+            const error = new Error(`AST exceeds maximum node count of ${this.maxNodes}`);
+            // ! ไฟล์ใหญ่เกิน limit เป็น input ที่คาดไว้ ไม่ใช่บั๊ก (ไม่ต้องปิด process)
+            error.isOperational = true;
+            throw error;
+        }
+        if (this.count === this.capacity) {
+            this.grow();
+        }
+
+        const index = this.count++;
+        this.kind[index] = this.strings.intern(node.type);
+        this.field[index] = fieldId;
+        this.start[index] = Number.isInteger(node.start) && node.start >= 0 ? node.start : 0;
+        this.end[index] = Number.isInteger(node.end) && node.end >= 0 ? node.end : 0;
+        this.parent[index] = parentIndex;
+        this.firstChild[index] = NO_NODE;
+        this.nextSibling[index] = NO_NODE;
+        this.subtreeEnd[index] = index + 1;
+        this.payload[index] = NO_NODE;
+        this.flags[index] = inArray ? FLAG_BITS.IN_ARRAY : 0;
+        this.lastChild[index] = NO_NODE;
+
+        // ! ต่อ sibling chain กับ parent
+        if (parentIndex !== NO_NODE) {
+            const previous = this.lastChild[parentIndex];
+            if (previous === NO_NODE) {
+                this.firstChild[parentIndex] = index;
+            } else {
+                this.nextSibling[previous] = index;
+            }
+            this.lastChild[parentIndex] = index;
+        }
+
+        this.packScalars(index, node);
+        return index;
+    }
+
+    childFrames(node, index) {
+        const children = [];
+        for (const key in node) {
+            if (key === 'type' || key === 'loc' || key === 'parent' || key === 'location') continue;
+            const value = node[key];
+            if (Array.isArray(value)) {
+                const fieldId = this.strings.intern(key);
+                for (const item of value) {
+                    if (item && typeof item === 'object' && typeof item.type === 'string') {
+                        children.push({ node: item, parentIndex: index, fieldId, inArray: true });
+                    }
+                }
+            } else if (value && typeof value === 'object' && typeof value.type === 'string') {
+                children.push({ node: value, parentIndex: index, fieldId: this.strings.intern(key), inArray: false });
+            }
+        }
+        return children;
+    }
+
+    packScalars(index, node) {
+        let flags = this.flags[index];
+        for (const bitName of ['async', 'computed', 'generator', 'prefix', 'optional']) {
+            if (node[bitName] === true) flags |= FLAG_BITS[bitName];
+        }
+        this.flags[index] = flags;
+
+        let valueKey = null;
+        for (const key of VALUE_FIELDS) {
+            if (key in node && (node[key] === null || typeof node[key] !== 'object')) {
+                valueKey = key;
+                break;
+            }
+        }
+        const hasRaw = typeof node.raw === 'string';
+        if (valueKey === null && !hasRaw) return;
+
+        const slot = this.payloadCount++;
+        const base = slot * PAYLOAD_STRIDE;
+        if (base + PAYLOAD_STRIDE > this.payloadData.length) {
+            const bigger = new Int32Array(this.payloadData.length * 2);
+            bigger.set(this.payloadData);
+            this.payloadData = bigger;
+        }
+
+        const value = valueKey === null ? undefined : node[valueKey];
+        let tag = SCALAR_TAGS.NONE;
+        let valueId = NO_NODE;
+        if (typeof value === 'string') {
+            tag = SCALAR_TAGS.STRING;
+            valueId = this.strings.intern(value);
+        } else if (typeof value === 'number') {
+            tag = SCALAR_TAGS.NUMBER;
+            valueId = this.strings.intern(String(value));
+        } else if (value === null) {
+            tag = SCALAR_TAGS.NULL;
+        } else if (value === true) {
+            tag = SCALAR_TAGS.TRUE;
+        } else if (value === false) {
+            tag = SCALAR_TAGS.FALSE;
+        }
+
+        this.payloadData[base] = valueId;
+        this.payloadData[base + 1] = hasRaw ? this.strings.intern(node.raw) : NO_NODE;
+        this.payloadData[base + 2] = tag;
+        this.payloadData[base + 3] = valueKey === null ? NO_NODE : this.strings.intern(valueKey);
+        this.payload[index] = slot;
+    }
+
+    // ! ══════════════════════════════════════════════════════════════════════════
+    // !  READING
+    // ! ══════════════════════════════════════════════════════════════════════════
+
+    typeOf(index) {
+        return this.strings.get(this.kind[index]);
+    }
+
+    fieldOf(index) {
+        return this.strings.get(this.field[index]);
+    }
+
+    /**
+     * อ่าน scalar value กลับเป็น JS value เดิม (string/number/null/boolean)
+     */
+    scalarOf(index) {
+        const slot = this.payload[index];
+        if (slot === NO_NODE) return undefined;
+        const base = slot * PAYLOAD_STRIDE;
+        switch (this.payloadData[base + 2]) {
+            case SCALAR_TAGS.STRING: return this.strings.get(this.payloadData[base]);
+            case SCALAR_TAGS.NUMBER: return Number(this.strings.get(this.payloadData[base]));
+            case SCALAR_TAGS.NULL: return null;
+            case SCALAR_TAGS.TRUE: return true;
+            case SCALAR_TAGS.FALSE: return false;
+            default: return undefined;
+        }
+    }
+
+    /**
+     * ชื่อ field ที่ scalar ของ node นี้มาจาก (undefined = ไม่มี scalar)
+     */
+    scalarFieldOf(index) {
+        const slot = this.payload[index];
+        if (slot === NO_NODE) return undefined;
+        const fieldId = this.payloadData[slot * PAYLOAD_STRIDE + 3];
+        return fieldId === NO_NODE ? undefined : this.strings.get(fieldId);
+    }
+
+    rawOf(index) {
+        const slot = this.payload[index];
+        if (slot === NO_NODE) return undefined;
+        const rawId = this.payloadData[slot * PAYLOAD_STRIDE + 1];
+        return rawId === NO_NODE ? undefined : this.strings.get(rawId);
+    }
+
+    hasFlag(index, bit) {
+        return (this.flags[index] & bit) !== 0;
+    }
+
+    /**
+     * หาลูกตาม field id (ใช้ id แทน string เพื่อให้ hot path เป็น integer compare)
+     */
+    childByFieldId(index, fieldId) {
+        for (let c = this.firstChild[index]; c !== NO_NODE; c = this.nextSibling[c]) {
+            if (this.field[c] === fieldId) return c;
+        }
+        return NO_NODE;
+    }
+
+    childrenByFieldId(index, fieldId) {
+        const result = [];
+        for (let c = this.firstChild[index]; c !== NO_NODE; c = this.nextSibling[c]) {
+            if (this.field[c] === fieldId) result.push(c);
+        }
+        return result;
+    }
+
+    view(index) {
+        return new ArenaNodeView(this, index);
+    }
+
+    /**
+     * Linear scan ทั้ง arena (pre-order) - แทน recursive for...in walk
+     * @param {Function} callback - (view, index) => void
+     */
+    forEach(callback, from = 0, to = this.count) {
+        for (let i = from; i < to; i++) {
+            callback(new ArenaNodeView(this, i), i);
+        }
+    }
+
+    /**
+     * เดินเฉพาะ subtree (รวมตัวเอง) - descendants อยู่ติดกันเพราะเรียงแบบ pre-order
+     */
+    forEachInSubtree(index, callback) {
+        this.forEach(callback, index, this.subtreeEnd[index]);
+    }
+
+    // ! ══════════════════════════════════════════════════════════════════════════
+    // !  TRANSFER - ส่งข้าม worker_threads
+    // ! ══════════════════════════════════════════════════════════════════════════
+
+    /**
+     * คืน { message, transferList } สำหรับ worker.postMessage(message, transferList)
+     * Buffers ถูก slice ให้พอดี count ก่อน (ไม่ส่ง capacity ที่ว่าง)
+     * NOTE: หลัง transfer แล้ว arena ฝั่งผู้ส่งใช้งานไม่ได้อีก
+     */
+    toTransferable() {
+        const n = this.count;
+        const message = {
+            count: n,
+            payloadCount: this.payloadCount,
+            strings: this.strings.strings,
+            kind: this.kind.slice(0, n),
+            field: this.field.slice(0, n),
+            flags: this.flags.slice(0, n),
+            start: this.start.slice(0, n),
+            end: this.end.slice(0, n),
+            parent: this.parent.slice(0, n),
+            firstChild: this.firstChild.slice(0, n),
+            nextSibling: this.nextSibling.slice(0, n),
+            subtreeEnd: this.subtreeEnd.slice(0, n),
+            payload: this.payload.slice(0, n),
+            payloadData: this.payloadData.slice(0, this.payloadCount * PAYLOAD_STRIDE)
+        };
+        const transferList = ARRAY_FIELDS.map(key => message[key].buffer);
+        return { message, transferList };
+    }
+
+    static fromTransferable(message) {
+        if (!message || typeof message.count !== 'number' || !Array.isArray(message.strings)) {
+            throw new Error('AstArena.fromTransferable requires a message produced by toTransferable()');
+        }
+        const arena = Object.create(AstArena.prototype);
+        arena.count = message.count;
+        arena.capacity = message.count;
+        arena.payloadCount = message.payloadCount;
+        arena.strings = new StringTable(message.strings);
+        arena.lastChild = null;
+        arena.maxNodes = message.count;
+        for (const key of ARRAY_FIELDS) {
+            arena[key] = message[key];
+        }
+        return arena;
+    }
+
+    /**
+     * ขนาดหน่วยความจำโดยประมาณของ typed arrays (bytes) - สำหรับ profiling
+     */
+    byteLength() {
+        return ARRAY_FIELDS.reduce((sum, key) => sum + this[key].byteLength, 0);
+    }
+}
+
+const ARRAY_FIELDS = [
+    'kind', 'field', 'flags', 'start', 'end', 'parent',
+    'firstChild', 'nextSibling', 'subtreeEnd', 'payload', 'payloadData'
+];
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ARENA NODE VIEW - lightweight node สำหรับ rule checkers
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  มีหน้าตาเหมือน ESTree node (node.callee?.property?.name ใช้ได้เหมือนเดิม)
+// !  ทำให้ check*InAST() เดิมทำงานกับ arena ได้โดยไม่ต้องแก้
+// !  แต่ละ getter สร้าง view ใหม่ขนาดเล็ก (2 fields) - ไม่ copy ข้อมูล
+// ! ══════════════════════════════════════════════════════════════════════════════
+class ArenaNodeView {
+    constructor(arena, index) {
+        this.arena = arena;
+        this.index = index;
+    }
+
+    get type() { return this.arena.typeOf(this.index); }
+    get start() { return this.arena.start[this.index]; }
+    get end() { return this.arena.end[this.index]; }
+    get loc() { return undefined; }
+
+    get parent() {
+        const p = this.arena.parent[this.index];
+        return p === NO_NODE ? null : new ArenaNodeView(this.arena, p);
+    }
+
+    // ! Scalar fields
+    get name() { return this.scalarFor('name'); }
+    get operator() { return this.scalarFor('operator'); }
+    get kind() { return this.scalarFor('kind'); }
+    get raw() { return this.arena.rawOf(this.index); }
+
+    // ! value เป็นได้ทั้ง scalar (Literal) และ node (Property / MethodDefinition)
+    get value() {
+        if (this.arena.scalarFieldOf(this.index) === 'value') return this.arena.scalarOf(this.index);
+        const child = this.child('value');
+        return child === null ? undefined : child;
+    }
+
+    // ! Boolean fields
+    get async() { return this.arena.hasFlag(this.index, FLAG_BITS.async); }
+    get computed() { return this.arena.hasFlag(this.index, FLAG_BITS.computed); }
+    get generator() { return this.arena.hasFlag(this.index, FLAG_BITS.generator); }
+    get prefix() { return this.arena.hasFlag(this.index, FLAG_BITS.prefix); }
+
+    // ! Single-child fields
+    get callee() { return this.child('callee'); }
+    get object() { return this.child('object'); }
+    get property() { return this.child('property'); }
+    get left() { return this.child('left'); }
+    get right() { return this.child('right'); }
+    get id() { return this.child('id'); }
+    get key() { return this.child('key'); }
+    get init() { return this.child('init'); }
+    get argument() { return this.child('argument'); }
+    get expression() { return this.child('expression'); }
+    get declaration() { return this.child('declaration'); }
+    get test() { return this.child('test'); }
+    get consequent() { return this.child('consequent'); }
+    get alternate() { return this.child('alternate'); }
+    get block() { return this.child('block'); }
+    get handler() { return this.child('handler'); }
+    get finalizer() { return this.child('finalizer'); }
+    get param() { return this.child('param'); }
+    get source() { return this.child('source'); }
+
+    // ! Array fields
+    get arguments() { return this.children('arguments'); }
+    get params() { return this.children('params'); }
+    get elements() { return this.children('elements'); }
+    get properties() { return this.children('properties'); }
+    get declarations() { return this.children('declarations'); }
+    get specifiers() { return this.children('specifiers'); }
+
+    // ! body เป็นได้ทั้ง array (Program/BlockStatement) และ node เดี่ยว (Function/CatchClause)
+    get body() {
+        const fieldId = this.arena.strings.lookup('body');
+        if (fieldId === NO_NODE) return this.isArrayBodyKind() ? [] : null;
+        const first = this.arena.childByFieldId(this.index, fieldId);
+        if (first === NO_NODE) {
+            return this.isArrayBodyKind() ? [] : null;
+        }
+        if (this.arena.hasFlag(first, FLAG_BITS.IN_ARRAY)) {
+            return this.children('body');
+        }
+        return new ArenaNodeView(this.arena, first);
+    }
+
+    isArrayBodyKind() {
+        const type = this.type;
+        return type === 'Program' || type === 'BlockStatement' || type === 'ClassBody';
+    }
+
+    scalarFor(key) {
+        // ! payload เก็บ scalar ตัวแรกตามลำดับ VALUE_FIELDS พร้อมชื่อ field - ตอบเฉพาะ field ที่ตรง
+        if (this.arena.scalarFieldOf(this.index) !== key) return undefined;
+        return this.arena.scalarOf(this.index);
+    }
+
+    child(fieldName) {
+        const fieldId = this.arena.strings.lookup(fieldName);
+        if (fieldId === NO_NODE) return null;
+        const c = this.arena.childByFieldId(this.index, fieldId);
+        return c === NO_NODE ? null : new ArenaNodeView(this.arena, c);
+    }
+
+    children(fieldName) {
+        const fieldId = this.arena.strings.lookup(fieldName);
+        if (fieldId === NO_NODE) return [];
+        return this.arena.childrenByFieldId(this.index, fieldId).map(c => new ArenaNodeView(this.arena, c));
+    }
+
+    /**
+     * แปลงกลับเป็น plain object (สำหรับ debug / snapshot)
+     */
+    toJSON() {
+        const out = { type: this.type };
+        const key = this.arena.scalarFieldOf(this.index);
+        if (key !== undefined) out[key] = this.arena.scalarOf(this.index);
+        if (this.raw !== undefined) out.raw = this.raw;
+        for (let c = this.arena.firstChild[this.index]; c !== NO_NODE; c = this.arena.nextSibling[c]) {
+            const field = this.arena.fieldOf(c);
+            const childJson = new ArenaNodeView(this.arena, c).toJSON();
+            if (this.arena.hasFlag(c, FLAG_BITS.IN_ARRAY)) {
+                (out[field] = out[field] || []).push(childJson);
+            } else {
+                out[field] = childJson;
+            }
+        }
+        return out;
+    }
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  EXPORTS
+// ! ══════════════════════════════════════════════════════════════════════════════
+export {
+    AstArena,
+    ArenaNodeView,
+    StringTable,
+    FLAG_BITS,
+    SCALAR_TAGS,
+    NO_NODE
+};
+
+export default AstArena;
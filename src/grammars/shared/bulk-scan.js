@@ -0,0 +1,90 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  BULK SCAN - กระโดดข้ามช่วงยาวด้วย indexOf / RegExp ของ engine
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  comment, string และ whitespace คือไบต์ส่วนใหญ่ของไฟล์จริง (license header,
+// !  JSDoc, template literal ยาวๆ, indentation) - เดินทีละตัวอักษรใน JavaScript
+// !  ช้ากว่าให้ engine ค้นหาให้ (indexOf / regex ทำงานใน native loop)
+// !
+// !  - createRunSkipper(codes)   ตำแหน่งแรกที่ "ไม่ใช่" ตัวอักษรในชุด (ข้าม whitespace)
+// !  - createCharFinder(codes)   ตำแหน่งแรกที่ "เป็น" ตัวอักษรในชุด (เช่น '<' หรือ '{')
+// !  - NextOccurrence            indexOf ของ sequence เดียวที่ถามด้วยตำแหน่งไม่ลดลง
+// !                              (เช่น backslash ถัดไป) - จำผลไว้ ไม่ค้นซ้ำทั้งไฟล์ต่อ string
+// !
+// !  RegExp ใช้ flag 'g' + lastIndex + test() - ไม่สร้าง match array
+// !  ชุดตัวอักษรรับเป็น char code จาก tokenizer-binary-config.json (ไม่ hardcode)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+function characterClass(codes) {
+    if (!Array.isArray(codes) || codes.length === 0) {
+        throw new Error('Bulk scan character set must be a non-empty array of char codes');
+    }
+    return codes.map(code => {
+        if (!Number.isInteger(code) || code < 0 || code > 0xFFFF) {
+            throw new Error(`Bulk scan character set has an invalid char code: ${code}`);
+        }
+        return `\\u${code.toString(16).padStart(4, '0')}`;
+    }).join('');
+}
+
+/**
+ * @param {number[]} codes - ตัวอักษรที่ข้ามได้
+ * @returns {(input: string, from: number) => number} ตำแหน่งแรก >= from ที่ไม่อยู่ในชุด (input.length ถ้าไม่มี)
+ */
+function createRunSkipper(codes) {
+    const pattern = new RegExp(`[^${characterClass(codes)}]`, 'g');
+    return (input, from) => {
+        pattern.lastIndex = from;
+        return pattern.test(input) ? pattern.lastIndex - 1 : input.length;
+    };
+}
+
+/**
+ * @param {number[]} codes - ตัวอักษรที่ต้องการหา
+ * @returns {(input: string, from: number) => number} ตำแหน่งแรก >= from ที่อยู่ในชุด (-1 ถ้าไม่มี)
+ */
+function createCharFinder(codes) {
+    const pattern = new RegExp(`[${characterClass(codes)}]`, 'g');
+    return (input, from) => {
+        pattern.lastIndex = from;
+        return pattern.test(input) ? pattern.lastIndex - 1 : -1;
+    };
+}
+
+/**
+ * ตำแหน่งถัดไปของ sequence หนึ่งตัวใน input เดียว
+ * ถามด้วย from ที่ไม่ลดลง (ตามการอ่านของ tokenizer)  ทั้งไฟล์ค้นรวมกันไม่เกินหนึ่งรอบ
+ */
+class NextOccurrence {
+    constructor(sequence) {
+        if (typeof sequence !== 'string' || sequence.length === 0) {
+            throw new Error('NextOccurrence requires a non-empty sequence');
+        }
+        this.sequence = sequence;
+        this.input = '';
+        this.next = -1;
+    }
+
+    reset(input) {
+        this.input = input;
+        this.next = input.indexOf(this.sequence);
+    }
+
+    /**
+     * @param {number} from
+     * @returns {number} ตำแหน่งแรก >= from (-1 ถ้าไม่มีแล้ว)
+     */
+    from(from) {
+        if (this.next !== -1 && this.next < from) {
+            this.next = this.input.indexOf(this.sequence, from);
+        }
+        return this.next;
+    }
+}
+
+export { createRunSkipper, createCharFinder, NextOccurrence };
@@ -1,6 +1,3 @@
-import errorHandler from '../../error-handler/ErrorHandler.js';
-
-
 // ! ======================================================================
 // !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
 // !  Repository: https:// ! github.com/chahuadev/chahuadev-Sentinel.git
@@ -16,7 +13,9 @@ import errorHandler from '../../error-handler/ErrorHandler.js';
 import fs from 'fs';
 import path from 'path';
 import { fileURLToPath } from 'url';
+import { performance } from 'perf_hooks';
 import { GrammarIndex } from './grammar-index.js';
+import { ScanWorkerPool } from '../../workers/scan-worker-pool.js';
 import errorHandler from '../../error-handler/ErrorHandler.js';
 
 
@@ -48,6 +47,8 @@ function loadCorpusConfig() {
 const config = loadCorpusConfig();
 const CORPUS_PROJECTS = config.corpusProjects;
 const TESTING_CONFIG = config.testingConfig;
+const BENCHMARK_CONFIG = config.benchmarkConfig;
+const CORPUS_WORKER_URL = new URL('./corpus-worker.js', import.meta.url);
 
 // !  ============================================================================
 // !  CORPUS TESTER CLASS
@@ -332,6 +333,241 @@ class CorpusTester {
         console.log('='.repeat(80) + '\n');
     }
 
+    // !  ============================================================================
+    // !  BENCHMARK MODE - tokenizer/parser จริง บน worker pool + baseline
+    // !  ============================================================================
+
+    /**
+     * ! รวบรวมไฟล์จากทุก project (เคารพ maxFilesPerProject / maxFileSizeKB / skipPatterns)
+     */
+    collectBenchmarkJobs() {
+        const jobs = [];
+        const maxBytes = TESTING_CONFIG.maxFileSizeKB * 1024;
+
+        for (const project of CORPUS_PROJECTS) {
+            const projectPath = path.resolve(process.cwd(), project.path);
+            if (!fs.existsSync(projectPath)) {
+                console.log(`     Project not found at ${projectPath} - skipped`);
+                continue;
+            }
+
+            let projectFiles = 0;
+            for (const filePath of this.findFiles(projectPath, project.extensions)) {
+                if (projectFiles >= TESTING_CONFIG.maxFilesPerProject) break;
+                if (this.isSkippedPath(path.relative(projectPath, filePath))) continue;
+                if (fs.statSync(filePath).size > maxBytes) continue;
+
+                const language = BENCHMARK_CONFIG.languageByExtension[path.extname(filePath)];
+                if (!language) {
+                    throw new Error(`No benchmark language configured for extension ${path.extname(filePath)} (${filePath})`);
+                }
+                jobs.push({ filePath, language, project: project.name });
+                projectFiles++;
+            }
+        }
+
+        return jobs;
+    }
+
+    isSkippedPath(relativePath) {
+        const segments = relativePath.split(path.sep);
+        const baseName = segments[segments.length - 1];
+        return TESTING_CONFIG.skipPatterns.some(pattern =>
+            segments.includes(pattern) || baseName.includes(`.${pattern}.`)
+        );
+    }
+
+    /**
+     * ! วัด throughput ของทุกไฟล์ใน corpus แบบขนาน แล้วเทียบกับ baseline
+     * @param {Object} options
+     * @param {number} [options.workerCount] - override BENCHMARK_CONFIG.workerCount
+     * @param {string} [options.baselinePath] - override BENCHMARK_CONFIG.baselineFile
+     * @param {boolean} [options.updateBaseline] - เขียนผลลัพธ์นี้เป็น baseline ใหม่
+     */
+    async benchmarkAll(options = {}) {
+        const workerCount = ScanWorkerPool.resolveSize(options.workerCount ?? BENCHMARK_CONFIG.workerCount);
+        const baselinePath = options.baselinePath
+            ? options.baselinePath
+            : path.join(__dirname, BENCHMARK_CONFIG.baselineFile);
+
+        console.log(` Starting Corpus Benchmark (${workerCount} workers)...\n`);
+        const jobs = this.collectBenchmarkJobs();
+        const fileResults = [];
+
+        const pool = new ScanWorkerPool({ size: workerCount, workerUrl: CORPUS_WORKER_URL });
+        const wallStart = performance.now();
+        try {
+            await pool.start();
+            await pool.scan(jobs, { onResult: (result) => fileResults.push(result) });
+        } catch (error) {
+            errorHandler.handleError(error, {
+                source: 'CorpusTester',
+                method: 'benchmarkAll',
+                severity: 'HIGH',
+                context: `Corpus benchmark aborted after ${fileResults.length}/${jobs.length} files`
+            });
+            throw error;
+        } finally {
+            await pool.terminate();
+        }
+        const wallMs = performance.now() - wallStart;
+
+        const report = this.summarizeBenchmark(fileResults, wallMs, workerCount);
+        const baseline = this.loadBenchmarkBaseline(baselinePath);
+        const regressions = baseline
+            ? this.compareWithBaseline(report, baseline, BENCHMARK_CONFIG.regressionThreshold)
+            : [];
+
+        this.printBenchmarkReport(report, baseline, regressions);
+
+        if (!baseline || options.updateBaseline) {
+            fs.writeFileSync(baselinePath, JSON.stringify(report, null, 2));
+            console.log(` Baseline written to ${baselinePath}`);
+        }
+
+        return { report, regressions };
+    }
+
+    /**
+     * ! รวมผลรายไฟล์เป็นสรุปราย project + รวมทั้งหมด
+     */
+    summarizeBenchmark(fileResults, wallMs, workerCount) {
+        const emptyTotals = () => ({ files: 0, bytes: 0, tokens: 0, tokenizeMs: 0, parseMs: 0, tokenizeFailures: 0, parseFailures: 0 });
+        const overall = emptyTotals();
+        const projects = {};
+        // ! heap ของ worker หลังจบแต่ละไฟล์ (ค่าสูงสุด) - ไม่ใช่ peak จริงระหว่าง tokenize/parse
+        let maxPostFileHeapBytes = 0;
+
+        for (const result of fileResults) {
+            if (!projects[result.project]) {
+                projects[result.project] = emptyTotals();
+            }
+            for (const totals of [overall, projects[result.project]]) {
+                totals.files++;
+                // ! ไฟล์ที่ tokenize ไม่ผ่านไม่นับใน throughput (เวลาหยุดกลางไฟล์ไม่สะท้อนความเร็วจริง)
+                if (result.tokenizeError) {
+                    totals.tokenizeFailures++;
+                    continue;
+                }
+                totals.bytes += result.bytes;
+                totals.tokens += result.tokens;
+                totals.tokenizeMs += result.tokenizeMs;
+                totals.parseMs += result.parseMs;
+                if (result.parseError) totals.parseFailures++;
+            }
+            maxPostFileHeapBytes = Math.max(maxPostFileHeapBytes, result.heapUsed);
+        }
+
+        const withRates = (totals) => ({
+            ...totals,
+            tokensPerSecond: this.perSecond(totals.tokens, totals.tokenizeMs),
+            bytesPerSecond: this.perSecond(totals.bytes, totals.tokenizeMs + totals.parseMs)
+        });
+
+        return {
+            timestamp: new Date().toISOString(),
+            nodeVersion: process.version,
+            workerCount,
+            wallMs,
+            maxPostFileHeapBytes,
+            overall: withRates(overall),
+            projects: Object.fromEntries(
+                Object.entries(projects).map(([name, totals]) => [name, withRates(totals)])
+            ),
+            files: fileResults.map(result => ({
+                project: result.project,
+                file: path.relative(process.cwd(), result.filePath),
+                bytes: result.bytes,
+                tokens: result.tokens,
+                tokenizeMs: result.tokenizeMs,
+                parseMs: result.parseMs,
+                tokensPerSecond: this.perSecond(result.tokens, result.tokenizeMs),
+                tokenizeError: result.tokenizeError,
+                parseError: result.parseError,
+                heapUsed: result.heapUsed
+            }))
+        };
+    }
+
+    perSecond(count, ms) {
+        return ms > 0 ? Math.round((count * 1000) / ms) : 0;
+    }
+
+    loadBenchmarkBaseline(baselinePath) {
+        if (!fs.existsSync(baselinePath)) {
+            console.log(` No baseline at ${baselinePath} - this run becomes the baseline`);
+            return null;
+        }
+        try {
+            return JSON.parse(fs.readFileSync(baselinePath, 'utf8'));
+        } catch (error) {
+            errorHandler.handleError(error, {
+                source: 'CorpusTester',
+                method: 'loadBenchmarkBaseline',
+                severity: 'HIGH',
+                context: `Corrupted benchmark baseline at ${baselinePath}`
+            });
+            throw new Error(`Failed to read benchmark baseline ${baselinePath}: ${error.message}`);
+        }
+    }
+
+    /**
+     * ! หา throughput ที่ลดลงเกิน threshold (เทียบ overall และราย project ที่มีในทั้งสองฝั่ง)
+     */
+    compareWithBaseline(report, baseline, threshold) {
+        const regressions = [];
+        const check = (scope, current, previous) => {
+            if (!current || !previous || previous.tokensPerSecond === 0) return;
+            const change = (current.tokensPerSecond - previous.tokensPerSecond) / previous.tokensPerSecond;
+            if (change < -threshold) {
+                regressions.push({
+                    scope,
+                    baselineTokensPerSecond: previous.tokensPerSecond,
+                    currentTokensPerSecond: current.tokensPerSecond,
+                    change
+                });
+            }
+        };
+
+        check('overall', report.overall, baseline.overall);
+        for (const [name, totals] of Object.entries(report.projects)) {
+            check(name, totals, baseline.projects?.[name]);
+        }
+        return regressions;
+    }
+
+    printBenchmarkReport(report, baseline, regressions) {
+        console.log('\n' + '='.repeat(80));
+        console.log(' CORPUS BENCHMARK REPORT');
+        console.log('='.repeat(80) + '\n');
+
+        console.log(` Files: ${report.overall.files}  Tokens: ${report.overall.tokens.toLocaleString()}  Bytes: ${report.overall.bytes.toLocaleString()}`);
+        console.log(` Wall time: ${report.wallMs.toFixed(1)}ms on ${report.workerCount} workers`);
+        console.log(` Tokenizer: ${report.overall.tokensPerSecond.toLocaleString()} tokens/s`);
+        console.log(` Pipeline:  ${report.overall.bytesPerSecond.toLocaleString()} bytes/s (tokenize + parse)`);
+        console.log(` Max post-file heap: ${(report.maxPostFileHeapBytes / 1024 / 1024).toFixed(1)}MB (worker heap sampled after each file)`);
+        console.log(` Tokenize failures: ${report.overall.tokenizeFailures}  Parse failures: ${report.overall.parseFailures}\n`);
+
+        for (const [name, totals] of Object.entries(report.projects)) {
+            const previous = baseline?.projects?.[name];
+            const delta = previous && previous.tokensPerSecond > 0
+                ? ` (${(((totals.tokensPerSecond - previous.tokensPerSecond) / previous.tokensPerSecond) * 100).toFixed(1)}% vs baseline)`
+                : '';
+            console.log(`   ${name}: ${totals.files} files, ${totals.tokensPerSecond.toLocaleString()} tokens/s${delta}`);
+        }
+        console.log('');
+
+        if (regressions.length > 0) {
+            console.log(` THROUGHPUT REGRESSIONS (threshold ${(BENCHMARK_CONFIG.regressionThreshold * 100).toFixed(0)}%):`);
+            for (const regression of regressions) {
+                console.log(`   ${regression.scope}: ${regression.baselineTokensPerSecond.toLocaleString()} -> ${regression.currentTokensPerSecond.toLocaleString()} tokens/s (${(regression.change * 100).toFixed(1)}%)`);
+            }
+        } else if (baseline) {
+            console.log(' No throughput regressions against baseline');
+        }
+        console.log('\n' + '='.repeat(80) + '\n');
+    }
+
     /**
      * ! Calculate percentage
      */
@@ -369,11 +605,23 @@ class CorpusTester {
 export { CorpusTester };
 
 // !  Run testing if executed directly
-if (import.meta.url === `file:// ! ${process.argv[1]}`) {
+// !    node corpus-tester.js                                  - grammar coverage (เดิม)
+// !    node corpus-tester.js --benchmark [--update-baseline]  - throughput + regression check
+if (import.meta.url === `file://${process.argv[1]}`) {
     const tester = new CorpusTester();
-    await tester.testAll();
 
-    // !  Export results
-    const outputPath = path.join(__dirname, 'corpus-test-results.json');
-    tester.exportResults(outputPath);
+    if (process.argv.includes('--benchmark')) {
+        const { regressions } = await tester.benchmarkAll({
+            updateBaseline: process.argv.includes('--update-baseline')
+        });
+        if (regressions.length > 0) {
+            process.exitCode = 1;
+        }
+    } else {
+        await tester.testAll();
+
+        // !  Export results
+        const outputPath = path.join(__dirname, 'corpus-test-results.json');
+        tester.exportResults(outputPath);
+    }
 }
@@ -0,0 +1,99 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  CORPUS WORKER - วัด throughput ของ tokenizer/parser จริงบน worker_threads
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ใช้กับ ScanWorkerPool (protocol เดียวกับ workers/scan-worker.js)
+// !    IN : { type: 'scan', id, filePath, language, project }
+// !    OUT: { type: 'result', id, filePath, project, language, bytes, tokens,
+// !           tokenizeMs, parseMs, tokenizeError, parseError, heapUsed }
+// !         { type: 'error', id, filePath, message }   - อ่านไฟล์/โหลด grammar ไม่ได้
+// !
+// !  Tokenize/parse failure ไม่ใช่ error ของ benchmark - บันทึกแล้วไปต่อ
+// !  (corpus มีโค้ดที่ parser ยังไม่รองรับเสมอ)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { parentPort } from 'worker_threads';
+import { readFileSync } from 'fs';
+import { performance } from 'perf_hooks';
+import { GrammarIndex } from './grammar-index.js';
+import { PureBinaryTokenizer } from './tokenizer-helper.js';
+import { PureBinaryParser } from './pure-binary-parser.js';
+
+if (!parentPort) {
+    throw new Error('corpus-worker.js must be started through worker_threads');
+}
+
+// ! หนึ่ง GrammarIndex + tokenizer ต่อภาษา ต่อ worker (สร้างครั้งแรกที่เจอภาษานั้น)
+const languageContexts = new Map();
+
+async function contextFor(language) {
+    let context = languageContexts.get(language);
+    if (!context) {
+        const grammarIndex = new GrammarIndex(await GrammarIndex.loadGrammar(language));
+        context = { grammarIndex, tokenizer: new PureBinaryTokenizer(grammarIndex) };
+        languageContexts.set(language, context);
+    }
+    return context;
+}
+
+async function handleScan(message) {
+    const { id, filePath, language, project } = message;
+    try {
+        const { grammarIndex, tokenizer } = await contextFor(language);
+        const code = readFileSync(filePath, 'utf8');
+
+        let tokens = [];
+        let tokenizeError = null;
+        const tokenizeStart = performance.now();
+        try {
+            tokens = tokenizer.tokenize(code);
+        } catch (error) {
+            tokenizeError = error.message;
+        }
+        const tokenizeMs = performance.now() - tokenizeStart;
+
+        // ! parse เฉพาะไฟล์ที่ tokenize ผ่าน (ไม่มี token ให้ parse)
+        let parseError = null;
+        const parseStart = performance.now();
+        if (!tokenizeError) {
+            try {
+                new PureBinaryParser(tokens, grammarIndex).parse();
+            } catch (error) {
+                parseError = error.message;
+            }
+        }
+        const parseMs = performance.now() - parseStart;
+
+        // ! วัดหลังจบไฟล์ (ไม่ใช่ peak ระหว่าง tokenize/parse - worker วัดกลาง call sync ไม่ได้)
+        const heapUsed = process.memoryUsage().heapUsed;
+
+        parentPort.postMessage({
+            type: 'result',
+            id,
+            filePath,
+            project,
+            language,
+            bytes: Buffer.byteLength(code, 'utf8'),
+            tokens: tokens.length,
+            tokenizeMs,
+            parseMs,
+            tokenizeError,
+            parseError,
+            heapUsed
+        });
+    } catch (error) {
+        parentPort.postMessage({ type: 'error', id, filePath, message: error.message });
+    }
+}
+
+parentPort.on('message', (message) => {
+    if (message && message.type === 'scan') {
+        handleScan(message);
+    }
+});
+parentPort.postMessage({ type: 'ready' });
@@ -35,6 +35,18 @@ try {
     DISAMBIGUATION_CONFIG = { maxHistory: 10 };
 }
 
+// !  ============================================================================
+// !  LANGUAGE FILTER
+// !  ============================================================================
+
+/**
+ * ! pattern.language = ชื่อภาษาเดียวหรือ array ของภาษา  ไม่ระบุ = ใช้ได้ทุกภาษา
+ */
+function appliesToLanguage(pattern, language) {
+    if (!pattern.language) return true;
+    return Array.isArray(pattern.language) ? pattern.language.includes(language) : pattern.language === language;
+}
+
 // !  ============================================================================
 // !  AMBIGUOUS SYMBOLS REGISTRY
 // !  ============================================================================
@@ -54,7 +66,9 @@ const AMBIGUOUS_SYMBOLS = {
             {
                 type: 'REGEXP_START',
                 context: 'RegExpLiteral',
-                precededBy: ['PAREN_OPEN', 'BRACKET_OPEN', 'COMMA', 'RETURN', 'ASSIGN'],
+                // !  ทุก token ที่หลังจากนั้นต้องเริ่ม expression ใหม่ (ไม่ใช่ operand)
+                precededBy: ['PAREN_OPEN', 'BRACKET_OPEN', 'BRACE_OPEN', 'COMMA', 'SEMICOLON', 'COLON', 'QUESTION',
+                    'RETURN', 'ASSIGN', 'ARROW', 'OPERATOR', 'MINUS', 'STAR', 'KEYWORD', 'NONE'],
                 followedBy: ['LETTER', 'DIGIT', 'SPECIAL_CHAR'],
                 example: '/abc/gi',
                 confidence: 0.85
@@ -62,10 +76,12 @@ const AMBIGUOUS_SYMBOLS = {
             {
                 type: 'JSX_CLOSING',
                 context: 'JSXClosingElement',
+                language: ['jsx', 'tsx'],
                 precededBy: ['LESS_THAN'],
                 followedBy: ['IDENTIFIER', 'UPPERCASE_IDENTIFIER'],
                 example: '</Component>',
-                confidence: 0.95
+                // !  ต่ำกว่า DIVISION เมื่อไม่ได้ตามหลัง '<' - '/' ที่ไม่มีบริบทคือการหาร
+                confidence: 0.88
             }
         ]
     },
@@ -131,7 +147,9 @@ const AMBIGUOUS_SYMBOLS = {
             {
                 type: 'JSX_OPEN',
                 context: 'JSXElement',
-                precededBy: ['RETURN', 'PAREN_OPEN', 'ASSIGN', 'ARROW'],
+                // !  JSX มีเฉพาะ .jsx / .tsx - ใน TypeScript '<' หลัง function / '(' คือ type parameter
+                language: ['jsx', 'tsx'],
+                precededBy: ['RETURN', 'PAREN_OPEN', 'ASSIGN', 'ARROW', 'BRACE_OPEN', 'COMMA', 'COLON', 'QUESTION', 'OPERATOR'],
                 followedBy: ['UPPERCASE_IDENTIFIER', 'Fragment'],
                 example: '<Component>',
                 confidence: 0.9
@@ -139,7 +157,7 @@ const AMBIGUOUS_SYMBOLS = {
             {
                 type: 'GENERIC_OPEN',
                 context: 'TypeParameter',
-                language: 'typescript',
+                language: ['typescript', 'tsx'],
                 precededBy: ['IDENTIFIER', 'class', 'interface', 'function'],
                 followedBy: ['IDENTIFIER', 'TYPE'],
                 example: 'Array<T>',
@@ -151,7 +169,8 @@ const AMBIGUOUS_SYMBOLS = {
                 precededBy: ['IDENTIFIER', 'LITERAL'],
                 followedBy: ['LESS_THAN'],
                 example: 'x << 2',
-                confidence: 0.95
+                // !  ชนะ LESS_THAN เฉพาะเมื่อตามด้วย '<' จริง
+                confidence: 0.8
             }
         ]
     },
@@ -186,7 +205,7 @@ const AMBIGUOUS_SYMBOLS = {
             {
                 type: 'TYPE_ANNOTATION',
                 context: 'TypeAnnotation',
-                language: 'typescript',
+                language: ['typescript', 'tsx'],
                 precededBy: ['IDENTIFIER', 'PAREN_CLOSE'],
                 followedBy: ['TYPE', 'IDENTIFIER'],
                 example: 'let x: number',
@@ -340,6 +359,16 @@ const AMBIGUOUS_SYMBOLS = {
     }
 };
 
+// !  ============================================================================
+// !  SCORING - ใช้ร่วมกับ compileDisambiguationTable (disambiguation-table.js)
+// !  ============================================================================
+
+const SCORE_BONUS = {
+    precededBy: 0.2,
+    followedBy: 0.2,
+    context: 0.1
+};
+
 // !  ============================================================================
 // !  DISAMBIGUATION ENGINE
 // !  ============================================================================
@@ -402,7 +431,7 @@ class DisambiguationEngine {
         let score = pattern.confidence || 0.5;
 
         // !  Language check
-        if (pattern.language && pattern.language !== language) {
+        if (!appliesToLanguage(pattern, language)) {
             return 0;
         }
 
@@ -410,7 +439,7 @@ class DisambiguationEngine {
         if (pattern.precededBy && precedingTokens.length > 0) {
             const lastToken = precedingTokens[precedingTokens.length - 1];
             if (pattern.precededBy.includes(lastToken.type)) {
-                score += 0.2;
+                score += SCORE_BONUS.precededBy;
             }
         }
 
@@ -418,13 +447,13 @@ class DisambiguationEngine {
         if (pattern.followedBy && followingTokens.length > 0) {
             const nextToken = followingTokens[0];
             if (pattern.followedBy.includes(nextToken.type)) {
-                score += 0.2;
+                score += SCORE_BONUS.followedBy;
             }
         }
 
         // !  Context bonus
         if (pattern.context && this.matchesContext(pattern.context)) {
-            score += 0.1;
+            score += SCORE_BONUS.context;
         }
 
         return Math.min(score, 1.0);
@@ -519,7 +548,7 @@ class DisambiguationEngine {
 // !  EXPORT
 // !  ============================================================================
 
-export { DisambiguationEngine, AMBIGUOUS_SYMBOLS };
+export { DisambiguationEngine, AMBIGUOUS_SYMBOLS, SCORE_BONUS, appliesToLanguage };
 
 // !  Run report if executed directly
 if (import.meta.url === `file:// ! ${process.argv[1]}`) {
@@ -0,0 +1,276 @@
+// ! ======================================================================
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https:// ! github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ======================================================================
+// !  Disambiguation Table - AMBIGUOUS_SYMBOLS compiled for the tokenizer
+// !  ============================================================================
+// !  คอมไพล์ AMBIGUOUS_SYMBOLS เป็นตารางตัดสินใจแบบ dense ครั้งเดียวต่อภาษา
+// !    index = (symbol id, previous-token class, next-char class)  pattern id
+// !  tokenizer ถามตารางตอนเจอ '/' หรือ '<' = lookup 1 ครั้ง ไม่มี map/sort/slice
+// !
+// !  previous-token class: label ของ token ก่อนหน้า (parser-config.json tokenLabels)
+// !    - byValue ก่อน (เช่น '(' = PAREN_OPEN, '=' = ASSIGN, return = RETURN)
+// !    - label ใน precededBy ที่ config ไม่ได้สร้าง (function, class, import, ...)
+// !      ใช้ข้อความของ token ตรงๆ
+// !    - ไม่เจอ  byType ตามประเภท token
+// !  next-char class: กลุ่มของตัวอักษรถัดไป (nextCharClasses) - 1 กลุ่มอาจมีหลาย label
+// !
+// !  คะแนนเหมือน DisambiguationEngine.scorePattern ยกเว้น:
+// !    - ไม่มี context bonus (ต้องใช้ history) - ตารางดูแค่ token ก่อนหน้า + ตัวอักษรถัดไป
+// !    - ไม่ตัดที่ 1.0 - scorePattern ตัดเพื่อแสดงผล แต่การตัดทำให้คะแนนเสมอกัน
+// !      ('/' หลัง '(' ได้ DIVISION = REGEXP_START = 1.0) แล้ว pattern แรกชนะเสมอ
+// !    - label ที่ไม่มีทางรู้จากตัวอักษรเดียว (Expression, TYPE, 'as') ไม่ได้คะแนน
+// !  ============================================================================
+
+import errorHandler from '../../error-handler/ErrorHandler.js';
+import { AMBIGUOUS_SYMBOLS, SCORE_BONUS, appliesToLanguage } from './disambiguation-engine.js';
+import { readFileSync } from 'fs';
+import { fileURLToPath } from 'url';
+import { dirname, join } from 'path';
+
+const __filename = fileURLToPath(import.meta.url);
+const __dirname = dirname(__filename);
+const CONFIG_PATH = join(__dirname, 'parser-config.json');
+
+let TABLE_CONFIG;
+try {
+    TABLE_CONFIG = JSON.parse(readFileSync(CONFIG_PATH, 'utf8')).disambiguationEngine;
+    if (!TABLE_CONFIG || !TABLE_CONFIG.tokenLabels || !Array.isArray(TABLE_CONFIG.nextCharClasses)) {
+        throw new Error('disambiguationEngine.tokenLabels and disambiguationEngine.nextCharClasses are required');
+    }
+} catch (error) {
+    errorHandler.handleError(error, {
+        source: 'DisambiguationTable',
+        method: 'initialization',
+        severity: 'CRITICAL',
+        context: `Failed to load disambiguation table config from ${CONFIG_PATH}`
+    });
+    throw new Error(`CRITICAL: Failed to load disambiguation table config from ${CONFIG_PATH}: ${error.message}`);
+}
+
+const ASCII_LIMIT = 128;
+const NO_SYMBOL = -1;
+// ! คะแนนเป็นหน่วย 1/100 - เลี่ยง 0.9 + 0.2 !== 1.1 ตอนเทียบผลเสมอ
+const SCORE_SCALE = 100;
+
+class DisambiguationTable {
+    constructor({ language, symbols, patterns, labels, classByValue, classByType, startClass, identifierClass, literalClass,
+        charClasses, nonAsciiClass, endClass, nextClassCount, cells }) {
+        this.language = language;
+        this.symbols = symbols;
+        this.patterns = patterns;
+        this.labels = labels;
+        this.classByValue = classByValue;
+        this.classByType = classByType;
+        this.startClass = startClass;
+        // ! identifier / literal ไม่ถูกแปลงด้วย byValue (ตัวแปรชื่อ TYPE ไม่ใช่ label TYPE)
+        this.identifierClass = identifierClass;
+        this.literalClass = literalClass;
+        this.charClasses = charClasses;
+        this.nonAsciiClass = nonAsciiClass;
+        this.endClass = endClass;
+        this.nextClassCount = nextClassCount;
+        this.labelCount = labels.length;
+        this.cells = cells;
+
+        // ! symbol ตัวอักษรเดียว  id (tokenizer ใช้ charCode ตรงๆ)
+        this.symbolByCode = new Int8Array(ASCII_LIMIT).fill(NO_SYMBOL);
+        symbols.forEach((symbol, id) => {
+            if (symbol.length === 1 && symbol.charCodeAt(0) < ASCII_LIMIT) {
+                this.symbolByCode[symbol.charCodeAt(0)] = id;
+            }
+        });
+    }
+
+    symbolIdForCode(charCode) {
+        return charCode < ASCII_LIMIT ? this.symbolByCode[charCode] : NO_SYMBOL;
+    }
+
+    /**
+     * @param {Object|null} token - token ก่อนหน้า (ไม่นับ comment) หรือ null ที่ต้นไฟล์
+     * @returns {number} previous-token class
+     */
+    previousClass(token) {
+        if (!token) return this.startClass;
+        const typeClass = this.classByType.get(token.type);
+        if (typeClass === undefined) {
+            throw new Error(`DisambiguationTable has no label for token type '${token.type}' - add it to disambiguationEngine.tokenLabels.byType`);
+        }
+        if (typeClass !== this.identifierClass && typeClass !== this.literalClass) {
+            const valueClass = this.classByValue.get(token.value);
+            if (valueClass !== undefined) return valueClass;
+        }
+        return typeClass;
+    }
+
+    /**
+     * @param {number} charCode - NaN เมื่อเลยท้าย input (charCodeAt คืน NaN)
+     */
+    nextCharClass(charCode) {
+        if (!(charCode >= 0)) return this.endClass;
+        return charCode < ASCII_LIMIT ? this.charClasses[charCode] : this.nonAsciiClass;
+    }
+
+    /**
+     * @returns {number} pattern id (index ใน this.patterns)
+     */
+    decide(symbolId, previousClass, nextClass) {
+        return this.cells[(symbolId * this.labelCount + previousClass) * this.nextClassCount + nextClass];
+    }
+
+    /**
+     * pattern id ของ (symbol, type) - tokenizer แปลงครั้งเดียวแล้วเทียบด้วยตัวเลข
+     */
+    patternId(symbol, type) {
+        const id = this.patterns.findIndex(pattern => pattern.symbol === symbol && pattern.type === type);
+        if (id < 0) {
+            throw new Error(`AMBIGUOUS_SYMBOLS has no '${type}' pattern for '${symbol}' in ${this.language}`);
+        }
+        return id;
+    }
+
+    /**
+     * ตัดสิน symbol ที่ position ของ input (สำหรับผู้เรียกที่ไม่ได้เก็บ id ไว้เอง)
+     * @returns {{type: string, context: string}|null} null ถ้าไม่ใช่ symbol กำกวม
+     */
+    resolve(input, position, previousToken) {
+        const symbolId = this.symbolIdForCode(input.charCodeAt(position));
+        if (symbolId === NO_SYMBOL) return null;
+        const pattern = this.patterns[this.decide(
+            symbolId,
+            this.previousClass(previousToken),
+            this.nextCharClass(input.charCodeAt(position + 1))
+        )];
+        return { type: pattern.type, context: pattern.context };
+    }
+}
+
+/**
+ * คอมไพล์ AMBIGUOUS_SYMBOLS สำหรับภาษาหนึ่ง
+ * @param {string} language - pattern ที่ระบุ language อื่นถูกตัดออก (เหมือน scorePattern)
+ * @param {Object} [registry] - ค่าเริ่มต้น AMBIGUOUS_SYMBOLS
+ * @param {Object} [config] - ค่าเริ่มต้น parser-config.json disambiguationEngine
+ * @returns {DisambiguationTable}
+ */
+function compileDisambiguationTable(language, registry = AMBIGUOUS_SYMBOLS, config = TABLE_CONFIG) {
+    const { tokenLabels } = config;
+
+    // ! 1. Previous-token labels: ทุก label ที่ config สร้างได้ + ทุก label ใน precededBy
+    const labels = [];
+    const labelIds = new Map();
+    const labelId = label => {
+        if (!labelIds.has(label)) {
+            labelIds.set(label, labels.length);
+            labels.push(label);
+        }
+        return labelIds.get(label);
+    };
+
+    const startClass = labelId(tokenLabels.startOfInput);
+    const classByType = new Map();
+    for (const [type, label] of Object.entries(tokenLabels.byType)) {
+        classByType.set(type, labelId(label));
+    }
+    const classByValue = new Map();
+    for (const [value, label] of Object.entries(tokenLabels.byValue)) {
+        classByValue.set(value, labelId(label));
+    }
+    const producedLabels = new Set(labels);
+    for (const data of Object.values(registry)) {
+        for (const pattern of data.patterns) {
+            for (const label of pattern.precededBy || []) {
+                // ! label ที่ config ไม่ได้สร้าง = ข้อความ token (keyword เช่น function, import)
+                if (!producedLabels.has(label) && !classByValue.has(label)) {
+                    classByValue.set(label, labelId(label));
+                }
+            }
+        }
+    }
+
+    // ! 2. Next-char classes: 1 class ต่อ 1 entry ของ nextCharClasses + ASCII อื่น + non-ASCII + ท้าย input
+    const nextLabelSets = config.nextCharClasses.map(entry => new Set(entry.labels));
+    const otherAsciiClass = nextLabelSets.length;
+    nextLabelSets.push(new Set(config.otherAsciiLabels));
+    const nonAsciiClass = nextLabelSets.length;
+    nextLabelSets.push(new Set(config.nonAsciiLabels));
+    const endClass = nextLabelSets.length;
+    nextLabelSets.push(new Set(config.endOfInputLabels));
+
+    const charClasses = new Uint8Array(ASCII_LIMIT).fill(otherAsciiClass);
+    config.nextCharClasses.forEach((entry, classId) => {
+        for (const char of entry.chars) {
+            const code = char.charCodeAt(0);
+            if (code >= ASCII_LIMIT) {
+                throw new Error(`nextCharClasses only covers ASCII, got '${char}'`);
+            }
+            if (charClasses[code] !== otherAsciiClass) {
+                throw new Error(`'${char}' appears in more than one nextCharClasses entry`);
+            }
+            charClasses[code] = classId;
+        }
+    });
+
+    // ! 3. Patterns (รวมทุก symbol) + ตาราง
+    const symbols = Object.keys(registry);
+    const patterns = [];
+    const patternsBySymbol = symbols.map(symbol => registry[symbol].patterns
+        .filter(pattern => appliesToLanguage(pattern, language))
+        .map(pattern => {
+            const entry = {
+                symbol,
+                type: pattern.type,
+                context: pattern.context,
+                baseScore: Math.round((pattern.confidence || 0.5) * SCORE_SCALE),
+                precededBy: new Set((pattern.precededBy || []).map(label => labelIds.get(label))),
+                followedBy: pattern.followedBy || []
+            };
+            patterns.push(entry);
+            return { id: patterns.length - 1, entry };
+        }));
+
+    const precededBonus = Math.round(SCORE_BONUS.precededBy * SCORE_SCALE);
+    const followedBonus = Math.round(SCORE_BONUS.followedBy * SCORE_SCALE);
+    const nextClassCount = nextLabelSets.length;
+    if (patterns.length > 255) {
+        throw new Error(`DisambiguationTable stores pattern ids in a Uint8Array - ${patterns.length} patterns is too many`);
+    }
+    const cells = new Uint8Array(symbols.length * labels.length * nextClassCount);
+
+    symbols.forEach((symbol, symbolId) => {
+        const candidates = patternsBySymbol[symbolId];
+        if (candidates.length === 0) {
+            throw new Error(`AMBIGUOUS_SYMBOLS['${symbol}'] has no pattern for ${language}`);
+        }
+        for (let previous = 0; previous < labels.length; previous++) {
+            for (let next = 0; next < nextClassCount; next++) {
+                const nextLabels = nextLabelSets[next];
+                let best = -1;
+                let bestScore = -1;
+                // ! ผลเสมอ  pattern ที่มาก่อนใน registry (เหมือน stable sort ของ disambiguate)
+                for (const { id, entry } of candidates) {
+                    let score = entry.baseScore;
+                    if (entry.precededBy.has(previous)) score += precededBonus;
+                    if (entry.followedBy.some(label => nextLabels.has(label))) score += followedBonus;
+                    if (score > bestScore) {
+                        best = id;
+                        bestScore = score;
+                    }
+                }
+                cells[(symbolId * labels.length + previous) * nextClassCount + next] = best;
+            }
+        }
+    });
+
+    return new DisambiguationTable({
+        language, symbols, patterns, labels, classByValue, classByType, startClass,
+        identifierClass: classByType.get('IDENTIFIER'),
+        literalClass: labelIds.get('LITERAL'),
+        charClasses, nonAsciiClass, endClass, nextClassCount, cells
+    });
+}
+
+export { DisambiguationTable, compileDisambiguationTable };
+export default compileDisambiguationTable;
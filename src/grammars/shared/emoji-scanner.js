@@ -0,0 +1,167 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  EMOJI SCANNER - ตรวจ emoji ด้วย codepoint table แทน Unicode RegExp
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ปัญหาเดิม:
+// !   - checkEmojiInAST สร้าง new RegExp(emojiRegex, 'gu') ทุก Literal/TemplateElement
+// !   - detectEmojiViolations รัน Unicode regex ทีละ token และหยุดที่ maxTokensToCheck
+// !     (emoji หลัง token ที่ 1000 ไม่ถูกตรวจเลย)
+// !
+// !  การทำงาน:
+// !   1. compile ช่วง codepoint จาก config ครั้งเดียว
+// !      - BMP (<= U+FFFF): bitset Uint32Array(2048) - ตรวจได้ด้วย shift + mask
+// !      - Astral (> U+FFFF): ช่วงที่ merge แล้วใน Uint32Array - binary search
+// !   2. สแกนด้วย charCodeAt loop เดียว (surrogate-aware)
+// !      ตัวอักษรที่ต่ำกว่า codepoint ต่ำสุดใน table (รวม ASCII ทั้งหมด) ข้ามทันที
+// !      ไฟล์ที่ไม่มี emoji = หนึ่ง loop เปรียบเทียบตัวเลข ไม่มี allocation
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+const BMP_LIMIT = 0x10000;
+const HIGH_SURROGATE_START = 0xD800;
+const HIGH_SURROGATE_END = 0xDBFF;
+const LOW_SURROGATE_START = 0xDC00;
+const LOW_SURROGATE_END = 0xDFFF;
+const RANGE_PATTERN = /^([0-9A-Fa-f]{1,6})(?:-([0-9A-Fa-f]{1,6}))?$/;
+
+class EmojiScanner {
+    /**
+     * @param {Array<[number, number]>} ranges - ช่วง codepoint แบบ inclusive
+     */
+    constructor(ranges) {
+        if (!Array.isArray(ranges) || ranges.length === 0) {
+            throw new Error('EmojiScanner requires at least one codepoint range');
+        }
+
+        const bmpBits = new Uint32Array(BMP_LIMIT >>> 5);
+        const astral = [];
+        let minCodePoint = Infinity;
+
+        for (const [from, to] of ranges) {
+            if (!Number.isInteger(from) || !Number.isInteger(to) || from > to || to > 0x10FFFF) {
+                throw new Error(`EmojiScanner invalid codepoint range: ${from}-${to}`);
+            }
+            minCodePoint = Math.min(minCodePoint, from);
+            for (let cp = from; cp <= Math.min(to, BMP_LIMIT - 1); cp++) {
+                bmpBits[cp >>> 5] |= 1 << (cp & 31);
+            }
+            if (to >= BMP_LIMIT) {
+                astral.push([Math.max(from, BMP_LIMIT), to]);
+            }
+        }
+
+        // ! merge ช่วง astral ที่ซ้อน/ติดกัน  binary search บน array ที่สั้นที่สุด
+        astral.sort((a, b) => a[0] - b[0]);
+        const merged = [];
+        for (const range of astral) {
+            const last = merged[merged.length - 1];
+            if (last && range[0] <= last[1] + 1) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.push([range[0], range[1]]);
+            }
+        }
+        const astralRanges = new Uint32Array(merged.length * 2);
+        merged.forEach(([from, to], i) => {
+            astralRanges[i * 2] = from;
+            astralRanges[i * 2 + 1] = to;
+        });
+
+        this.bmpBits = bmpBits;
+        this.astralRanges = astralRanges;
+        this.minCodePoint = minCodePoint;
+        // ! code unit ต่ำสุดที่ต้องดูต่อ: ถ้ามีช่วง astral ต้องดู surrogate ด้วย
+        this.minCodeUnit = merged.length > 0 ? Math.min(minCodePoint, HIGH_SURROGATE_START) : minCodePoint;
+    }
+
+    /**
+     * สร้างจาก config: ["1F600-1F64F", "FE0F", ...] (hex, inclusive)
+     */
+    static fromConfig(rangeStrings) {
+        if (!Array.isArray(rangeStrings)) {
+            throw new Error('EmojiScanner config must be an array of hex codepoint ranges');
+        }
+        const ranges = rangeStrings.map((entry) => {
+            const match = RANGE_PATTERN.exec(String(entry));
+            if (!match) {
+                throw new Error(`EmojiScanner invalid range entry: "${entry}" (expected "XXXX" or "XXXX-YYYY" in hex)`);
+            }
+            const from = parseInt(match[1], 16);
+            return [from, match[2] !== undefined ? parseInt(match[2], 16) : from];
+        });
+        return new EmojiScanner(ranges);
+    }
+
+    isEmojiCodePoint(codePoint) {
+        if (codePoint < BMP_LIMIT) {
+            return (this.bmpBits[codePoint >>> 5] & (1 << (codePoint & 31))) !== 0;
+        }
+        const ranges = this.astralRanges;
+        let low = 0;
+        let high = (ranges.length >>> 1) - 1;
+        while (low <= high) {
+            const mid = (low + high) >>> 1;
+            if (codePoint < ranges[mid * 2]) {
+                high = mid - 1;
+            } else if (codePoint > ranges[mid * 2 + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * สแกน text ทั้งก้อน เรียก onMatch(emoji, index) ทุกครั้งที่เจอ
+     * onMatch คืน false เพื่อหยุดสแกน
+     * @returns {number} จำนวน emoji ที่เจอ
+     */
+    scan(text, onMatch) {
+        const length = text.length;
+        const minCodeUnit = this.minCodeUnit;
+        let found = 0;
+
+        for (let i = 0; i < length; i++) {
+            const unit = text.charCodeAt(i);
+            if (unit < minCodeUnit) continue;
+
+            let codePoint = unit;
+            let width = 1;
+            if (unit >= HIGH_SURROGATE_START && unit <= HIGH_SURROGATE_END && i + 1 < length) {
+                const next = text.charCodeAt(i + 1);
+                if (next >= LOW_SURROGATE_START && next <= LOW_SURROGATE_END) {
+                    codePoint = ((unit - HIGH_SURROGATE_START) << 10) + (next - LOW_SURROGATE_START) + BMP_LIMIT;
+                    width = 2;
+                }
+            }
+
+            if (codePoint >= this.minCodePoint && this.isEmojiCodePoint(codePoint)) {
+                found++;
+                if (onMatch(text.slice(i, i + width), i) === false) {
+                    return found;
+                }
+            }
+            i += width - 1;
+        }
+        return found;
+    }
+
+    /**
+     * @returns {Array<{emoji: string, index: number}>}
+     */
+    findAll(text) {
+        const matches = [];
+        this.scan(text, (emoji, index) => {
+            matches.push({ emoji, index });
+        });
+        return matches;
+    }
+}
+
+export { EmojiScanner };
+export default EmojiScanner;
@@ -12,6 +12,7 @@
 
 import errorHandler from '../../error-handler/ErrorHandler.js';
 import { GrammarIndex } from './grammar-index.js';
+import { loadRuleDocumentation } from '../../rules/validator.js';
 
 // !  ============================================================================
 // !  ERROR TYPES
@@ -130,6 +131,20 @@ class ErrorAssistant {
             }
         }
 
+        // !  Nearest grammar words (keywords, operators, added identifiers) by edit distance
+        if ((errorType === ERROR_TYPES.TYPO || errorType === ERROR_TYPES.UNEXPECTED_TOKEN) &&
+            typeof context.token === 'string' && typeof this.grammarIndex.suggestSimilar === 'function') {
+            for (const candidate of this.grammarIndex.suggestSimilar(context.token)) {
+                if (suggestions.some(suggestion => suggestion.fix === candidate.word)) continue;
+                suggestions.push({
+                    type: 'typo-fix',
+                    message: `Did you mean '${candidate.word}'?`,
+                    fix: candidate.word,
+                    confidence: candidate.similarity
+                });
+            }
+        }
+
         // !  Check for alternatives
         if (grammarInfo && grammarInfo.alternatives) {
             grammarInfo.alternatives.forEach(alt => {
@@ -434,6 +449,53 @@ class ErrorAssistant {
         return output;
     }
 
+    /**
+     * ! Format rule violation (NO_*) for display
+     * ! explanation / fix / correctExamples โหลดจาก docs/NO_*.docs.js ตอนเรียกเท่านั้น
+     */
+    async formatRuleViolation(violation, options = {}) {
+        const { language = 'en', verbose = false } = options;
+        const rule = await loadRuleDocumentation(violation.ruleId);
+
+        let output = '';
+
+        // !  Violation header
+        output += `\n${'='.repeat(80)}\n`;
+        output += ` [${rule.id}] ${rule.name[language]}\n`;
+        output += ` ${violation.message}\n`;
+        if (violation.location) {
+            output += `   at Line ${violation.location.line}, Column ${violation.location.column}\n`;
+        }
+        output += `${'='.repeat(80)}\n\n`;
+
+        // !  Fix
+        output += ` How to Fix:\n`;
+        output += `   ${rule.fix[language].trim()}\n\n`;
+
+        // !  Correct example
+        const correct = rule.correctExamples[language];
+        if (correct && correct.length > 0) {
+            output += ` Correct Usage:\n`;
+            // ! ตัวอย่างเป็น template string ที่ย่อหน้าตามไฟล์กฎ - ตัด indent ร่วมออกก่อนแสดง
+            const lines = correct[0].trim().split('\n');
+            const indent = Math.min(...lines.slice(1).filter(line => line.trim()).map(line => line.search(/\S/)));
+            lines.forEach((line, idx) => {
+                output += `   ${idx === 0 || !Number.isFinite(indent) ? line.trim() : line.slice(indent).trimEnd()}\n`;
+            });
+            output += '\n';
+        }
+
+        // !  Explanation (ยาว - แสดงเฉพาะ verbose)
+        if (verbose) {
+            output += ` Why:\n`;
+            output += `${rule.explanation[language].trim()}\n\n`;
+        }
+
+        output += `${'='.repeat(80)}\n`;
+
+        return output;
+    }
+
     /**
      * ! Export error to JSON
      */
@@ -16,6 +16,7 @@ import { readFileSync } from 'fs';
 import { fileURLToPath } from 'url';
 import { dirname, join } from 'path';
 import errorHandler from '../../error-handler/ErrorHandler.js';
+import { SuggestionIndex } from './fuzzy-search.js';
 
 const __filename = fileURLToPath(import.meta.url);
 const __dirname = dirname(__filename);
@@ -37,7 +38,44 @@ export class GrammarIndex {
             console.log('  - punctuation:', !!grammarData.punctuation, Object.keys(grammarData.punctuation || {}).length);
             console.log('  - literals:', !!grammarData.literals);
             console.log('  - comments:', !!grammarData.comments);
+
+            // ! ดัชนีคำสำหรับ "Did you mean ...?" - สร้างครั้งเดียวตอนรับ grammar
+            // ! ชื่อจากโค้ดของผู้ใช้ (identifier ที่ประกาศแล้ว) เพิ่มภายหลังด้วย addSuggestionCandidates()
+            this.suggestionIndex = SuggestionIndex.fromWords([
+                ...Object.keys(grammarData.keywords || {}),
+                ...Object.keys(grammarData.operators || {})
+            ]);
+        }
+    }
+
+    /**
+     * เพิ่มคำที่ใช้เป็นคำแนะนำเมื่อพิมพ์ผิด (เช่น identifier ที่ประกาศในไฟล์)
+     * @param {Iterable<string>} words
+     * @returns {number} จำนวนคำใหม่ที่เพิ่มเข้าไป
+     */
+    addSuggestionCandidates(words) {
+        if (!this.suggestionIndex) {
+            throw new Error('GrammarIndex has no suggestion index - construct it with grammar data first');
+        }
+        let added = 0;
+        for (const word of words) {
+            if (this.suggestionIndex.add(word)) added++;
+        }
+        return added;
+    }
+
+    /**
+     * หาคำใน grammar (และคำที่เพิ่มไว้) ที่ใกล้เคียงกับ token ที่พิมพ์ผิด
+     * @param {string} token
+     * @param {number} [maxSuggestions] - ค่าเริ่มต้นจาก parser-config.json fuzzySearch
+     * @param {number} [maxDistance] - ค่าเริ่มต้นจาก parser-config.json fuzzySearch
+     * @returns {Array<{word: string, distance: number, similarity: number}>}
+     */
+    suggestSimilar(token, maxSuggestions, maxDistance) {
+        if (!this.suggestionIndex) {
+            return [];
         }
+        return this.suggestionIndex.suggest(token, maxSuggestions, maxDistance);
     }
     
     /**
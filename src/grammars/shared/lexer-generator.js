@@ -0,0 +1,568 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  LEXER GENERATOR - grammar JSON  lexer module เฉพาะภาษา (build time)
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  PureBinaryTokenizer ตีความ grammar ทุกตัวอักษร:
+// !    - computeBinaryFlags ต่อตัวอักษร แล้วไล่ if ตาม flags
+// !    - keyword = hasOwnProperty บน object ที่ flatten แล้ว
+// !    - operator/punctuation = วนทุก key ใน section แล้ว substr เทียบ (longest match)
+// !    - comment = substr เทียบ start แล้ว matchPattern ทีละตำแหน่งหา end
+// !
+// !  Generator อ่าน grammar ผ่าน loadGrammarSections() ตัวเดียวกับ tokenizer
+// !  (ได้ section ที่ flatten แล้วแบบเดียวกันทุกประการ) แล้วเขียน module ที่:
+// !    - dispatch ตัวอักษรแรกด้วย switch บน char code (ไม่คำนวณ flags)
+// !    - keyword: switch ความยาว  switch ตัวอักษรแรก  เทียบ string ไม่กี่ตัว
+// !    - operator/punctuation: trie เป็น switch ซ้อน (longest operator ก่อน แล้วค่อย punctuation)
+// !    - comment: start เทียบ char code, end หาด้วย indexOf
+// !    - whitespace: ข้ามทั้งช่วงด้วย skipWhitespace() (bulk-scan.js) เหมือน tokenizer เดิม
+// !
+// !  ส่วนที่ไม่ขึ้นกับ grammar (string, number, regex, JSX, BOM/shebang, line index)
+// !  สืบทอดจาก PureBinaryTokenizer - lexer ที่ generate เป็น subclass จึงให้ token เหมือนเดิม
+// !
+// !  Output: <generatedLexer.directory>/<language>.lexer.js (default .sentinel-cache/lexers)
+// !  Fingerprint: ขนาด + mtime ของ grammar, tokenizer-helper.js, tokenizer-binary-config.json
+// !  และไฟล์นี้  แก้ไฟล์ใดไฟล์หนึ่ง = lexer stale  ใช้ PureBinaryTokenizer แทนพร้อมแจ้งเหตุผล
+// !
+// !  Build: npm run build:lexers  |  Benchmark: npm run benchmark:lexers
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import fs from 'fs';
+import path from 'path';
+import { createHash } from 'crypto';
+import { fileURLToPath, pathToFileURL } from 'url';
+import errorHandler from '../../error-handler/ErrorHandler.js';
+import {
+    PureBinaryTokenizer,
+    UniversalCharacterClassifier,
+    JSX_MODE,
+    CONFIG,
+    UNICODE,
+    TOKEN_TYPES
+} from './tokenizer-helper.js';
+
+const __filename = fileURLToPath(import.meta.url);
+const __dirname = path.dirname(__filename);
+const PACKAGE_ROOT = path.join(__dirname, '..', '..', '..');
+const GRAMMARS_DIR = path.join(__dirname, 'grammars');
+const CONFIG_PATH = path.join(__dirname, 'parser-config.json');
+const FORMAT_VERSION = 1;
+
+let LEXER_CONFIG;
+try {
+    LEXER_CONFIG = JSON.parse(fs.readFileSync(CONFIG_PATH, 'utf8')).generatedLexer;
+    if (!LEXER_CONFIG || !LEXER_CONFIG.directory || !LEXER_CONFIG.messages) {
+        throw new Error('generatedLexer.directory and generatedLexer.messages are required');
+    }
+} catch (error) {
+    errorHandler.handleError(error, {
+        source: 'LexerGenerator',
+        method: 'initialization',
+        severity: 'CRITICAL',
+        context: `Failed to load generated lexer config from ${CONFIG_PATH}`
+    });
+    throw new Error(`CRITICAL: Failed to load generated lexer config from ${CONFIG_PATH}: ${error.message}`);
+}
+
+const TOKEN_TYPE_STRINGS = CONFIG.tokenTypeStrings.types;
+const PARSING_RULES = CONFIG.parsingRules.rules;
+const SECURITY_LIMITS = CONFIG.securityConfig.limits;
+const PUNCTUATION_BINARY_MAP = CONFIG.punctuationBinaryMap?.map || {};
+const ASCII_LIMIT = UNICODE.ASCII_BOUNDARY.code;
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// ! FINGERPRINT
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+/**
+ * ไฟล์ที่ lexer ของภาษานี้ generate มาจาก
+ */
+function lexerSources(language) {
+    return [
+        path.join(GRAMMARS_DIR, `${language}.grammar.json`),
+        path.join(__dirname, 'tokenizer-helper.js'),
+        path.join(__dirname, 'tokenizer-binary-config.json'),
+        __filename
+    ];
+}
+
+function fingerprintLexerSources(language) {
+    const hash = createHash('sha1').update(String(FORMAT_VERSION));
+    for (const file of lexerSources(language)) {
+        const stat = fs.statSync(file);
+        hash.update(`${path.relative(PACKAGE_ROOT, file)}\0${stat.size}\0${stat.mtimeMs}\n`);
+    }
+    return hash.digest('hex');
+}
+
+function listGrammarLanguages() {
+    return fs.readdirSync(GRAMMARS_DIR)
+        .filter(name => name.endsWith('.grammar.json'))
+        .sort()
+        .map(name => name.slice(0, -'.grammar.json'.length));
+}
+
+function lexerPath(language, directory = LEXER_CONFIG.directory) {
+    return path.resolve(PACKAGE_ROOT, directory, `${language}.lexer.js`);
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// ! CODE EMITTERS
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+/**
+ * section ที่ flatten แล้ว - ผ่าน loadGrammarSections() ของ tokenizer (Brain mode)
+ */
+function readLexerSections(language) {
+    const grammar = JSON.parse(fs.readFileSync(path.join(GRAMMARS_DIR, `${language}.grammar.json`), 'utf8'));
+    const tokenizer = new PureBinaryTokenizer({ grammar });
+    tokenizer.loadGrammarSections();
+    return { ...tokenizer.sectionCache };
+}
+
+function charLabel(code) {
+    return code > 32 && code < 127 ? ` // ${JSON.stringify(String.fromCharCode(code))}` : '';
+}
+
+function indent(depth) {
+    return '    '.repeat(depth);
+}
+
+/**
+ * keyword: switch(length)  switch(ตัวอักษรแรก)  value === ... || ...
+ */
+function emitKeywordMatcher(keywords) {
+    const byLength = new Map();
+    for (const keyword of keywords) {
+        if (keyword.length === 0) continue;
+        if (!byLength.has(keyword.length)) byLength.set(keyword.length, new Map());
+        const byFirst = byLength.get(keyword.length);
+        const first = keyword.charCodeAt(0);
+        if (!byFirst.has(first)) byFirst.set(first, []);
+        byFirst.get(first).push(keyword);
+    }
+
+    const lines = ['function isKeyword(value) {', `${indent(1)}switch (value.length) {`];
+    for (const length of [...byLength.keys()].sort((a, b) => a - b)) {
+        lines.push(`${indent(2)}case ${length}:`, `${indent(3)}switch (value.charCodeAt(0)) {`);
+        const byFirst = byLength.get(length);
+        for (const first of [...byFirst.keys()].sort((a, b) => a - b)) {
+            const comparisons = byFirst.get(first).sort().map(keyword => `value === ${JSON.stringify(keyword)}`);
+            lines.push(`${indent(4)}case ${first}: return ${comparisons.join(' || ')};${charLabel(first)}`);
+        }
+        lines.push(`${indent(3)}}`, `${indent(3)}return false;`);
+    }
+    lines.push(`${indent(1)}}`, `${indent(1)}return false;`, '}');
+    return lines.join('\n');
+}
+
+/**
+ * longest match เป็น switch ซ้อน: คืนความยาวของ item ที่ยาวที่สุดที่ตรง (0 = ไม่ตรง)
+ */
+function emitTrieMatcher(name, items) {
+    const root = { children: new Map(), terminal: false };
+    for (const item of items) {
+        if (item.length === 0) continue;
+        let node = root;
+        for (let i = 0; i < item.length; i++) {
+            const code = item.charCodeAt(i);
+            if (!node.children.has(code)) node.children.set(code, { children: new Map(), terminal: false });
+            node = node.children.get(code);
+        }
+        node.terminal = true;
+    }
+
+    const lines = [`function ${name}(input, position) {`];
+    const emitNode = (node, depth, best, level) => {
+        const offset = depth === 0 ? 'position' : `position + ${depth}`;
+        lines.push(`${indent(level)}switch (input.charCodeAt(${offset})) {`);
+        for (const code of [...node.children.keys()].sort((a, b) => a - b)) {
+            const child = node.children.get(code);
+            const accepted = child.terminal ? depth + 1 : best;
+            if (child.children.size === 0) {
+                lines.push(`${indent(level + 1)}case ${code}: return ${accepted};${charLabel(code)}`);
+            } else {
+                lines.push(`${indent(level + 1)}case ${code}:${charLabel(code)}`);
+                emitNode(child, depth + 1, accepted, level + 2);
+            }
+        }
+        lines.push(`${indent(level)}}`, `${indent(level)}return ${best};`);
+    };
+    emitNode(root, 0, 0, 1);
+    lines.push('}');
+    return lines.join('\n');
+}
+
+/**
+ * comment ที่เริ่มด้วยตัวอักษรนี้ (เรียงตาม checkComment: singleLine ก่อน multiLine)
+ */
+function emitCommentChecks(comments, code) {
+    const lines = [];
+    for (const kind of ['singleLine', 'multiLine']) {
+        const comment = comments[kind];
+        if (!comment || typeof comment.start !== 'string' || comment.start.charCodeAt(0) !== code) continue;
+
+        const conditions = [];
+        for (let i = 1; i < comment.start.length; i++) {
+            conditions.push(`input.charCodeAt(position + ${i}) === ${comment.start.charCodeAt(i)}`);
+        }
+        // ! end ที่ไม่ใช่ string / start ที่ยาวเกิน limit  ให้ computeCommentToken ตัดสิน (throw แบบเดิม)
+        const scan = typeof comment.end === 'string' && comment.start.length <= SECURITY_LIMITS.MAX_PATTERN_LENGTH
+            ? `this.scanComment(${comment.start.length}, ${JSON.stringify(comment.end)})`
+            : `this.computeCommentToken(${JSON.stringify(comment.start)}, ${JSON.stringify(comment.end) ?? 'undefined'}, COMMENT_TYPE, ${TOKEN_TYPES.COMMENT.bit})`;
+        lines.push(conditions.length > 0 ? `if (${conditions.join(' && ')}) return ${scan};` : `return ${scan};`);
+    }
+    return lines;
+}
+
+/**
+ * ลำดับเดียวกับ PureBinaryTokenizer.computeToken ต่อตัวอักษร ASCII หนึ่งตัว
+ * @returns {string[]|null} null = ไม่มี case (ไปที่ computeToken เดิม)
+ */
+function emitCharBody(code, comments, classifier) {
+    const flags = classifier.computeBinaryFlags(code);
+    const lines = emitCommentChecks(comments, code);
+    if (lines.length > 0 && !lines[lines.length - 1].startsWith('if')) return lines;
+
+    if (code === UNICODE.SLASH.code || code === UNICODE.LESS_THAN.code || code === UNICODE.GREATER_THAN.code) {
+        lines.push(`ambiguous = this.computeAmbiguousSymbol(${code});`, 'if (ambiguous) return ambiguous;');
+    }
+
+    if (code === UNICODE.DOUBLE_QUOTE.code || code === UNICODE.SINGLE_QUOTE.code || code === UNICODE.BACKTICK.code) {
+        lines.push(`return this.computeStringToken(${JSON.stringify(String.fromCharCode(code))});`);
+    } else if (classifier.isLetter(flags)) {
+        lines.push('return this.computeIdentifierOrKeyword();');
+    } else if (classifier.isDigit(flags)) {
+        lines.push('return this.computeNumber();');
+    } else if (classifier.isOperator(flags)) {
+        lines.push('return this.computeOperatorOrPunctuation();');
+    } else {
+        return null;
+    }
+    return lines;
+}
+
+/**
+ * switch(char code) ของ computeTokenAt - ตัวอักษรที่ body เหมือนกันรวมเป็น case เดียว
+ */
+function emitDispatch(comments, classifier) {
+    const groups = new Map();
+    for (let code = 0; code < ASCII_LIMIT; code++) {
+        const body = emitCharBody(code, comments, classifier);
+        if (!body) continue;
+        const key = body.join('\n');
+        if (!groups.has(key)) groups.set(key, { codes: [], body });
+        groups.get(key).codes.push(code);
+    }
+
+    const lines = [];
+    for (const { codes, body } of groups.values()) {
+        for (const code of codes) lines.push(`${indent(4)}case ${code}:${charLabel(code)}`);
+        lines.push(`${indent(5)}{`);
+        for (const line of body) lines.push(`${indent(6)}${line}`);
+        lines.push(`${indent(5)}}`);
+    }
+    return lines.join('\n');
+}
+
+/**
+ * ข้าม whitespace (PARSING_RULES.SKIP_WHITESPACE) - ไม่มี whitespace ให้ข้าม = ไม่มีโค้ด
+ */
+function emitWhitespaceSkip(codes) {
+    if (codes.length === 0) return '';
+    return [
+        `${indent(4)}switch (code) {`,
+        ...codes.map(code => `${indent(5)}case ${code}:`),
+        `${indent(6)}this.position = this.skipWhitespace(this.position + 1);`,
+        `${indent(6)}continue;`,
+        `${indent(4)}}`,
+        ''
+    ].join('\n');
+}
+
+/**
+ * @param {string} language - ชื่อไฟล์ <language>.grammar.json
+ * @returns {string} source ของ module (ESM, ไม่มี import - รับ PureBinaryTokenizer ผ่าน createLexer)
+ */
+function generateLexerSource(language) {
+    const sections = readLexerSections(language);
+    const classifier = new UniversalCharacterClassifier();
+
+    const identifierPart = [];
+    const whitespace = [];
+    for (let code = 0; code < ASCII_LIMIT; code++) {
+        const flags = classifier.computeBinaryFlags(code);
+        identifierPart.push(classifier.isLetter(flags) || classifier.isDigit(flags) ||
+            code === UNICODE.UNDERSCORE.code || code === UNICODE.DOLLAR.code ? 1 : 0);
+        if (PARSING_RULES.SKIP_WHITESPACE && classifier.isWhitespace(flags)) whitespace.push(code);
+    }
+
+    const punctuationBinary = {};
+    for (const item of Object.keys(sections.punctuation)) {
+        punctuationBinary[item] = PUNCTUATION_BINARY_MAP[item] || 0;
+    }
+
+    const className = `Generated${language.charAt(0).toUpperCase()}${language.slice(1)}Lexer`;
+    const maxTokenLength = SECURITY_LIMITS.MAX_TOKEN_LENGTH;
+
+    return `// Generated by src/grammars/shared/lexer-generator.js from ${language}.grammar.json - do not edit.
+// Rebuild with: npm run build:lexers
+
+export const formatVersion = ${FORMAT_VERSION};
+export const language = ${JSON.stringify(language)};
+export const fingerprint = ${JSON.stringify(fingerprintLexerSources(language))};
+
+const KEYWORD_TYPE = ${JSON.stringify(TOKEN_TYPE_STRINGS.KEYWORD)};
+const KEYWORD_BINARY = ${1 << TOKEN_TYPES.KEYWORD.bit};
+const IDENTIFIER_TYPE = ${JSON.stringify(TOKEN_TYPE_STRINGS.IDENTIFIER)};
+const IDENTIFIER_BINARY = ${1 << TOKEN_TYPES.IDENTIFIER.bit};
+const OPERATOR_TYPE = ${JSON.stringify(TOKEN_TYPE_STRINGS.OPERATOR)};
+const OPERATOR_BINARY = ${1 << TOKEN_TYPES.OPERATOR.bit};
+const PUNCTUATION_TYPE = ${JSON.stringify(TOKEN_TYPE_STRINGS.PUNCTUATION)};
+const PUNCTUATION_BINARY = ${1 << TOKEN_TYPES.PUNCTUATION.bit};
+const COMMENT_TYPE = ${JSON.stringify(TOKEN_TYPE_STRINGS.COMMENT)};
+const COMMENT_BINARY = ${1 << TOKEN_TYPES.COMMENT.bit};
+const UNKNOWN_OPERATOR = ${JSON.stringify(CONFIG.errorMessages.templates.UNKNOWN_OPERATOR)};
+
+const COMMENTS = ${JSON.stringify(sections.comments)};
+const PUNCTUATION_BINARY_MAP = ${JSON.stringify(punctuationBinary)};
+const IDENTIFIER_PART = new Uint8Array(${JSON.stringify(identifierPart)});
+
+${emitKeywordMatcher(Object.keys(sections.keywords))}
+
+${emitTrieMatcher('matchOperator', Object.keys(sections.operators))}
+
+${emitTrieMatcher('matchPunctuation', Object.keys(sections.punctuation))}
+
+export function createLexer(PureBinaryTokenizer, JSX_MODE) {
+    return class ${className} extends PureBinaryTokenizer {
+        // ! section ถูก compile ลงในโค้ดแล้ว - เหลือแค่ comments ให้ computeToken เดิม (ตัวอักษรนอก ASCII)
+        loadGrammarSections() {
+            this.sectionCache.comments = COMMENTS;
+        }
+
+        scanTokens(tokens) {
+            const input = this.input;
+            const jsxStack = this.jsxStack;
+
+            while (this.position < this.inputLength) {
+                if (jsxStack.length > 0 && jsxStack[jsxStack.length - 1].mode === JSX_MODE.CHILDREN) {
+                    const childToken = this.computeJsxChild();
+                    if (childToken) {
+                        tokens.push(childToken);
+                        this.previousToken = childToken;
+                    }
+                    continue;
+                }
+
+                const code = input.charCodeAt(this.position);
+${emitWhitespaceSkip(whitespace)}
+                const token = this.computeTokenAt(code);
+                if (token) {
+                    tokens.push(token);
+                    if (token.type !== COMMENT_TYPE) {
+                        this.previousToken = token;
+                        if (jsxStack.length > 0) this.trackJsx(token);
+                    }
+                }
+            }
+        }
+
+        computeTokenAt(code) {
+            const input = this.input;
+            const position = this.position;
+            let ambiguous;
+            switch (code) {
+${emitDispatch(sections.comments, classifier)}
+            }
+            return this.computeToken(this.classifier.computeBinaryFlags(code));
+        }
+
+        scanComment(startLength, endPattern) {
+            const start = this.position;
+            const found = this.input.indexOf(endPattern, start + startLength);
+            const end = found === -1 ? this.inputLength : found + endPattern.length;
+            this.position = end;
+            return {
+                type: COMMENT_TYPE,
+                binary: COMMENT_BINARY,
+                value: this.input.slice(start, end),
+                length: end - start,
+                start: start,
+                end: end
+            };
+        }
+
+        computeIdentifierOrKeyword() {
+            const input = this.input;
+            const start = this.position;
+            let end = start;
+            while (end < this.inputLength) {
+                if ((end - start) > ${maxTokenLength}) {
+                    throw new Error('Token exceeds maximum length of ${maxTokenLength}');
+                }
+                const code = input.charCodeAt(end);
+                if (code < ${ASCII_LIMIT} && IDENTIFIER_PART[code] === 1) {
+                    end++;
+                } else {
+                    break;
+                }
+            }
+
+            const value = input.slice(start, end);
+            this.position = end;
+            const keyword = isKeyword(value);
+            return {
+                type: keyword ? KEYWORD_TYPE : IDENTIFIER_TYPE,
+                binary: keyword ? KEYWORD_BINARY : IDENTIFIER_BINARY,
+                value: value,
+                length: end - start,
+                start: start,
+                end: end
+            };
+        }
+
+        computeOperatorOrPunctuation() {
+            const input = this.input;
+            const start = this.position;
+
+            let length = matchOperator(input, start);
+            if (length > 0) {
+                this.position += length;
+                return {
+                    type: OPERATOR_TYPE,
+                    binary: OPERATOR_BINARY,
+                    value: input.slice(start, this.position),
+                    length: length,
+                    start: start,
+                    end: this.position
+                };
+            }
+
+            length = matchPunctuation(input, start);
+            if (length > 0) {
+                this.position += length;
+                const value = input.slice(start, this.position);
+                return {
+                    type: PUNCTUATION_TYPE,
+                    binary: PUNCTUATION_BINARY,
+                    value: value,
+                    punctuationBinary: PUNCTUATION_BINARY_MAP[value],
+                    length: length,
+                    start: start,
+                    end: this.position
+                };
+            }
+
+            throw new Error(UNKNOWN_OPERATOR.replace('{position}', start).replace('{char}', input[start]));
+        }
+    };
+}
+`;
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// ! BUILD + LOAD
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+/**
+ * @param {string} language
+ * @param {Object} [options] - { directory } (relative to package root หรือ absolute)
+ * @returns {{file: string, bytes: number}}
+ */
+function writeGeneratedLexer(language, options = {}) {
+    const file = lexerPath(language, options.directory);
+    const source = generateLexerSource(language);
+    fs.mkdirSync(path.dirname(file), { recursive: true });
+    // ! เขียนไฟล์ชั่วคราวแล้ว rename - process ที่ import พร้อมกันไม่มีทางได้ module ครึ่งไฟล์
+    const temporary = `${file}.${process.pid}.tmp`;
+    fs.writeFileSync(temporary, source);
+    fs.renameSync(temporary, file);
+    return { file, bytes: Buffer.byteLength(source) };
+}
+
+function writeGeneratedLexers(options = {}) {
+    return listGrammarLanguages().map(language => ({ language, ...writeGeneratedLexer(language, options) }));
+}
+
+/**
+ * @returns {Promise<{LexerClass: Function|null, reason: string|null}>}
+ *   LexerClass = subclass ของ PureBinaryTokenizer เมื่อใช้ได้, reason = เหตุผลเมื่อใช้ไม่ได้
+ */
+async function loadGeneratedLexer(language, options = {}) {
+    const file = lexerPath(language, options.directory);
+    if (!fs.existsSync(file)) {
+        return { LexerClass: null, reason: 'missing' };
+    }
+    // ! query = fingerprint ปัจจุบัน  ไฟล์ที่ rebuild แล้วใน process เดิมไม่ได้ module เก่าจาก cache ของ import()
+    const currentFingerprint = fingerprintLexerSources(language);
+    const stat = fs.statSync(file);
+    const module = await import(`${pathToFileURL(file).href}?${currentFingerprint}-${stat.mtimeMs}`);
+    if (module.formatVersion !== FORMAT_VERSION) {
+        return { LexerClass: null, reason: `format ${module.formatVersion} != ${FORMAT_VERSION}` };
+    }
+    if (module.language !== language) {
+        return { LexerClass: null, reason: `built for ${module.language}` };
+    }
+    if (module.fingerprint !== currentFingerprint) {
+        return { LexerClass: null, reason: 'grammar or tokenizer changed since it was built' };
+    }
+    return { LexerClass: module.createLexer(PureBinaryTokenizer, JSX_MODE), reason: null };
+}
+
+/**
+ * tokenizer สำหรับภาษานี้: lexer ที่ generate ไว้ถ้ายังตรงกับต้นทาง ไม่เช่นนั้น PureBinaryTokenizer
+ * lexer ที่ stale แจ้งเหตุผลทาง stderr เสมอ (ไม่มี lexer = ยังไม่ได้ build ไม่ต้องแจ้ง)
+ */
+async function resolveTokenizerClass(language, options = {}) {
+    const { LexerClass, reason } = await loadGeneratedLexer(language, options);
+    if (LexerClass) {
+        return LexerClass;
+    }
+    if (reason !== 'missing') {
+        console.error(`${LEXER_CONFIG.messages.stale} ${language}: ${reason}`);
+    }
+    return PureBinaryTokenizer;
+}
+
+export {
+    generateLexerSource,
+    writeGeneratedLexer,
+    writeGeneratedLexers,
+    loadGeneratedLexer,
+    resolveTokenizerClass,
+    fingerprintLexerSources,
+    listGrammarLanguages
+};
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// ! CLI: node lexer-generator.js [--benchmark]
+// ! ══════════════════════════════════════════════════════════════════════════════
+async function main() {
+    if (process.argv.includes('--benchmark')) {
+        const { benchmarkGeneratedLexers } = await import('./performance-benchmarks.js');
+        await benchmarkGeneratedLexers();
+        return;
+    }
+    for (const { file, bytes } of writeGeneratedLexers()) {
+        console.log(`${LEXER_CONFIG.messages.written} ${file} (${Math.round(bytes / 1024)}KB)`);
+    }
+}
+
+// ! ไม่ใช้ top-level await: performance-benchmarks.js import ไฟล์นี้ - ต้องให้ module นี้ evaluate เสร็จก่อน
+if (import.meta.url === `file://${process.argv[1]}`) {
+    main().catch(error => {
+        errorHandler.handleError(error, {
+            source: 'LexerGenerator',
+            method: 'main',
+            severity: 'HIGH',
+            context: 'Lexer generation failed'
+        });
+        console.error(error.message);
+        process.exitCode = 1;
+    });
+}
@@ -0,0 +1,199 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  LEXICAL PREFILTER (TIER 0) - ตัดสินว่าไฟล์ต้อง parse เป็น AST หรือไม่
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ปัญหาเดิม: ทุกไฟล์ผ่าน tokenize  AdvancedStructureParser.parse  traverseAST
+// !  แม้ไฟล์นั้นไม่มีคำที่กฎใดๆ จะจับได้เลย (parse คือขั้นที่แพงที่สุด)
+// !
+// !  การทำงาน:
+// !   1. computeFeatures(tokens)  bitmap เล็กๆ ต่อไฟล์ (หนึ่ง pass บน token stream)
+// !      แต่ละ bit = "มีสิ่งที่ AST checker ของกฎหนึ่งสนใจ" เช่น token catch, ||, ชื่อที่มี cache
+// !   2. RULE_TRIGGERS: กฎแต่ละข้อ "ต้องการ AST" เมื่อ bitmap ตัดกับ trigger mask ของมัน
+// !   3. requiresParse(features, enabledRules) - ถ้าไม่มีกฎที่เปิดอยู่ข้อใดต้องการ  ข้าม parse
+// !
+// !  ความถูกต้อง: trigger ทุกตัวเป็น superset ของเงื่อนไขใน check*InAST
+// !  (ไม่มี false negative - อย่างแย่ที่สุดคือ parse ไฟล์ที่สุดท้ายไม่มี violation)
+// !  คำศัพท์ของ trigger มาจาก parser-config.json (lexicalPrefilter) ไม่ hardcode
+// !
+// !  structural query (structural-query.js): แต่ละ query มี anchor หนึ่งตัว (ข้อความ / regex ที่
+// !  node ต้องมี)  token ที่ตรง anchor = STRUCTURAL_ANCHOR (engine เปิด bit นี้เมื่อมี query)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { RULE_IDS } from './constants.js';
+
+const FEATURES = Object.freeze({
+    MOCK_IDENTIFIER: 1 << 0,
+    HARDCODE_STRING: 1 << 1,
+    SUSPICIOUS_NUMBER: 1 << 2,
+    CATCH_KEYWORD: 1 << 3,
+    LOGICAL_OR: 1 << 4,
+    ASYNC_KEYWORD: 1 << 5,
+    CACHE_IDENTIFIER: 1 << 6,
+    EMOJI: 1 << 7,
+    STRUCTURAL_ANCHOR: 1 << 8
+});
+
+const RULE_TRIGGERS = Object.freeze({
+    [RULE_IDS.NO_MOCKING]: FEATURES.MOCK_IDENTIFIER,
+    [RULE_IDS.NO_HARDCODE]: FEATURES.HARDCODE_STRING | FEATURES.SUSPICIOUS_NUMBER,
+    [RULE_IDS.NO_SILENT_FALLBACKS]: FEATURES.CATCH_KEYWORD | FEATURES.LOGICAL_OR | FEATURES.ASYNC_KEYWORD,
+    [RULE_IDS.NO_INTERNAL_CACHING]: FEATURES.CACHE_IDENTIFIER,
+    [RULE_IDS.NO_EMOJI]: FEATURES.EMOJI
+});
+
+const REQUIRED_VOCABULARY = ['mockNames', 'mockSubstrings', 'cacheSubstrings', 'catchKeywords', 'asyncKeywords', 'fallbackOperators'];
+
+class LexicalPrefilter {
+    /**
+     * @param {Object} options
+     * @param {Object} options.vocabulary - parser-config.json lexicalPrefilter.vocabulary
+     * @param {Function} options.isHardcodedLiteral - (literalValue: string) => boolean  (ตรรกะเดียวกับ checkHardcodeInAST)
+     * @param {Function} options.isSuspiciousNumber - (value: number) => boolean  (ตรรกะเดียวกับ checkNumericHardcodeInAST)
+     * @param {EmojiScanner} options.emojiScanner
+     * @param {{words: Set<string>, patterns: RegExp[]}} [options.structuralAnchors] - จาก StructuralMatcher
+     */
+    constructor(options = {}) {
+        const vocabulary = options.vocabulary;
+        if (!vocabulary) {
+            throw new Error('LexicalPrefilter requires a vocabulary (parser-config.json lexicalPrefilter.vocabulary)');
+        }
+        for (const key of REQUIRED_VOCABULARY) {
+            if (!Array.isArray(vocabulary[key])) {
+                throw new Error(`LexicalPrefilter vocabulary.${key} must be an array`);
+            }
+        }
+        for (const key of ['isHardcodedLiteral', 'isSuspiciousNumber']) {
+            if (typeof options[key] !== 'function') {
+                throw new Error(`LexicalPrefilter requires an ${key} function`);
+            }
+        }
+        if (!options.emojiScanner) {
+            throw new Error('LexicalPrefilter requires an emojiScanner');
+        }
+
+        this.mockNames = new Set(vocabulary.mockNames);
+        this.mockSubstrings = vocabulary.mockSubstrings.map(word => word.toLowerCase());
+        this.cacheSubstrings = vocabulary.cacheSubstrings.map(word => word.toLowerCase());
+        this.catchKeywords = new Set(vocabulary.catchKeywords);
+        this.asyncKeywords = new Set(vocabulary.asyncKeywords);
+        this.fallbackOperators = new Set(vocabulary.fallbackOperators);
+        this.isHardcodedLiteral = options.isHardcodedLiteral;
+        this.isSuspiciousNumber = options.isSuspiciousNumber;
+        this.emojiScanner = options.emojiScanner;
+        this.anchorWords = options.structuralAnchors ? options.structuralAnchors.words : null;
+        this.anchorPatterns = options.structuralAnchors ? options.structuralAnchors.patterns : [];
+    }
+
+    /**
+     * Trigger mask รวมของกฎที่เปิดอยู่
+     */
+    static triggerMaskFor(enabledRules) {
+        let mask = 0;
+        for (const ruleId of enabledRules) {
+            if (RULE_TRIGGERS[ruleId] === undefined) {
+                throw new Error(`LexicalPrefilter has no trigger set for rule: ${ruleId}`);
+            }
+            mask |= RULE_TRIGGERS[ruleId];
+        }
+        return mask;
+    }
+
+    static needsAST(ruleId, features) {
+        return (features & LexicalPrefilter.triggerMaskFor([ruleId])) !== 0;
+    }
+
+    static requiresParse(features, enabledRules) {
+        return (features & LexicalPrefilter.triggerMaskFor(enabledRules)) !== 0;
+    }
+
+    /**
+     * @param {Array} tokens - ผลลัพธ์จาก tokenizer
+     * @param {number} [stopMask] - หยุดเมื่อเจอ feature ใน mask นี้ครบทุก bit (ค่าเริ่มต้น: ทุก feature)
+     * @returns {number} feature bitmap
+     */
+    computeFeatures(tokens, stopMask = LexicalPrefilter.ALL_FEATURES) {
+        let features = 0;
+        for (const token of tokens) {
+            features |= this.featuresOfToken(token);
+            if ((features & stopMask) === stopMask) break;
+        }
+        return features;
+    }
+
+    featuresOfToken(token) {
+        const features = this.vocabularyFeatures(token);
+        return this.anchorWords === null ? features : features | this.anchorFeatures(token);
+    }
+
+    anchorFeatures(token) {
+        const text = token.type === 'STRING' ? token.value.slice(1, -1) : token.value;
+        if (this.anchorWords.has(text)) return FEATURES.STRUCTURAL_ANCHOR;
+        for (const pattern of this.anchorPatterns) {
+            pattern.lastIndex = 0;
+            if (pattern.test(text)) return FEATURES.STRUCTURAL_ANCHOR;
+        }
+        return 0;
+    }
+
+    vocabularyFeatures(token) {
+        const value = token.value;
+        switch (token.type) {
+            case 'IDENTIFIER':
+            case 'KEYWORD':
+                return this.featuresOfName(value);
+            case 'OPERATOR':
+                return this.fallbackOperators.has(value) ? FEATURES.LOGICAL_OR : 0;
+            case 'STRING':
+                // ! parser สร้าง Literal.value = token.value.slice(1, -1)
+                return this.featuresOfLiteral(value.slice(1, -1));
+            case 'REGEX':
+                // ! regex Literal มี value = null  checkEmojiInAST ตรวจ raw (/pattern/flags) แทน
+                return this.emojiFeatures(value);
+            case 'NUMBER': {
+                const number = parseFloat(value);
+                let features = this.isSuspiciousNumber(number) ? FEATURES.SUSPICIOUS_NUMBER : 0;
+                if (this.isHardcodedLiteral(String(number))) features |= FEATURES.HARDCODE_STRING;
+                return features;
+            }
+            default:
+                return 0;
+        }
+    }
+
+    featuresOfName(name) {
+        let features = 0;
+        if (this.catchKeywords.has(name)) features |= FEATURES.CATCH_KEYWORD;
+        if (this.asyncKeywords.has(name)) features |= FEATURES.ASYNC_KEYWORD;
+        if (this.mockNames.has(name)) features |= FEATURES.MOCK_IDENTIFIER;
+
+        const lower = name.toLowerCase();
+        if (this.mockSubstrings.some(word => lower.includes(word))) features |= FEATURES.MOCK_IDENTIFIER;
+        if (this.cacheSubstrings.some(word => lower.includes(word))) features |= FEATURES.CACHE_IDENTIFIER;
+        return features;
+    }
+
+    featuresOfLiteral(text) {
+        let features = 0;
+        if (text.length > 0 && this.isHardcodedLiteral(text)) features |= FEATURES.HARDCODE_STRING;
+        return features | this.emojiFeatures(text);
+    }
+
+    emojiFeatures(text) {
+        let features = 0;
+        this.emojiScanner.scan(text, () => {
+            features = FEATURES.EMOJI;
+            return false;
+        });
+        return features;
+    }
+}
+
+LexicalPrefilter.ALL_FEATURES = Object.values(FEATURES).reduce((mask, bit) => mask | bit, 0);
+
+export { LexicalPrefilter, FEATURES, RULE_TRIGGERS };
+export default LexicalPrefilter;
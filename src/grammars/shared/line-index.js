@@ -0,0 +1,182 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  LINE INDEX - แปลง character offset เป็น line/column แบบ O(log n)
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ปัญหาเดิม: แต่ละจุดคำนวณเลขบรรทัดเอง
+// !   - content.substring(0, pos).split('\n').length  O(file) ต่อการเรียกหนึ่งครั้ง
+// !   - estimateLineFromMatch เดิน token ทั้ง array ต่อ regex match หนึ่งครั้ง
+// !     ไฟล์ที่มี match เยอะ = O(matches x tokens)
+// !
+// !  LineIndex: Uint32Array ของ offset ต้นบรรทัด สร้างครั้งเดียวต่อไฟล์ (ตอน tokenize)
+// !   - offsetToLineColumn(offset)  binary search  { line (1-based), column (0-based) }
+// !   - annotate(tokens)            เดินคู่กับ token ที่เรียงตาม offset  O(tokens + lines)
+// !
+// !  baseOffset: tokenizer ตัด BOM/shebang ออกก่อนสแกน  offset ของ token นับจาก
+// !  input ที่ถูกตัดแล้ว  LineIndex สร้างจาก source เดิมและบวก baseOffset ให้เอง
+// !  เลขบรรทัดที่ได้จึงตรงกับไฟล์จริงเสมอ
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+class LineIndex {
+    /**
+     * @param {string} source - source เดิมทั้งไฟล์ (ก่อนตัด BOM/shebang)
+     * @param {number} [baseOffset=0] - จำนวนตัวอักษรที่ถูกตัดออกจากหน้า source ก่อนสแกน
+     */
+    constructor(source, baseOffset = 0) {
+        if (typeof source !== 'string') {
+            throw new Error(`LineIndex requires a source string, got: ${typeof source}`);
+        }
+        if (!Number.isInteger(baseOffset) || baseOffset < 0 || baseOffset > source.length) {
+            throw new Error(`LineIndex baseOffset must be an integer within the source, got: ${baseOffset}`);
+        }
+
+        this.source = source;
+        this.baseOffset = baseOffset;
+
+        // ! นับบรรทัดก่อนเพื่อจอง Uint32Array ขนาดพอดี (indexOf เป็น native scan)
+        let count = 1;
+        for (let i = source.indexOf('\n'); i !== -1; i = source.indexOf('\n', i + 1)) {
+            count++;
+        }
+
+        const starts = new Uint32Array(count);
+        let line = 1;
+        for (let i = source.indexOf('\n'); i !== -1; i = source.indexOf('\n', i + 1)) {
+            starts[line++] = i + 1;
+        }
+        this.lineStarts = starts;
+    }
+
+    get lineCount() {
+        return this.lineStarts.length;
+    }
+
+    /**
+     * หา index (0-based) ของบรรทัดที่มี absolute offset นี้
+     */
+    lineIndexOf(absoluteOffset) {
+        const starts = this.lineStarts;
+        let low = 0;
+        let high = starts.length - 1;
+        while (low < high) {
+            const mid = (low + high + 1) >>> 1;
+            if (starts[mid] <= absoluteOffset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * แปลง offset (นับจาก input ที่ tokenizer สแกน) เป็นตำแหน่งในไฟล์จริง
+     * @returns {{line: number, column: number}} line 1-based, column 0-based (แบบเดียวกับ ESTree loc)
+     */
+    offsetToLineColumn(offset) {
+        if (!Number.isInteger(offset) || offset < 0) {
+            throw new Error(`LineIndex offset must be a non-negative integer, got: ${offset}`);
+        }
+        return this.absoluteToLineColumn(offset + this.baseOffset);
+    }
+
+    /**
+     * แปลง offset ในไฟล์จริง (นับรวม BOM/shebang) เป็น line/column
+     */
+    absoluteToLineColumn(absoluteOffset) {
+        const absolute = Math.min(absoluteOffset, this.source.length);
+        const index = this.lineIndexOf(absolute);
+        return { line: index + 1, column: absolute - this.lineStarts[index] };
+    }
+
+    /**
+     * offset ต้นบรรทัด (absolute ในไฟล์จริง) ของบรรทัด 1-based
+     */
+    lineStart(line) {
+        if (!Number.isInteger(line) || line < 1 || line > this.lineStarts.length) {
+            throw new Error(`LineIndex line ${line} is outside 1..${this.lineStarts.length}`);
+        }
+        return this.lineStarts[line - 1];
+    }
+
+    /**
+     * ข้อความของบรรทัด 1-based (ไม่รวม \n และ \r ท้ายบรรทัด)
+     */
+    lineText(line) {
+        const start = this.lineStart(line);
+        let end = line < this.lineStarts.length ? this.lineStarts[line] - 1 : this.source.length;
+        if (end > start && this.source.charCodeAt(end - 1) === 13) {
+            end--;
+        }
+        return this.source.slice(start, end);
+    }
+
+    /**
+     * ใส่ token.location = { line, column } ให้ทุก token
+     * token ต้องเรียงตาม start (ผลลัพธ์ของ tokenizer เป็นแบบนั้นเสมอ)  cursor เดินหน้าอย่างเดียว
+     */
+    annotate(tokens) {
+        const starts = this.lineStarts;
+        const lastLine = starts.length - 1;
+        let line = 0;
+        for (const token of tokens) {
+            const absolute = token.start + this.baseOffset;
+            if (absolute < starts[line]) {
+                throw new Error(`LineIndex.annotate requires tokens in source order (offset ${token.start} after line ${line + 1})`);
+            }
+            while (line < lastLine && starts[line + 1] <= absolute) {
+                line++;
+            }
+            token.location = { line: line + 1, column: absolute - starts[line] };
+        }
+        return tokens;
+    }
+}
+
+/**
+ * ต่อ token.value เป็น string เดียว (คั่นด้วย separator) พร้อมตาราง offset ของแต่ละ token
+ * ใช้กับ detector ที่รัน regex บน code string แล้วต้องย้อนหา token จาก match.index
+ */
+class JoinedTokenText {
+    constructor(tokens, separator = ' ') {
+        const offsets = new Uint32Array(tokens.length);
+        const parts = new Array(tokens.length);
+        let position = 0;
+        for (let i = 0; i < tokens.length; i++) {
+            const value = tokens[i].value ? String(tokens[i].value) : '';
+            offsets[i] = position;
+            parts[i] = value;
+            position += value.length + separator.length;
+        }
+        this.tokens = tokens;
+        this.offsets = offsets;
+        this.text = parts.join(separator);
+    }
+
+    /**
+     * token ที่ครอบ (หรืออยู่ก่อนหน้า) ตำแหน่งใน joined text  binary search
+     * @returns {Object|null}
+     */
+    tokenAt(textOffset) {
+        const offsets = this.offsets;
+        if (offsets.length === 0) return null;
+        let low = 0;
+        let high = offsets.length - 1;
+        while (low < high) {
+            const mid = (low + high + 1) >>> 1;
+            if (offsets[mid] <= textOffset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return this.tokens[low];
+    }
+}
+
+export { LineIndex, JoinedTokenText };
+export default LineIndex;
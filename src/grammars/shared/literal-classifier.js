@@ -0,0 +1,360 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  LITERAL CLASSIFIER - จัดประเภท string literal ที่เป็น hardcode ใน loop เดียว
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ปัญหาเดิม (classifyHardcodedLiteral ต่อ Literal ทุกตัว):
+// !   - สร้าง RegExp ใหม่ 3 ตัวจาก apiKeyMinLength / hexMinLength / alphanumericMinLength
+// !   - includes() ทีละ keyword (credential, connection, production/staging)
+// !   - ไฟล์ i18n / config ที่มี string หลายพันตัว = regex compile หลายหมื่นครั้ง
+// !
+// !  การทำงาน:
+// !   1. compile ครั้งเดียวจาก parser-config.json (ruleChecking.customPatterns)
+// !      keyword ทุกกลุ่มใส่ใน Trie (trie.js) แล้วแปลงเป็นตาราง Aho-Corasick
+// !      Int32Array(state × 128) - ทุก keyword ต้องเป็น ASCII
+// !   2. classify(value): เดินข้อความครั้งเดียว (lowercase ASCII ใน loop) ได้พร้อมกัน
+// !      - keyword ที่พบ (bitmask ต่อกลุ่ม) และ prefix ที่ต้องอยู่ต้นข้อความ
+// !      - ตัวอักษรทุกตัวอยู่ใน class hex / alnum / key หรือไม่
+// !      - ตำแหน่ง TLD แรก, '/' สุดท้าย, ขึ้นบรรทัดใหม่ตัวแรก (โครงสร้าง URL)
+// !      - histogram ของ class ตัวอักษร + ความถี่ต่อ code unit (Shannon entropy)
+// !   3. ผลเหมือน regex เดิมทุกประเภท + 'secret': ข้อความ entropy สูงที่ไม่เข้าประเภทอื่น
+// !      (token / password แบบสุ่มที่ไม่มี prefix หรือมีสัญลักษณ์ปน)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { Trie } from './trie.js';
+
+const ASCII_SIZE = 128;
+
+// ! กลุ่มของ keyword ใน automaton
+const KEYWORD = {
+    CREDENTIAL: 1,
+    CONNECTION: 2,
+    ENVIRONMENT: 4,
+    TOP_LEVEL_DOMAIN: 8,
+    API_KEY_PREFIX: 16,
+    URL_SCHEME: 32
+};
+// ! กลุ่มที่ต้องเริ่มที่ตัวอักษรแรกของข้อความ (^ ใน regex เดิม)
+const ANCHORED_KEYWORDS = KEYWORD.API_KEY_PREFIX | KEYWORD.URL_SCHEME;
+
+// ! class ของตัวอักษรตัวพิมพ์เล็ก (หลัง toLowerCase) - ตรงกับ [a-f0-9] / [a-zA-Z0-9] / [a-z0-9_]
+const LOWER_CLASS = { HEX: 1, ALPHANUMERIC: 2, API_KEY: 4 };
+const LOWER_CLASSES = new Uint8Array(ASCII_SIZE);
+for (let code = 0; code < ASCII_SIZE; code++) {
+    const char = String.fromCharCode(code);
+    if (/[a-f0-9]/.test(char)) LOWER_CLASSES[code] |= LOWER_CLASS.HEX;
+    if (/[a-z0-9]/.test(char)) LOWER_CLASSES[code] |= LOWER_CLASS.ALPHANUMERIC | LOWER_CLASS.API_KEY;
+    if (char === '_') LOWER_CLASSES[code] |= LOWER_CLASS.API_KEY;
+}
+
+// ! กลุ่มตัวอักษรของ token (ข้อความต้นฉบับ) สำหรับประเภท 'secret'
+const CHAR_GROUP = { LOWER: 1, UPPER: 2, DIGIT: 4, SYMBOL: 8 };
+
+const SLASH = 0x2f;
+const isLineTerminator = code => code === 0x0a || code === 0x0d || code === 0x2028 || code === 0x2029;
+
+const REQUIRED_KEYWORD_LISTS = [
+    ['credentialKeywords', KEYWORD.CREDENTIAL],
+    ['connectionStringPatterns', KEYWORD.CONNECTION],
+    ['environmentKeywords', KEYWORD.ENVIRONMENT],
+    ['urlTopLevelDomains', KEYWORD.TOP_LEVEL_DOMAIN],
+    ['apiKeyPrefixes', KEYWORD.API_KEY_PREFIX],
+    ['urlSchemes', KEYWORD.URL_SCHEME]
+];
+const REQUIRED_NUMBERS = [
+    'apiKeyMinLength',
+    'hexMinLength',
+    'alphanumericMinLength',
+    'secretMinLength',
+    'secretMinEntropyBits',
+    'secretMinCharGroups'
+];
+
+/**
+ * รูปร่างของข้อความยาวสำหรับประเภท 'secret': สะสมทีละตัวอักษรใน loop ของ classify()
+ * token ต้องประกอบด้วย [A-Za-z0-9] + secretTokenSymbols เท่านั้น (ไม่มีช่องว่าง, ${ }, ( ) ฯลฯ)
+ * และต้องมีตัวเลข - identifier / path / key แบบ a.b.c ที่ entropy สูงจึงไม่ถูกนับ
+ */
+class LiteralShape {
+    constructor(tokenSymbols) {
+        this.groupOf = new Uint8Array(ASCII_SIZE);
+        for (let code = 0; code < ASCII_SIZE; code++) {
+            const char = String.fromCharCode(code);
+            if (/[a-z]/.test(char)) this.groupOf[code] = CHAR_GROUP.LOWER;
+            else if (/[A-Z]/.test(char)) this.groupOf[code] = CHAR_GROUP.UPPER;
+            else if (/[0-9]/.test(char)) this.groupOf[code] = CHAR_GROUP.DIGIT;
+        }
+        for (const symbol of tokenSymbols) {
+            const code = symbol.charCodeAt(0);
+            if (code >= ASCII_SIZE || this.groupOf[code] !== 0) {
+                throw new Error(`LiteralClassifier secretTokenSymbols entry "${symbol}" must be an ASCII symbol`);
+            }
+            this.groupOf[code] = CHAR_GROUP.SYMBOL;
+        }
+        this.frequencies = new Uint32Array(ASCII_SIZE);
+        this.reset();
+    }
+
+    reset() {
+        this.frequencies.fill(0);
+        this.groups = 0;
+        this.total = 0;
+        this.rejected = false;
+        return this;
+    }
+
+    add(code) {
+        const group = code < ASCII_SIZE ? this.groupOf[code] : 0;
+        if (group === 0) {
+            this.rejected = true;
+            return;
+        }
+        this.groups |= group;
+        this.frequencies[code]++;
+        this.total++;
+    }
+
+    /**
+     * Shannon entropy (bits ต่อตัวอักษร) ของ code unit ที่สะสมไว้
+     */
+    entropy() {
+        let entropy = 0;
+        for (let code = 0; code < ASCII_SIZE; code++) {
+            const count = this.frequencies[code];
+            if (count === 0) continue;
+            const probability = count / this.total;
+            entropy -= probability * Math.log2(probability);
+        }
+        return entropy;
+    }
+
+    looksLikeSecret(classifier) {
+        return !this.rejected &&
+            (this.groups & CHAR_GROUP.DIGIT) !== 0 &&
+            popCount(this.groups) >= classifier.secretMinCharGroups &&
+            this.entropy() >= classifier.secretMinEntropyBits;
+    }
+}
+
+class LiteralClassifier {
+    /**
+     * @param {Object} patterns - parser-config.json ruleChecking.customPatterns
+     */
+    constructor(patterns) {
+        if (!patterns || typeof patterns !== 'object') {
+            throw new Error('LiteralClassifier requires ruleChecking.customPatterns');
+        }
+        for (const key of REQUIRED_NUMBERS) {
+            if (typeof patterns[key] !== 'number' || !(patterns[key] >= 0)) {
+                throw new Error(`LiteralClassifier config customPatterns.${key} must be a non-negative number`);
+            }
+        }
+
+        const trie = new Trie();
+        for (const [key, group] of REQUIRED_KEYWORD_LISTS) {
+            if (!Array.isArray(patterns[key]) || patterns[key].length === 0) {
+                throw new Error(`LiteralClassifier config customPatterns.${key} must be a non-empty array`);
+            }
+            for (const keyword of patterns[key]) {
+                const word = String(keyword).toLowerCase();
+                if (word.length === 0 || !/^[\x00-\x7f]+$/.test(word)) {
+                    throw new Error(`LiteralClassifier keyword "${keyword}" in ${key} must be non-empty ASCII`);
+                }
+                const existing = trie.search(word);
+                trie.insert(word, (existing === undefined ? 0 : existing) | group);
+            }
+        }
+        this.compileAutomaton(trie);
+
+        this.apiKeyMinLength = patterns.apiKeyMinLength;
+        this.hexMinLength = patterns.hexMinLength;
+        this.alphanumericMinLength = patterns.alphanumericMinLength;
+        this.secretMinLength = patterns.secretMinLength;
+        this.secretMinEntropyBits = patterns.secretMinEntropyBits;
+        this.secretMinCharGroups = patterns.secretMinCharGroups;
+
+        if (typeof patterns.secretTokenSymbols !== 'string') {
+            throw new Error('LiteralClassifier config customPatterns.secretTokenSymbols must be a string');
+        }
+        // ! ตัวสะสม histogram ใช้ซ้ำทุก literal (classify ไม่ re-entrant)
+        this.shape = new LiteralShape(patterns.secretTokenSymbols);
+    }
+
+    static fromConfig(customPatterns) {
+        return new LiteralClassifier(customPatterns);
+    }
+
+    /**
+     * Trie  Aho-Corasick แบบ DFA เต็ม (ตาราง transition ของ ASCII ทุกตัว)
+     * ต่อ state: depth, กลุ่ม keyword ที่จบที่นี่ (รวม failure link), กลุ่ม anchored ของตัวเอง,
+     * ความยาว TLD ที่สั้นที่สุดที่จบที่นี่
+     */
+    compileAutomaton(trie) {
+        const nodes = [trie.root];
+        const depth = [0];
+        const parent = [-1];
+        const viaChar = [0];
+        for (let index = 0; index < nodes.length; index++) {
+            for (const [char, child] of nodes[index].children) {
+                nodes.push(child);
+                depth.push(depth[index] + 1);
+                parent.push(index);
+                viaChar.push(char.charCodeAt(0));
+            }
+        }
+
+        const count = nodes.length;
+        const transitions = new Int32Array(count * ASCII_SIZE);
+        const outputs = new Uint8Array(count);
+        const anchored = new Uint8Array(count);
+        const shortestDomain = new Uint8Array(count);
+        const fail = new Int32Array(count);
+        const indexOf = new Map(nodes.map((node, index) => [node, index]));
+
+        // ! BFS order = nodes (ลูกถูกเพิ่มหลังพ่อเสมอ) - failure ของพ่อพร้อมก่อนลูก
+        for (let index = 0; index < count; index++) {
+            const node = nodes[index];
+            if (index > 0) {
+                fail[index] = parent[index] === 0 ? 0 : transitions[fail[parent[index]] * ASCII_SIZE + viaChar[index]];
+            }
+            const group = node.isEndOfWord ? node.data : 0;
+            outputs[index] = (group & ~ANCHORED_KEYWORDS) | outputs[fail[index]];
+            anchored[index] = group & ANCHORED_KEYWORDS;
+            const ownDomain = group & KEYWORD.TOP_LEVEL_DOMAIN ? depth[index] : 0;
+            const inherited = shortestDomain[fail[index]];
+            shortestDomain[index] = ownDomain && inherited ? Math.min(ownDomain, inherited) : (ownDomain || inherited);
+
+            for (let code = 0; code < ASCII_SIZE; code++) {
+                const slot = index * ASCII_SIZE + code;
+                const child = node.children.get(String.fromCharCode(code));
+                if (child) {
+                    transitions[slot] = indexOf.get(child);
+                } else {
+                    transitions[slot] = index === 0 ? 0 : transitions[fail[index] * ASCII_SIZE + code];
+                }
+            }
+        }
+
+        this.transitions = transitions;
+        this.outputs = outputs;
+        this.anchored = anchored;
+        this.shortestDomain = shortestDomain;
+        this.depth = Int32Array.from(depth);
+    }
+
+    /**
+     * @param {string} value
+     * @returns {string[]} ประเภท: 'credential' | 'apiKey' | 'connection' | 'url' | 'secret'
+     */
+    classify(value) {
+        const transitions = this.transitions;
+        const outputs = this.outputs;
+        const anchored = this.anchored;
+        const shortestDomain = this.shortestDomain;
+
+        // ! ASCII ล้วน (เกือบทุก literal): lowercase ทีละตัวใน loop ไม่สร้าง string ใหม่
+        // ! เจอ non-ASCII ครั้งแรก  เริ่มใหม่บน value.toLowerCase() (ความหมายเดียวกับ regex เดิม)
+        let text = value;
+        let foldCase = true;
+        let length, state, found, schemeLength, apiKeyPrefixes, classesAll,
+            lastNonApiKeyChar, firstLineTerminator, firstDomainEnd, lastSlash, shape;
+
+        scan: for (;;) {
+            length = text.length;
+            state = 0;
+            found = 0;
+            schemeLength = 0;
+            apiKeyPrefixes = null;
+            classesAll = LOWER_CLASS.HEX | LOWER_CLASS.ALPHANUMERIC | LOWER_CLASS.API_KEY;
+            lastNonApiKeyChar = -1;
+            firstLineTerminator = length;
+            firstDomainEnd = -1;
+            lastSlash = -1;
+            // ! histogram / entropy เฉพาะข้อความที่ยาวพอจะเป็น secret - literal สั้นไม่ต้องจ่าย
+            shape = value.length >= this.secretMinLength && value.length === length ? this.shape.reset() : null;
+
+            for (let i = 0; i < length; i++) {
+                let code = text.charCodeAt(i);
+
+                if (code < ASCII_SIZE) {
+                    if (foldCase && code >= 0x41 && code <= 0x5a) code += 0x20;
+                    state = transitions[state * ASCII_SIZE + code];
+                    const lowerClass = LOWER_CLASSES[code];
+                    classesAll &= lowerClass;
+                    if ((lowerClass & LOWER_CLASS.API_KEY) === 0) lastNonApiKeyChar = i;
+                    if (state !== 0) {
+                        found |= outputs[state];
+                        const anchoredGroup = anchored[state];
+                        if (anchoredGroup !== 0 && this.depth[state] === i + 1) {
+                            if (anchoredGroup & KEYWORD.URL_SCHEME) schemeLength = i + 1;
+                            if (anchoredGroup & KEYWORD.API_KEY_PREFIX) (apiKeyPrefixes || (apiKeyPrefixes = [])).push(i + 1);
+                        }
+                        const domainLength = shortestDomain[state];
+                        // ! TLD ต้องอยู่หลัง scheme และก่อนขึ้นบรรทัดใหม่ ('.' ใน regex เดิมไม่ข้ามบรรทัด)
+                        if (domainLength !== 0 && firstDomainEnd === -1 && schemeLength !== 0 &&
+                            i + 1 - domainLength >= schemeLength && i < firstLineTerminator) {
+                            firstDomainEnd = i + 1;
+                        }
+                    }
+                    if (code === SLASH && i < firstLineTerminator) lastSlash = i;
+                } else if (foldCase) {
+                    text = value.toLowerCase();
+                    foldCase = false;
+                    continue scan;
+                } else {
+                    state = 0;
+                    classesAll = 0;
+                    lastNonApiKeyChar = i;
+                }
+                if (firstLineTerminator === length && isLineTerminator(code)) firstLineTerminator = i;
+                if (shape !== null) shape.add(value.charCodeAt(i));
+            }
+            break;
+        }
+
+        const categories = [];
+        if (found & KEYWORD.CREDENTIAL) {
+            categories.push('credential');
+        }
+        if (this.isApiKey(value, length, classesAll, lastNonApiKeyChar, apiKeyPrefixes)) {
+            categories.push('apiKey');
+        }
+        if (found & KEYWORD.CONNECTION) {
+            categories.push('connection');
+        }
+        if ((firstDomainEnd !== -1 && lastSlash >= firstDomainEnd) || (found & KEYWORD.ENVIRONMENT)) {
+            categories.push('url');
+        }
+        if (categories.length === 0 && shape !== null && shape.looksLikeSecret(this)) {
+            categories.push('secret');
+        }
+        return categories;
+    }
+
+    isApiKey(value, length, classesAll, lastNonApiKeyChar, apiKeyPrefixes) {
+        // ! ^(sk_|pk_|...)[a-z0-9_]{apiKeyMinLength,}$
+        if (apiKeyPrefixes) {
+            for (const prefixLength of apiKeyPrefixes) {
+                if (lastNonApiKeyChar < prefixLength && length - prefixLength >= this.apiKeyMinLength) return true;
+            }
+        }
+        // ! ^[a-f0-9]{hexMinLength,}$
+        if ((classesAll & LOWER_CLASS.HEX) && length >= this.hexMinLength && length > 0) return true;
+        // ! ^[a-zA-Z0-9]{alphanumericMinLength,}$ และยาวกว่า alphanumericMinLength
+        return (classesAll & LOWER_CLASS.ALPHANUMERIC) !== 0 && length > 0 &&
+            length >= this.alphanumericMinLength && value.length > this.alphanumericMinLength;
+    }
+}
+
+function popCount(bits) {
+    let count = 0;
+    for (let value = bits; value !== 0; value &= value - 1) count++;
+    return count;
+}
+
+export { LiteralClassifier };
+export default LiteralClassifier;
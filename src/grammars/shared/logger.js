@@ -26,7 +26,7 @@ import path from 'path';
 import { fileURLToPath } from 'url';
 import { SecurityManager } from '../../security/security-manager.js';
 import errorHandler from '../../error-handler/ErrorHandler.js';
-import { SmartParserEngine } from '../../../test/violation-examples/smart-parser-engine.js';
+import { SmartParserEngine } from '../../../test/SEE/smart-parser-engine.js';
 import { GrammarIndex } from './grammar-index.js';
 
 
@@ -16,6 +16,8 @@
 // !  3. Longest Match Performance (Trie vs Loop)
 // !  4. Fuzzy Search Performance
 // !  5. Memory Usage
+// !  6. Complete Tokenizer
+// !  7. Generated Lexer vs PureBinaryTokenizer
 // !  ============================================================================
 
 import errorHandler from '../../error-handler/ErrorHandler.js';
@@ -24,6 +26,8 @@ import { performance } from 'perf_hooks';
 import { GrammarIndex } from './grammar-index.js';
 import { Trie } from './trie.js';
 import { findTypoSuggestions, damerauLevenshteinDistance } from './fuzzy-search.js';
+import { PureBinaryTokenizer } from './tokenizer-helper.js';
+import { loadGeneratedLexer } from './lexer-generator.js';
 import { readFileSync } from 'fs';
 import { fileURLToPath } from 'url';
 import { dirname, join } from 'path';
@@ -36,7 +40,7 @@ const CONFIG_PATH = join(__dirname, 'parser-config.json');
 let BENCHMARK_CONFIG;
 try {
     const config = JSON.parse(readFileSync(CONFIG_PATH, 'utf8'));
-    BENCHMARK_CONFIG = config.performanceBenchmarks || { defaultSize: 100, defaultIterations: 100, intensiveIterations: 10000 };
+    BENCHMARK_CONFIG = config.performanceBenchmarks || { defaultSize: 100, defaultIterations: 100, intensiveIterations: 10000, lexerLanguage: 'javascript' };
 } catch (error) {
     errorHandler.handleError(error, {
         source: 'PerformanceBenchmarks',
@@ -44,9 +48,19 @@ try {
         severity: 'MEDIUM',
         context: `Failed to load benchmark config from ${CONFIG_PATH} - Using default config`
     });
-    BENCHMARK_CONFIG = { defaultSize: 100, defaultIterations: 100, intensiveIterations: 10000 };
+    BENCHMARK_CONFIG = { defaultSize: 100, defaultIterations: 100, intensiveIterations: 10000, lexerLanguage: 'javascript' };
 }
 
+// !  โค้ดจริงสำหรับ benchmark tokenizer
+const SAMPLE_CODE = `
+      const x = 10;
+      if (x !== 20) {
+        console.log('x is not 20');
+      }
+      const arr = [1, 2, 3];
+      const sum = arr.reduce((a, b) => a + b, 0);
+    `;
+
 // !  =============================================================================
 // !  Test Data Generator
 // !  =============================================================================
@@ -371,6 +385,74 @@ export function benchmarkCompleteTokenizer(grammar, testCode) {
     return { totalTime, avgTime, tokenCount: tokens.length };
 }
 
+// !  =============================================================================
+// !  Benchmark 7: Generated Lexer vs PureBinaryTokenizer
+// !  =============================================================================
+
+/**
+ * เทียบ lexer ที่ generate (npm run build:lexers) กับ tokenizer ที่ตีความ grammar
+ * ต้อง build ก่อน - ไม่มี/stale = throw (ไม่ benchmark ตัวเดิมกับตัวเดิมโดยไม่รู้ตัว)
+ * [DEBUG] log ของ loadGrammarSections ถูกปิดระหว่างจับเวลา (ทั้งสองฝั่ง)
+ */
+export async function benchmarkGeneratedLexer(language, testCode) {
+    console.log('\n' + '='.repeat(80));
+    console.log('BENCHMARK 7: Generated Lexer vs PureBinaryTokenizer');
+    console.log('='.repeat(80) + '\n');
+
+    const { LexerClass, reason } = await loadGeneratedLexer(language);
+    if (!LexerClass) {
+        throw new Error(`No usable generated lexer for ${language} (${reason}) - run npm run build:lexers first`);
+    }
+
+    const grammarIndex = new GrammarIndex(await GrammarIndex.loadGrammar(language));
+    const interpreted = new PureBinaryTokenizer(grammarIndex);
+    const generated = new LexerClass(grammarIndex);
+    const iterations = BENCHMARK_CONFIG.defaultIterations;
+
+    console.log(`Language: ${language}`);
+    console.log(`Code Length: ${testCode.length} characters`);
+    console.log(`Iterations: ${iterations}\n`);
+
+    const log = console.log;
+    const time = tokenizer => {
+        for (let i = 0; i < 10; i++) tokenizer.tokenize(testCode);
+        const start = performance.now();
+        for (let i = 0; i < iterations; i++) tokenizer.tokenize(testCode);
+        return performance.now() - start;
+    };
+
+    let interpretedTime, generatedTime, interpretedTokens, generatedTokens;
+    console.log = () => {};
+    try {
+        interpretedTokens = interpreted.tokenize(testCode);
+        generatedTokens = generated.tokenize(testCode);
+        interpretedTime = time(interpreted);
+        generatedTime = time(generated);
+    } finally {
+        console.log = log;
+    }
+
+    if (JSON.stringify(interpretedTokens) !== JSON.stringify(generatedTokens)) {
+        throw new Error(`Generated lexer for ${language} produced different tokens than PureBinaryTokenizer`);
+    }
+
+    const speedup = interpretedTime / generatedTime;
+    console.log(`PureBinaryTokenizer: ${interpretedTime.toFixed(2)}ms (${(interpretedTime / iterations).toFixed(4)}ms per run)`);
+    console.log(`Generated Lexer:     ${generatedTime.toFixed(2)}ms (${(generatedTime / iterations).toFixed(4)}ms per run)`);
+    console.log(`Tokens per run: ${generatedTokens.length} (identical)`);
+    console.log(`Characters/sec (generated): ${(iterations * testCode.length / (generatedTime / 1000)).toLocaleString()}`);
+    console.log(`Speedup: ${speedup.toFixed(2)}x`);
+
+    return { interpretedTime, generatedTime, speedup, tokenCount: generatedTokens.length };
+}
+
+/**
+ * npm run benchmark:lexers
+ */
+export async function benchmarkGeneratedLexers(language = BENCHMARK_CONFIG.lexerLanguage) {
+    return benchmarkGeneratedLexer(language, SAMPLE_CODE.repeat(BENCHMARK_CONFIG.defaultSize));
+}
+
 // !  =============================================================================
 // !  Run All Benchmarks
 // !  =============================================================================
@@ -391,16 +473,7 @@ export function runAllBenchmarks(grammar) {
         results.memoryUsage = benchmarkMemoryUsage(grammar);
 
         // !  Test with real code
-        const testCode = `
-      const x = 10;
-      if (x !== 20) {
-        console.log('x is not 20');
-      }
-      const arr = [1, 2, 3];
-      const sum = arr.reduce((a, b) => a + b, 0);
-    `;
-
-        results.tokenizer = benchmarkCompleteTokenizer(grammar, testCode);
+        results.tokenizer = benchmarkCompleteTokenizer(grammar, SAMPLE_CODE);
 
     } catch (error) {
         errorHandler.handleError(error, {
@@ -464,5 +537,6 @@ export default {
     benchmarkFuzzySearchPerformance,
     benchmarkMemoryUsage,
     benchmarkCompleteTokenizer,
+    benchmarkGeneratedLexer,
     runAllBenchmarks
 };
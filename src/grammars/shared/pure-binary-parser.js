@@ -433,6 +433,7 @@ export class PureBinaryParser {
         if (nextToken && 
             nextToken.binary === this.BINARY.KEYWORD && 
             this.grammarIndex.isKeywordSubcategory(nextToken.value, 'catchClause')) {
+            const catchStart = this.current;
             this.advance();
             this.consumePunctuation(this.PUNCT.LPAREN);
             const param = this.parseIdentifier();
@@ -442,7 +443,9 @@ export class PureBinaryParser {
             handler = {
                 type: 'CatchClause',
                 param: param,
-                body: body
+                body: body,
+                start: catchStart,
+                end: this.current
             };
         }
 
@@ -0,0 +1,453 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  STRUCTURAL QUERY - ภาษา pattern ของโครงสร้าง AST (แนวเดียวกับ tree-sitter query)
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  กฎใหม่เดิมต้องเขียน check*InAST() อีกหนึ่ง method + เพิ่ม if ใน checkNode()
+// !  ตอนนี้ rule pack (src/rules/NO_*.js) ประกาศ structuralQueries เป็นข้อความได้เลย
+// !  ทุก query ของทุกกฎ compile เป็น matcher เดียว (StructuralMatcher) ที่ checkNode()
+// !  เรียกครั้งเดียวต่อ node - เพิ่มกฎ = เพิ่ม closure ใน bucket ของ node type นั้น
+// !  ไม่เพิ่มรอบการเดิน AST
+// !
+// !  ไวยากรณ์:
+// !    (Type field:pattern ...)      node ที่ type ตรง (หรือ alias จาก config) และทุก field ตรง
+// !    (_ ...)                        node type ใดก็ได้
+// !    (Type [pattern ...])           list ไม่มีชื่อ field = field "body" (BlockStatement/Program)
+// !    (Type !field)                  field ต้องไม่มี (null / undefined)
+// !    "text"                         ค่า scalar หรือ node.name / node.value เท่ากับ text
+// !    /regex/flags                   ค่า scalar หรือ node.name / node.value ตรง regex
+// !    123  true  false  null         ค่า scalar ตรงกันทุกตัว
+// !    _                              มีค่าอะไรก็ได้ (ไม่ใช่ null / undefined)
+// !    [p1 p2]   [p1 ...]             array ยาวเท่ากันพอดี / ขึ้นต้นด้วย p1 แล้วมีต่อได้
+// !    pattern @name                  จับค่าไว้ใช้ใน message: "{name}"
+// !
+// !  ตัวอย่าง: (Call callee:(Member property:"catch") arguments:[(Function body:(Block [])) ...])
+// !
+// !  matcher ใช้ property access อย่างเดียว - ใช้ได้ทั้ง object tree และ ArenaNodeView
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { SEVERITY_LEVELS, DEFAULT_LOCATION } from './constants.js';
+
+const ANY_TYPE = '_';
+// ! list ที่ไม่มีชื่อ field ภายใน (Type [...]) จับคู่กับ field นี้
+const BODY_FIELD = 'body';
+
+function querySyntaxError(source, position, message) {
+    return new Error(`Structural query syntax error at ${position}: ${message} in ${source}`);
+}
+
+// ! ─── Lexer ───────────────────────────────────────────────────────────────────
+function lexQuery(source) {
+    const tokens = [];
+    let position = 0;
+    while (position < source.length) {
+        const char = source[position];
+        if (/\s/.test(char)) {
+            position++;
+            continue;
+        }
+        if ('()[]:!@'.includes(char)) {
+            tokens.push({ kind: char, position });
+            position++;
+            continue;
+        }
+        if (source.startsWith('...', position)) {
+            tokens.push({ kind: '...', position });
+            position += 3;
+            continue;
+        }
+        if (char === '"') {
+            let end = position + 1;
+            let text = '';
+            while (end < source.length && source[end] !== '"') {
+                if (source[end] === '\\' && end + 1 < source.length) end++;
+                text += source[end];
+                end++;
+            }
+            if (end >= source.length) throw querySyntaxError(source, position, 'unterminated string');
+            tokens.push({ kind: 'string', value: text, position });
+            position = end + 1;
+            continue;
+        }
+        if (char === '/') {
+            let end = position + 1;
+            let inClass = false;
+            while (end < source.length && (source[end] !== '/' || inClass)) {
+                if (source[end] === '\\') end++;
+                else if (source[end] === '[') inClass = true;
+                else if (source[end] === ']') inClass = false;
+                end++;
+            }
+            if (end >= source.length) throw querySyntaxError(source, position, 'unterminated regex');
+            const flagsMatch = /^[a-z]*/.exec(source.slice(end + 1));
+            tokens.push({ kind: 'regex', value: new RegExp(source.slice(position + 1, end), flagsMatch[0]), position });
+            position = end + 1 + flagsMatch[0].length;
+            continue;
+        }
+        const word = /^-?[A-Za-z0-9_$.]+/.exec(source.slice(position));
+        if (!word) throw querySyntaxError(source, position, `unexpected '${char}'`);
+        tokens.push({ kind: 'word', value: word[0], position });
+        position += word[0].length;
+    }
+    tokens.push({ kind: 'end', position });
+    return tokens;
+}
+
+// ! ─── Parser: ข้อความ  pattern tree ──────────────────────────────────────────
+class QueryParser {
+    constructor(source) {
+        this.source = source;
+        this.tokens = lexQuery(source);
+        this.current = 0;
+    }
+
+    peek() {
+        return this.tokens[this.current];
+    }
+
+    expect(kind) {
+        const token = this.peek();
+        if (token.kind !== kind) {
+            throw querySyntaxError(this.source, token.position, `expected '${kind}' but got '${token.value ?? token.kind}'`);
+        }
+        this.current++;
+        return token;
+    }
+
+    parseQuery() {
+        const pattern = this.parsePattern();
+        if (pattern.kind !== 'node') {
+            throw querySyntaxError(this.source, 0, 'a query must start with a node pattern (Type ...)');
+        }
+        this.expect('end');
+        return pattern;
+    }
+
+    parsePattern() {
+        const token = this.peek();
+        let pattern;
+        switch (token.kind) {
+            case '(':
+                pattern = this.parseNode();
+                break;
+            case '[':
+                pattern = this.parseList();
+                break;
+            case 'string':
+                this.current++;
+                pattern = { kind: 'text', value: token.value };
+                break;
+            case 'regex':
+                this.current++;
+                pattern = { kind: 'regex', value: token.value };
+                break;
+            case 'word':
+                this.current++;
+                pattern = this.wordPattern(token);
+                break;
+            default:
+                throw querySyntaxError(this.source, token.position, `unexpected '${token.kind}'`);
+        }
+        if (this.peek().kind === '@') {
+            this.current++;
+            pattern = { kind: 'capture', name: this.expect('word').value, pattern };
+        }
+        return pattern;
+    }
+
+    wordPattern(token) {
+        const word = token.value;
+        if (word === ANY_TYPE) return { kind: 'any' };
+        if (word === 'true' || word === 'false') return { kind: 'scalar', value: word === 'true' };
+        if (word === 'null') return { kind: 'scalar', value: null };
+        if (/^-?\d+(\.\d+)?$/.test(word)) return { kind: 'scalar', value: Number(word) };
+        throw querySyntaxError(this.source, token.position, `bare word '${word}' (quote text as "${word}")`);
+    }
+
+    parseNode() {
+        this.expect('(');
+        const type = this.expect('word').value;
+        const fields = [];
+        const absent = [];
+        while (this.peek().kind !== ')') {
+            const token = this.peek();
+            if (token.kind === '!') {
+                this.current++;
+                absent.push(this.expect('word').value);
+            } else if (token.kind === '[') {
+                fields.push({ name: BODY_FIELD, pattern: this.parseList() });
+            } else if (token.kind === 'word' && this.tokens[this.current + 1].kind === ':') {
+                this.current += 2;
+                fields.push({ name: token.value, pattern: this.parsePattern() });
+            } else {
+                throw querySyntaxError(this.source, token.position, 'expected field:pattern, !field, [list] or )');
+            }
+        }
+        this.expect(')');
+        return { kind: 'node', type, fields, absent };
+    }
+
+    parseList() {
+        this.expect('[');
+        const items = [];
+        let open = false;
+        while (this.peek().kind !== ']') {
+            if (this.peek().kind === '...') {
+                this.current++;
+                open = true;
+                break;
+            }
+            items.push(this.parsePattern());
+        }
+        this.expect(']');
+        return { kind: 'list', items, open };
+    }
+}
+
+function parseStructuralQuery(source) {
+    if (typeof source !== 'string' || source.trim() === '') {
+        throw new Error('Structural query must be a non-empty string');
+    }
+    return new QueryParser(source).parseQuery();
+}
+
+// ! ─── Compiler: pattern tree  closure (value, captures) => boolean ───────────
+function scalarOf(value) {
+    if (value !== null && typeof value === 'object') {
+        return value.name !== undefined ? value.name : value.value;
+    }
+    return value;
+}
+
+/**
+ * @param {Object} pattern - จาก parseStructuralQuery()
+ * @param {Object<string, string[]>} typeAliases - ชื่อย่อ  node type จริง (Call  CallExpression)
+ */
+function compilePattern(pattern, typeAliases) {
+    switch (pattern.kind) {
+        case 'any':
+            return (value) => value !== null && value !== undefined;
+        case 'scalar': {
+            const expected = pattern.value;
+            return (value) => value === expected || scalarOf(value) === expected;
+        }
+        case 'text': {
+            const expected = pattern.value;
+            return (value) => scalarOf(value) === expected;
+        }
+        case 'regex': {
+            const regex = pattern.value;
+            return (value) => {
+                const text = scalarOf(value);
+                if (typeof text !== 'string') return false;
+                regex.lastIndex = 0;
+                return regex.test(text);
+            };
+        }
+        case 'capture': {
+            const inner = compilePattern(pattern.pattern, typeAliases);
+            const name = pattern.name;
+            return (value, captures) => {
+                if (!inner(value, captures)) return false;
+                captures[name] = value;
+                return true;
+            };
+        }
+        case 'list': {
+            const items = pattern.items.map(item => compilePattern(item, typeAliases));
+            const open = pattern.open;
+            return (value, captures) => {
+                if (!Array.isArray(value)) return false;
+                if (open ? value.length < items.length : value.length !== items.length) return false;
+                for (let index = 0; index < items.length; index++) {
+                    if (!items[index](value[index], captures)) return false;
+                }
+                return true;
+            };
+        }
+        case 'node': {
+            const types = resolveTypes(pattern.type, typeAliases);
+            const fields = pattern.fields.map(field => ({ name: field.name, matches: compilePattern(field.pattern, typeAliases) }));
+            const absent = pattern.absent;
+            return (value, captures) => {
+                if (value === null || typeof value !== 'object' || typeof value.type !== 'string') return false;
+                if (types && !types.has(value.type)) return false;
+                for (const name of absent) {
+                    if (value[name] !== null && value[name] !== undefined) return false;
+                }
+                for (const field of fields) {
+                    if (!field.matches(value[field.name], captures)) return false;
+                }
+                return true;
+            };
+        }
+        default:
+            throw new Error(`Unknown structural pattern kind: ${pattern.kind}`);
+    }
+}
+
+/**
+ * @returns {Set<string>|null} null = ทุก type
+ */
+function resolveTypes(type, typeAliases) {
+    if (type === ANY_TYPE) return null;
+    return new Set(Object.hasOwn(typeAliases, type) ? typeAliases[type] : [type]);
+}
+
+/**
+ * ข้อความ / regex หนึ่งตัวที่ node ของ query ต้องมี (ทุก field และทุก item ใน list เป็นเงื่อนไขบังคับ)
+ * ไฟล์ที่ไม่มี token ตรง anchor ไม่มีทางตรง query  Tier 0 ข้าม parse ได้
+ * @returns {{kind: 'text'|'regex', value: string|RegExp}|null} null = ไม่มี anchor (ต้อง parse ทุกไฟล์)
+ */
+function anchorOf(pattern) {
+    const found = [];
+    const visit = (node) => {
+        switch (node.kind) {
+            case 'text':
+            case 'regex':
+                found.push(node);
+                break;
+            case 'capture':
+                visit(node.pattern);
+                break;
+            case 'list':
+                node.items.forEach(visit);
+                break;
+            case 'node':
+                node.fields.forEach(field => visit(field.pattern));
+                break;
+        }
+    };
+    visit(pattern);
+    return found.find(node => node.kind === 'text') ?? found[0] ?? null;
+}
+
+function formatMessage(template, captures) {
+    return template.replace(/\{(\w+)\}/g, (whole, name) => {
+        if (!Object.hasOwn(captures, name)) return whole;
+        const value = captures[name];
+        const text = scalarOf(value);
+        if (text !== undefined && text !== null && typeof text !== 'object') return String(text);
+        return value?.type ?? String(value);
+    });
+}
+
+// ! ─── Combined matcher ────────────────────────────────────────────────────────
+class StructuralMatcher {
+    /**
+     * @param {Object[]} entries - { ruleId, query, message, severity }
+     * @param {Object<string, string[]>} typeAliases
+     */
+    constructor(entries, typeAliases = {}) {
+        // ! node type  query ที่ root เป็น type นั้น (ต่อ node ดูแค่ bucket เดียว)
+        this.byType = new Map();
+        this.anyType = [];
+        this.size = 0;
+        this.profiler = null;
+        // ! ตำแหน่งของ violation - engine ตั้งด้วย attachLocator() (node ส่วนใหญ่ไม่มี loc มีแค่ start = index ของ token)
+        this.locate = (node) => (node.loc?.start ? node.loc.start : DEFAULT_LOCATION);
+        // ! Tier 0: anchor ของทุก query (LexicalPrefilter structuralAnchors)
+        this.anchors = { words: new Set(), patterns: [] };
+        this.unanchored = 0;
+
+        for (const entry of entries) {
+            let root;
+            try {
+                root = parseStructuralQuery(entry.query);
+            } catch (error) {
+                throw new Error(`${entry.ruleId}: ${error.message}`);
+            }
+            if (typeof entry.message !== 'string') {
+                throw new Error(`${entry.ruleId}: structural query requires a message`);
+            }
+            if (!Object.hasOwn(SEVERITY_LEVELS, entry.severity)) {
+                throw new Error(`${entry.ruleId}: unknown severity '${entry.severity}' for structural query`);
+            }
+            const compiled = {
+                ruleId: entry.ruleId,
+                message: entry.message,
+                severity: SEVERITY_LEVELS[entry.severity],
+                matches: compilePattern(root, typeAliases)
+            };
+            const anchor = anchorOf(root);
+            if (!anchor) this.unanchored++;
+            else if (anchor.kind === 'text') this.anchors.words.add(anchor.value);
+            else this.anchors.patterns.push(anchor.value);
+
+            const types = resolveTypes(root.type, typeAliases);
+            if (!types) {
+                this.anyType.push(compiled);
+            } else {
+                for (const type of types) {
+                    if (!this.byType.has(type)) this.byType.set(type, []);
+                    this.byType.get(type).push(compiled);
+                }
+            }
+            this.size++;
+        }
+    }
+
+    /**
+     * query ของกฎที่เปิดอยู่จาก rule pack (rules[ruleId].structuralQueries)
+     */
+    static fromRules(rules, enabledRules, typeAliases) {
+        const entries = [];
+        for (const ruleId of enabledRules) {
+            const queries = rules?.[ruleId]?.structuralQueries;
+            if (!queries) continue;
+            if (!Array.isArray(queries)) {
+                throw new Error(`${ruleId}: structuralQueries must be an array`);
+            }
+            for (const query of queries) {
+                entries.push({ ruleId, ...query });
+            }
+        }
+        return new StructuralMatcher(entries, typeAliases);
+    }
+
+    /**
+     * --profile: เวลาของแต่ละ query นับเข้ากฎของมัน (method 'structuralQuery')
+     */
+    attachProfiler(profiler) {
+        this.profiler = profiler;
+    }
+
+    /**
+     * @param {Function} locate - (node) => { line, column } ของ node
+     */
+    attachLocator(locate) {
+        this.locate = locate;
+    }
+
+    /**
+     * ตรวจ node เดียวกับทุก query ที่ root type ตรง - เรียกจาก checkNode() ระหว่าง traversal เดิม
+     */
+    match(node, violations) {
+        const bucket = this.byType.get(node.type);
+        if (bucket) this.runBucket(bucket, node, violations);
+        if (this.anyType.length > 0) this.runBucket(this.anyType, node, violations);
+    }
+
+    runBucket(bucket, node, violations) {
+        const profiler = this.profiler;
+        for (const query of bucket) {
+            const start = profiler && process.hrtime.bigint();
+            const captures = {};
+            if (query.matches(node, captures)) {
+                violations.push({
+                    ruleId: query.ruleId,
+                    severity: query.severity,
+                    message: formatMessage(query.message, captures),
+                    location: this.locate(node)
+                });
+            }
+            if (profiler) profiler.recordRule(query.ruleId, 'structuralQuery', start);
+        }
+    }
+}
+
+export { StructuralMatcher, parseStructuralQuery, compilePattern, anchorOf };
@@ -0,0 +1,450 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  TOKENIZER FUZZER & WORST-CASE PROFILER
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  หน้าที่: หา input ที่ทำให้ tokenizer/parser ใช้เวลาโตเร็วกว่า linear
+// !
+// !  ขั้นตอน:
+// !   1. สร้าง input families จาก grammar ของภาษานั้นๆ (comments, strings,
+// !      operators, punctuation, keywords) + random atom mixes (seeded)
+// !   2. วัดแต่ละ family ที่ขนาด startBytes, 2x, 4x ... จนถึง maxBytes
+// !      - เวลา (median ของ repetitions) และ allocation ต่อ byte
+// !   3. ประมาณ growth exponent จาก log-log regression ของ (bytes, ms)
+// !      exponent ~1 = linear, ~2 = quadratic
+// !   4. Family ที่ exponent > superlinearExponent ถูก minimize:
+// !      ตัด chunk ออกเรื่อยๆ (delta debugging) โดยยังรักษา cost ต่อ byte
+// !      ให้สูงกว่า reference (whitespace) อย่างน้อย minimizeCostRatio เท่า
+// !
+// !  Usage:
+// !    node --expose-gc src/grammars/shared/tokenizer-fuzzer.js [--language javascript]
+// !         [--max-bytes 65536] [--out fuzz-report.json]
+// !  (--expose-gc ทำให้ค่า allocation แม่นขึ้น - ไม่บังคับ)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { readFileSync, writeFileSync } from 'fs';
+import { fileURLToPath } from 'url';
+import { dirname, join } from 'path';
+import { performance } from 'perf_hooks';
+import { GrammarIndex } from './grammar-index.js';
+import { PureBinaryTokenizer, CONFIG as TOKENIZER_CONFIG } from './tokenizer-helper.js';
+import { PureBinaryParser } from './pure-binary-parser.js';
+import errorHandler from '../../error-handler/ErrorHandler.js';
+
+const __filename = fileURLToPath(import.meta.url);
+const __dirname = dirname(__filename);
+const CONFIG_PATH = join(__dirname, 'parser-config.json');
+
+let FUZZER_CONFIG;
+try {
+    FUZZER_CONFIG = JSON.parse(readFileSync(CONFIG_PATH, 'utf8')).tokenizerFuzzer;
+    if (!FUZZER_CONFIG) {
+        throw new Error('parser-config.json is missing the tokenizerFuzzer section');
+    }
+} catch (error) {
+    errorHandler.handleError(error, {
+        source: 'TokenizerFuzzer',
+        method: 'initialization',
+        severity: 'CRITICAL',
+        context: `Failed to load fuzzer config from ${CONFIG_PATH}`
+    });
+    throw error;
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  HELPERS
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+/**
+ * Seeded PRNG (mulberry32) - ผลลัพธ์ reproducible ระหว่างรัน
+ */
+function createRandom(seed) {
+    let state = seed >>> 0;
+    return () => {
+        state = (state + 0x6D2B79F5) >>> 0;
+        let t = state;
+        t = Math.imul(t ^ (t >>> 15), t | 1);
+        t ^= t + Math.imul(t ^ (t >>> 7), t | 61);
+        return ((t ^ (t >>> 14)) >>> 0) / 4294967296;
+    };
+}
+
+/**
+ * ทำซ้ำ unit จนยาวประมาณ bytes (ตัดส่วนเกิน)
+ */
+function fill(unit, bytes) {
+    if (unit.length === 0) return '';
+    return unit.repeat(Math.ceil(bytes / unit.length)).slice(0, bytes);
+}
+
+function median(values) {
+    const sorted = [...values].sort((a, b) => a - b);
+    return sorted[Math.floor(sorted.length / 2)];
+}
+
+/**
+ * ปิด console ระหว่างวัด - tokenizer/parser log ทุกครั้งที่เรียก
+ * ซึ่งทั้งทำให้ output ท่วมและทำให้เวลาที่วัดได้เป็นเวลา I/O
+ */
+function withConsoleSilenced(fn) {
+    const { log, warn } = console;
+    console.log = () => {};
+    console.warn = () => {};
+    try {
+        return fn();
+    } finally {
+        console.log = log;
+        console.warn = warn;
+    }
+}
+
+/**
+ * withConsoleSilenced สำหรับงาน async (เช่น GrammarIndex.loadGrammar)
+ * ต้อง await ภายใน try/finally - ถ้าใช้ตัว sync console จะถูกคืนทันทีที่ได้ Promise
+ * ก่อน log ของงานนั้นจะเกิดขึ้นจริง
+ */
+async function withConsoleSilencedAsync(fn) {
+    const { log, warn } = console;
+    console.log = () => {};
+    console.warn = () => {};
+    try {
+        return await fn();
+    } finally {
+        console.log = log;
+        console.warn = warn;
+    }
+}
+
+/**
+ * Least-squares slope ของ log(ms) เทียบ log(bytes) = growth exponent
+ */
+function growthExponent(points) {
+    const usable = points.filter(p => p.ms > 0);
+    if (usable.length < 2) return null;
+    const xs = usable.map(p => Math.log(p.bytes));
+    const ys = usable.map(p => Math.log(p.ms));
+    const meanX = xs.reduce((a, b) => a + b, 0) / xs.length;
+    const meanY = ys.reduce((a, b) => a + b, 0) / ys.length;
+    let numerator = 0;
+    let denominator = 0;
+    for (let i = 0; i < xs.length; i++) {
+        numerator += (xs[i] - meanX) * (ys[i] - meanY);
+        denominator += (xs[i] - meanX) ** 2;
+    }
+    return denominator === 0 ? null : numerator / denominator;
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  INPUT FAMILIES - สร้างจาก grammar (ไม่ hardcode syntax ของภาษา)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+// ! field ที่บอกว่าเป็น grammar item (ไม่ใช่ nested category) - ชุดเดียวกับ flattenSection()
+const GRAMMAR_METADATA_FIELDS = TOKENIZER_CONFIG.grammarStructure.metadataFields.fields;
+
+function grammarAtoms(grammar) {
+    const isItem = (value) => GRAMMAR_METADATA_FIELDS.some(field => field in value);
+    const keysOf = (section) => {
+        if (!section || typeof section !== 'object') return [];
+        const keys = [];
+        for (const [key, value] of Object.entries(section)) {
+            if (key.startsWith('__')) continue;
+            // ! nested category (เช่น operators.binaryOperators) - ลงไปอีกชั้น
+            if (value && typeof value === 'object' && !isItem(value)) {
+                keys.push(...keysOf(value));
+            } else {
+                keys.push(key);
+            }
+        }
+        return keys;
+    };
+
+    return {
+        keywords: keysOf(grammar.keywords),
+        operators: keysOf(grammar.operators),
+        punctuation: [...keysOf(grammar.punctuation), ...keysOf(grammar.separators)],
+        comments: grammar.comments || {}
+    };
+}
+
+function buildFamilies(grammar, config) {
+    const atoms = grammarAtoms(grammar);
+    const families = [];
+    const add = (name, build) => families.push({ name, build });
+
+    // ! Reference: ควรเป็น linear เสมอ - ใช้เป็นฐานในการเทียบ cost
+    add('whitespace', (n) => fill(' \n', n));
+    add('identifierList', (n) => fill('abc ', n));
+
+    const { singleLine, multiLine } = atoms.comments;
+    if (multiLine?.start && multiLine?.end) {
+        add('unterminatedBlockComment', (n) => multiLine.start + fill('a', n));
+        // ! near-miss: ตัวแรกของ end pattern ซ้ำๆ แต่ไม่ครบ pattern
+        add('blockCommentNearMiss', (n) => multiLine.start + fill(multiLine.end[0], n));
+        add('manyBlockComments', (n) => fill(`${multiLine.start}x${multiLine.end}`, n));
+    }
+    if (singleLine?.start) {
+        add('manyLineComments', (n) => fill(`${singleLine.start}x\n`, n));
+        add('unterminatedLineComment', (n) => singleLine.start + fill('a', n));
+    }
+
+    add('unterminatedString', (n) => '"' + fill('a', n));
+    add('escapeHeavyString', (n) => '"' + fill('\\\\', n) + '"');
+    add('manyShortStrings', (n) => fill('"a" ', n));
+    add('longIdentifier', (n) => fill('a', n));
+    add('longNumber', (n) => fill('1', n));
+
+    if (atoms.operators.length > 0) {
+        const longest = atoms.operators.reduce((a, b) => (b.length > a.length ? b : a));
+        add('longestOperatorRun', (n) => fill(longest, n));
+        // ! prefix ของ operator ยาวสุดซ้ำๆ - บังคับให้ longest-match ลองทุก candidate
+        add('operatorPrefixRun', (n) => fill(longest[0], n));
+    }
+    if (atoms.punctuation.includes('{') && atoms.punctuation.includes('}')) {
+        add('nestedBraces', (n) => fill('{', Math.floor(n / 2)) + fill('}', Math.floor(n / 2)));
+    }
+    if (atoms.punctuation.includes('(') && atoms.punctuation.includes(')')) {
+        add('nestedParens', (n) => fill('(', Math.floor(n / 2)) + fill(')', Math.floor(n / 2)));
+    }
+    if (atoms.keywords.length > 0) {
+        add('keywordChain', (n) => fill(atoms.keywords.join(' ') + ' ', n));
+    }
+
+    // ! Random atom mixes: ลำดับ atom แบบสุ่ม (seeded) แล้วทำซ้ำจนได้ขนาดที่ต้องการ
+    const pool = [...atoms.keywords, ...atoms.operators, ...atoms.punctuation, 'x', '1', '"s"', ' ', '\n'];
+    for (let s = 0; s < config.randomFamilies; s++) {
+        const seed = config.seed + s;
+        const random = createRandom(seed);
+        let unit = '';
+        for (let i = 0; i < config.randomAtomCount; i++) {
+            unit += pool[Math.floor(random() * pool.length)] + (random() < 0.5 ? ' ' : '');
+        }
+        add(`random#${seed}`, (n) => fill(unit, n));
+    }
+
+    return families;
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  TOKENIZER FUZZER
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+class TokenizerFuzzer {
+    /**
+     * @param {Object} grammar - grammar JSON (จาก GrammarIndex.loadGrammar)
+     * @param {Object} overrides - override ค่าใน parser-config.json tokenizerFuzzer
+     */
+    constructor(grammar, overrides = {}) {
+        this.config = { ...FUZZER_CONFIG, ...overrides };
+        this.grammar = grammar;
+        this.grammarIndex = new GrammarIndex(grammar);
+        this.tokenizer = new PureBinaryTokenizer(this.grammarIndex);
+        this.gcExposed = typeof global.gc === 'function';
+    }
+
+    /**
+     * วัด cost ของ input หนึ่งตัวใน stage ที่กำหนด ('tokenize' หรือ 'parse')
+     * parse stage วัดเฉพาะเวลา parse (tokenize ทำก่อนนอกช่วงวัด)
+     */
+    measure(stage, source) {
+        return withConsoleSilenced(() => {
+            const times = [];
+            let outcome = 'ok';
+            let allocBytes = 0;
+
+            // ! รอบแรก (r = -1) เป็น warm-up ให้ JIT - ไม่นับเวลา
+            for (let r = -1; r < this.config.repetitions; r++) {
+                let tokens = null;
+                if (stage === 'parse') {
+                    try {
+                        tokens = this.tokenizer.tokenize(source);
+                    } catch (error) {
+                        return { ms: 0, allocBytes: 0, outcome: `skipped: tokenizer rejected input (${error.message})` };
+                    }
+                }
+
+                if (this.gcExposed && r === 0) global.gc();
+                const heapBefore = process.memoryUsage().heapUsed;
+                const start = performance.now();
+                try {
+                    if (stage === 'parse') {
+                        new PureBinaryParser(tokens, this.grammarIndex).parse();
+                    } else {
+                        this.tokenizer.tokenize(source);
+                    }
+                } catch (error) {
+                    outcome = `rejected: ${error.message}`;
+                }
+                if (r >= 0) {
+                    times.push(performance.now() - start);
+                }
+                if (r === 0) {
+                    // ! GC ระหว่างวัดทำให้ delta ติดลบได้ - ปัดเป็น 0 (ค่าประมาณ)
+                    allocBytes = Math.max(0, process.memoryUsage().heapUsed - heapBefore);
+                }
+            }
+
+            return { ms: median(times), allocBytes, outcome };
+        });
+    }
+
+    /**
+     * วัด family หนึ่งตัวที่หลายขนาด แล้วคำนวณ growth exponent
+     */
+    profileFamily(family, stage) {
+        const points = [];
+        for (let bytes = this.config.startBytes; bytes <= this.config.maxBytes; bytes *= 2) {
+            const source = family.build(bytes);
+            const result = this.measure(stage, source);
+            points.push({
+                bytes: source.length,
+                ms: result.ms,
+                nsPerByte: (result.ms * 1e6) / source.length,
+                allocBytesPerByte: result.allocBytes / source.length,
+                outcome: result.outcome
+            });
+        }
+
+        const exponent = growthExponent(points);
+        const largest = points[points.length - 1];
+        const superlinear = exponent !== null &&
+            exponent > this.config.superlinearExponent &&
+            largest.ms >= this.config.minMeasurableMs;
+
+        return { family: family.name, stage, exponent, superlinear, points };
+    }
+
+    /**
+     * Delta debugging: หา input ที่เล็กที่สุดที่ cost ต่อ byte ยังสูงกว่า
+     * referenceNsPerByte * minimizeCostRatio
+     */
+    minimize(stage, source, referenceNsPerByte) {
+        const threshold = referenceNsPerByte * this.config.minimizeCostRatio;
+        const costly = (candidate) => {
+            if (candidate.length === 0) return false;
+            const { ms } = this.measure(stage, candidate);
+            return (ms * 1e6) / candidate.length >= threshold;
+        };
+
+        if (!costly(source)) {
+            return null;
+        }
+
+        let current = source;
+        let chunk = Math.floor(current.length / 2);
+        let steps = 0;
+
+        while (chunk >= 1 && steps < this.config.minimizeMaxSteps) {
+            let reduced = false;
+            for (let offset = 0; offset < current.length && steps < this.config.minimizeMaxSteps; offset += chunk) {
+                const candidate = current.slice(0, offset) + current.slice(offset + chunk);
+                steps++;
+                if (costly(candidate)) {
+                    current = candidate;
+                    reduced = true;
+                    break;
+                }
+            }
+            if (!reduced) {
+                chunk = Math.floor(chunk / 2);
+            }
+        }
+
+        const { ms } = this.measure(stage, current);
+        return {
+            bytes: current.length,
+            nsPerByte: (ms * 1e6) / current.length,
+            costRatio: (ms * 1e6) / current.length / referenceNsPerByte,
+            steps,
+            preview: JSON.stringify(current.slice(0, this.config.previewLength))
+        };
+    }
+
+    /**
+     * รันทุก family ในทุก stage แล้ว minimize ตัวที่โตเร็วกว่า linear
+     */
+    run() {
+        const families = buildFamilies(this.grammar, this.config);
+        const reference = families.find(f => f.name === 'whitespace');
+        const results = [];
+
+        for (const stage of this.config.stages) {
+            const referenceProfile = this.profileFamily(reference, stage);
+            const referencePoint = referenceProfile.points[referenceProfile.points.length - 1];
+            const referenceNsPerByte = Math.max(referencePoint.nsPerByte, Number.EPSILON);
+
+            for (const family of families) {
+                const profile = family === reference ? referenceProfile : this.profileFamily(family, stage);
+                if (profile.superlinear) {
+                    profile.minimized = this.minimize(stage, family.build(this.config.maxBytes), referenceNsPerByte);
+                }
+                results.push(profile);
+            }
+        }
+
+        return {
+            timestamp: new Date().toISOString(),
+            nodeVersion: process.version,
+            gcExposed: this.gcExposed,
+            config: this.config,
+            results
+        };
+    }
+
+    static printReport(language, report) {
+        console.log('\n' + '='.repeat(80));
+        console.log(` TOKENIZER FUZZ PROFILE: ${language}${report.gcExposed ? '' : ' (run with --expose-gc for accurate allocation)'}`);
+        console.log('='.repeat(80) + '\n');
+
+        const sorted = [...report.results].sort((a, b) => (b.exponent ?? 0) - (a.exponent ?? 0));
+        for (const result of sorted) {
+            const largest = result.points[result.points.length - 1];
+            const flag = result.superlinear ? ' SUPERLINEAR' : '';
+            const exponent = result.exponent === null ? '   n/a' : result.exponent.toFixed(2).padStart(6);
+            console.log(`  [${result.stage.padEnd(8)}] ${result.family.padEnd(26)} exp=${exponent}  ${largest.nsPerByte.toFixed(1).padStart(9)} ns/B  ${largest.allocBytesPerByte.toFixed(1).padStart(7)} alloc B/B  ${largest.outcome.slice(0, 40)}${flag}`);
+            if (result.minimized) {
+                console.log(`      minimized: ${result.minimized.bytes} bytes, ${result.minimized.costRatio.toFixed(1)}x reference cost/byte: ${result.minimized.preview}`);
+            }
+        }
+        console.log('\n' + '='.repeat(80) + '\n');
+    }
+}
+
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  EXPORTS
+// ! ══════════════════════════════════════════════════════════════════════════════
+export { TokenizerFuzzer, buildFamilies, growthExponent, createRandom, withConsoleSilenced, withConsoleSilencedAsync };
+
+// ! Run if executed directly
+if (import.meta.url === `file://${process.argv[1]}`) {
+    const argValue = (flag) => {
+        const index = process.argv.indexOf(flag);
+        return index !== -1 ? process.argv[index + 1] : undefined;
+    };
+
+    const languages = argValue('--language') ? [argValue('--language')] : FUZZER_CONFIG.languages;
+    const overrides = argValue('--max-bytes') ? { maxBytes: Number(argValue('--max-bytes')) } : {};
+    const reports = {};
+
+    for (const language of languages) {
+        const grammar = await withConsoleSilencedAsync(() => GrammarIndex.loadGrammar(language));
+        const fuzzer = new TokenizerFuzzer(grammar, overrides);
+        reports[language] = fuzzer.run();
+        TokenizerFuzzer.printReport(language, reports[language]);
+    }
+
+    const outPath = argValue('--out');
+    if (outPath) {
+        writeFileSync(outPath, JSON.stringify(reports, null, 2));
+        console.log(` Fuzz report written to ${outPath}`);
+    }
+
+    const superlinearCount = Object.values(reports)
+        .reduce((sum, report) => sum + report.results.filter(r => r.superlinear).length, 0);
+    if (superlinearCount > 0) {
+        process.exitCode = 1;
+    }
+}
@@ -72,7 +72,8 @@
 // !         Assign: binary = (1 << TOKEN_TYPES.KEYWORD.bit) = 0b00100000
 // ! ══════════════════════════════════════════════════════════════════════════════
 // ! Step 4: Output Semantic Stream
-// !         {type:"KEYWORD", binary:32, value:"const", start:0, end:5}
+// !         {type:"KEYWORD", binary:32, value:"const", start:0, end:5,
+// !          location:{line:1, column:0}}      (tokens.lineIndex = LineIndex ของไฟล์)
 // ! ══════════════════════════════════════════════════════════════════════════════
 // ! ══════════════════════════════════════════════════════════════════════════════
 // ! WHY THIS APPROACH IS POWERFUL
@@ -111,6 +112,9 @@ import { readFileSync } from 'fs';
 import { fileURLToPath } from 'url';
 import { dirname, join } from 'path';
 import { GrammarIndex } from './grammar-index.js';
+import { LineIndex } from './line-index.js';
+import { compileDisambiguationTable } from './disambiguation-table.js';
+import { createRunSkipper, createCharFinder, NextOccurrence } from './bulk-scan.js';
 import errorHandler from '../../error-handler/ErrorHandler.js';
 
 // ! ══════════════════════════════════════════════════════════════════════════════
@@ -150,6 +154,25 @@ const GRAMMAR_METADATA_FIELDS = CONFIG.grammarStructure?.metadataFields?.fields
 // ! For 100% binary parsing without string comparison
 const PUNCTUATION_BINARY_MAP = CONFIG.punctuationBinaryMap?.map || {};
 
+// ! '/' = regex หรือหาร, '<' = JSX หรือเปรียบเทียบ - ตัดสินด้วย disambiguation table
+const AMBIGUOUS_DECISIONS = CONFIG.ambiguousSymbols.decisions;
+const AMBIGUOUS_SYMBOL_LANGUAGES = CONFIG.ambiguousSymbols.languages;
+// ! pattern id ที่ตารางไม่มีทางตอบ (decision ที่ไม่ใช้กับภาษานี้)
+const NO_DECISION = -1;
+
+// ! Bulk scan: whitespace ทั้งช่วง / จุดจบของ JSX text หาด้วย RegExp ของ engine (bulk-scan.js)
+const skipWhitespaceRun = createRunSkipper([
+    UNICODE.SPACE.code, UNICODE.TAB.code, UNICODE.LINE_FEED.code, UNICODE.CARRIAGE_RETURN.code
+]);
+const findJsxTextEnd = createCharFinder([UNICODE.LESS_THAN.code, UNICODE.LEFT_BRACE.code]);
+
+// ! สถานะ JSX: TAG = ภายใน <...>, CHILDREN = ระหว่าง > กับ </, EXPRESSION = ภายใน { }
+const JSX_MODE = {
+    TAG: 1,
+    CHILDREN: 2,
+    EXPRESSION: 3
+};
+
 /**
  * ============================================================================
  * UNIVERSAL CHARACTER CLASSIFIER
@@ -254,6 +277,10 @@ class PureBinaryTokenizer {
         this.position = 0;
         this.input = '';
         this.inputLength = 0;
+        this.previousToken = null;
+        this.jsxStack = [];
+        this.backslashes = new NextOccurrence(String.fromCharCode(UNICODE.BACKSLASH.code));
+        this.compileAmbiguityTable();
         
         // Cache sections (โหลดครั้งเดียว ใช้ได้หลายครั้ง)
         this.grammarCache = null;
@@ -364,12 +391,43 @@ class PureBinaryTokenizer {
         return flat;
     }
 
+    /**
+     * คอมไพล์ AMBIGUOUS_SYMBOLS ของภาษานี้เป็นตาราง (ครั้งเดียวต่อภาษา ไม่ใช่ต่อไฟล์)
+     * ภาษาที่ไม่มี regex literal / JSX (เช่น java) ไม่ใช้ตาราง - '/' และ '<' เป็น operator เสมอ
+     */
+    compileAmbiguityTable() {
+        if (!AMBIGUOUS_SYMBOL_LANGUAGES.includes(this.language)) {
+            this.disambiguationTable = null;
+            this.ambiguousPatterns = null;
+            return;
+        }
+        const table = compileDisambiguationTable(this.language);
+        this.disambiguationTable = table;
+        this.ambiguousPatterns = {
+            regexStart: this.decisionPatternId(table, AMBIGUOUS_DECISIONS.REGEX_START),
+            jsxOpen: this.decisionPatternId(table, AMBIGUOUS_DECISIONS.JSX_OPEN),
+            jsxClosing: this.decisionPatternId(table, AMBIGUOUS_DECISIONS.JSX_CLOSING)
+        };
+    }
+
+    /**
+     * decision ที่ระบุ languages (JSX = jsx/tsx) ใช้เฉพาะภาษานั้น - ภาษาอื่นได้ id ที่ตารางไม่มีทางตอบ
+     * ('<' ใน typescript จึงเป็น operator / type parameter ไม่ใช่ JSX)
+     */
+    decisionPatternId(table, decision) {
+        if (decision.languages && !decision.languages.includes(this.language)) {
+            return NO_DECISION;
+        }
+        return table.patternId(decision.symbol, decision.type);
+    }
+
     /**
      * เปลี่ยนภาษา (clear cache)
      */
     setLanguage(language) {
         if (this.language !== language) {
             this.language = language;
+            this.compileAmbiguityTable();
             this.grammarCache = null;
             this.sectionCache = {
                 keywords: null,
@@ -408,6 +466,8 @@ class PureBinaryTokenizer {
             // 1. ตรวจจับและข้าม BOM (Byte Order Mark - charCode 65279)
             // ! WHY: Text editors บน Windows มักใส่ BOM ไว้หน้าไฟล์ UTF-8
             // ! SOLUTION: ข้ามตัวอักษรนี้ไปเพื่อไม่ให้เกิด "Unknown character" error
+            const source = input;
+
             if (input.charCodeAt(0) === 65279) {
                 input = input.slice(1);
                 console.log('[Tokenizer] Skipped BOM (Byte Order Mark) at start of file');
@@ -432,27 +492,24 @@ class PureBinaryTokenizer {
             this.input = input;
             this.inputLength = input.length;
             this.position = 0;
+            this.previousToken = null;
+            this.jsxStack = [];
+            this.backslashes.reset(input);
             
             const tokens = [];
-            
-            while (this.position < this.inputLength) {
-                const charCode = input.charCodeAt(this.position);
-                const flags = this.classifier.computeBinaryFlags(charCode);
-                
-                // ข้าม whitespace (โหลดจาก config)
-                if (PARSING_RULES.SKIP_WHITESPACE && this.classifier.isWhitespace(flags)) {
-                    this.position++;
-                    continue;
-                }
-                
-                // คำนวณ token (ค้นหาใน section cache)
-                const token = this.computeToken(flags);
-                
-                if (token) {
-                    tokens.push(token);
-                }
+            this.scanTokens(tokens);
+            // ! '<' ที่ถูกตัดสินเป็น JSX ผิด จะกลืนทั้งไฟล์เป็น JSX text - จบไฟล์แล้ว element ยังไม่ปิด = error
+            if (this.jsxStack.length > 0) {
+                throw this.createJsxError('UNTERMINATED_JSX', this.jsxStack[0].start);
             }
             
+            // ! Line index สร้างครั้งเดียวต่อไฟล์ จาก source เดิม (ก่อนตัด BOM/shebang)
+            // ! ทุก token ได้ location = { line, column } ตรงกับไฟล์จริง
+            // ! detector/validator ใช้ tokens.lineIndex แปลง offset อื่นๆ ด้วย binary search
+            const lineIndex = new LineIndex(source, source.length - input.length);
+            lineIndex.annotate(tokens);
+            Object.defineProperty(tokens, 'lineIndex', { value: lineIndex, enumerable: false });
+
             //  ส่งงานต่อให้ Parser เสร็จแล้ว  ลบ cache ทันที!
             return tokens;
             
@@ -463,6 +520,58 @@ class PureBinaryTokenizer {
         }
     }
 
+    /**
+     * วนอ่าน token จนจบ input (this.input/position/jsxStack ตั้งค่าแล้วใน tokenize)
+     * lexer ที่ generate จาก grammar (lexer-generator.js) override method นี้
+     * @param {Array} tokens - array ที่ต้องเติม token ลงไป
+     */
+    scanTokens(tokens) {
+        const input = this.input;
+
+        while (this.position < this.inputLength) {
+            // ! JSX children: ข้อความดิบจนถึง '<' หรือ '{' (ไม่ใช่ JavaScript)
+            if (this.jsxStack.length > 0 && this.jsxStack[this.jsxStack.length - 1].mode === JSX_MODE.CHILDREN) {
+                const childToken = this.computeJsxChild();
+                if (childToken) {
+                    tokens.push(childToken);
+                    this.previousToken = childToken;
+                }
+                continue;
+            }
+
+            const charCode = input.charCodeAt(this.position);
+            const flags = this.classifier.computeBinaryFlags(charCode);
+            
+            // ข้าม whitespace (โหลดจาก config) - ทั้งช่วงในครั้งเดียว
+            if (PARSING_RULES.SKIP_WHITESPACE && this.classifier.isWhitespace(flags)) {
+                this.position = this.skipWhitespace(this.position + 1);
+                continue;
+            }
+            
+            // คำนวณ token (ค้นหาใน section cache)
+            const token = this.computeToken(flags);
+            
+            if (token) {
+                tokens.push(token);
+                if (token.type !== TOKEN_TYPE_STRINGS.COMMENT) {
+                    this.previousToken = token;
+                    if (this.jsxStack.length > 0) this.trackJsx(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * ตำแหน่งแรก >= position ที่ไม่ใช่ whitespace
+     * ช่องว่างตัวเดียว (กรณีส่วนใหญ่) ตรวจเอง - ช่วงยาว (indentation, บรรทัดว่าง) ให้ RegExp ข้าม
+     */
+    skipWhitespace(position) {
+        if (!this.classifier.isWhitespaceByMath(this.input.charCodeAt(position))) {
+            return position;
+        }
+        return skipWhitespaceRun(this.input, position + 1);
+    }
+
     /**
      * ลบ cache ทั้งหมดหลังจากส่งงานต่อให้ Parser
      * เรียกทันทีหลัง tokenize() เสร็จ
@@ -491,6 +600,12 @@ class PureBinaryTokenizer {
             return commentResult;
         }
 
+        // '/' และ '<' ที่มีหลายความหมาย (หลัง comment - '//' และ '/*' เป็น comment เสมอ)
+        const ambiguousToken = this.computeAmbiguousSymbol(this.input.charCodeAt(this.position));
+        if (ambiguousToken) {
+            return ambiguousToken;
+        }
+
         // ตรวจสอบ String
         if (char === '"' || char === "'" || char === '`') {
             return this.computeStringToken(char);
@@ -535,7 +650,7 @@ class PureBinaryTokenizer {
         // ตรวจสอบ single-line comment
         if (commentsSection.singleLine) {
             const start = commentsSection.singleLine.start;
-            if (input.substr(position, start.length) === start) {
+            if (input.startsWith(start, position)) {
                 return this.computeCommentToken(
                     start,
                     commentsSection.singleLine.end,
@@ -548,7 +663,7 @@ class PureBinaryTokenizer {
         // ตรวจสอบ multi-line comment
         if (commentsSection.multiLine) {
             const start = commentsSection.multiLine.start;
-            if (input.substr(position, start.length) === start) {
+            if (input.startsWith(start, position)) {
                 return this.computeCommentToken(
                     start,
                     commentsSection.multiLine.end,
@@ -580,17 +695,14 @@ class PureBinaryTokenizer {
             throw new Error(errorMsg);
         }
         
-        let end = start + startPattern.length;
-        
-        // หา end pattern
-        while (end < this.inputLength) {
-            if (this.matchPattern(end, endPattern)) {
-                end += endPattern.length;
-                break;
-            }
-            end++;
+        if (typeof endPattern !== 'string') {
+            throw new Error(`Comment end pattern for "${startPattern}" must be a string`);
         }
         
+        // หา end pattern ด้วย indexOf (ไม่เจอ = comment ยาวถึงจบไฟล์)
+        const found = this.input.indexOf(endPattern, start + startPattern.length);
+        const end = found === -1 ? this.inputLength : found + endPattern.length;
+        
         const value = this.input.slice(start, end);
         this.position = end;
         
@@ -604,42 +716,254 @@ class PureBinaryTokenizer {
         };
     }
 
+    /**
+     * ถามตาราง disambiguation ว่า '/' หรือ '<' ตรงนี้ต้องอ่านแบบไหน
+     * (symbol, class ของ token ก่อนหน้า, class ของตัวอักษรถัดไป)  pattern id  เทียบเป็นตัวเลข
+     * @returns {Object|null} regex token หรือ '>' ที่ปิด JSX tag, null = อ่านเป็น operator ตามปกติ
+     */
+    computeAmbiguousSymbol(charCode) {
+        const table = this.disambiguationTable;
+        if (!table) return null;
+
+        const frame = this.jsxStack.length > 0 ? this.jsxStack[this.jsxStack.length - 1] : null;
+        const inTag = frame !== null && frame.mode === JSX_MODE.TAG;
+
+        // ! '>' ปิด tag เป็นตัวเดียวเสมอ (ไม่ใช่ '>=' / '>>' แบบ longest match)
+        if (inTag && charCode === UNICODE.GREATER_THAN.code) {
+            return this.computeSingleOperator();
+        }
+        if (charCode !== UNICODE.SLASH.code && charCode !== UNICODE.LESS_THAN.code) return null;
+
+        const decision = table.decide(
+            table.symbolIdForCode(charCode),
+            table.previousClass(this.previousToken),
+            table.nextCharClass(this.input.charCodeAt(this.position + 1))
+        );
+
+        if (inTag) {
+            // ! ภายใน tag '/' คือ </Name> (ทันทีหลัง '<') หรือ <Name /> - ไม่มี regex
+            if (charCode === UNICODE.SLASH.code) {
+                if (decision === this.ambiguousPatterns.jsxClosing && frame.tokens === 1) {
+                    frame.closing = true;
+                } else {
+                    frame.selfClosing = true;
+                }
+            }
+            return null;
+        }
+
+        if (decision === this.ambiguousPatterns.regexStart) {
+            return this.computeRegexToken();
+        }
+        if (decision === this.ambiguousPatterns.jsxOpen) {
+            this.jsxStack.push({ mode: JSX_MODE.TAG, tokens: 0, closing: false, selfClosing: false, start: this.position });
+        }
+        // ! JSX_CLOSING นอก tag = '/' ธรรมดา
+        return null;
+    }
+
+    /**
+     * อัปเดตสถานะ JSX หลังได้ token (เรียกเฉพาะเมื่อมี JSX frame เปิดอยู่)
+     */
+    trackJsx(token) {
+        const frame = this.jsxStack[this.jsxStack.length - 1];
+        const code = token.length === 1 ? this.input.charCodeAt(token.start) : -1;
+
+        if (code === UNICODE.LEFT_BRACE.code) {
+            if (frame.mode === JSX_MODE.EXPRESSION) {
+                frame.depth++;
+            } else {
+                this.jsxStack.push({ mode: JSX_MODE.EXPRESSION, depth: 0, start: token.start });
+            }
+            return;
+        }
+
+        if (frame.mode === JSX_MODE.EXPRESSION) {
+            if (code === UNICODE.RIGHT_BRACE.code) {
+                if (frame.depth === 0) {
+                    this.jsxStack.pop();
+                } else {
+                    frame.depth--;
+                }
+            }
+            return;
+        }
+
+        if (frame.mode === JSX_MODE.TAG) {
+            frame.tokens++;
+            if (code === UNICODE.GREATER_THAN.code) {
+                this.jsxStack.pop();
+                if (frame.closing) {
+                    // ! </Name> ปิด children ของ element นี้
+                    const children = this.jsxStack[this.jsxStack.length - 1];
+                    if (!children || children.mode !== JSX_MODE.CHILDREN) {
+                        throw this.createJsxError('UNBALANCED_JSX_CLOSE', frame.start);
+                    }
+                    this.jsxStack.pop();
+                } else if (!frame.selfClosing) {
+                    this.jsxStack.push({ mode: JSX_MODE.CHILDREN, start: frame.start });
+                }
+            }
+        }
+    }
+
+    /**
+     * TokenizerError ของ JSX ที่ไม่สมดุล (แบบเดียวกับ UNTERMINATED_REGEX)
+     * @param {string} errorCode - UNTERMINATED_JSX | UNBALANCED_JSX_CLOSE
+     * @param {number} position - ตำแหน่ง '<' ของ tag ที่เป็นปัญหา
+     */
+    createJsxError(errorCode, position) {
+        const error = new Error(ERROR_MESSAGES[errorCode].replace('{position}', position));
+        error.name = 'TokenizerError';
+        error.errorCode = errorCode;
+        error.position = position;
+        error.isOperational = false;
+        return error;
+    }
+
+    /**
+     * อ่าน JSX children หนึ่งช่วง: '<' เปิด tag ใหม่ (หรือ </...>), '{' เปิด expression, อื่นๆ = ข้อความ
+     * @returns {Object|null} null เมื่อข้อความเป็น whitespace ล้วน
+     */
+    computeJsxChild() {
+        const charCode = this.input.charCodeAt(this.position);
+
+        if (charCode === UNICODE.LESS_THAN.code) {
+            this.jsxStack.push({ mode: JSX_MODE.TAG, tokens: 0, closing: false, selfClosing: false, start: this.position });
+            const token = this.computeSingleOperator();
+            this.trackJsx(token);
+            return token;
+        }
+        if (charCode === UNICODE.LEFT_BRACE.code) {
+            const token = this.computeOperatorOrPunctuation();
+            this.trackJsx(token);
+            return token;
+        }
+
+        const start = this.position;
+        const stop = findJsxTextEnd(this.input, start);
+        const end = stop === -1 ? this.inputLength : stop;
+        const hasText = skipWhitespaceRun(this.input, start) < end;
+        if ((end - start) > SECURITY_LIMITS.MAX_STRING_LENGTH) {
+            throw new Error(`String exceeds maximum length of ${SECURITY_LIMITS.MAX_STRING_LENGTH}`);
+        }
+        this.position = end;
+        if (!hasText) return null;
+
+        return {
+            type: TOKEN_TYPE_STRINGS.JSX_TEXT,
+            binary: (1 << TOKEN_TYPES.STRING.bit),
+            value: this.input.slice(start, end),
+            length: end - start,
+            start: start,
+            end: end
+        };
+    }
+
+    /**
+     * operator ตัวอักษรเดียวที่ตำแหน่งปัจจุบัน ('<' / '>' ของ JSX tag)
+     */
+    computeSingleOperator() {
+        const start = this.position;
+        this.position++;
+        return {
+            type: TOKEN_TYPE_STRINGS.OPERATOR,
+            binary: (1 << TOKEN_TYPES.OPERATOR.bit),
+            value: this.input[start],
+            length: 1,
+            start: start,
+            end: this.position
+        };
+    }
+
+    /**
+     * คำนวณ regex literal: /body/flags
+     * body จบที่ '/' ที่ไม่อยู่ใน [...] และไม่ถูก escape - ขึ้นบรรทัดใหม่ก่อนจบ = error
+     */
+    computeRegexToken() {
+        const start = this.position;
+        let end = start + 1;
+        let inClass = false;
+
+        while (true) {
+            if (end >= this.inputLength || this.input.charCodeAt(end) === UNICODE.LINE_FEED.code ||
+                this.input.charCodeAt(end) === UNICODE.CARRIAGE_RETURN.code) {
+                const error = new Error(ERROR_MESSAGES.UNTERMINATED_REGEX.replace('{position}', start));
+                error.name = 'TokenizerError';
+                error.errorCode = 'UNTERMINATED_REGEX';
+                error.position = start;
+                error.isOperational = false;
+                throw error;
+            }
+            if ((end - start) > SECURITY_LIMITS.MAX_TOKEN_LENGTH) {
+                throw new Error(`Token exceeds maximum length of ${SECURITY_LIMITS.MAX_TOKEN_LENGTH}`);
+            }
+
+            const code = this.input.charCodeAt(end);
+            if (code === UNICODE.BACKSLASH.code) {
+                end += 2;
+                continue;
+            }
+            end++;
+            if (code === UNICODE.LEFT_BRACKET.code) {
+                inClass = true;
+            } else if (code === UNICODE.RIGHT_BRACKET.code) {
+                inClass = false;
+            } else if (code === UNICODE.SLASH.code && !inClass) {
+                break;
+            }
+        }
+
+        // ! flags (g, i, m, s, u, v, y, d)
+        while (end < this.inputLength && this.classifier.isLetterByMath(this.input.charCodeAt(end))) {
+            end++;
+        }
+
+        const value = this.input.slice(start, end);
+        this.position = end;
+
+        return {
+            type: TOKEN_TYPE_STRINGS.REGEX,
+            binary: (1 << TOKEN_TYPES.REGEX.bit),
+            value: value,
+            length: end - start,
+            start: start,
+            end: end
+        };
+    }
+
     /**
      * คำนวณ string token
      * โหลด Unicode constants และ limits จาก config
      */
     computeStringToken(quote) {
+        const input = this.input;
         const start = this.position;
         let end = start + 1;
-        let escaped = false;
+        let closed = false;
+        let quoteAt = -1;
         
+        // กระโดดไป quote หรือ backslash ถัดไป (indexOf) - backslash ข้ามตัวถัดไปเสมอ
         while (end < this.inputLength) {
-            // Security check: โหลดจาก config
-            if ((end - start) > SECURITY_LIMITS.MAX_STRING_LENGTH) {
-                throw new Error(`String exceeds maximum length of ${SECURITY_LIMITS.MAX_STRING_LENGTH}`);
+            if (quoteAt < end) {
+                quoteAt = input.indexOf(quote, end);
             }
+            const escapeAt = this.backslashes.from(end);
             
-            const charCode = this.input.charCodeAt(end);
-            
-            if (escaped) {
-                escaped = false;
-                end++;
+            if (escapeAt !== -1 && (quoteAt === -1 || escapeAt < quoteAt)) {
+                end = Math.min(escapeAt + 2, this.inputLength);
                 continue;
             }
             
-            // Backslash: โหลดจาก config
-            if (charCode === UNICODE.BACKSLASH.code) {
-                escaped = true;
-                end++;
-                continue;
-            }
-            
-            if (this.input[end] === quote) {
-                end++;
-                break;
-            }
-            
-            end++;
+            end = quoteAt === -1 ? this.inputLength : quoteAt + 1;
+            closed = quoteAt !== -1;
+            break;
+        }
+        
+        // Security check: โหลดจาก config (ตัวอักษรสุดท้ายที่อ่าน = quote ปิด หรือท้ายไฟล์)
+        const lastRead = closed ? end - 1 : this.inputLength - 1;
+        if ((lastRead - start) > SECURITY_LIMITS.MAX_STRING_LENGTH) {
+            throw new Error(`String exceeds maximum length of ${SECURITY_LIMITS.MAX_STRING_LENGTH}`);
         }
         
         const value = this.input.slice(start, end);
@@ -877,6 +1201,7 @@ class PureBinaryTokenizer {
 export { 
     UniversalCharacterClassifier,
     PureBinaryTokenizer,
+    JSX_MODE,
     PureBinaryTokenizer as BinaryComputationTokenizer, // Alias for backward compatibility
     // Export config values for test access
     CONFIG,
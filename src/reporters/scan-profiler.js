@@ -0,0 +1,277 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  SCAN PROFILER - เวลาต่อ stage / ต่อกฎ ด้วย process.hrtime.bigint()
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ตอบคำถาม: เวลาสแกนหายไปที่ไหน - read, hash, tokenize, prefilter, parse (รวม pack ลง arena),
+// !  traverse หรือกฎข้อใดข้อหนึ่งใน 5 ข้อ
+// !
+// !  Overhead เมื่อปิด: engine และ CLI ถือ profiler = null  ต่อไฟล์เหลือแค่เช็ค null
+// !  Overhead เมื่อเปิด: engine.attachProfiler ห่อ method check*InAST / detect*Violations ของกฎทุกข้อ
+// !  method check*InAST ถูกเรียกทุก node ที่ traverse = อ่าน hrtime 2 ครั้งต่อ node ต่อ method
+// !  เวลาต่อกฎจึงรวม overhead ของ wrapper ด้วย - ใช้เทียบกฎกันเอง ไม่ใช่เวลาสัมบูรณ์
+// !
+// !  บันทึก:
+// !   - stage: เวลารวม (ns), จำนวนครั้ง, allocation โดยประมาณ (heapUsed ที่เพิ่มขึ้น)
+// !   - rule: เวลารวมและจำนวนครั้งต่อกฎ และต่อ method ของกฎ
+// !   - file: เวลารวมต่อไฟล์ + N ไฟล์ที่ช้าที่สุด
+// !   - trace: Chrome trace-event (เปิดใน chrome://tracing หรือ Perfetto)
+// !     จำนวน event จำกัดตาม maxTraceEvents - เกินแล้วนับเป็น dropped ไม่สะสมต่อ
+// !
+// !  allocation เป็นค่าประมาณ: GC ระหว่าง stage ทำให้ heapUsed ลดได้  ค่าติดลบนับเป็น 0
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+const NS_PER_MS = 1e6;
+const NS_PER_US = 1000n;
+
+function nsToMs(ns) {
+    return Number(ns) / NS_PER_MS;
+}
+
+function newCounter() {
+    return { timeNs: 0n, calls: 0, allocBytes: 0 };
+}
+
+class ScanProfiler {
+    /**
+     * @param {Object} options - cli-config.json profiling
+     * @param {number} options.slowestFiles - จำนวนไฟล์ช้าสุดที่เก็บไว้
+     * @param {number} options.maxTraceEvents - เพดานจำนวน trace event (0 = ไม่เก็บ trace)
+     * @param {boolean} options.trackAllocations - วัด heapUsed รอบแต่ละ stage
+     */
+    constructor(options = {}) {
+        const { slowestFiles, maxTraceEvents, trackAllocations } = options;
+        if (!Number.isInteger(slowestFiles) || slowestFiles < 1) {
+            throw new Error(`ScanProfiler slowestFiles must be a positive integer, got: ${slowestFiles}`);
+        }
+        if (!Number.isInteger(maxTraceEvents) || maxTraceEvents < 0) {
+            throw new Error(`ScanProfiler maxTraceEvents must be a non-negative integer, got: ${maxTraceEvents}`);
+        }
+        if (typeof trackAllocations !== 'boolean') {
+            throw new Error('ScanProfiler trackAllocations must be a boolean');
+        }
+
+        this.slowestLimit = slowestFiles;
+        this.maxTraceEvents = maxTraceEvents;
+        this.trackAllocations = trackAllocations;
+
+        this.origin = process.hrtime.bigint();
+        this.stages = new Map();
+        this.rules = new Map();
+        this.slowest = [];
+        this.traceEvents = [];
+        this.droppedTraceEvents = 0;
+        this.fileCount = 0;
+        this.fileTimeNs = 0n;
+        this.currentFile = null;
+    }
+
+    // ! ─── Stage timing ───────────────────────────────────────────────────────────
+
+    /**
+     * @returns {{start: bigint, heap: number}} ส่งกลับเข้า endStage()
+     */
+    startStage() {
+        return {
+            start: process.hrtime.bigint(),
+            heap: this.trackAllocations ? process.memoryUsage().heapUsed : 0
+        };
+    }
+
+    endStage(name, mark) {
+        const end = process.hrtime.bigint();
+        const duration = end - mark.start;
+        const allocated = this.trackAllocations ? Math.max(0, process.memoryUsage().heapUsed - mark.heap) : 0;
+
+        let counter = this.stages.get(name);
+        if (!counter) {
+            counter = newCounter();
+            this.stages.set(name, counter);
+        }
+        counter.timeNs += duration;
+        counter.calls++;
+        counter.allocBytes += allocated;
+
+        this.pushTraceEvent({
+            name,
+            cat: 'stage',
+            ph: 'X',
+            ts: this.toTraceTime(mark.start),
+            dur: Number(duration / NS_PER_US),
+            pid: process.pid,
+            tid: 0,
+            args: this.currentFile ? { file: this.currentFile.path, allocBytes: allocated } : { allocBytes: allocated }
+        });
+    }
+
+    // ! ─── Rule timing (เรียกจาก wrapper ที่ engine.attachProfiler ติดตั้ง) ─────────
+
+    recordRule(ruleId, method, start) {
+        const duration = process.hrtime.bigint() - start;
+
+        let rule = this.rules.get(ruleId);
+        if (!rule) {
+            rule = { ...newCounter(), methods: new Map() };
+            this.rules.set(ruleId, rule);
+        }
+        rule.timeNs += duration;
+        rule.calls++;
+
+        let methodCounter = rule.methods.get(method);
+        if (!methodCounter) {
+            methodCounter = newCounter();
+            rule.methods.set(method, methodCounter);
+        }
+        methodCounter.timeNs += duration;
+        methodCounter.calls++;
+
+        if (this.currentFile) {
+            this.currentFile.ruleNs[ruleId] = (this.currentFile.ruleNs[ruleId] ?? 0n) + duration;
+        }
+    }
+
+    // ! ─── File boundaries ────────────────────────────────────────────────────────
+
+    beginFile(filePath) {
+        if (this.currentFile) {
+            throw new Error(`ScanProfiler.beginFile(${filePath}) called while ${this.currentFile.path} is still open`);
+        }
+        this.currentFile = { path: filePath, start: process.hrtime.bigint(), ruleNs: {} };
+    }
+
+    endFile(bytes = 0) {
+        const file = this.currentFile;
+        if (!file) {
+            throw new Error('ScanProfiler.endFile() called without beginFile()');
+        }
+        this.currentFile = null;
+
+        const duration = process.hrtime.bigint() - file.start;
+        this.fileCount++;
+        this.fileTimeNs += duration;
+        this.recordSlowest({ file: file.path, timeNs: duration, bytes });
+
+        const ts = this.toTraceTime(file.start);
+        this.pushTraceEvent({
+            name: file.path,
+            cat: 'file',
+            ph: 'X',
+            ts,
+            dur: Number(duration / NS_PER_US),
+            pid: process.pid,
+            tid: 0,
+            args: { bytes }
+        });
+        const ruleMs = {};
+        for (const [ruleId, ns] of Object.entries(file.ruleNs)) {
+            ruleMs[ruleId] = nsToMs(ns);
+        }
+        if (Object.keys(ruleMs).length > 0) {
+            this.pushTraceEvent({ name: 'ruleTimeMs', cat: 'rule', ph: 'C', ts, pid: process.pid, tid: 0, args: ruleMs });
+        }
+    }
+
+    recordSlowest(entry) {
+        const slowest = this.slowest;
+        if (slowest.length === this.slowestLimit && entry.timeNs <= slowest[slowest.length - 1].timeNs) {
+            return;
+        }
+        // ! insertion ลง array ที่เรียงจากช้าไปเร็ว (ขนาดไม่เกิน slowestLimit)
+        let index = slowest.length;
+        while (index > 0 && slowest[index - 1].timeNs < entry.timeNs) {
+            index--;
+        }
+        slowest.splice(index, 0, entry);
+        if (slowest.length > this.slowestLimit) {
+            slowest.pop();
+        }
+    }
+
+    // ! ─── Trace events ───────────────────────────────────────────────────────────
+
+    toTraceTime(hrtime) {
+        return Number((hrtime - this.origin) / NS_PER_US);
+    }
+
+    pushTraceEvent(event) {
+        if (this.traceEvents.length >= this.maxTraceEvents) {
+            this.droppedTraceEvents++;
+            return;
+        }
+        this.traceEvents.push(event);
+    }
+
+    // ! ─── Output ─────────────────────────────────────────────────────────────────
+
+    /**
+     * สรุปเป็น object ธรรมดา (JSON ได้ทันที) - เวลาเป็น ms
+     */
+    report() {
+        const wallTimeNs = process.hrtime.bigint() - this.origin;
+        let stageTotalNs = 0n;
+        const stages = [];
+        for (const [name, counter] of this.stages) {
+            stageTotalNs += counter.timeNs;
+            stages.push({
+                name,
+                timeMs: nsToMs(counter.timeNs),
+                calls: counter.calls,
+                meanMs: nsToMs(counter.timeNs) / counter.calls,
+                allocBytes: counter.allocBytes,
+                share: this.fileTimeNs > 0n ? Number(counter.timeNs) / Number(this.fileTimeNs) : 0
+            });
+        }
+        stages.sort((a, b) => b.timeMs - a.timeMs);
+
+        const rules = [];
+        for (const [ruleId, rule] of this.rules) {
+            rules.push({
+                ruleId,
+                timeMs: nsToMs(rule.timeNs),
+                calls: rule.calls,
+                meanMs: nsToMs(rule.timeNs) / rule.calls,
+                methods: Array.from(rule.methods, ([method, counter]) => ({
+                    method,
+                    timeMs: nsToMs(counter.timeNs),
+                    calls: counter.calls
+                })).sort((a, b) => b.timeMs - a.timeMs)
+            });
+        }
+        rules.sort((a, b) => b.timeMs - a.timeMs);
+
+        return {
+            wallTimeMs: nsToMs(wallTimeNs),
+            files: this.fileCount,
+            fileTimeMs: nsToMs(this.fileTimeNs),
+            // ! เวลาในไฟล์ที่ไม่อยู่ใน stage ใดเลย (log, existsSync, dedup lookup)
+            unattributedMs: this.fileTimeNs > stageTotalNs ? nsToMs(this.fileTimeNs - stageTotalNs) : 0,
+            allocationsTracked: this.trackAllocations,
+            stages,
+            rules,
+            slowestFiles: this.slowest.map(entry => ({ file: entry.file, timeMs: nsToMs(entry.timeNs), bytes: entry.bytes })),
+            traceEvents: this.traceEvents.length,
+            droppedTraceEvents: this.droppedTraceEvents
+        };
+    }
+
+    /**
+     * Chrome trace-event format (JSON Object Format)
+     */
+    toChromeTrace(processName) {
+        return {
+            traceEvents: [
+                { name: 'process_name', ph: 'M', pid: process.pid, tid: 0, args: { name: processName } },
+                ...this.traceEvents
+            ],
+            displayTimeUnit: 'ms',
+            otherData: { droppedTraceEvents: this.droppedTraceEvents }
+        };
+    }
+}
+
+export { ScanProfiler };
+export default ScanProfiler;
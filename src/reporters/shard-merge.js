@@ -0,0 +1,144 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  SHARD MERGE - รวม NDJSON report ของทุก shard เป็นผลเดียว
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  Input: ไฟล์ที่ได้จาก `--shard=i/N --format=ndjson --output=<file>` ครบทุก shard
+// !
+// !  ตรวจก่อนรวม (ไม่รวมผลบางส่วนแบบเงียบๆ):
+// !   - ทุกไฟล์ต้องจบด้วยบรรทัด summary ที่มี shard { index, count }
+// !   - count ต้องเท่ากันทุกไฟล์ และ index ต้องครบ 1..N ไม่ซ้ำ
+// !   - ไฟล์หนึ่งต้องมาจาก shard เดียว - partition แบ่งไฟล์ไม่ซ้อนกัน  ไฟล์โผล่สอง shard
+// !     แปลว่า report มาจากคนละ partition (manifest / N ต่างกัน) = error
+// !
+// !  การรวม:
+// !   - เก็บทุก record ตามที่ shard เขียน ไม่ตัด violation ที่ดูเหมือนซ้ำ
+// !     (กฎ AST ต่างจุดอาจได้ rule + ตำแหน่ง + message เดียวกันในไฟล์เดียว - เป็นคนละ violation)
+// !   - ไฟล์เรียงตาม path  ผลไม่ขึ้นกับลำดับของ shard ที่ส่งเข้ามา
+// !   - summary: นับไฟล์/ความล้มเหลว/dedup รวมกัน, totalViolations นับจาก violation ที่รวมแล้ว
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import fs from 'fs';
+import readline from 'readline';
+
+const SUMMED_FIELDS = ['totalFiles', 'processedFiles', 'failedFiles', 'uniqueContents', 'duplicateFiles'];
+
+/**
+ * อ่าน NDJSON report ของ shard หนึ่งไฟล์ (ทีละบรรทัด)
+ * @returns {Promise<{source: string, summary: Object, records: Array}>}
+ */
+async function readShardReport(filePath) {
+    const records = [];
+    let summary = null;
+    let lineNumber = 0;
+
+    const lines = readline.createInterface({ input: fs.createReadStream(filePath, { encoding: 'utf8' }), crlfDelay: Infinity });
+    for await (const line of lines) {
+        lineNumber++;
+        if (!line.trim()) continue;
+        let record;
+        try {
+            record = JSON.parse(line);
+        } catch (error) {
+            throw new Error(`${filePath}:${lineNumber} is not NDJSON (${error.message})`);
+        }
+        if (record.type === 'summary') {
+            summary = record;
+        } else if (record.type === 'violation' || record.type === 'fileError') {
+            records.push(record);
+        } else {
+            throw new Error(`${filePath}:${lineNumber} has unknown record type: ${record.type}`);
+        }
+    }
+
+    if (!summary) {
+        throw new Error(`${filePath} has no summary line - shard report is incomplete`);
+    }
+    if (!summary.shard || !Number.isInteger(summary.shard.index) || !Number.isInteger(summary.shard.count)) {
+        throw new Error(`${filePath} was not produced by a --shard run (summary has no shard field)`);
+    }
+    for (const field of SUMMED_FIELDS) {
+        if (!Number.isInteger(summary[field])) {
+            throw new Error(`${filePath} summary is missing ${field}`);
+        }
+    }
+    return { source: filePath, summary, records };
+}
+
+/**
+ * @param {Array} reports - ผลจาก readShardReport()
+ * @returns {{files: Array<{file, violations, error, duplicateOf}>, summary: Object}}
+ */
+function mergeShardReports(reports) {
+    if (reports.length === 0) {
+        throw new Error('No shard reports to merge');
+    }
+
+    const count = reports[0].summary.shard.count;
+    const seenShards = new Map();
+    for (const report of reports) {
+        const { index, count: reportCount } = report.summary.shard;
+        if (reportCount !== count) {
+            throw new Error(`${report.source} is shard ${index}/${reportCount} but ${reports[0].source} has N=${count}`);
+        }
+        if (seenShards.has(index)) {
+            throw new Error(`Shard ${index}/${count} given twice: ${seenShards.get(index)} and ${report.source}`);
+        }
+        seenShards.set(index, report.source);
+    }
+    const missing = [];
+    for (let index = 1; index <= count; index++) {
+        if (!seenShards.has(index)) missing.push(`${index}/${count}`);
+    }
+    if (missing.length > 0) {
+        throw new Error(`Missing shard reports: ${missing.join(', ')}`);
+    }
+
+    const files = new Map();
+    const fileEntry = (file, source) => {
+        let entry = files.get(file);
+        if (!entry) {
+            entry = { file, source, violations: [], error: undefined, duplicateOf: undefined };
+            files.set(file, entry);
+        } else if (entry.source !== source) {
+            throw new Error(`${file} is reported by both ${entry.source} and ${source} - shard reports come from different partitions`);
+        }
+        return entry;
+    };
+
+    for (const report of reports) {
+        for (const record of report.records) {
+            const entry = fileEntry(record.file, report.source);
+            if (record.type === 'fileError') {
+                entry.error = record.message;
+                continue;
+            }
+            // ! violation ข้ามไฟล์ของไฟล์เดียวกันมาทีหลังโดยไม่มี duplicateOf - ไม่ลบค่าที่มีแล้ว
+            if (record.duplicateOf) entry.duplicateOf = record.duplicateOf;
+            entry.violations.push({
+                ruleId: record.ruleId,
+                severity: record.severity,
+                message: record.message,
+                // ! NDJSON เก็บ column แบบ 1-based  แปลงกลับเป็นรูปแบบของ engine (0-based)
+                location: record.line === null ? null : { line: record.line, column: record.column - 1 }
+            });
+        }
+    }
+
+    const summary = { shards: count };
+    for (const field of SUMMED_FIELDS) {
+        summary[field] = reports.reduce((total, report) => total + report.summary[field], 0);
+    }
+    const mergedFiles = Array.from(files.values(), ({ source, ...entry }) => entry).sort((a, b) => (a.file < b.file ? -1 : a.file > b.file ? 1 : 0));
+    summary.totalViolations = mergedFiles.reduce((total, entry) => total + entry.violations.length, 0);
+    const analyzed = summary.uniqueContents + summary.duplicateFiles;
+    summary.dedupRatio = analyzed === 0 ? 0 : summary.duplicateFiles / analyzed;
+
+    return { files: mergedFiles, summary };
+}
+
+export { readShardReport, mergeShardReports };
@@ -0,0 +1,40 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  STDOUT GUARD - stdout เป็นของ reporter เมื่อ --format ไม่มี --output
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  engine / GrammarIndex / SecurityManager พิมพ์ progress ด้วย console.log ตั้งแต่ตอน import
+// !  ปน NDJSON / SARIF บน stdout = consumer parse ไม่ได้
+// !
+// !  cli.js import module นี้เป็นตัวแรก (ESM ประเมิน import ตามลำดับ)  ตอนนั้นยังไม่มี module
+// !  ไหนพิมพ์อะไร  ถ้า argv บอกว่า reporter เขียน stdout จะย้าย console.log/info/debug ไป stderr
+// !  progress ยังเห็นได้ใน terminal - แค่ไม่ปนกับ report
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+const STDOUT_METHODS = ['log', 'info', 'debug'];
+
+/**
+ * reporter เขียน stdout = มี --format=<x> และไม่มี --output=<file>
+ * (รูปแบบ option เดียวกับ readOptionValue ใน cli.js)
+ */
+function reporterOwnsStdout(args) {
+    const hasFormat = args.some(arg => arg.startsWith('--format='));
+    const hasOutput = args.some(arg => arg.startsWith('--output='));
+    return hasFormat && !hasOutput;
+}
+
+function routeConsoleToStderr() {
+    for (const method of STDOUT_METHODS) {
+        console[method] = (...args) => console.error(...args);
+    }
+}
+
+if (reporterOwnsStdout(process.argv.slice(2))) {
+    routeConsoleToStderr();
+}
+
+export { reporterOwnsStdout, routeConsoleToStderr };
@@ -0,0 +1,282 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  STREAMING REPORTERS - เขียนผลสแกนทีละไฟล์ด้วย memory คงที่
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ปัญหาเดิม: scanPattern เก็บผลทุกไฟล์ใน results[] แล้วค่อย JSON.stringify ก้อนเดียว
+// !  สแกนที่มี violation หลักแสน = string ขนาดหลายร้อย MB
+// !
+// !  Reporter ทุกตัวมี interface เดียวกัน:
+// !    await reporter.begin()
+// !    await reporter.fileResult(filePath, violations, { error?, duplicateOf? })  - เรียกทันทีที่ไฟล์เสร็จ
+// !      (ไฟล์ที่มี cross-file violation ได้อีกครั้งตอนจบการสแกน - reporter ต้องรับ path ซ้ำได้)
+// !    await reporter.end(summary)
+// !
+// !  ReportStream: ห่อ Writable - ถ้า write() คืน false จะรอ 'drain' ก่อนเขียนต่อ
+// !  (backpressure: ถ้าปลายทางช้า การสแกนจะรอ แทนที่จะสะสม buffer ไม่จำกัด)
+// !
+// !  Formats:
+// !    ndjson  - หนึ่งบรรทัดต่อ violation / file error + บรรทัด summary สุดท้าย
+// !    sarif   - SARIF 2.1.0 เขียน header  results ทีละตัว  footer (ไม่ถือ document ทั้งก้อน)
+// !    summary - นับต่อ rule/severity (+ path ของไฟล์ที่มี violation) ระหว่างสแกน เขียนตอนจบครั้งเดียว
+// !
+// !  NOTE: ไม่ import 'vscode' - ใช้ได้ทั้ง CLI และ tooling อื่น
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { once } from 'events';
+import path from 'path';
+import { pathToFileURL } from 'url';
+
+class ReportStream {
+    /**
+     * @param {import('stream').Writable} writable
+     * @param {Object} [options]
+     * @param {boolean} [options.closeOnEnd=true] - false สำหรับ process.stdout
+     */
+    constructor(writable, options = {}) {
+        if (!writable || typeof writable.write !== 'function') {
+            throw new Error('ReportStream requires a writable stream');
+        }
+        this.writable = writable;
+        this.closeOnEnd = options.closeOnEnd !== false;
+        this.bytesWritten = 0;
+    }
+
+    async write(text) {
+        this.bytesWritten += Buffer.byteLength(text, 'utf8');
+        if (!this.writable.write(text)) {
+            await once(this.writable, 'drain');
+        }
+    }
+
+    async close() {
+        if (!this.closeOnEnd) return;
+        this.writable.end();
+        await once(this.writable, 'finish');
+    }
+}
+
+/**
+ * แปลง location ของ violation  { line, column } แบบ 1-based (null ถ้าไม่รู้ตำแหน่ง)
+ * engine ใช้ line 1-based / column 0-based และ DEFAULT_LOCATION = { line: 0, column: 0 }
+ */
+function oneBasedLocation(location) {
+    if (!location || !Number.isInteger(location.line) || location.line < 1) {
+        return null;
+    }
+    return {
+        line: location.line,
+        column: Number.isInteger(location.column) ? location.column + 1 : 1
+    };
+}
+
+/**
+ * path แบบ posix relative กับ baseDir (null ถ้าไฟล์อยู่นอก baseDir)
+ * report จาก runner ต่างเครื่อง (checkout คนละ path) จึงรวมกันได้
+ */
+function relativeReportPath(baseDir, filePath) {
+    const relative = path.relative(baseDir, filePath);
+    if (relative.startsWith('..') || path.isAbsolute(relative)) {
+        return null;
+    }
+    return relative.split(path.sep).join('/');
+}
+
+class NdjsonReporter {
+    /**
+     * @param {ReportStream} stream
+     * @param {Object} [options]
+     * @param {string} [options.baseDir] - ถ้าระบุ ไฟล์ใน baseDir จะเขียนเป็น relative path
+     */
+    constructor(stream, options = {}) {
+        this.stream = stream;
+        this.baseDir = options.baseDir;
+    }
+
+    reportPath(filePath) {
+        if (!this.baseDir || !filePath) return filePath;
+        const relative = relativeReportPath(this.baseDir, filePath);
+        return relative === null ? filePath : relative;
+    }
+
+    async begin() {}
+
+    async fileResult(filePath, violations, extra = {}) {
+        if (extra.error) {
+            await this.stream.write(JSON.stringify({ type: 'fileError', file: this.reportPath(filePath), message: extra.error }) + '\n');
+            return;
+        }
+        for (const violation of violations) {
+            const position = oneBasedLocation(violation.location);
+            await this.stream.write(JSON.stringify({
+                type: 'violation',
+                file: this.reportPath(filePath),
+                ruleId: violation.ruleId,
+                severity: violation.severity,
+                line: position ? position.line : null,
+                column: position ? position.column : null,
+                message: violation.message,
+                duplicateOf: this.reportPath(extra.duplicateOf)
+            }) + '\n');
+        }
+    }
+
+    async end(summary) {
+        await this.stream.write(JSON.stringify({ type: 'summary', ...summary }) + '\n');
+        await this.stream.close();
+    }
+}
+
+class SarifReporter {
+    /**
+     * @param {ReportStream} stream
+     * @param {Object} options
+     * @param {Object} options.sarif - cli-config.json reporters.sarif { version, schema, levels }
+     * @param {Object} options.tool - { name, version, informationUri }
+     * @param {Object} options.rules - ABSOLUTE_RULES (id  { name, description })
+     * @param {string} options.baseDir - ทำ uri ให้เป็น relative path
+     */
+    constructor(stream, options = {}) {
+        const { sarif, tool, rules, baseDir } = options;
+        if (!sarif || !sarif.version || !sarif.schema || !sarif.levels) {
+            throw new Error('SarifReporter requires reporters.sarif { version, schema, levels } configuration');
+        }
+        if (!tool || !rules || !baseDir) {
+            throw new Error('SarifReporter requires tool, rules and baseDir');
+        }
+        this.stream = stream;
+        this.sarif = sarif;
+        this.tool = tool;
+        this.rules = rules;
+        this.baseDir = baseDir;
+        this.ruleIndex = new Map(Object.keys(rules).map((ruleId, index) => [ruleId, index]));
+        this.resultCount = 0;
+        // ! file error เก็บแยก (ต้องอยู่ใน invocations หลัง results) - มีได้เท่าจำนวนไฟล์ที่ล้มเหลวเท่านั้น
+        this.notifications = [];
+    }
+
+    async begin() {
+        const driverRules = Object.entries(this.rules).map(([ruleId, rule]) => ({
+            id: ruleId,
+            name: rule.name && rule.name.en ? rule.name.en : ruleId,
+            shortDescription: { text: rule.description && rule.description.en ? rule.description.en : ruleId }
+        }));
+        const header = JSON.stringify({
+            $schema: this.sarif.schema,
+            version: this.sarif.version,
+            runs: [{ tool: { driver: { ...this.tool, rules: driverRules } }, results: [] }]
+        });
+        // ! ตัด "]}]}" ท้าย header ออก แล้วเขียน results ต่อจาก "results":[
+        await this.stream.write(header.slice(0, -4));
+    }
+
+    levelFor(severity) {
+        const level = this.sarif.levels[String(severity).toUpperCase()];
+        if (!level) {
+            throw new Error(`SarifReporter has no level mapping for severity: ${severity}`);
+        }
+        return level;
+    }
+
+    artifactUri(filePath) {
+        const relative = relativeReportPath(this.baseDir, filePath);
+        // ! ไฟล์นอก baseDir ใช้ absolute file:// URI (relative "../" ไม่ถูกต้องสำหรับ SARIF viewer)
+        return relative === null ? pathToFileURL(path.resolve(this.baseDir, filePath)).href : relative;
+    }
+
+    async fileResult(filePath, violations, extra = {}) {
+        if (extra.error) {
+            this.notifications.push({
+                level: 'error',
+                message: { text: extra.error },
+                locations: [{ physicalLocation: { artifactLocation: { uri: this.artifactUri(filePath) } } }]
+            });
+            return;
+        }
+        for (const violation of violations) {
+            const position = oneBasedLocation(violation.location);
+            const physicalLocation = { artifactLocation: { uri: this.artifactUri(filePath) } };
+            if (position) {
+                physicalLocation.region = { startLine: position.line, startColumn: position.column };
+            }
+            const result = {
+                ruleId: violation.ruleId,
+                level: this.levelFor(violation.severity),
+                message: { text: violation.message },
+                locations: [{ physicalLocation }]
+            };
+            if (this.ruleIndex.has(violation.ruleId)) {
+                result.ruleIndex = this.ruleIndex.get(violation.ruleId);
+            }
+            const separator = this.resultCount === 0 ? '' : ',';
+            this.resultCount++;
+            await this.stream.write(separator + JSON.stringify(result));
+        }
+    }
+
+    async end(summary) {
+        const invocation = {
+            executionSuccessful: summary.failedFiles === 0,
+            toolExecutionNotifications: this.notifications
+        };
+        await this.stream.write(`],"invocations":[${JSON.stringify(invocation)}]}]}\n`);
+        await this.stream.close();
+    }
+}
+
+class SummaryReporter {
+    constructor(stream) {
+        this.stream = stream;
+        this.byRule = {};
+        this.bySeverity = {};
+        // ! ไฟล์เดียวได้ fileResult สองครั้งได้ (ผลของไฟล์ + cross-file ตอนจบ) - นับ path ไม่ซ้ำ
+        this.filesWithViolations = new Set();
+    }
+
+    async begin() {}
+
+    async fileResult(filePath, violations) {
+        if (violations.length > 0) this.filesWithViolations.add(filePath);
+        for (const violation of violations) {
+            this.byRule[violation.ruleId] = (this.byRule[violation.ruleId] ?? 0) + 1;
+            this.bySeverity[violation.severity] = (this.bySeverity[violation.severity] ?? 0) + 1;
+        }
+    }
+
+    async end(summary) {
+        await this.stream.write(JSON.stringify({
+            ...summary,
+            filesWithViolations: this.filesWithViolations.size,
+            byRule: this.byRule,
+            bySeverity: this.bySeverity
+        }, null, 2) + '\n');
+        await this.stream.close();
+    }
+}
+
+const REPORT_FORMATS = Object.freeze(['ndjson', 'sarif', 'summary']);
+
+/**
+ * @param {string} format - หนึ่งใน REPORT_FORMATS
+ * @param {ReportStream} stream
+ * @param {Object} [options] - ส่งต่อให้ NdjsonReporter / SarifReporter
+ */
+function createReporter(format, stream, options = {}) {
+    switch (format) {
+        case 'ndjson':
+            return new NdjsonReporter(stream, options);
+        case 'sarif':
+            return new SarifReporter(stream, options);
+        case 'summary':
+            return new SummaryReporter(stream);
+        default:
+            throw new Error(`Unknown report format: ${format} (expected one of: ${REPORT_FORMATS.join(', ')})`);
+    }
+}
+
+export { ReportStream, NdjsonReporter, SarifReporter, SummaryReporter, REPORT_FORMATS, createReporter };
+export default createReporter;
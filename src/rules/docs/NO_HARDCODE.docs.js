@@ -0,0 +1,526 @@
+// ! ======================================================================
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ======================================================================
+
+// ! ======================================================================
+// ! NO_HARDCODE - DOCUMENTATION (cold part)
+// ! explanation / violationExamples / correctExamples / fix
+// ! โหลดเมื่อ hover หรือ ErrorAssistant ต้องแสดงเท่านั้น ผ่าน loadRuleDocumentation()
+// ! ใน validator.js - CLI และ scan ปกติไม่ import ไฟล์นี้เลย
+// ! ส่วนที่ใช้ตรวจจับ (id, patterns, severity, ...) อยู่ใน ../NO_HARDCODE.js
+// ! ======================================================================
+
+const RULE_DOCS = {
+    NO_HARDCODE: {
+        explanation: {
+            en: 
+            // ! ======================================================================            
+                 `ABSOLUTE PHILOSOPHY: "HARDCODE IS EMBEDDING TECHNICAL DEBT WAITING TO EXPLODE"
+            // ! ======================================================================
+            This rule enforces THE SACRED BOUNDARY between "Code (Behavior)" and "Config (Environment)". Code written once should be able to run in ANY environment (Development, Staging, Production, Customer machines) without modifying even a single character.
+
+            Every time any value is hardcoded, that's creating a "specialized version" of software tied to that specific environment. It's deliberately creating software that is FRAGILE, INSECURE, and NON-SCALABLE.
+
+            // ! ======================================================================
+                 DEVASTATING DEVELOPER LOGIC AND THE REAL ANSWERS:
+            // ! ======================================================================
+            FLAWED LOGIC: "But it's just localhost for my own machine!"
+            REAL ANSWER: Tomorrow there might be a new developer joining the team who uses Docker and their localhost is host.docker.internal. Your hardcode has instantly created problems for others. Good code must not make assumptions about anyone's environment.
+
+            FLAWED LOGIC: "But it's just a constant that never changes, like retry count!"
+            REAL ANSWER: On high-load Production, you might need 5 retries with Exponential Backoff, but on Development you might want it to fail immediately for faster debugging. Values that seem "constant" are actually "policy variables" that need to be adjustable.
+
+            // ! ======================================================================
+                 GOLDEN RULE FOR VERIFICATION:
+            // ! ======================================================================
+            "If someone without an IDE (like DevOps team, SRE, or even managers) wants to change this value, can they do it themselves through a Dashboard or config file without touching code at all?"
+
+            // ! ======================================================================
+                 CONCLUSION WITHOUT EXCEPTIONS:
+            // ! ======================================================================
+            Every character in your code should describe "LOGIC", not "ADDRESSES" or "SPECIFIC DATA". If it's not logic, it's config, and must be external to code without any exceptions.
+
+            // ! ======================================================================
+                 LEGACY PHILOSOPHY & DEEPER RATIONALE:
+            // ! ======================================================================
+            Code should define BEHAVIOR (what the system does), while Configuration should define ENVIRONMENT (where and how it runs). Embedding values that should be in configuration into source code destroys the separation between these two concerns, making code NON-PORTABLE (cannot move to different environments) and INSECURE (secrets exposed).
+
+            Every hardcoded value is an "assumption" embedded in code, such as "the database will always be at this IP", "this API key will work forever". In reality, these assumptions are false and will create problems eventually.
+
+            The rule enforces the principle of EXTERNALIZATION OF CONFIGURATION - all environment-specific, security-sensitive, or deployment-dependent values must be injected from outside the codebase.
+
+            // ! ======================================================================
+                 HIDDEN DANGERS:
+            // ! ======================================================================
+            1) SECRET LEAKS (ความลับรั่วไหล): API Keys, passwords in code = open door for hackers. Just one code leak to public repo = instant disaster
+            2) DEPLOYMENT FAILURES (การ Deploy ล้มเหลว): Code works on Development but crashes on Staging/Production because URLs, ports, paths don't match
+            3) HIGH COST OF CHANGE (ค่าใช้จ่ายสูงในการเปลี่ยน): Changing small values like timeout or API URL becomes full code modification + code review + build + deploy cycle instead of just changing environment variable
+            4) MAGIC NUMBERS (ตัวเลขลึกลับ): Using floating numbers in code (like if (user.role === 3)) makes code unreadable and extremely difficult to modify
+            5) ENVIRONMENT COUPLING (ผูกติดสภาพแวดล้อม): Code becomes coupled to specific environment, preventing horizontal scaling and multi-environment deployment
+            6) SECURITY AUDIT NIGHTMARE (ฝันร้ายการตรวจสอบความปลอดภัย): Security teams cannot scan for exposed secrets because they're scattered throughout codebase instead of centralized configuration
+            7) DISASTER RECOVERY IMPOSSIBILITY (ฟื้นฟูหายนะไม่ได้): Cannot quickly change endpoints during outages because values are buried in code requiring full deployment
+            8) COMPLIANCE VIOLATIONS (ละเมิดมาตรฐาน): Regulations like SOX, PCI-DSS, GDPR require separation of configuration from code - hardcoded values violate compliance
+            9) TESTING HELL (นรกการทดสอบ): Cannot test against different environments/configurations without code changes
+            10) VENDOR LOCK-IN (ผูกติดผู้ขาย): Hardcoded service URLs prevent switching to alternative providers
+
+            // ! ======================================================================
+                 LITMUS TEST:
+            // ! ======================================================================
+            Ask yourself: "If DevOps/SRE team needs to change this value for new environment (like new K8s cluster, new region), do they need to ask programmers to modify this source file?"
+            - If answer is "YES": You're violating NO_HARDCODE
+            - If answer is "NO" (they can change via ENV, .env, or Config Map): You're doing it right
+
+            // ! ======================================================================
+                 THE ABSOLUTE SOLUTION:
+            // ! ======================================================================
+            Use Configuration Hierarchy that's clear:
+
+            1. Read from Environment Variables first: (like process.env.DATABASE_URL) - standard for Production and CI/CD
+            2. If not available, read from .env file: For local development
+            3. If still not available, read from config.js/config.json: For non-secret defaults that don't change per environment
+            4. NEVER have secret defaults: If Environment Variable for secret value (like API Key) doesn't exist, FAIL FAST with clear error message
+
+            // config.js
+            const config = {
+              database: {
+                host: process.env.DB_HOST || 'localhost',
+                port: process.env.DB_PORT || 5432
+              },
+              apiKey: process.env.API_KEY // NO default for secrets
+            };
+
+            if (!config.apiKey) {
+              throw new Error('FATAL: API_KEY is not defined in environment variables.');
+            }
+
+            module.exports = config;
+
+            // ! ======================================================================
+                 ADVANCED VIOLATION PATTERNS:
+            // ! ======================================================================
+            
+            1) FAKE/TEST HARDCODING: Hardcoding fake values to make tests pass without real integration
+               BAD: const mockUserId = 12345; // Always returns same fake ID
+               BAD: if (process.env.NODE_ENV === 'test') return { success: true }; // Fake success in tests
+
+            2) CONDITIONAL HARDCODING: Different hardcoded values for different environments
+               BAD: const timeout = isProd ? 30000 : 5000; // Environment-specific magic numbers
+               BAD: const dbHost = isStaging ? 'staging-db.com' : 'prod-db.com'; // Hardcoded hosts
+
+            3) ALGORITHM PARAMETER HARDCODING: Business logic parameters that should be configurable
+               BAD: const MAX_RETRY_ATTEMPTS = 3; // Should be configurable per environment
+               BAD: const CACHE_TTL_SECONDS = 3600; // Should vary by environment load
+
+            4) FEATURE FLAGS HARDCODING: Feature toggles hardcoded instead of dynamic
+               BAD: const ENABLE_NEW_ALGORITHM = true; // Should be runtime configurable
+               BAD: if (userId === 'admin') enableBetaFeature(); // Hardcoded special cases
+
+            5) SECURITY BYPASS HARDCODING: Hardcoded backdoors or test bypasses left in production
+               BAD: if (password === 'dev123') return { authenticated: true }; // Test backdoor
+               BAD: const skipAuth = process.env.NODE_ENV === 'development'; // Auth bypass
+
+            6) BUSINESS RULE HARDCODING: Domain-specific rules that should be configurable
+               BAD: const MIN_PASSWORD_LENGTH = 8; // Should be policy-configurable
+               BAD: const TAX_RATE = 0.07; // Should be jurisdiction-configurable
+
+            7) INTEGRATION ENDPOINT HARDCODING: Service discovery hardcoded instead of dynamic
+               BAD: const userService = 'http://user-service:3001'; // Should use service discovery
+               BAD: const paymentGateway = 'https://payments.stripe.com'; // Should be env-specific
+
+            8) RESOURCE LIMIT HARDCODING: System resource limits hardcoded instead of tunable
+               BAD: const MAX_CONCURRENT_REQUESTS = 100; // Should be tunable based on system capacity
+               BAD: const MEMORY_LIMIT_MB = 512; // Should be configurable per deployment
+
+            9) TIMING/SCHEDULE HARDCODING: Cron schedules, timeouts, intervals hardcoded
+               BAD: setInterval(cleanup, 60000); // Should be configurable
+               BAD: const MAINTENANCE_WINDOW = '02:00-04:00'; // Should be timezone/region specific
+
+            10) COMPLIANCE/AUDIT HARDCODING: Audit trails, retention periods hardcoded
+                BAD: const LOG_RETENTION_DAYS = 90; // Should be compliance-configurable
+                BAD: const AUDIT_ENABLED = true; // Should be policy-driven
+
+            // ! ======================================================================
+                 SOPHISTICATED DETECTION:
+            // ! ======================================================================
+            This rule catches not just obvious hardcoding but also:
+            - Ternary operators with environment-specific values
+            - Switch statements with hardcoded environment cases
+            - Default function parameters hiding configuration
+            - Class constants that should be injected
+            - Enum values that should be configurable
+            - Regular expressions with hardcoded patterns
+            - Mathematical constants used in business logic
+            - Hardcoded user IDs, roles, permissions
+            - Test data generators with fixed values
+            - Mock responses that bypass real integration
+
+            // ! ======================================================================
+                 ZERO TOLERANCE:
+            // ! ======================================================================
+            No hardcoded URLs, API keys, database connections, file paths, timeouts, business rules, feature flags, security bypasses, resource limits, schedules, compliance settings, or ANY environment/deployment/business-specific values in source code.`,
+// ! ======================================================================
+            th: 
+// ! ======================================================================            
+            // ! ======================================================================            
+                 `ปรัชญาและเหตุผลเชิงลึก:
+            // ! ======================================================================
+            โค้ดควรกำหนด BEHAVIOR (พฤติกรรมที่ระบบทำ) ส่วน Configuration ควรกำหนด ENVIRONMENT (สภาพแวดล้อมที่ทำงาน) การฝังค่าที่ควรอยู่ใน configuration ลงใน source code ทำลายการแยกระหว่างสองสิ่งนี้ ทำให้โค้ด NON-PORTABLE (ย้ายไป environment อื่นไม่ได้) และ INSECURE (ความลับเปิดเผย)
+
+            ค่า hardcode ทุกตัวคือ "สมมติฐาน" ที่ฝังใน code เช่น "database จะอยู่ที่ IP นี้เสมอ", "API key นี้ใช้ได้ตลอดไป" ในความเป็นจริง สมมติฐานเหล่านี้เป็นเท็จและจะสร้างปัญหาในที่สุด
+
+            // ! ======================================================================
+                 หลักการสำคัญ:
+            // ! ======================================================================
+            ไม่มี hardcode ใดๆ ที่ยอมรับได้ - ไม่ว่าจะเป็น URL, API key, การเชื่อมต่อฐานข้อมูล, เส้นทางไฟล์, timeout, กฎธุรกิจ, feature flag, การข้าม security, ขีดจำกัดทรัพยากร, ตารางเวลา, การตั้งค่าการปฏิบัติตาม compliance หรือค่าใดๆ ที่เกี่ยวข้องกับ environment/deployment/business ใน source code
+
+            กฎนี้บังคับหลักการ EXTERNALIZATION OF CONFIGURATION - ค่าทั้งหมดที่เกี่ยวกับ environment, security, deployment ต้องถูก inject จากภายนอก codebase
+
+            // ! ======================================================================
+                 อันตรายที่ซ่อนอยู่:
+            // ! ======================================================================
+            1) ความลับรั่วไหล: API Keys, passwords ในโค้ด = เปิดประตูให้แฮกเกอร์ แค่โค้ดหลุดไป public repo = หายนะทันที
+            2) การ Deploy ล้มเหลว: โค้ดทำงานใน Development แต่พังใน Staging/Production เพราะ URLs, ports, paths ไม่ตรง
+            3) ค่าใช้จ่ายสูงในการเปลี่ยน: เปลี่ยนค่าเล็กๆ เช่น timeout หรือ API URL กลายเป็นการแก้โค้ด + code review + build + deploy แทนที่จะแค่เปลี่ยน environment variable
+            4) ตัวเลขลึกลับ: ใช้ตัวเลขลอยๆ ในโค้ด (เช่น if (user.role === 3)) ทำให้โค้ดอ่านไม่รู้เรื่องและแก้ยากมาก
+            5) ผูกติดสภาพแวดล้อม: โค้ดผูกติดกับ environment เฉพาะ ป้องกันการ scale และ deploy หลาย environment
+            6) ฝันร้ายการตรวจสอบความปลอดภัย: Security team ไม่สามารถ scan หาความลับที่เปิดเผยได้ เพราะกระจายทั่ว codebase แทนที่จะรวมใน configuration
+            7) ฟื้นฟูหายนะไม่ได้: ไม่สามารถเปลี่ยน endpoint อย่างรวดเร็วเมื่อเกิดปัญหา เพราะค่าฝังอยู่ในโค้ดต้อง deploy ใหม่
+            8) ละเมิดมาตรฐาน: กฎหมายอย่าง SOX, PCI-DSS, GDPR ต้องการแยก configuration จากโค้ด - hardcode ละเมิดมาตรฐาน
+            9) นรกการทดสอบ: ไม่สามารถทดสอบกับ environment/configuration ต่างๆ ได้โดยไม่แก้โค้ด
+            10) ผูกติดผู้ขาย: Hardcode service URL ป้องกันการเปลี่ยนไป alternative provider
+
+            // ! ======================================================================
+                 วิธีทดสอบความคิด (Litmus Test):
+            // ! ======================================================================
+            ถามตัวเอง: "ถ้าทีม DevOps/SRE ต้องการเปลี่ยนค่านี้สำหรับ environment ใหม่ (เช่น K8s cluster ใหม่, region ใหม่) เขาต้องมาขอให้โปรแกรมเมอร์แก้ไฟล์ source นี้หรือไม่?"
+            - ถ้าตอบ "ใช่": คุณละเมิด NO_HARDCODE
+            - ถ้าตอบ "ไม่" (แก้ผ่าน ENV, .env, Config Map ได้): คุณทำถูกต้อง
+
+            // ! ======================================================================
+                 วิธีแก้ไขสมบูรณ์:
+            // ! ======================================================================
+            ใช้ Configuration Hierarchy ที่ชัดเจน:
+
+            1. อ่านจาก Environment Variables ก่อน: (เช่น process.env.DATABASE_URL) - มาตรฐานสำหรับ Production และ CI/CD
+            2. ถ้าไม่มี อ่านจากไฟล์ .env: สำหรับการพัฒนาในเครื่อง
+            3. ถ้ายังไม่มี อ่านจาก config.js/config.json: สำหรับค่า default ที่ไม่เป็นความลับและไม่เปลี่ยนตาม environment
+            4. ห้ามมีค่า default ที่เป็นความลับ: ถ้า Environment Variable สำหรับค่าลับ (เช่น API Key) ไม่มี ให้ FAIL FAST พร้อมข้อความ error ชัดเจน
+
+            // config.js
+            const config = {
+              database: {
+                host: process.env.DB_HOST || 'localhost',
+                port: process.env.DB_PORT || 5432
+              },
+              apiKey: process.env.API_KEY // ไม่มีค่า default สำหรับความลับ
+            };
+
+            if (!config.apiKey) {
+              throw new Error('FATAL: API_KEY is not defined in environment variables.');
+            }
+
+            module.exports = config;
+
+            ไม่ยอมรับข้อยกเว้น: ไม่มี hardcode URLs, API keys, database connections, file paths, timeouts หรือค่า environment-specific ใดๆ ใน source code
+
+            // ! ======================================================================
+                 *** LOOPHOLE CLOSURE - การปิดช่องโหว่ทุกรูปแบบ ***
+            // ! ======================================================================
+
+            // ! ======================================================================
+                 เหตุผลที่คนอยากใช้ hardcode และการปิดช่องโหว่:
+            // ! ======================================================================
+
+            1. "OMG BUT IT'S JUST A LOCALHOST URL FOR DEVELOPMENT!"
+                ไม่ยอมรับ! ทันทีที่เขียน localhost แล้ว Junior Developer คนอื่นจะคิดว่าต่อจากนี้ localhost ทั้งหมดใส่ hardcode ได้
+                แก้ถูก: DEFAULT_DEV_URL = process.env.DEV_URL || 'http://localhost:3000'
+                เพราะอะไร: โครงการใหญ่มักมี multiple localhost environments ที่ต่าง port กัน
+
+            2. "DUDE! IT'S JUST FOR UNIT TESTS!"
+                ไม่ยอมรับ! Test fixtures และ mock data ต้องอยู่ในไฟล์แยก หรือ test-specific configuration
+                แก้ถูก: fixtures/test-urls.json, test-config.js หรือใช้ jest.setupFiles
+                เพราะอะไร: Hardcode ใน test ทำให้เปลี่ยน test environment ไม่ได้
+
+            3. "BRO, IT'S JUST A TIMEOUT CONSTANT!"
+                ไม่ยอมรับ! Timeout behavior ต้องเปลี่ยนได้ตาม network conditions ของแต่ละ environment
+                แก้ถูก: config.timeouts.httpRequest ที่มี default แต่ override ได้
+                เพราะอะไร: Production might need 30 seconds, Development needs 5 seconds, Testing needs 1 second
+
+            4. "OMG BUT IT'S JUST A DATABASE SCHEMA NAME!"
+                ไม่ยอมรับ! Database naming convention ต่างกันใน environment ต่างๆ
+                แก้ถูก: DB_SCHEMA environment variable with tenant-specific or environment-specific naming
+                เพราะอะไร: Multi-tenant และ environment isolation
+
+            5. "DUDE! IT'S A THIRD-PARTY OAUTH REDIRECT URL!"
+                ไม่ยอมรับ! OAuth configuration เปลี่ยนตาม domain และ environment
+                แก้ถูก: OAUTH_REDIRECT_BASE + computed path based on current domain
+                เพราะอะไร: Staging, QA, Production มี different domains
+
+            6. "BRO, IT'S JUST A SIMPLE FILE PATH!"
+                ไม่ยอมรับ! File paths ต่างกันใน Windows/Linux และ container environments
+                แก้ถูก: path.join(process.env.DATA_DIR || './data', filename)
+                เพราะอะไร: Development: ./data, Production: /app/data, Docker: /var/app/data
+
+            7. "OMG BUT THESE ARE INDUSTRY-STANDARD PORTS!"
+                ไม่ยอมรับ! "Standard" ports อาจถูกใช้โดย service อื่น หรือ blocked โดย firewall
+                แก้ถูก: PORT configuration ที่มี default แต่ override ได้
+                เพราะอะไร: Production ใช้ port 8080, Development ใช้ 3000, Docker ใช้ 80
+
+            8. "DUDE! IT'S JUST MAGIC NUMBERS FOR BUSINESS LOGIC!"
+                ไม่ยอมรับ! Business rules เปลี่ยนและต้อง externalize เพื่อให้ business team แก้ได้โดยไม่ผ่าน engineering
+                แก้ถูก: BUSINESS_RULES configuration หรือ feature flags
+                เพราะอะไร: "Free shipping จาก 500 บาท" อาจเปลี่ยนเป็น 800 บาทโดยไม่แก้โค้ด
+
+            9. "BRO, THESE ARE JUST REGEX VALIDATION PATTERNS!"
+                ไม่ยอมรับ! Validation rules เปลี่ยนตาม country, regulations และ business requirements
+                แก้ถูก: validation-rules.json configuration
+                เพราะอะไร: Email regex สำหรับ international vs Thailand, Phone number formats
+
+            10. "OMG BUT IT'S JUST CSS/STYLE CONSTANTS!"
+                 ไม่ยอมรับ! Design systems และ theme ต้องเปลี่ยนได้ตาม brand guidelines หรือ A/B testing
+                 แก้ถูก: CSS variables, theme configuration, design tokens
+                 เพราะอะไร: White-label applications, dark/light themes, accessibility variants
+
+            11. "DUDE! IT'S JUST ERROR MESSAGE STRINGS!"
+                 ไม่ยอมรับ! Error messages ต้องแปลได้และเปลี่ยนตาม user persona
+                 แก้ถูก: i18n configuration หรือ error-messages.json
+                 เพราะอะไร: Multi-language, user-friendly vs technical messages
+
+            12. "BRO, IT'S JUST FEATURE FLAG BOOLEAN VALUES!"
+                 ไม่ยอมรับ! Feature flags ต้องควบคุมจาก runtime configuration
+                 แก้ถูก: Feature flag service หรือ FEATURE_* environment variables
+                 เพราะอะไร: Progressive rollout, A/B testing, instant rollback without deployment
+
+            // ! ======================================================================
+               GOLDEN RULE สำหรับตรวจสอบ: 
+            // ! ======================================================================
+               ถ้า DevOps, QA, Security, Business, หรือ Customer Support team ต้องการเปลี่ยนค่านี้โดยไม่ต้องรอ developer แก้โค้ด + code review + build + deploy ใหม่ 
+               = ค่านั้นต้องเป็น configuration ไม่ใช่ hardcode
+
+            // ! ======================================================================
+                เหตุผลที่คนอยากใช้ hardcode และการปิดช่องโหว่ (เวอร์ชันภาษาไทย):
+            // ! ======================================================================
+            1. "เฮ้ย! แต่มันแค่ localhost URL สำหรับพัฒนานะ!"
+                 ไม่ยอมรับ! ทันทีที่เขียน localhost แล้ว Junior Developer คนอื่นจะคิดว่าต่อจากนี้ localhost ทั้งหมดใส่ hardcode ได้
+                 แก้ถูก: DEFAULT_DEV_URL = process.env.DEV_URL || 'http://localhost:3000'
+                 เพราะอะไร: โครงการใหญ่มักมี multiple localhost environments ที่ต่าง port กัน
+
+            2. "อะ! แต่มันแค่สำหรับ unit testing นี่!"
+                ไม่ยอมรับ! Test fixtures และ mock data ต้องอยู่ในไฟล์แยก หรือ test-specific configuration
+                แก้ถูก: fixtures/test-urls.json, test-config.js หรือใช้ jest.setupFiles
+                เพราะอะไร: Hardcode ใน test ทำให้เปลี่ยน test environment ไม่ได้
+
+            3. "เฮ้ย! แต่มันแค่ timeout constant นะ!"
+                ไม่ยอมรับ! Timeout behavior ต้องเปลี่ยนได้ตาม network conditions ของแต่ละ environment
+                แก้ถูก: config.timeouts.httpRequest ที่มี default แต่ override ได้
+                เพราะอะไร: Production อาจต้อง 30 วินาที, Development ต้อง 5 วินาที, Testing ต้อง 1 วินาที
+
+            4. "อะ! แต่มันแค่ database schema name!"
+                ไม่ยอมรับ! Database naming convention ต่างกันใน environment ต่างๆ
+                แก้ถูก: DB_SCHEMA environment variable with tenant-specific หรือ environment-specific naming
+                เพราะอะไร: Multi-tenant และ environment isolation
+
+            5. "เฮ้ย! แต่มันแค่ third-party OAuth redirect URL!"
+                ไม่ยอมรับ! OAuth configuration เปลี่ยนตาม domain และ environment
+                แก้ถูก: OAUTH_REDIRECT_BASE + computed path based on current domain
+                เพราะอะไร: Staging, QA, Production มี different domains
+
+            6. "อะ! แต่มันแค่ file path ธรรมดา!"
+                ไม่ยอมรับ! File paths ต่างกันใน Windows/Linux และ container environments
+                แก้ถูก: path.join(process.env.DATA_DIR || './data', filename)
+                เพราะอะไร: Development: ./data, Production: /app/data, Docker: /var/app/data
+
+            7. "เฮ้ย! แต่มันแค่ industry-standard ports!"
+                ไม่ยอมรับ! "Standard" ports อาจถูกใช้โดย service อื่น หรือ blocked โดย firewall
+                แก้ถูก: PORT configuration ที่มี default แต่ override ได้
+                เพราะอะไร: Production ใช้ port 8080, Development ใช้ 3000, Docker ใช้ 80
+
+            8. "อะ! แต่มันแค่ magic numbers สำหรับ business logic!"
+                ไม่ยอมรับ! Business rules เปลี่ยนและต้อง externalize เพื่อให้ business team แก้ได้โดยไม่ผ่าน engineering
+                แก้ถูก: BUSINESS_RULES configuration หรือ feature flags
+                เพราะอะไร: "ส่งฟรีจาก 500 บาท" อาจเปลี่ยนเป็น 800 บาทโดยไม่แก้โค้ด
+
+            9. "เฮ้ย! แต่มันแค่ regex validation patterns!"
+                ไม่ยอมรับ! Validation rules เปลี่ยนตาม country, regulations และ business requirements
+                แก้ถูก: validation-rules.json configuration
+                เพราะอะไร: Email regex สำหรับ international vs Thailand, Phone number formats
+
+            10. "อะ! แต่มันแค่ CSS/style constants!"
+                 ไม่ยอมรับ! Design systems และ theme ต้องเปลี่ยนได้ตาม brand guidelines หรือ A/B testing
+                 แก้ถูก: CSS variables, theme configuration, design tokens
+                 เพราะอะไร: White-label applications, dark/light themes, accessibility variants
+
+            11. "เฮ้ย! แต่มันแค่ error message strings!"
+                 ไม่ยอมรับ! Error messages ต้องแปลได้และเปลี่ยนตาม user persona
+                 แก้ถูก: i18n configuration หรือ error-messages.json
+                 เพราะอะไร: Multi-language, user-friendly vs technical messages
+
+            12. "อะ! แต่มันแค่ feature flag boolean values!"
+                 ไม่ยอมรับ! Feature flags ต้องควบคุมจาม runtime configuration
+                 แก้ถูก: Feature flag service หรือ FEATURE_* environment variables
+                 เพราะอะไร: Progressive rollout, A/B testing, instant rollback without deployment
+            // ! ======================================================================
+                กฎทองสำหรับตรวจสอบ (ภาษาไทย): 
+            // ! ======================================================================                
+                ถ้าทีม DevOps, QA, Security, Business, หรือ Customer Support ต้องการเปลี่ยนค่านี้โดยไม่ต้องรอนักพัฒนาแก้โค้ด + code review + build + deploy ใหม่ 
+                = ค่านั้นต้องเป็น configuration ไม่ใช่ hardcode
+
+                ไม่มีข้อยกเว้น ไม่มีเหตุผลพิเศษ ไม่มี "แต่มันแค่..." - ห้าม HARDCODE เด็ดขาด`
+        },
+// ! ======================================================================        
+        violationExamples: {
+            en: [
+// ! ======================================================================                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern HTTP/HTTPS URL hardcoded
+                const API_URL = "https://api.production.com/v1";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Stripe Live Secret Key
+                const apiKey = "sk_live_12345abcdef";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Hardcoded password
+                const dbPassword = "mySecretPassword123";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Slack webhook URL
+                axios.post("https://hooks.slack.com/services/T00/B00/XXX");`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Numeric constants without context
+                const timeout = 30000;`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern JWT Secret Key
+                const JWT_SECRET = "my-super-secret-key";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern MySQL/MariaDB connection string
+                mysqli_connect("prod.db.server.com", "admin", "password123");`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Stripe Publishable Key
+                const STRIPE_KEY = "pk_live_AbCdEf123456";`
+            ],
+// ! ======================================================================            
+            th: [
+// ! ======================================================================                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern HTTP/HTTPS URL hardcoded
+                // @description hardcode URL production
+                const API_URL = "https://api.production.com/v1";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Stripe Live Secret Key
+                // @description hardcode API key
+                const apiKey = "sk_live_12345abcdef";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Hardcoded password
+                // @description hardcode รหัสผ่าน database
+                const dbPassword = "mySecretPassword123";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Slack webhook URL
+                // @description hardcode webhook
+                axios.post("https://hooks.slack.com/services/T00/B00/XXX");`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Numeric constants without context
+                // @description hardcode timeout 30 วินาที
+                const timeout = 30000;`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern JWT Secret Key
+                // @description hardcode JWT secret
+                const JWT_SECRET = "my-super-secret-key";`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern MySQL/MariaDB connection string
+                // @description hardcode DB connection
+                mysqli_connect("prod.db.server.com", "admin", "password123");`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type violation
+                // @matches-pattern Stripe Publishable Key
+                // @description hardcode Stripe key
+                const STRIPE_KEY = "pk_live_AbCdEf123456";`
+            ]
+        },
+// ! ======================================================================
+        correctExamples: {
+            en: [
+// ! ======================================================================                
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                const API_URL = process.env.API_URL || config.api.baseUrl;`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                const apiKey = process.env.STRIPE_SECRET_KEY;`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                const dbPassword = process.env.DB_PASSWORD;`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                axios.post(config.webhooks.slack);`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                const timeout = config.network.requestTimeout;`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                const JWT_SECRET = process.env.JWT_SECRET;`,
+
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                mysqli_connect(config.db.host, config.db.user, config.db.password);`,
+                
+                `// @example-for-rule NO_HARDCODE
+                // @type correct
+                const STRIPE_KEY = process.env.STRIPE_PUBLISHABLE_KEY;`
+            ],
+// ! ======================================================================            
+            th: [
+// ! ======================================================================
+                'const API_URL = process.env.API_URL || config.api.baseUrl; // จาก config',
+                'const apiKey = process.env.STRIPE_SECRET_KEY; // จาก environment variable',
+                'const dbPassword = process.env.DB_PASSWORD; // จาก environment',
+                'axios.post(config.webhooks.slack); // จากไฟล์ config',
+                'const timeout = config.network.requestTimeout; // จาก config',
+                'const JWT_SECRET = process.env.JWT_SECRET; // จาก environment',
+                'mysqli_connect(config.db.host, config.db.user, config.db.password); // จาก config',
+                'const STRIPE_KEY = process.env.STRIPE_PUBLISHABLE_KEY; // จาก environment'
+            ]
+        },
+        fix: {
+            en: 'Move to config file or environment variable: process.env.API_URL or import from config.js',
+            th: 'ย้ายไปไฟล์ config หรือ environment variable: process.env.API_URL หรือ import จาก config.js'
+        }
+    }
+};
+
+export { RULE_DOCS };
@@ -45,6 +45,42 @@ export const ABSOLUTE_RULES = {
     ...EMOJI_RULE
 };
 
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  RULE DOCUMENTATION - โหลดส่วนเอกสาร (cold) เมื่อต้องแสดงเท่านั้น
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ABSOLUTE_RULES มีเฉพาะส่วนที่ใช้ตรวจจับ - explanation / violationExamples /
+// !  correctExamples / fix อยู่ใน docs/NO_*.docs.js
+// !  ES module loader เก็บ module ที่ import แล้วไว้เอง - เรียกซ้ำไม่ parse ไฟล์ซ้ำ
+
+export const RULE_DOC_FIELDS = Object.freeze(['explanation', 'violationExamples', 'correctExamples', 'fix']);
+
+/**
+ * @param {string} ruleId
+ * @returns {Promise<Object>} rule ครบทุก field (detection + documentation)
+ */
+export async function loadRuleDocumentation(ruleId) {
+    const rule = ABSOLUTE_RULES[ruleId];
+    if (!rule) {
+        throw new Error(`Rule '${ruleId}' not found. Available: ${Object.keys(ABSOLUTE_RULES).join(', ')}`);
+    }
+    try {
+        const { RULE_DOCS } = await import(`./docs/${ruleId}.docs.js`);
+        const docs = RULE_DOCS[ruleId];
+        if (!docs) {
+            throw new Error(`docs/${ruleId}.docs.js does not define RULE_DOCS.${ruleId}`);
+        }
+        return { ...rule, ...docs };
+    } catch (error) {
+        errorHandler.handleError(error, {
+            source: 'validator.js',
+            method: 'loadRuleDocumentation',
+            severity: 'HIGH',
+            context: `Failed to load documentation for rule ${ruleId}`
+        });
+        throw error;
+    }
+}
+
 // ! ══════════════════════════════════════════════════════════════════════════════
 // !  VALIDATION ENGINE CLASS
 // ! ══════════════════════════════════════════════════════════════════════════════
@@ -113,7 +149,8 @@ export class ValidationEngine {
 // ! ══════════════════════════════════════════════════════════════════════════════
 // !  EXPORTS SUMMARY
 // ! ══════════════════════════════════════════════════════════════════════════════
-// !  ABSOLUTE_RULES - กฎทั้ง 5 ข้อ (รวมจากไฟล์แยก)
+// !  ABSOLUTE_RULES - กฎทั้ง 5 ข้อ (รวมจากไฟล์แยก - เฉพาะส่วนตรวจจับ)
+// !  loadRuleDocumentation - โหลดเอกสารของกฎหนึ่งข้อ (async, ตามต้องการ)
 // !  ValidationEngine - Class สำหรับ validate โค้ด
 // !  
 // !  Usage (เหมือนเดิม):
@@ -0,0 +1,112 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  CONTENT PATTERN SCANNER - suspicious patterns ทั้งชุดในการอ่านเนื้อหารอบเดียว
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  เดิม secureFileScan เรียก input.match(pattern) ทีละ pattern = อ่านทั้งไฟล์ N รอบ
+// !  แม้ไฟล์ส่วนใหญ่ไม่มีอะไรน่าสงสัยเลย
+// !
+// !  ตอนนี้ pattern ที่ flags เหมือนกันถูกรวมเป็น alternation เดียว (?:p0)|(?:p1)|...
+// !  - ไม่เจอเลย = ไม่มี pattern ไหนเจอ (ไฟล์สะอาดจบในรอบเดียว)
+// !  - เจอครั้งแรกที่ index f = ไม่มี pattern ไหนเริ่ม match ก่อน f
+// !    สแกนละเอียดต่อ pattern เริ่มที่ lastIndex = f แทน 0 ผลเหมือนสแกนจากต้นไฟล์ทุกตัว
+// !  ไม่ใช้ผลของ alternation เป็นคำตอบตรงๆ เพราะ alternative ที่ชนะจะบัง pattern อื่นที่ซ้อนกัน
+// !  (เช่น "new Function(" ตรงทั้ง Function Constructor และ Function Constructor Alternative)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+// ! backreference อ้างเลขกลุ่ม - ย้ายเข้า alternation แล้วเลขกลุ่มเปลี่ยน ผลผิดเงียบๆ
+const BACKREFERENCE = /\\[1-9]|\\k</;
+
+class ContentPatternScanner {
+    /**
+     * @param {Object[]} patterns - security-config loadSuspiciousPatterns(): { name, pattern: RegExp, severity, description, category }
+     * @param {Object} options
+     * @param {number} options.maxPositions - จำนวนตำแหน่งที่เก็บต่อ issue (MAX_MATCH_POSITIONS)
+     */
+    constructor(patterns, options) {
+        if (!Array.isArray(patterns)) {
+            throw new Error('ContentPatternScanner requires an array of suspicious patterns');
+        }
+        if (!Number.isInteger(options?.maxPositions) || options.maxPositions < 0) {
+            throw new Error('ContentPatternScanner requires maxPositions (MAX_MATCH_POSITIONS)');
+        }
+        this.maxPositions = options.maxPositions;
+        this.patterns = patterns.map(patternConfig => {
+            if (!(patternConfig.pattern instanceof RegExp)) {
+                throw new Error(`Suspicious pattern '${patternConfig.name}' is not a RegExp`);
+            }
+            if (BACKREFERENCE.test(patternConfig.pattern.source)) {
+                throw new Error(`Suspicious pattern '${patternConfig.name}' uses a backreference and cannot be combined`);
+            }
+            // ! สำเนาแบบ global ของตัวเอง - lastIndex ไม่ชนกับผู้ใช้ RegExp เดิม
+            const flags = patternConfig.pattern.flags.includes('g') ? patternConfig.pattern.flags : `${patternConfig.pattern.flags}g`;
+            return { config: patternConfig, regex: new RegExp(patternConfig.pattern.source, flags) };
+        });
+
+        // ! หนึ่ง alternation ต่อชุด flags (suspicious-patterns.json ปัจจุบันเป็น gi ทั้งหมด = regex เดียว)
+        const byFlags = new Map();
+        for (const entry of this.patterns) {
+            const group = byFlags.get(entry.regex.flags);
+            if (group) group.push(entry);
+            else byFlags.set(entry.regex.flags, [entry]);
+        }
+        this.gates = [...byFlags].map(([flags, entries]) => ({
+            regex: new RegExp(entries.map(entry => `(?:${entry.regex.source})`).join('|'), flags),
+            entries
+        }));
+    }
+
+    /**
+     * @param {string} content
+     * @returns {Object[]} securityIssues รูปเดียวกับที่ secureFileScan เคยคืน (positions มี index จริง)
+     */
+    scan(content) {
+        const found = new Map();
+        for (const gate of this.gates) {
+            gate.regex.lastIndex = 0;
+            const first = gate.regex.exec(content);
+            if (first === null) continue;
+            for (const entry of gate.entries) {
+                const issue = this.collect(entry, content, first.index);
+                if (issue) found.set(entry, issue);
+            }
+        }
+        // ! ลำดับ issue ตามลำดับใน suspicious-patterns.json ไม่ใช่ตามชุด flags
+        const securityIssues = [];
+        for (const entry of this.patterns) {
+            const issue = found.get(entry);
+            if (issue) securityIssues.push(issue);
+        }
+        return securityIssues;
+    }
+
+    collect(entry, content, startIndex) {
+        const regex = entry.regex;
+        const positions = [];
+        let matches = 0;
+        regex.lastIndex = startIndex;
+        let match;
+        while ((match = regex.exec(content)) !== null) {
+            matches++;
+            if (positions.length < this.maxPositions) {
+                positions.push({ index: match.index, length: match[0].length });
+            }
+            if (match[0].length === 0) regex.lastIndex++;
+        }
+        if (matches === 0) return null;
+        return {
+            issue: entry.config.description,
+            name: entry.config.name,
+            severity: entry.config.severity,
+            category: entry.config.category,
+            matches,
+            positions
+        };
+    }
+}
+
+export { ContentPatternScanner };
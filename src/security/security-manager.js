@@ -144,6 +144,38 @@ class SecurityManager {
         
         this.requestCounts = options.rateLimitStore;
         
+        // ! Directory validation cache (optional, injected เหมือน rateLimitStore)
+        // ! directory ที่ผ่าน forbidden prefix แล้ว = ทุกไฟล์ใน directory นั้นไม่ต้องเช็ค prefix ซ้ำ
+        // ! ไม่ inject = ตรวจครบทุกไฟล์เหมือนเดิม (ผลเหมือนกัน แค่ช้ากว่า)
+        this.directoryCache = null;
+        if (options.directoryCache) {
+            for (const method of ['get', 'set', 'has', 'delete']) {
+                if (typeof options.directoryCache[method] !== 'function') {
+                    throw new Error(`directoryCache must implement ${method}() method`);
+                }
+            }
+            this.directoryCache = options.directoryCache;
+        }
+        if (!this.config.MAX_DIRECTORY_CACHE_ENTRIES) {
+            throw new Error('MAX_DIRECTORY_CACHE_ENTRIES configuration is required');
+        }
+        this.forbiddenPathMatchers = this.compileForbiddenPaths(this.config.FORBIDDEN_PATHS);
+        
+        // ! Routine events (PATH_VALIDATED, FILE_VALIDATED): นับรวมแล้วเขียนเป็น event เดียว
+        // ! แทนหนึ่งบรรทัดต่อไฟล์ - violation ทุกชนิดยังเขียนทีละ event เหมือนเดิม
+        if (!Array.isArray(this.config.ROUTINE_EVENT_TYPES)) {
+            throw new Error('ROUTINE_EVENT_TYPES configuration must be an array');
+        }
+        if (!this.config.ROUTINE_EVENT_FLUSH_COUNT) {
+            throw new Error('ROUTINE_EVENT_FLUSH_COUNT configuration is required');
+        }
+        this.routineEventTypes = new Set(this.config.ROUTINE_EVENT_TYPES);
+        this.routineEventCounts = {};
+        this.routineEventsPending = 0;
+        this.routineEventTotals = {};
+        // ! appendFile ที่ยังเขียนไม่เสร็จ - shutdown() รอให้ครบก่อน process จบ
+        this.pendingLogWrites = new Set();
+        
         this.workingDirectory = process.cwd();
         this.startTime = Date.now();
         
@@ -205,6 +237,33 @@ class SecurityManager {
         return converted;
     }
     
+    // ! ══════════════════════════════════════════════════════════════════════════════
+    // ! แยก FORBIDDEN_PATHS เป็น 2 ชุด
+    // !  - prefix: ^... ที่จบด้วยตัวคั่น path (^/etc/, ^C:\\Windows\\) - match ของ path เต็ม
+    // !    อยู่ก่อนตัวคั่นตัวสุดท้ายเสมอ = ตัดสินได้จาก directory + sep (ตรวจครั้งเดียวต่อ directory)
+    // !  - segment: ที่เหลือ (node_modules, \.git) - ชื่อไฟล์ match ได้ รวมเป็น RegExp เดียวต่อชุด flags
+    // ! ══════════════════════════════════════════════════════════════════════════════
+    compileForbiddenPaths(patterns) {
+        const prefix = [];
+        const segmentsByFlags = new Map();
+        for (const pattern of patterns) {
+            const source = pattern.source;
+            const isPrefix = source.startsWith('^') && /(?:\\\\|\/)$/.test(source) &&
+                !source.includes('|') && !source.includes('$') && !source.includes('(?');
+            if (isPrefix && !pattern.global && !pattern.sticky) {
+                prefix.push(pattern);
+                continue;
+            }
+            if (!segmentsByFlags.has(pattern.flags)) segmentsByFlags.set(pattern.flags, []);
+            segmentsByFlags.get(pattern.flags).push(`(?:${source})`);
+        }
+        const segment = [];
+        for (const [flags, sources] of segmentsByFlags) {
+            segment.push(new RegExp(sources.join('|'), flags.replace(/[gy]/g, '')));
+        }
+        return { prefix, segment };
+    }
+    
     // ! ══════════════════════════════════════════════════════════════════════════════
     // ! Deep merge configuration objects
     // ! NO_HARDCODE + NO_SILENT_FALLBACKS: Configuration-driven merge
@@ -320,6 +379,34 @@ class SecurityManager {
         }
     }
     
+    // ! ══════════════════════════════════════════════════════════════════════════════
+    // ! Batched file validation: validateFile() พร้อมกันทีละ MAX_FILES_BATCH ไฟล์
+    // ! (stat / access ของทั้ง batch รอพร้อมกัน ไม่ใช่ทีละไฟล์)
+    // ! NO_SILENT_FALLBACKS: ไฟล์ที่ไม่ผ่านคืนใน rejected พร้อม error (และถูก log เป็น violation แล้ว)
+    // ! ══════════════════════════════════════════════════════════════════════════════
+    async validateFiles(filePaths, operation = 'READ') {
+        if (!Array.isArray(filePaths)) {
+            throw new InputValidationError('validateFiles requires an array of paths', filePaths);
+        }
+        const batchSize = this.config.MAX_FILES_BATCH;
+        const validated = [];
+        const rejected = [];
+        
+        for (let start = 0; start < filePaths.length; start += batchSize) {
+            const batch = filePaths.slice(start, start + batchSize);
+            const outcomes = await Promise.allSettled(batch.map(filePath => this.validateFile(filePath, operation)));
+            outcomes.forEach((outcome, index) => {
+                if (outcome.status === 'fulfilled') {
+                    validated.push(outcome.value);
+                } else {
+                    rejected.push({ filePath: batch[index], error: outcome.reason });
+                }
+            });
+        }
+        
+        return { validated, rejected };
+    }
+    
     // ! ══════════════════════════════════════════════════════════════════════════════
     // ! File security validation (Enhanced with async operations)
     // ! CONFIGURATION-DRIVEN: No hardcoded if statements - uses strategy pattern
@@ -556,10 +643,11 @@ class SecurityManager {
     
     // ! ══════════════════════════════════════════════════════════════════════════════
     // ! Check forbidden paths
-    // ! NO_HARDCODE: Loop-based checking with early throw
+    // ! prefix patterns: ครั้งเดียวต่อ directory (directoryCache) / segment patterns: ทุกไฟล์
     // ! ══════════════════════════════════════════════════════════════════════════════
     checkForbiddenPaths(resolvedPath) {
-        for (const forbiddenPattern of this.config.FORBIDDEN_PATHS) {
+        this.checkForbiddenDirectory(path.dirname(resolvedPath), resolvedPath);
+        for (const forbiddenPattern of this.forbiddenPathMatchers.segment) {
             if (forbiddenPattern.test(resolvedPath)) {
                 throw new AccessDeniedError(
                     `Access denied to forbidden path: ${resolvedPath}`,
@@ -569,6 +657,31 @@ class SecurityManager {
         }
     }
     
+    /**
+     * prefix patterns กับ directory + sep - ผ่านแล้วจำไว้ (directory ไม่ผ่านไม่ถูกจำ ตรวจและ log ทุกครั้ง)
+     */
+    checkForbiddenDirectory(directory, resolvedPath) {
+        if (this.directoryCache && this.directoryCache.has(directory)) {
+            return;
+        }
+        const prefix = directory.endsWith(path.sep) ? directory : directory + path.sep;
+        for (const forbiddenPattern of this.forbiddenPathMatchers.prefix) {
+            if (forbiddenPattern.test(prefix)) {
+                throw new AccessDeniedError(
+                    `Access denied to forbidden path: ${resolvedPath}`,
+                    resolvedPath
+                );
+            }
+        }
+        if (this.directoryCache) {
+            // ! DoS Protection: Map ในหน่วยความจำไม่โตเกิน MAX_DIRECTORY_CACHE_ENTRIES (ทิ้งตัวที่เก่าที่สุด)
+            if (this.directoryCache.size !== undefined && this.directoryCache.size >= this.config.MAX_DIRECTORY_CACHE_ENTRIES) {
+                this.directoryCache.delete(this.directoryCache.keys().next().value);
+            }
+            this.directoryCache.set(directory, true);
+        }
+    }
+    
     /**
      * Check working directory boundary
      */
@@ -662,6 +775,12 @@ class SecurityManager {
      * ! NO_SILENT_FALLBACKS: Explicit check for LOG_SENSITIVE_DATA
      */
     logSecurityEvent(type, message, details = {}) {
+        // ! routine success: นับอย่างเดียว (flushRoutineEvents() เขียนรวมเป็น event เดียว)
+        if (this.routineEventTypes && this.routineEventTypes.has(type)) {
+            this.countRoutineEvent(type);
+            return;
+        }
+        
         // ! NO_SILENT_FALLBACKS: Explicit decision on detail sanitization
         let eventDetails = {};
         if (this.config.LOG_SENSITIVE_DATA) {
@@ -688,7 +807,7 @@ class SecurityManager {
                 // ! NO_SILENT_FALLBACKS: Log errors to console as fallback
                 // ! WHY: Cannot use logSecurityEvent here (infinite recursion)
                 // ! WHY: Must have SOME notification mechanism for logging failures
-                fs.promises.appendFile(this.securityLogPath, logEntry).catch((writeError) => {
+                const write = fs.promises.appendFile(this.securityLogPath, logEntry).catch((writeError) => {
                     errorHandler.handleError(writeError, {
                         source: 'SecurityManager',
                         method: 'logSecurityEvent',
@@ -698,7 +817,8 @@ class SecurityManager {
                     // ! FAIL LOUD: Output to console stderr as last resort
                     console.error(`[SECURITY] Failed to write security log: ${writeError.message}`);
                     console.error(`[SECURITY] Event type: ${type}, Message: ${message}`);
-                });
+                }).finally(() => this.pendingLogWrites.delete(write));
+                this.pendingLogWrites.add(write);
             } catch (error) {
                 errorHandler.handleError(error, {
                     source: 'SecurityManager',
@@ -718,6 +838,44 @@ class SecurityManager {
         }
     }
     
+    countRoutineEvent(type) {
+        if (!Object.hasOwn(this.routineEventCounts, type)) {
+            this.routineEventCounts[type] = 0;
+        }
+        this.routineEventCounts[type]++;
+        if (!Object.hasOwn(this.routineEventTotals, type)) {
+            this.routineEventTotals[type] = 0;
+        }
+        this.routineEventTotals[type]++;
+        this.routineEventsPending++;
+        if (this.routineEventsPending >= this.config.ROUTINE_EVENT_FLUSH_COUNT) {
+            this.flushRoutineEvents();
+        }
+    }
+    
+    /**
+     * เขียน routine event ที่นับไว้เป็น ROUTINE_EVENTS หนึ่ง event (เรียกเองตอนจบงาน หรือทุก ROUTINE_EVENT_FLUSH_COUNT)
+     */
+    flushRoutineEvents() {
+        if (this.routineEventsPending === 0) {
+            return;
+        }
+        const counts = this.routineEventCounts;
+        const total = this.routineEventsPending;
+        this.routineEventCounts = {};
+        this.routineEventsPending = 0;
+        this.logSecurityEvent('ROUTINE_EVENTS', `Routine security checks passed: ${total}`, { counts });
+    }
+    
+    /**
+     * เรียกตอนจบงาน (CLI ก่อน process.exit, extension ตอน deactivate)
+     * เขียน routine event ที่ค้างนับ แล้วรอ log ที่กำลังเขียนจนเสร็จ - ไม่หายตอน process จบ
+     */
+    async shutdown() {
+        this.flushRoutineEvents();
+        await Promise.all(this.pendingLogWrites);
+    }
+    
     // ! ══════════════════════════════════════════════════════════════════════════════
     // ! Sanitize log messages to prevent log injection
     // ! NO_HARDCODE: Type checking using ternary instead of IF
@@ -786,6 +944,8 @@ class SecurityManager {
     // ! Get security statistics
     // ! ══════════════════════════════════════════════════════════════════════════════
     getSecurityStats() {
+        // ! สถิติต้องรวม routine event ที่ยังค้างนับอยู่
+        this.flushRoutineEvents();
         const now = Date.now();
         const events = this.securityLog.filter(e => 
             now - new Date(e.timestamp).getTime() < 3600000 // Last hour
@@ -813,6 +973,7 @@ class SecurityManager {
             recentEvents: events.length,
             violations: violations.length,
             lastViolation: lastViolation,
+            routineEvents: { ...this.routineEventTotals },
             rateLimit: {
                 currentMinute: Math.floor(now / 60000),
                 requestCounts: Object.fromEntries(this.requestCounts)
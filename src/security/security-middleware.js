@@ -9,7 +9,10 @@
 // ======================================================================
 
 // Note: vscode module handling for both extension and test environments
+import fs from 'fs';
+import path from 'path';
 import errorHandler from '../error-handler/ErrorHandler.js';
+import { ContentPatternScanner } from './content-pattern-scanner.js';
 let vscode;
 
 // Initialize vscode module
@@ -94,8 +97,25 @@ class SecurityMiddleware {
             options.rateLimitStore = new Map();
             console.warn('[SECURITY] Using in-memory rate limiting. For production with multiple instances, inject Redis: new SecurityMiddleware({ rateLimitStore: redisClient })');
         }
+        // ! directory ที่ผ่าน forbidden prefix แล้ว - ผลขึ้นกับ path อย่างเดียว ใช้ร่วมกันใน process ได้
+        if (!options.directoryCache) {
+            options.directoryCache = new Map();
+        }
         
         this.securityManager = new SecurityManager(options);
+        
+        // ! NO_SILENT_FALLBACKS: Explicit pattern extraction with validation
+        let suspiciousPatterns;
+        if (this.securityManager.config.content && this.securityManager.config.content.suspiciousPatterns) {
+            suspiciousPatterns = this.securityManager.config.content.suspiciousPatterns;
+        } else {
+            // ! FAIL LOUD: Log warning when patterns are missing
+            console.warn('[SECURITY] No suspicious patterns configured - file scanning will be limited');
+            suspiciousPatterns = [];
+        }
+        this.contentScanner = new ContentPatternScanner(suspiciousPatterns, {
+            maxPositions: this.securityManager.config.MAX_MATCH_POSITIONS
+        });
         this.isEnabled = true;
         this.vscode = null;
         this.initializeVSCode();
@@ -314,10 +334,8 @@ class SecurityMiddleware {
      * Secure file reading
      */
     async secureFileRead(filePath) {
-        const fs = require('fs').promises;
-        
         try {
-            const content = await fs.readFile(filePath, 'utf8');
+            const content = await fs.promises.readFile(filePath, 'utf8');
             
             return {
                 success: true,
@@ -342,22 +360,20 @@ class SecurityMiddleware {
      * Secure file writing with backup
      */
     async secureFileWrite(filePath, content) {
-        const fs = require('fs').promises;
-        const path = require('path');
         
         try {
             // Create backup if file exists
             let backupPath = null;
             try {
-                await fs.access(filePath);
+                await fs.promises.access(filePath);
                 backupPath = filePath + '.security-backup.' + Date.now();
-                await fs.copyFile(filePath, backupPath);
+                await fs.promises.copyFile(filePath, backupPath);
             } catch (error) {
                 // File doesn't exist, no backup needed
             }
             
             // Write content securely
-            await fs.writeFile(filePath, content, 'utf8');
+            await fs.promises.writeFile(filePath, content, 'utf8');
             
             return {
                 success: true,
@@ -383,120 +399,119 @@ class SecurityMiddleware {
     async secureFileScan(filePath) {
         try {
             const readResult = await this.secureFileRead(filePath);
-            const content = readResult.content;
-            
-            // Basic security scan of file content
-            const securityIssues = [];
-            
-            // ! NO_SILENT_FALLBACKS: Explicit pattern extraction with validation
-            let suspiciousPatterns;
-            if (this.securityManager.config.content && this.securityManager.config.content.suspiciousPatterns) {
-                suspiciousPatterns = this.securityManager.config.content.suspiciousPatterns;
-            } else {
-                // ! FAIL LOUD: Log warning when patterns are missing
-                console.warn('[SECURITY] No suspicious patterns configured - file scanning will be limited');
-                suspiciousPatterns = [];
+            return this.scanContent(readResult.content, filePath);
+        } catch (error) {
+            errorHandler.handleError(error, {
+                source: 'SecurityMiddleware',
+                method: 'secureFileScan',
+                severity: 'HIGH',
+                context: `File scan failed for ${filePath}`
+            });
+            throw new SecurityError(`File scan failed: ${error.message}`, filePath);
+        }
+    }
+    
+    /**
+     * Content security scan of text that was already read (no second read)
+     * ! suspicious patterns ทั้งชุดผ่าน ContentPatternScanner ในรอบเดียว แล้วตาม fileTypeRules
+     */
+    scanContent(content, filePath) {
+        let securityIssues;
+        try {
+            securityIssues = this.contentScanner.scan(content);
+        } catch (scanError) {
+            this.securityManager.logSecurityEvent(
+                'SCAN_PATTERN_ERROR',
+                `Pattern scan failed: ${scanError.message}`,
+                { error: scanError.message, filePath }
+            );
+            throw scanError;
+        }
+        
+        // Additional file-specific validations
+        const fileExtension = path.extname(filePath).toLowerCase();
+        const fileTypeRules = this.securityManager.config.content?.fileTypeRules?.[fileExtension];
+        
+        if (fileTypeRules) {
+            // Check file size against extension-specific limits
+            if (fileTypeRules.maxSize && content.length > fileTypeRules.maxSize) {
+                securityIssues.push({
+                    issue: `File exceeds size limit for ${fileExtension} files`,
+                    name: 'File Size Violation',
+                    severity: 'MEDIUM',
+                    category: 'PERFORMANCE_RISK',
+                    actualSize: content.length,
+                    maxSize: fileTypeRules.maxSize
+                });
             }
             
-            // Scan content against each configured pattern
-            for (const patternConfig of suspiciousPatterns) {
+            // JSON validation for .json files
+            if (fileExtension === '.json' && fileTypeRules.validateJSON) {
                 try {
-                    const matches = await this.securityManager.safeRegexExecution(
-                        patternConfig.pattern, 
-                        content, 
-                        filePath
-                    );
-                    
-                    if (matches && matches.length > 0) {
-                        securityIssues.push({
-                            issue: patternConfig.description,
-                            name: patternConfig.name,
-                            severity: patternConfig.severity,
-                            category: patternConfig.category,
-                            matches: matches.length,
-                            positions: matches.map(match => ({
-                                index: match.index,
-                                length: match[0] ? match[0].length : 0
-                            })).slice(0, 10) // Limit to first 10 matches for performance
-                        });
-                    }
-                } catch (regexError) {
-                    errorHandler.handleError(regexError, {
+                    JSON.parse(content);
+                } catch (jsonError) {
+                    errorHandler.handleError(jsonError, {
                         source: 'SecurityMiddleware',
-                        method: 'secureFileScan',
+                        method: 'scanContent',
                         severity: 'MEDIUM',
-                        context: `Regex execution error for pattern: ${patternConfig.name}`
+                        context: `JSON validation failed for ${filePath}`
                     });
-                    // Log regex execution error but continue scanning
-                    this.securityManager.logSecurityEvent(
-                        'SCAN_PATTERN_ERROR', 
-                        `Pattern scan failed: ${patternConfig.name}`,
-                        { 
-                            patternName: patternConfig.name,
-                            error: regexError.message,
-                            filePath 
-                        }
-                    );
-                }
-            }
-            
-            // Additional file-specific validations
-            const fileExtension = require('path').extname(filePath).toLowerCase();
-            const fileTypeRules = this.securityManager.config.content?.fileTypeRules?.[fileExtension];
-            
-            if (fileTypeRules) {
-                // Check file size against extension-specific limits
-                if (fileTypeRules.maxSize && content.length > fileTypeRules.maxSize) {
                     securityIssues.push({
-                        issue: `File exceeds size limit for ${fileExtension} files`,
-                        name: 'File Size Violation',
-                        severity: 'MEDIUM',
-                        category: 'PERFORMANCE_RISK',
-                        actualSize: content.length,
-                        maxSize: fileTypeRules.maxSize
+                        issue: 'Invalid JSON format detected',
+                        name: 'JSON Syntax Error',
+                        severity: 'HIGH',
+                        category: 'SYNTAX_ERROR',
+                        error: jsonError.message
                     });
                 }
-                
-                // JSON validation for .json files
-                if (fileExtension === '.json' && fileTypeRules.validateJSON) {
-                    try {
-                        JSON.parse(content);
-                    } catch (jsonError) {
-                        errorHandler.handleError(jsonError, {
-                            source: 'SecurityMiddleware',
-                            method: 'secureFileScan',
-                            severity: 'MEDIUM',
-                            context: `JSON validation failed for ${filePath}`
-                        });
-                        securityIssues.push({
-                            issue: 'Invalid JSON format detected',
-                            name: 'JSON Syntax Error',
-                            severity: 'HIGH',
-                            category: 'SYNTAX_ERROR',
-                            error: jsonError.message
-                        });
-                    }
-                }
+            }
+        }
+        
+        
+        return {
+            success: true,
+            filePath,
+            contentSize: content.length,
+            fileExtension,
+            securityIssues,
+            scanTimestamp: new Date().toISOString(),
+            patternsScanned: this.contentScanner.patterns.length
+        };
+    }
+    
+    /**
+     * Secure document scan pipeline: validate + read once, then security patterns and rule analysis
+     * on the same text, one result carrying both securityIssues and violations
+     * ! เดิม extension อ่าน document (getText) แล้ว SCAN อ่านไฟล์จาก disk อีกรอบ แล้ว scanDocument getText อีกรอบ
+     * @param {Object} document - vscode.TextDocument (uri.fsPath + getText())
+     * @param {Function} analyze - (content, filePath) => { violations, ... } เช่น validationEngine.validateCode
+     */
+    async secureScanDocument(document, analyze) {
+        try {
+            if (typeof analyze !== 'function') {
+                throw new SecurityError('secureScanDocument requires an analyze(content, filePath) function');
+            }
+            const readResult = await this.secureReadDocument(document);
+            await this.securityManager.checkRateLimit('workspace_SCAN');
+            
+            const securityScan = this.scanContent(readResult.content, readResult.filePath);
+            const analysis = await analyze(readResult.content, readResult.filePath);
+            if (!analysis || !Array.isArray(analysis.violations)) {
+                throw new SecurityError('Document analysis returned no violations array', readResult.filePath);
             }
             
             return {
-                success: true,
-                filePath,
-                contentSize: content.length,
-                fileExtension,
-                securityIssues,
-                scanTimestamp: new Date().toISOString(),
-                patternsScanned: suspiciousPatterns.length
+                ...analysis,
+                filePath: readResult.filePath,
+                contentSize: securityScan.contentSize,
+                securityIssues: securityScan.securityIssues,
+                scanTimestamp: securityScan.scanTimestamp,
+                patternsScanned: securityScan.patternsScanned
             };
             
         } catch (error) {
-            errorHandler.handleError(error, {
-                source: 'SecurityMiddleware',
-                method: 'secureFileScan',
-                severity: 'HIGH',
-                context: `File scan failed for ${filePath}`
-            });
-            throw new SecurityError(`File scan failed: ${error.message}`, filePath);
+            this.handleSecurityError(error, 'SCAN_DOCUMENT');
+            throw error;
         }
     }
     
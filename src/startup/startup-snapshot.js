@@ -0,0 +1,126 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  STARTUP SNAPSHOT - boot CLI จาก blob ที่ serialize ไว้แล้ว
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ปัญหาเดิม: ทุกครั้งที่รัน cli.js ต้อง import NO_*.js ทั้ง 5 ไฟล์ (~390KB ของ
+// !  template string) + อ่าน/flatten grammar JSON + parser-config.json
+// !  pre-commit ที่สแกนไม่กี่ไฟล์ใช้เวลาส่วนใหญ่ไปกับ startup
+// !
+// !  ทำไมไม่ใช้ `node --build-snapshot` ตรงๆ: entry ของ V8 snapshot ต้องเป็น script
+// !  เดียวที่ require ได้เฉพาะ built-in module - โค้ดทั้งหมดของเราเป็น ESM หลายไฟล์
+// !  จึงเก็บ "ข้อมูลที่แพง" ด้วย v8.serialize แทน (structured clone - deserialize เร็ว
+// !  กว่า compile module ต้นทางหลายเท่า) แล้วสร้าง engine จากข้อมูลนั้น
+// !
+// !  Blob: MAGIC + v8.serialize({ formatVersion, fingerprint, nodeVersion, rules, grammar, parserConfig })
+// !
+// !  Fingerprint: ขนาด + mtime ของทุกไฟล์ต้นทาง (rules, grammar, parser-config)
+// !  + version ของ Node  แก้ไฟล์ใดไฟล์หนึ่ง = blob stale  CLI แจ้งแล้ว boot แบบปกติ
+// !  (ไม่มีทางใช้กฎเก่าโดยไม่รู้ตัว)
+// !
+// !  วัดจริง (สแกน 1 ไฟล์, median 40 รอบสลับกัน): โหลด rules + grammar จาก blob ~11-16ms
+// !  เทียบกับ ~18-22ms จากต้นทาง  ทั้ง process 239ms vs 249ms (--no-snapshot)
+// !  ส่วนใหญ่ที่เหลือคือ startup ของ Node เอง (~115ms) - snapshot ช่วยได้แค่ส่วนโหลดข้อมูล
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import fs from 'fs';
+import path from 'path';
+import v8 from 'v8';
+import { createHash } from 'crypto';
+
+const MAGIC = Buffer.from('SENTINEL-SNAPSHOT\n', 'utf8');
+const FORMAT_VERSION = 1;
+
+/**
+ * ไฟล์ต้นทางที่ข้อมูลใน snapshot มาจาก (เรียงตามชื่อ  fingerprint คงที่)
+ * @param {string} rootDir - root ของ package (ที่อยู่ของ cli.js)
+ * @param {string} language - grammar ที่ engine ใช้
+ */
+function snapshotSources(rootDir, language) {
+    const rulesDir = path.join(rootDir, 'src', 'rules');
+    const ruleFiles = fs.readdirSync(rulesDir)
+        .filter(name => name.endsWith('.js'))
+        .sort()
+        .map(name => path.join(rulesDir, name));
+    return [
+        ...ruleFiles,
+        path.join(rootDir, 'src', 'grammars', 'shared', 'grammars', `${language}.grammar.json`),
+        path.join(rootDir, 'src', 'grammars', 'shared', 'parser-config.json')
+    ];
+}
+
+function fingerprintSources(rootDir, language) {
+    const hash = createHash('sha1').update(process.version);
+    for (const file of snapshotSources(rootDir, language)) {
+        const stat = fs.statSync(file);
+        hash.update(`${path.relative(rootDir, file)}\0${stat.size}\0${stat.mtimeMs}\n`);
+    }
+    return hash.digest('hex');
+}
+
+/**
+ * @param {Object} state - { rules, grammar, parserConfig }
+ * @param {Object} options - { rootDir, language }
+ * @returns {Buffer}
+ */
+function buildStartupSnapshot(state, options) {
+    for (const key of ['rules', 'grammar', 'parserConfig']) {
+        if (!state[key] || typeof state[key] !== 'object') {
+            throw new Error(`Startup snapshot requires ${key}`);
+        }
+    }
+    const payload = v8.serialize({
+        formatVersion: FORMAT_VERSION,
+        fingerprint: fingerprintSources(options.rootDir, options.language),
+        nodeVersion: process.version,
+        language: options.language,
+        rules: state.rules,
+        grammar: state.grammar,
+        parserConfig: state.parserConfig
+    });
+    return Buffer.concat([MAGIC, payload]);
+}
+
+function writeStartupSnapshot(file, state, options) {
+    const blob = buildStartupSnapshot(state, options);
+    fs.mkdirSync(path.dirname(file), { recursive: true });
+    // ! เขียนไฟล์ชั่วคราวแล้ว rename - CLI ที่รันพร้อมกันไม่มีทางอ่าน blob ครึ่งไฟล์
+    const temporary = `${file}.${process.pid}.tmp`;
+    fs.writeFileSync(temporary, blob);
+    fs.renameSync(temporary, file);
+    return blob.length;
+}
+
+/**
+ * @returns {{state: Object|null, reason: string|null}}
+ *   state = { rules, grammar, parserConfig } เมื่อใช้ได้, reason = เหตุผลเมื่อใช้ไม่ได้
+ */
+function loadStartupSnapshot(file, options) {
+    if (!fs.existsSync(file)) {
+        return { state: null, reason: 'missing' };
+    }
+    const blob = fs.readFileSync(file);
+    if (blob.length < MAGIC.length || !blob.subarray(0, MAGIC.length).equals(MAGIC)) {
+        throw new Error(`${file} is not a Sentinel startup snapshot`);
+    }
+    const snapshot = v8.deserialize(blob.subarray(MAGIC.length));
+    if (snapshot.formatVersion !== FORMAT_VERSION) {
+        return { state: null, reason: `format ${snapshot.formatVersion} != ${FORMAT_VERSION}` };
+    }
+    if (snapshot.language !== options.language) {
+        return { state: null, reason: `built for ${snapshot.language}` };
+    }
+    if (snapshot.fingerprint !== fingerprintSources(options.rootDir, options.language)) {
+        return { state: null, reason: 'rules, grammar, parser config or Node version changed since it was built' };
+    }
+    return {
+        state: { rules: snapshot.rules, grammar: snapshot.grammar, parserConfig: snapshot.parserConfig },
+        reason: null
+    };
+}
+
+export { buildStartupSnapshot, writeStartupSnapshot, loadStartupSnapshot, fingerprintSources, snapshotSources };
@@ -0,0 +1,129 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  CROSS-FILE RULES - กฎที่ต้องเห็นมากกว่าหนึ่งไฟล์ (ถาม ProjectSymbolIndex)
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ตรวจ import ของไฟล์หนึ่งไฟล์ - แต่ละ import = resolveImport() หนึ่งครั้ง (O(1))
+// !
+// !  - NO_INTERNAL_CACHING: import ตัวแปรระดับ module ที่สร้างด้วย new Map() / new Set() ...
+// !    จากไฟล์อื่น แล้วใช้แบบ cache: ไฟล์นี้ทั้งค้น (get/has) และเก็บ (set/add) ลงไป
+// !    (ชื่อไม่ต้องมีคำว่า cache)  import มาอ่านอย่างเดียว / ส่งต่อ = ไม่ใช่ cache ไม่รายงาน
+// !  - NO_MOCKING: ไฟล์ production import ของจาก mock module (__mocks__, *.mock.js)
+// !    หรือ export ที่ชื่อเป็น mock factory (createMockUser, fakeClock)
+// !
+// !  ชุดคำ / ชื่อ class / path segment มาจาก parser-config.json (crossFileRules)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import path from 'path';
+import { RULE_IDS, SEVERITY_LEVELS, DEFAULT_LOCATION } from '../grammars/shared/constants.js';
+
+class CrossFileRules {
+    /**
+     * @param {Object} options
+     * @param {string[]} options.enabledRules - rule id ที่เปิดอยู่ (engine.enabledRules)
+     * @param {string[]} options.cacheContainers - class ที่ new แล้วเป็น keyed store (Map, WeakMap ...)
+     * @param {string[]} options.cacheLookupMethods - method ที่ค้นค่าเดิม (get, has)
+     * @param {string[]} options.cacheStoreMethods - method ที่เก็บค่าที่คำนวณแล้ว (set, add)
+     * @param {string[]} options.mockNameSubstrings - ชื่อ export ที่มีคำเหล่านี้ = mock factory
+     * @param {string[]} options.mockPathSegments - path ที่มีส่วนนี้ = mock module
+     * @param {string[]} options.testPathSegments - path ที่มีส่วนนี้ = ไฟล์ test (import mock ได้)
+     */
+    constructor(options) {
+        for (const key of ['enabledRules', 'cacheContainers', 'cacheLookupMethods', 'cacheStoreMethods',
+            'mockNameSubstrings', 'mockPathSegments', 'testPathSegments']) {
+            if (!Array.isArray(options[key])) {
+                throw new Error(`CrossFileRules requires ${key} array`);
+            }
+        }
+        this.checkCaching = options.enabledRules.includes(RULE_IDS.NO_INTERNAL_CACHING);
+        this.checkMocking = options.enabledRules.includes(RULE_IDS.NO_MOCKING);
+        this.cacheContainers = new Set(options.cacheContainers);
+        this.cacheLookupMethods = new Set(options.cacheLookupMethods);
+        this.cacheStoreMethods = new Set(options.cacheStoreMethods);
+        this.mockNameSubstrings = options.mockNameSubstrings.map(word => word.toLowerCase());
+        this.mockPathSegments = options.mockPathSegments;
+        this.testPathSegments = options.testPathSegments;
+    }
+
+    static fromConfig(config, enabledRules) {
+        if (!config) {
+            throw new Error('Configuration missing crossFileRules section');
+        }
+        return new CrossFileRules({ enabledRules, ...config });
+    }
+
+    hasPathSegment(file, segments) {
+        const normalized = file.split(path.sep).join('/');
+        return segments.some(segment => normalized.includes(segment));
+    }
+
+    isMockName(name) {
+        if (!name) return false;
+        const lower = name.toLowerCase();
+        return this.mockNameSubstrings.some(word => lower.includes(word));
+    }
+
+    /**
+     * ค้นแล้วเก็บ = memoize ลง container ที่ import มา
+     * @param {string[]} calledMethods - method ที่ไฟล์นี้เรียกบน binding ที่ import มา
+     * @returns {{lookups: string[], stores: string[]}|null} null = ไม่ได้ใช้แบบ cache
+     */
+    cacheUsage(calledMethods) {
+        const lookups = calledMethods.filter(method => this.cacheLookupMethods.has(method));
+        const stores = calledMethods.filter(method => this.cacheStoreMethods.has(method));
+        return lookups.length > 0 && stores.length > 0 ? { lookups, stores } : null;
+    }
+
+    /**
+     * @param {ProjectSymbolIndex} index
+     * @param {string} file - ไฟล์ที่ update เข้า index แล้ว
+     * @returns {Object[]} violations รูปเดียวกับ engine.analyzeCode()
+     */
+    checkFile(index, file) {
+        const record = index.getRecord(file);
+        if (!record || (!this.checkCaching && !this.checkMocking)) return [];
+        const productionFile = !this.hasPathSegment(file, this.testPathSegments);
+        const violations = [];
+
+        for (const entry of record.imports) {
+            if (entry.imported === '*') continue;
+            const symbol = index.resolveImport(file, entry.source, entry.imported);
+            if (!symbol || symbol.file === path.resolve(file)) continue;
+            const from = path.relative(path.dirname(path.resolve(file)), symbol.file);
+            const location = entry.location ?? DEFAULT_LOCATION;
+
+            const declaration = symbol.declaration;
+            const usage = this.checkCaching && declaration?.init?.type === 'NewExpression' &&
+                this.cacheContainers.has(declaration.init.name) ? this.cacheUsage(entry.calledMethods) : null;
+            if (usage) {
+                violations.push({
+                    ruleId: RULE_IDS.NO_INTERNAL_CACHING,
+                    severity: SEVERITY_LEVELS.WARNING,
+                    message: `Cross-file: "${entry.local}" is module-level new ${declaration.init.name}() "${declaration.name}" exported from ${from}, ` +
+                        `looked up (${usage.lookups.join('/')}) and stored into (${usage.stores.join('/')}) here - shared state used as an internal cache`,
+                    location
+                });
+            }
+
+            if (this.checkMocking && productionFile) {
+                const mockModule = this.hasPathSegment(symbol.file, this.mockPathSegments);
+                const mockName = this.isMockName(declaration?.name ?? symbol.local) || this.isMockName(symbol.exported);
+                if (mockModule || mockName) {
+                    violations.push({
+                        ruleId: RULE_IDS.NO_MOCKING,
+                        severity: SEVERITY_LEVELS.CRITICAL,
+                        message: `Cross-file: production code imports mock "${entry.local}" from ${from}`,
+                        location
+                    });
+                }
+            }
+        }
+        return violations;
+    }
+}
+
+export { CrossFileRules };
@@ -0,0 +1,422 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  PROJECT SYMBOL INDEX - import / export / declaration ระดับ module ของทั้งโปรเจกต์
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  กฎทั้ง 5 ข้อทำงานทีละไฟล์ - มองไม่เห็น Map ระดับ module ที่ไฟล์หนึ่ง export
+// !  แล้วอีกไฟล์ใช้เป็น cache หรือ mock factory ที่ถูก import เข้าโค้ด production
+// !
+// !  ที่มาของข้อมูล: node จาก AdvancedStructureParser.parseModuleSurface()
+// !  (ImportDeclaration, Export*Declaration, VariableDeclaration, FunctionDeclaration,
+// !  ClassDeclaration ระดับบนสุด) ที่ engine คืนมาพร้อมผลวิเคราะห์ของไฟล์ - ไม่อ่านไฟล์ซ้ำ
+// !
+// !  - update(file, nodes, fingerprint)   แทนที่ข้อมูลของไฟล์เดียว (incremental)
+// !  - lookupExport(file, name)           Map.get สองชั้น - O(1)
+// !  - resolveImport(file, source, name)  resolve path จากชุดนามสกุลคงที่ + ตาม re-export
+// !                                       ไม่เกิน maxReExportDepth ชั้น - O(1) ต่อ import
+// !
+// !  ขอบเขต: restrictTo(files) = import resolve ได้เฉพาะไฟล์ที่พบในการรันนี้
+// !  (ทุก shard พบไฟล์ชุดเดียวกัน)  record อื่นที่ค้างจากการรันก่อนไม่ถูกใช้ - ผลไม่ขึ้นกับประวัติ
+// !
+// !  Persistent: MAGIC + v8.serialize({ formatVersion, files }) ใน .sentinel-cache
+// !  path เก็บแบบ relative กับ rootDir (cache ของ CI ย้าย checkout ได้)
+// !  เป็นแค่ cache ของ surface: indexSurface() ใช้ record เดิมเมื่อ size + mtime ตรง
+// !  ไม่ตรง / ไม่มี = index ใหม่เฉพาะไฟล์นั้นผ่าน reindex()
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import fs from 'fs';
+import path from 'path';
+import v8 from 'v8';
+
+const MAGIC = Buffer.from('SENTINEL-SYMBOLS\n', 'utf8');
+const FORMAT_VERSION = 2;
+
+/**
+ * size + mtime - เปลี่ยนเมื่อไฟล์ถูกแก้ (เหมือน fingerprint ของ startup snapshot)
+ */
+function fingerprintFile(file) {
+    const stat = fs.statSync(file);
+    return `${stat.size}:${stat.mtimeMs}`;
+}
+
+function summarizeInit(init) {
+    if (!init) return null;
+    return {
+        type: init.type,
+        name: init.type === 'Identifier' ? init.name : (init.callee?.name ?? null)
+    };
+}
+
+function locationOf(node) {
+    return node.loc?.start ? { line: node.loc.start.line, column: node.loc.start.column } : null;
+}
+
+function summarizeDeclaration(node, declarations) {
+    if (node.type === 'VariableDeclaration') {
+        for (const declarator of node.declarations) {
+            declarations.push({
+                name: declarator.id.name,
+                kind: node.kind,
+                init: summarizeInit(declarator.init),
+                location: locationOf(node)
+            });
+        }
+        return node.declarations.map(declarator => declarator.id.name);
+    }
+    if ((node.type === 'FunctionDeclaration' || node.type === 'ClassDeclaration') && node.id) {
+        declarations.push({
+            name: node.id.name,
+            kind: node.type === 'FunctionDeclaration' ? 'function' : 'class',
+            init: null,
+            location: locationOf(node)
+        });
+        return [node.id.name];
+    }
+    return [];
+}
+
+/**
+ * node ระดับ module  ข้อมูลล้วน (serialize ได้) ของไฟล์หนึ่ง
+ * @param {Object[]} nodes - จาก parseModuleSurface()
+ * @returns {{imports: Object[], exports: Object[], starExports: string[], declarations: Object[]}}
+ */
+function summarizeModuleSurface(nodes) {
+    const imports = [];
+    const exports = [];
+    const starExports = [];
+    const declarations = [];
+
+    for (const node of nodes) {
+        switch (node.type) {
+            case 'ImportDeclaration':
+                for (const specifier of node.specifiers) {
+                    imports.push({
+                        source: node.source.value,
+                        imported: specifier.type === 'ImportDefaultSpecifier' ? 'default'
+                            : specifier.type === 'ImportNamespaceSpecifier' ? '*'
+                            : specifier.imported.name,
+                        local: specifier.local.name,
+                        location: locationOf(node),
+                        calledMethods: []
+                    });
+                }
+                break;
+            case 'ImportMemberCall': {
+                // ! parseModuleSurface วาง node เหล่านี้ต่อท้าย import ทั้งหมดแล้ว
+                const entry = imports.find(candidate => candidate.local === node.object);
+                if (entry) entry.calledMethods.push(node.method);
+                break;
+            }
+            case 'ExportNamedDeclaration':
+                if (node.declaration) {
+                    for (const name of summarizeDeclaration(node.declaration, declarations)) {
+                        exports.push({ exported: name, local: name, source: null, init: null });
+                    }
+                }
+                for (const specifier of node.specifiers) {
+                    exports.push({
+                        exported: specifier.exported.name,
+                        local: specifier.local.name,
+                        source: node.source ? node.source.value : null,
+                        init: null
+                    });
+                }
+                break;
+            case 'ExportDefaultDeclaration': {
+                const declaration = node.declaration;
+                const [name] = summarizeDeclaration(declaration, declarations);
+                if (name) {
+                    exports.push({ exported: 'default', local: name, source: null, init: null });
+                } else if (declaration.type === 'Identifier') {
+                    exports.push({ exported: 'default', local: declaration.name, source: null, init: null });
+                } else {
+                    exports.push({ exported: 'default', local: null, source: null, init: summarizeInit(declaration) });
+                }
+                break;
+            }
+            case 'ExportAllDeclaration':
+                if (node.exported) {
+                    exports.push({ exported: node.exported.name, local: '*', source: node.source.value, init: null });
+                } else {
+                    starExports.push(node.source.value);
+                }
+                break;
+            default:
+                summarizeDeclaration(node, declarations);
+        }
+    }
+    return { imports, exports, starExports, declarations };
+}
+
+class ProjectSymbolIndex {
+    /**
+     * @param {Object} options
+     * @param {string} options.rootDir - path ใน index เก็บแบบ relative กับ directory นี้
+     * @param {string[]} options.extensions - นามสกุลที่ลองต่อท้าย import specifier ('./a'  './a.js')
+     * @param {string[]} options.indexFiles - ไฟล์ที่ลองเมื่อ specifier เป็น directory ('./lib'  './lib/index.js')
+     * @param {number} options.maxReExportDepth - ตาม export ... from ได้ลึกสุดกี่ชั้น
+     * @param {(file: string) => Object[]} [options.reindex] - node ของไฟล์ที่เปลี่ยนหลังบันทึก index
+     */
+    constructor(options) {
+        for (const key of ['extensions', 'indexFiles']) {
+            if (!Array.isArray(options[key])) {
+                throw new Error(`ProjectSymbolIndex requires ${key} array`);
+            }
+        }
+        if (!Number.isInteger(options.maxReExportDepth) || options.maxReExportDepth < 0) {
+            throw new Error('ProjectSymbolIndex requires a non-negative integer maxReExportDepth');
+        }
+        if (typeof options.rootDir !== 'string') {
+            throw new Error('ProjectSymbolIndex requires rootDir');
+        }
+        this.rootDir = path.resolve(options.rootDir);
+        this.extensions = options.extensions;
+        this.indexFiles = options.indexFiles;
+        this.maxReExportDepth = options.maxReExportDepth;
+        this.reindex = options.reindex || null;
+
+        // ! absolute path  { fingerprint, imports, exports, starExports, declarations }
+        this.records = new Map();
+        // ! absolute path  Map<exported name, export entry> (สร้างตอน update - query ไม่ต้องวน)
+        this.exportTables = new Map();
+        // ! ไฟล์ที่ update หรือตรวจ fingerprint แล้วในการรันนี้ (ไม่ stat ซ้ำ)
+        this.verified = new Set();
+        // ! ไฟล์ที่ import resolve ไปได้ (null = ทุก record) - ตั้งด้วย restrictTo()
+        this.scope = null;
+        this.dirty = false;
+    }
+
+    static fromConfig(config, rootDir, reindex = null) {
+        if (!config) {
+            throw new Error('Configuration missing symbolIndex section');
+        }
+        return new ProjectSymbolIndex({
+            rootDir,
+            extensions: config.resolveExtensions,
+            indexFiles: config.indexFiles,
+            maxReExportDepth: config.maxReExportDepth,
+            reindex
+        });
+    }
+
+    get size() {
+        return this.records.size;
+    }
+
+    /**
+     * แทนที่ข้อมูลของไฟล์เดียว
+     * @param {string} file
+     * @param {Object[]} nodes - parseModuleSurface() ของไฟล์นี้
+     * @param {string} fingerprint - fingerprintFile(file) ตอนที่อ่านเนื้อหา
+     */
+    update(file, nodes, fingerprint) {
+        const absolute = path.resolve(file);
+        this.setRecord(absolute, { fingerprint, ...summarizeModuleSurface(nodes) });
+        this.verified.add(absolute);
+        this.dirty = true;
+    }
+
+    setRecord(absolute, record) {
+        const declared = new Map(record.declarations.map(declaration => [declaration.name, declaration]));
+        const importedAs = new Map(record.imports.map(entry => [entry.local, entry]));
+        const table = new Map();
+        for (const entry of record.exports) {
+            // ! import { x } from './a'; export { x } - เท่ากับ export { x } from './a'
+            const viaImport = !entry.source && importedAs.get(entry.local);
+            table.set(entry.exported, {
+                file: absolute,
+                exported: entry.exported,
+                local: viaImport ? viaImport.imported : entry.local,
+                source: viaImport ? viaImport.source : entry.source,
+                declaration: entry.local ? (declared.get(entry.local) ?? null) : null,
+                init: entry.init
+            });
+        }
+        this.records.set(absolute, record);
+        this.exportTables.set(absolute, table);
+    }
+
+    /**
+     * ไฟล์ที่เนื้อหาตรงกับไฟล์ที่ index แล้ว (CLI content dedup) - ใช้ record เดียวกัน ไม่ต้อง parse surface ซ้ำ
+     * @returns {boolean} false ถ้า fromFile ไม่มี record (เช่น parse ไม่ผ่านและไม่มี surface)
+     */
+    copyRecord(fromFile, toFile, fingerprint) {
+        const record = this.records.get(path.resolve(fromFile));
+        if (!record) return false;
+        const absolute = path.resolve(toFile);
+        this.setRecord(absolute, { ...record, fingerprint });
+        this.verified.add(absolute);
+        this.dirty = true;
+        return true;
+    }
+
+    /**
+     * ไฟล์ที่อยู่ในขอบเขตแต่ไม่ได้วิเคราะห์ในรอบนี้ (ไฟล์ของ shard อื่น): เข้า index แบบ surface อย่างเดียว
+     * record เดิมที่ fingerprint ตรงใช้ต่อ  ไม่มี / ไม่ตรง  reindex()
+     * reindex() throw (tokenize ไม่ผ่าน) = ไฟล์ไม่อยู่ใน index เหมือนตอนสแกนเต็มแล้ว error
+     */
+    indexSurface(file) {
+        const absolute = path.resolve(file);
+        const fingerprint = fingerprintFile(absolute);
+        this.verified.add(absolute);
+        if (this.records.get(absolute)?.fingerprint === fingerprint) return;
+        if (!this.reindex) {
+            throw new Error(`ProjectSymbolIndex cannot index ${file} without a reindex function`);
+        }
+        this.reindexRecord(absolute, fingerprint);
+    }
+
+    /**
+     * reindex() ไม่ผ่าน = เอา record เก่าออกด้วย (ไม่ใช้ surface ของเนื้อหาเดิม)
+     */
+    reindexRecord(absolute, fingerprint) {
+        try {
+            this.setRecord(absolute, { fingerprint, ...summarizeModuleSurface(this.reindex(absolute)) });
+            this.dirty = true;
+        } catch (error) {
+            this.remove(absolute);
+            throw error;
+        }
+    }
+
+    /**
+     * @param {string[]} files - ไฟล์ที่พบในการรันนี้ (ก่อนแบ่ง shard)
+     */
+    restrictTo(files) {
+        this.scope = new Set(files.map(file => path.resolve(file)));
+    }
+
+    inScope(absolute) {
+        return this.records.has(absolute) && (this.scope === null || this.scope.has(absolute));
+    }
+
+    remove(file) {
+        const absolute = path.resolve(file);
+        if (this.records.delete(absolute)) {
+            this.exportTables.delete(absolute);
+            this.dirty = true;
+        }
+    }
+
+    getRecord(file) {
+        return this.records.get(path.resolve(file)) ?? null;
+    }
+
+    /**
+     * @returns {Object|null} export entry { file, exported, local, source, declaration, init }
+     */
+    lookupExport(file, name) {
+        const table = this.exportTables.get(path.resolve(file));
+        return table ? (table.get(name) ?? null) : null;
+    }
+
+    /**
+     * ไฟล์ที่ specifier ชี้ไป - เฉพาะ relative / absolute ที่อยู่ใน index และในขอบเขต (package ใน node_modules = null)
+     */
+    resolveModule(fromFile, specifier) {
+        if (!specifier.startsWith('.') && !path.isAbsolute(specifier)) return null;
+        const base = path.resolve(path.dirname(path.resolve(fromFile)), specifier);
+        if (this.inScope(base)) return base;
+        for (const extension of this.extensions) {
+            if (this.inScope(base + extension)) return base + extension;
+        }
+        for (const indexFile of this.indexFiles) {
+            const candidate = path.join(base, indexFile);
+            if (this.inScope(candidate)) return candidate;
+        }
+        return null;
+    }
+
+    /**
+     * ตามชื่อที่ import ไปจนถึงไฟล์ที่ประกาศจริง (ผ่าน export ... from / export *)
+     * @returns {Object|null} export entry ของไฟล์ที่ประกาศ หรือ null ถ้าไม่อยู่ใน index
+     */
+    resolveImport(fromFile, source, name, depth = 0) {
+        if (depth > this.maxReExportDepth) return null;
+        const target = this.resolveModule(fromFile, source);
+        if (!target || !this.ensureCurrent(target)) return null;
+
+        const entry = this.exportTables.get(target).get(name);
+        if (entry) {
+            if (entry.source && entry.local !== '*') {
+                return this.resolveImport(target, entry.source, entry.local, depth + 1);
+            }
+            return entry;
+        }
+        if (name === 'default') return null;                    // ! export * ไม่ส่งต่อ default
+        for (const starSource of this.records.get(target).starExports) {
+            const resolved = this.resolveImport(target, starSource, name, depth + 1);
+            if (resolved) return resolved;
+        }
+        return null;
+    }
+
+    /**
+     * ไฟล์ที่มาจาก index ที่บันทึกไว้: ตรวจ size + mtime ครั้งแรกที่ถูกถามในการรันนี้
+     * เปลี่ยน  reindex() เฉพาะไฟล์นั้น, ถูกลบ  เอาออกจาก index
+     */
+    ensureCurrent(absolute) {
+        if (this.verified.has(absolute)) return this.records.has(absolute);
+        this.verified.add(absolute);
+        if (!fs.existsSync(absolute)) {
+            this.remove(absolute);
+            return false;
+        }
+        const fingerprint = fingerprintFile(absolute);
+        if (this.records.get(absolute).fingerprint === fingerprint) return true;
+        if (!this.reindex) {
+            this.remove(absolute);
+            return false;
+        }
+        this.reindexRecord(absolute, fingerprint);
+        return true;
+    }
+
+    serialize() {
+        const files = [];
+        for (const [absolute, record] of this.records) {
+            files.push([path.relative(this.rootDir, absolute), record]);
+        }
+        return Buffer.concat([MAGIC, v8.serialize({ formatVersion: FORMAT_VERSION, files })]);
+    }
+
+    save(file) {
+        const blob = this.serialize();
+        fs.mkdirSync(path.dirname(file), { recursive: true });
+        // ! เขียนไฟล์ชั่วคราวแล้ว rename - CLI ที่รันพร้อมกันไม่มีทางอ่าน index ครึ่งไฟล์
+        const temporary = `${file}.${process.pid}.tmp`;
+        fs.writeFileSync(temporary, blob);
+        fs.renameSync(temporary, file);
+        this.dirty = false;
+        return blob.length;
+    }
+
+    /**
+     * @param {string} file - index ที่บันทึกไว้
+     * @param {ProjectSymbolIndex} index - index ว่าง (config + rootDir) ที่จะเติมข้อมูลลงไป
+     * @returns {{index: ProjectSymbolIndex, reason: string|null}} reason = เหตุผลที่ใช้ข้อมูลเดิมไม่ได้
+     */
+    static load(file, index) {
+        if (!fs.existsSync(file)) {
+            return { index, reason: 'missing' };
+        }
+        const blob = fs.readFileSync(file);
+        if (blob.length < MAGIC.length || !blob.subarray(0, MAGIC.length).equals(MAGIC)) {
+            throw new Error(`${file} is not a Sentinel symbol index`);
+        }
+        const saved = v8.deserialize(blob.subarray(MAGIC.length));
+        if (saved.formatVersion !== FORMAT_VERSION) {
+            return { index, reason: `format ${saved.formatVersion} != ${FORMAT_VERSION}` };
+        }
+        for (const [relative, record] of saved.files) {
+            index.setRecord(path.resolve(index.rootDir, relative), record);
+        }
+        return { index, reason: null };
+    }
+}
+
+export { ProjectSymbolIndex, summarizeModuleSurface, fingerprintFile };
@@ -0,0 +1,217 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  DOCUMENT SCAN SCHEDULER - จัดคิวการสแกนแบบ real-time ต่อเอกสาร
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  ปัญหาเดิม: scanTimeout ตัวเดียวทั้ง extension
+// !   - พิมพ์เร็วในไฟล์ A ทำให้ scan ของไฟล์ B ถูกยกเลิก
+// !   - scan ที่ช้าซ้อนกันได้ไม่จำกัด (CPU spike)
+// !
+// !  การทำงาน:
+// !   1. Debounce แยกต่อเอกสาร (key)
+// !      delay = clamp(avgScanMs * scanTimeMultiplier, minDebounceMs, maxDebounceMs)
+// !      avgScanMs = EWMA ของเวลาสแกนจริงของเอกสารนั้น (ยังไม่เคยวัด = baseDelayMs)
+// !   2. Coalesce: request ใหม่แทนที่ payload เดิม - สแกนเฉพาะเวอร์ชันล่าสุด
+// !      ถ้ากำลังสแกนอยู่ จะ mark dirty แล้ว schedule ใหม่หลังสแกนเสร็จ (ไม่ซ้อน)
+// !   3. Concurrency cap: สแกนพร้อมกันไม่เกิน maxConcurrentScans
+// !   4. Priority lane: เอกสารใน active editor ข้ามคิวปกติ
+// !      และมี slot สำรองหนึ่งช่อง (คิวปกติใช้ได้สูงสุด maxConcurrentScans - 1)
+// !
+// !  NOTE: ไม่ import 'vscode' - extension ส่ง scan/isPriority callback เข้ามา
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { performance } from 'perf_hooks';
+import errorHandler from '../error-handler/ErrorHandler.js';
+
+const REQUIRED_OPTIONS = ['baseDelayMs', 'minDebounceMs', 'maxDebounceMs', 'scanTimeMultiplier', 'smoothingFactor', 'maxConcurrentScans'];
+
+class DocumentScanScheduler {
+    /**
+     * @param {Object} options
+     * @param {Function} options.scan - async (payload) => any
+     * @param {Function} options.isPriority - (key) => boolean (เช่น เป็น active editor หรือไม่)
+     * @param {Function} options.onError - (error, key) => void
+     * @param {number} options.baseDelayMs - debounce เริ่มต้นก่อนมีข้อมูลเวลาสแกน
+     * @param {number} options.minDebounceMs
+     * @param {number} options.maxDebounceMs
+     * @param {number} options.scanTimeMultiplier
+     * @param {number} options.smoothingFactor - น้ำหนัก EWMA ของการวัดล่าสุด (0-1]
+     * @param {number} options.maxConcurrentScans
+     */
+    constructor(options = {}) {
+        for (const key of ['scan', 'isPriority', 'onError']) {
+            if (typeof options[key] !== 'function') {
+                throw new Error(`DocumentScanScheduler requires a ${key} function`);
+            }
+        }
+        for (const key of REQUIRED_OPTIONS) {
+            if (typeof options[key] !== 'number' || options[key] < 0) {
+                throw new Error(`DocumentScanScheduler option ${key} must be a non-negative number, got: ${options[key]}`);
+            }
+        }
+        if (options.smoothingFactor <= 0 || options.smoothingFactor > 1) {
+            throw new Error(`DocumentScanScheduler smoothingFactor must be in (0, 1], got: ${options.smoothingFactor}`);
+        }
+        if (!Number.isInteger(options.maxConcurrentScans) || options.maxConcurrentScans < 1) {
+            throw new Error(`DocumentScanScheduler maxConcurrentScans must be a positive integer, got: ${options.maxConcurrentScans}`);
+        }
+
+        this.options = options;
+        this.documents = new Map();
+        // ! Set รักษาลำดับการใส่ - ใช้เป็น FIFO ที่ลบตัวกลางได้ O(1)
+        this.priorityLane = new Set();
+        this.normalLane = new Set();
+        this.running = 0;
+        this.runningNormal = 0;
+        this.disposed = false;
+    }
+
+    /**
+     * ขอสแกนเอกสาร - เรียกทุกครั้งที่เอกสารเปลี่ยน
+     */
+    request(key, payload) {
+        if (this.disposed) return;
+        const state = this.stateFor(key);
+        state.payload = payload;
+
+        if (state.running) {
+            state.dirty = true;
+            return;
+        }
+
+        // ! Supersede: ถ้ารอคิวอยู่ให้ถอยกลับไป debounce ใหม่
+        this.priorityLane.delete(key);
+        this.normalLane.delete(key);
+        clearTimeout(state.timer);
+        state.timer = setTimeout(() => this.enqueue(key), this.debounceFor(state));
+    }
+
+    /**
+     * ลืมเอกสาร (เช่น ปิดไฟล์) - scan ที่กำลังทำอยู่จะไม่ถูก reschedule
+     */
+    forget(key) {
+        const state = this.documents.get(key);
+        if (!state) return;
+        clearTimeout(state.timer);
+        this.priorityLane.delete(key);
+        this.normalLane.delete(key);
+        this.documents.delete(key);
+    }
+
+    debounceFor(state) {
+        const { baseDelayMs, minDebounceMs, maxDebounceMs, scanTimeMultiplier } = this.options;
+        if (state.avgScanMs === null) {
+            return Math.min(Math.max(baseDelayMs, minDebounceMs), maxDebounceMs);
+        }
+        const adaptive = state.avgScanMs * scanTimeMultiplier;
+        return Math.min(Math.max(adaptive, minDebounceMs), maxDebounceMs);
+    }
+
+    stateFor(key) {
+        let state = this.documents.get(key);
+        if (!state) {
+            state = { payload: null, timer: null, running: false, dirty: false, avgScanMs: null };
+            this.documents.set(key, state);
+        }
+        return state;
+    }
+
+    enqueue(key) {
+        const state = this.documents.get(key);
+        if (!state || this.disposed) return;
+        state.timer = null;
+        if (this.options.isPriority(key)) {
+            this.priorityLane.add(key);
+        } else {
+            this.normalLane.add(key);
+        }
+        this.pump();
+    }
+
+    pump() {
+        const { maxConcurrentScans } = this.options;
+        // ! คิวปกติเหลือ slot ไว้หนึ่งช่องให้ active editor (ยกเว้น cap = 1)
+        const normalCap = maxConcurrentScans > 1 ? maxConcurrentScans - 1 : 1;
+
+        while (this.running < maxConcurrentScans) {
+            if (this.priorityLane.size > 0) {
+                this.start(this.takeFirst(this.priorityLane), false);
+            } else if (this.normalLane.size > 0 && this.runningNormal < normalCap) {
+                this.start(this.takeFirst(this.normalLane), true);
+            } else {
+                return;
+            }
+        }
+    }
+
+    takeFirst(lane) {
+        const key = lane.values().next().value;
+        lane.delete(key);
+        return key;
+    }
+
+    async start(key, isNormal) {
+        const state = this.documents.get(key);
+        state.running = true;
+        state.dirty = false;
+        this.running++;
+        if (isNormal) this.runningNormal++;
+
+        const startTime = performance.now();
+        try {
+            await this.options.scan(state.payload);
+            const duration = performance.now() - startTime;
+            const alpha = this.options.smoothingFactor;
+            state.avgScanMs = state.avgScanMs === null
+                ? duration
+                : alpha * duration + (1 - alpha) * state.avgScanMs;
+        } catch (error) {
+            errorHandler.handleError(error, {
+                source: 'DocumentScanScheduler',
+                method: 'start',
+                severity: 'HIGH',
+                context: `Scheduled scan failed for ${key}`
+            });
+            this.options.onError(error, key);
+        } finally {
+            state.running = false;
+            this.running--;
+            if (isNormal) this.runningNormal--;
+
+            // ! เอกสารเปลี่ยนระหว่างสแกน - สแกนเวอร์ชันล่าสุดอีกรอบ (ผ่าน debounce ปกติ)
+            if (state.dirty && this.documents.get(key) === state) {
+                this.request(key, state.payload);
+            }
+            this.pump();
+        }
+    }
+
+    /**
+     * สถิติสำหรับ debug/status
+     */
+    getStats() {
+        return {
+            trackedDocuments: this.documents.size,
+            running: this.running,
+            queuedPriority: this.priorityLane.size,
+            queuedNormal: this.normalLane.size
+        };
+    }
+
+    dispose() {
+        this.disposed = true;
+        for (const state of this.documents.values()) {
+            clearTimeout(state.timer);
+        }
+        this.documents.clear();
+        this.priorityLane.clear();
+        this.normalLane.clear();
+    }
+}
+
+export { DocumentScanScheduler };
+export default DocumentScanScheduler;
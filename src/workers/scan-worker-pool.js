@@ -0,0 +1,310 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  SCAN WORKER POOL - กระจายงานสแกนไฟล์ไปยัง worker_threads
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  หน้าที่:
+// !   - สร้าง worker N ตัว (แต่ละตัวมี ValidationEngine ของตัวเอง)
+// !   - จ่ายงานทีละไฟล์ให้ worker ที่ว่าง (pull model - ไฟล์ใหญ่ไม่ขวางคิว)
+// !   - ส่งผลลัพธ์กลับผ่าน onResult ทันทีที่แต่ละไฟล์เสร็จ (streaming)
+// !   - cancel() หยุดจ่ายงานและ terminate worker ที่กำลังทำงานอยู่
+// !   - worker ตาย (process.exit / OOM kill / uncaught error) = 'exit' มาเสมอ แม้ไม่มี 'error'
+// !     งานที่ค้างใน worker นั้นถูก reject แล้วสร้าง worker ตัวใหม่แทนใน slot เดิม
+// !
+// !  ลำดับงาน: pool จ่ายงานตามลำดับใน jobs[] - ผู้เรียกเป็นคนจัด priority
+// !  (เช่น extension ใส่ไฟล์ที่เปิดอยู่ไว้หน้าสุด)
+// !
+// !  NOTE: ไม่ import 'vscode' - ใช้ได้ทั้ง extension host และ CLI
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { Worker } from 'worker_threads';
+import { availableParallelism } from 'os';
+import errorHandler from '../error-handler/ErrorHandler.js';
+
+const DEFAULT_WORKER_URL = new URL('./scan-worker.js', import.meta.url);
+
+class ScanWorkerPool {
+    /**
+     * @param {Object} options
+     * @param {number} options.size - จำนวน worker (ใช้ ScanWorkerPool.resolveSize() เพื่อคำนวณจาก config)
+     * @param {URL} [options.workerUrl] - entry point ของ worker
+     */
+    constructor(options = {}) {
+        if (!Number.isInteger(options.size) || options.size < 1) {
+            throw new Error(`ScanWorkerPool requires a positive integer size, got: ${options.size}`);
+        }
+        this.size = options.size;
+        this.workerUrl = options.workerUrl ? options.workerUrl : DEFAULT_WORKER_URL;
+        this.workers = [];
+        this.run = null;
+    }
+
+    /**
+     * แปลงค่า workerCount จาก config: 0 = auto (จำนวน core - 1 เพื่อเหลือให้ extension host)
+     */
+    static resolveSize(requested) {
+        if (Number.isInteger(requested) && requested > 0) {
+            return requested;
+        }
+        return Math.max(1, availableParallelism() - 1);
+    }
+
+    /**
+     * สร้าง worker ทั้งหมดและรอให้ engine ในแต่ละตัวพร้อม
+     */
+    async start() {
+        const startups = [];
+        for (let i = 0; i < this.size; i++) {
+            const slot = { worker: null, ready: false, job: null, retired: false, lastError: null };
+            this.workers.push(slot);
+            startups.push(this.spawn(slot));
+        }
+
+        try {
+            await Promise.all(startups);
+        } catch (error) {
+            errorHandler.handleError(error, {
+                source: 'ScanWorkerPool',
+                method: 'start',
+                severity: 'CRITICAL',
+                context: `Failed to start ${this.size} scan workers`
+            });
+            await this.terminate();
+            throw error;
+        }
+    }
+
+    /**
+     * สร้าง worker ให้ slot แล้ว resolve เมื่อ engine ใน worker ส่ง 'ready'
+     */
+    spawn(slot) {
+        const worker = new Worker(this.workerUrl);
+        slot.worker = worker;
+        slot.ready = false;
+        slot.lastError = null;
+
+        return new Promise((resolve, reject) => {
+            worker.on('message', (message) => {
+                if (slot.ready) {
+                    this.handleMessage(slot, message);
+                } else if (message.type === 'ready') {
+                    slot.ready = true;
+                    resolve();
+                } else if (message.type === 'fatal') {
+                    reject(operationalError(`Scan worker failed to initialize: ${message.message}`));
+                }
+            });
+            // ! 'error' ตามด้วย 'exit' เสมอ - จำสาเหตุไว้ ตัดสินใจที่ 'exit' ที่เดียว
+            worker.on('error', (error) => {
+                slot.lastError = error;
+            });
+            worker.on('exit', (code) => {
+                if (!slot.ready) {
+                    const reason = slot.lastError ? slot.lastError.message : `exit code ${code}`;
+                    reject(operationalError(`Scan worker exited before it was ready: ${reason}`));
+                    return;
+                }
+                this.handleWorkerExit(slot, worker, code);
+            });
+        });
+    }
+
+    /**
+     * สแกนรายการไฟล์ทั้งหมด
+     * @param {Array<{filePath: string, code?: string}>} jobs - เรียงตาม priority แล้ว (field อื่นส่งต่อให้ worker)
+     * @param {Object} handlers
+     * @param {Function} handlers.onResult - ({ filePath, ...payload }) => void
+     *        scan-worker.js ส่ง { filePath, violations, durationMs }
+     * @param {Function} [handlers.onJobError] - ({ filePath, error }) => void
+     *        มี = งานที่ error / worker ตายระหว่างทำ ถูกนับว่าเสร็จแล้วสแกนต่อ
+     *        ไม่มี = reject ทั้งการสแกน (เหมือนเดิม)
+     * @returns {Promise<{completed: number, cancelled: boolean}>}
+     */
+    scan(jobs, handlers) {
+        if (this.run) {
+            throw new Error('ScanWorkerPool is already running a scan');
+        }
+        if (this.workers.length === 0) {
+            throw new Error('ScanWorkerPool.start() must be called before scan()');
+        }
+        if (!handlers || typeof handlers.onResult !== 'function') {
+            throw new Error('ScanWorkerPool.scan() requires an onResult handler');
+        }
+
+        return new Promise((resolve, reject) => {
+            this.run = {
+                jobs,
+                next: 0,
+                completed: 0,
+                onResult: handlers.onResult,
+                onJobError: typeof handlers.onJobError === 'function' ? handlers.onJobError : null,
+                resolve,
+                reject
+            };
+
+            if (jobs.length === 0) {
+                this.finish({ completed: 0, cancelled: false });
+                return;
+            }
+            // ! slot ที่กำลังสร้าง worker ใหม่จะรับงานเองเมื่อพร้อม
+            for (const slot of this.workers) {
+                if (slot.ready) this.dispatch(slot);
+            }
+        });
+    }
+
+    dispatch(slot) {
+        const run = this.run;
+        if (!run || run.next >= run.jobs.length) {
+            slot.job = null;
+            return;
+        }
+        const id = run.next++;
+        const job = run.jobs[id];
+        slot.job = id;
+        slot.worker.postMessage({ ...job, type: 'scan', id });
+    }
+
+    handleMessage(slot, message) {
+        const run = this.run;
+        if (!run || message.id !== slot.job) return;
+
+        if (message.type === 'error') {
+            const jobIndex = slot.job;
+            slot.job = null;
+            if (this.failJob(jobIndex, operationalError(`Scan failed for ${message.filePath}: ${message.message}`))) {
+                this.dispatch(slot);
+            }
+            return;
+        }
+
+        run.completed++;
+        try {
+            // ! ส่งทุก field ของผลลัพธ์ต่อ (ยกเว้น protocol fields) - worker แต่ละแบบกำหนด payload เอง
+            const { type, id, ...result } = message;
+            run.onResult(result);
+        } catch (error) {
+            this.fail(error);
+            return;
+        }
+
+        if (run.completed === run.jobs.length) {
+            this.finish({ completed: run.completed, cancelled: false });
+            return;
+        }
+        this.dispatch(slot);
+    }
+
+    /**
+     * worker ตายนอก terminate(): reject งานที่ค้าง แล้วสร้าง worker ใหม่ใน slot เดิม
+     */
+    handleWorkerExit(slot, worker, code) {
+        if (slot.retired || slot.worker !== worker) return;
+        const reason = slot.lastError ? slot.lastError.message : `exit code ${code}`;
+        const jobIndex = slot.job;
+        slot.job = null;
+        slot.ready = false;
+
+        if (this.run && jobIndex !== null) {
+            const filePath = this.run.jobs[jobIndex].filePath;
+            this.failJob(jobIndex, operationalError(`Scan worker crashed while scanning ${filePath}: ${reason}`));
+        }
+        // ! failJob อาจ fail ทั้งการสแกน (terminate ทั้ง pool) - ไม่ต้องสร้างแทน
+        if (slot.retired) return;
+
+        this.spawn(slot)
+            .then(() => {
+                if (this.run && slot.job === null) this.dispatch(slot);
+            })
+            .catch((error) => {
+                if (slot.retired) return;
+                if (this.run) {
+                    this.fail(error);
+                    return;
+                }
+                errorHandler.handleError(error, {
+                    source: 'ScanWorkerPool',
+                    method: 'handleWorkerExit',
+                    severity: 'HIGH',
+                    context: 'Replacement scan worker failed to start'
+                });
+            });
+    }
+
+    /**
+     * งานหนึ่งไม่สำเร็จ: ส่งให้ onJobError แล้วนับว่าเสร็จ หรือ fail ทั้งการสแกนถ้าไม่มี handler
+     * @returns {boolean} true = การสแกนยังดำเนินต่อ (slot รับงานถัดไปได้)
+     */
+    failJob(jobIndex, error) {
+        const run = this.run;
+        if (!run.onJobError) {
+            this.fail(error);
+            return false;
+        }
+        run.completed++;
+        try {
+            run.onJobError({ filePath: run.jobs[jobIndex].filePath, error });
+        } catch (handlerError) {
+            this.fail(handlerError);
+            return false;
+        }
+        if (run.completed === run.jobs.length) {
+            this.finish({ completed: run.completed, cancelled: false });
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * หยุดสแกน: ไม่จ่ายงานใหม่ และ terminate worker (งานที่ค้างอยู่ถูกทิ้ง)
+     */
+    async cancel() {
+        const run = this.run;
+        if (!run) return;
+        this.finish({ completed: run.completed, cancelled: true });
+        await this.terminate();
+    }
+
+    finish(outcome) {
+        const run = this.run;
+        this.run = null;
+        run.resolve(outcome);
+    }
+
+    fail(error) {
+        const run = this.run;
+        this.run = null;
+        errorHandler.handleError(error, {
+            source: 'ScanWorkerPool',
+            method: 'scan',
+            severity: 'HIGH',
+            context: `Scan aborted after ${run.completed}/${run.jobs.length} files`
+        });
+        this.terminate().finally(() => run.reject(error));
+    }
+
+    async terminate() {
+        const workers = this.workers;
+        this.workers = [];
+        for (const slot of workers) {
+            slot.retired = true;
+        }
+        await Promise.all(workers.map(slot => slot.worker.terminate()));
+    }
+}
+
+/**
+ * error ของไฟล์ / worker ที่ pool จัดการเอง (reject งาน) - ไม่ใช่บั๊กที่ต้องปิด process
+ */
+function operationalError(message) {
+    const error = new Error(message);
+    error.isOperational = true;
+    return error;
+}
+
+export { ScanWorkerPool };
+export default ScanWorkerPool;
@@ -0,0 +1,74 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  SCAN WORKER - worker_threads entry point
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  หน้าที่: เป็นเจ้าของ ValidationEngine ของตัวเอง (ไม่แชร์กับ extension host)
+// !
+// !  Protocol (parentPort):
+// !    IN : { type: 'scan', id, filePath, code? }   - code ไม่มี = อ่านจากดิสก์เอง
+// !    OUT: { type: 'ready' }                         - engine พร้อมใช้งาน
+// !         { type: 'result', id, filePath, violations, durationMs }
+// !         { type: 'error', id, filePath, message }
+// !         { type: 'fatal', message }                - engine init ล้มเหลว
+// !
+// !  NOTE: ไฟล์นี้ห้าม import 'vscode' - ทำงานนอก extension host
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { parentPort } from 'worker_threads';
+import { readFile } from 'fs/promises';
+import { performance } from 'perf_hooks';
+import { ValidationEngine } from '../rules/validator.js';
+
+if (!parentPort) {
+    throw new Error('scan-worker.js must be started through worker_threads');
+}
+
+const engine = new ValidationEngine();
+
+async function handleScan(message) {
+    const { id, filePath } = message;
+    const startTime = performance.now();
+    try {
+        const code = typeof message.code === 'string'
+            ? message.code
+            : await readFile(filePath, 'utf8');
+
+        const results = code.trim()
+            ? await engine.validateCode(code, filePath)
+            : { violations: [] };
+
+        parentPort.postMessage({
+            type: 'result',
+            id,
+            filePath,
+            violations: results.violations,
+            durationMs: performance.now() - startTime
+        });
+    } catch (error) {
+        // ! NO_SILENT_FALLBACKS: ส่ง error กลับไปให้ pool ตัดสินใจ (ไม่กลืน error ใน worker)
+        parentPort.postMessage({
+            type: 'error',
+            id,
+            filePath,
+            message: error.message
+        });
+    }
+}
+
+engine.initializeParserStudy()
+    .then(() => {
+        parentPort.on('message', (message) => {
+            if (message && message.type === 'scan') {
+                handleScan(message);
+            }
+        });
+        parentPort.postMessage({ type: 'ready' });
+    })
+    .catch((error) => {
+        parentPort.postMessage({ type: 'fatal', message: error.message });
+    });
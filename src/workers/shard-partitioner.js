@@ -0,0 +1,147 @@
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  บริษัท ชาหัว ดีเวลลอปเมนต์ จำกัด (Chahua Development Co., Ltd.)
+// !  Repository: https://github.com/chahuadev/chahuadev-Sentinel.git
+// !  Version: 1.0.0
+// !  License: MIT
+// !  Contact: chahuadev@gmail.com
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  SHARD PARTITIONER - แบ่งไฟล์ให้ CI runner หลายเครื่องแบบ deterministic
+// ! ══════════════════════════════════════════════════════════════════════════════
+// !  เป้าหมาย: runner ทุกเครื่องคำนวณการแบ่งได้เองจากไฟล์ในเครื่อง ไม่ต้องมี coordinator
+// !  (ทุกเครื่อง checkout commit เดียวกัน + manifest เดียวกัน  ได้ผลเหมือนกันทุก byte)
+// !
+// !  Key ของไฟล์ = relative path จาก baseDir แบบ '/' เสมอ (ไม่ขึ้นกับ path ของ runner)
+// !
+// !  การแบ่ง:
+// !   - ไม่มี manifest: shard = hash(key) mod N  (ไฟล์ใหม่/ลบไฟล์ไม่ทำให้ไฟล์อื่นย้าย shard)
+// !   - มี manifest (ขนาดไฟล์จากรันก่อน): greedy LPT - เรียงไฟล์จากใหญ่ไปเล็ก
+// !     ใส่ shard ที่ load น้อยที่สุด (เสมอกัน = index ต่ำสุด)
+// !     tie-break ของการเรียง: hash แล้วตาม key  ลำดับไม่ขึ้นกับลำดับ readdir
+// !     ไฟล์ที่ไม่อยู่ใน manifest (เพิ่มหลังรันก่อน) ใช้ hash mod N
+// !
+// !  Shard spec: "i/N" แบบ 1-based (เหมือน CI matrix ทั่วไป)
+// ! ══════════════════════════════════════════════════════════════════════════════
+
+import { createHash } from 'crypto';
+import path from 'path';
+
+const SHARD_SPEC_PATTERN = /^(\d+)\/(\d+)$/;
+const MANIFEST_VERSION = 1;
+
+/**
+ * "2/4"  { index: 2, count: 4 }
+ */
+function parseShardSpec(spec) {
+    const match = SHARD_SPEC_PATTERN.exec(String(spec));
+    if (!match) {
+        throw new Error(`Invalid shard spec "${spec}" (expected i/N, e.g. 1/4)`);
+    }
+    const index = Number(match[1]);
+    const count = Number(match[2]);
+    if (count < 1 || index < 1 || index > count) {
+        throw new Error(`Invalid shard spec "${spec}" (i must be within 1..N)`);
+    }
+    return { index, count };
+}
+
+/**
+ * relative path แบบ posix - ไฟล์นอก baseDir ไม่อนุญาต (key จะต่างกันระหว่าง runner)
+ */
+function shardKeyFor(filePath, baseDir) {
+    const relative = path.relative(baseDir, filePath);
+    if (relative.startsWith('..') || path.isAbsolute(relative)) {
+        throw new Error(`Cannot shard ${filePath}: outside of ${baseDir}`);
+    }
+    return relative.split(path.sep).join('/');
+}
+
+class ShardPartitioner {
+    /**
+     * @param {Object} options
+     * @param {number} options.count - จำนวน shard
+     * @param {string} options.hashAlgorithm - cli-config.json sharding.hashAlgorithm
+     * @param {Object} [options.manifest] - { version, files: { key: bytes } }
+     */
+    constructor(options = {}) {
+        if (!Number.isInteger(options.count) || options.count < 1) {
+            throw new Error(`ShardPartitioner count must be a positive integer, got: ${options.count}`);
+        }
+        if (!options.hashAlgorithm) {
+            throw new Error('ShardPartitioner requires a hashAlgorithm');
+        }
+        if (options.manifest !== undefined) {
+            ShardPartitioner.validateManifest(options.manifest);
+        }
+        this.count = options.count;
+        this.hashAlgorithm = options.hashAlgorithm;
+        this.sizes = options.manifest ? options.manifest.files : null;
+    }
+
+    static validateManifest(manifest) {
+        if (!manifest || manifest.version !== MANIFEST_VERSION || typeof manifest.files !== 'object' || manifest.files === null) {
+            throw new Error(`Shard manifest must be { version: ${MANIFEST_VERSION}, files: { path: bytes } }`);
+        }
+        for (const [key, bytes] of Object.entries(manifest.files)) {
+            if (!Number.isInteger(bytes) || bytes < 0) {
+                throw new Error(`Shard manifest has invalid size for ${key}: ${bytes}`);
+            }
+        }
+    }
+
+    /**
+     * @param {Array<{key: string, bytes: number}>} entries
+     */
+    static buildManifest(entries) {
+        const files = {};
+        for (const entry of [...entries].sort((a, b) => (a.key < b.key ? -1 : a.key > b.key ? 1 : 0))) {
+            files[entry.key] = entry.bytes;
+        }
+        return { version: MANIFEST_VERSION, files };
+    }
+
+    hashKey(key) {
+        return createHash(this.hashAlgorithm).update(key).digest().readUInt32BE(0);
+    }
+
+    /**
+     * @param {string[]} keys
+     * @returns {Map<string, number>} key  shard index (1-based)
+     */
+    assign(keys) {
+        const assignment = new Map();
+        const known = [];
+
+        for (const key of keys) {
+            const hash = this.hashKey(key);
+            if (this.sizes && Object.hasOwn(this.sizes, key)) {
+                known.push({ key, hash, bytes: this.sizes[key] });
+            } else {
+                assignment.set(key, (hash % this.count) + 1);
+            }
+        }
+
+        known.sort((a, b) => b.bytes - a.bytes || a.hash - b.hash || (a.key < b.key ? -1 : a.key > b.key ? 1 : 0));
+        const loads = new Array(this.count).fill(0);
+        for (const entry of known) {
+            let lightest = 0;
+            for (let shard = 1; shard < this.count; shard++) {
+                if (loads[shard] < loads[lightest]) lightest = shard;
+            }
+            loads[lightest] += entry.bytes;
+            assignment.set(entry.key, lightest + 1);
+        }
+        return assignment;
+    }
+
+    /**
+     * เลือกเฉพาะไฟล์ของ shard นี้ (คงลำดับเดิมของ files)
+     */
+    select(files, shardIndex, baseDir) {
+        const keys = files.map(file => shardKeyFor(file, baseDir));
+        const assignment = this.assign(keys);
+        return files.filter((file, i) => assignment.get(keys[i]) === shardIndex);
+    }
+}
+
+export { ShardPartitioner, parseShardSpec, shardKeyFor };
+export default ShardPartitioner;
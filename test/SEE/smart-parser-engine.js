@@ -16,7 +16,6 @@
 // !  งานที่ทำ: นำเข้า modules และ dependencies ที่จำเป็น
 // !  - constants.js: ค่าคงที่ต่างๆ (RULE_IDS, SEVERITY_LEVELS, etc.)
 // !  - Node.js modules: fs, url, path สำหรับอ่านไฟล์ config
-// !  - validator.js: ABSOLUTE_RULES
 // !  - grammar-index.js: GrammarIndex class
 // !  - tokenizer-helper.js: BinaryComputationTokenizer (Central Nervous System)
 // ! ══════════════════════════════════════════════════════════════════════════════════════════════════════════
@@ -25,9 +24,14 @@ import { RULE_IDS, ERROR_TYPES, SEVERITY_LEVELS, TOKEN_TYPES, DEFAULT_LOCATION }
 import { readFileSync } from 'fs';
 import { fileURLToPath } from 'url';
 import { dirname, join } from 'path';
-import { ABSOLUTE_RULES } from '../../src/rules/validator.js';
 import { GrammarIndex } from '../../src/grammars/shared/grammar-index.js';
 import { BinaryComputationTokenizer } from '../../src/grammars/shared/tokenizer-helper.js';
+import { AstArena, ArenaNodeView } from '../../src/grammars/shared/arena-ast.js';
+import { LineIndex, JoinedTokenText } from '../../src/grammars/shared/line-index.js';
+import { EmojiScanner } from '../../src/grammars/shared/emoji-scanner.js';
+import { LexicalPrefilter, FEATURES } from '../../src/grammars/shared/lexical-prefilter.js';
+import { LiteralClassifier } from '../../src/grammars/shared/literal-classifier.js';
+import { StructuralMatcher } from '../../src/grammars/shared/structural-query.js';
 import errorHandler from '../../src/error-handler/ErrorHandler.js';
 
 
@@ -43,7 +47,8 @@ import errorHandler from '../../src/error-handler/ErrorHandler.js';
 // ! ══════════════════════════════════════════════════════════════════════════════════════════════════════════
 const __filename = fileURLToPath(import.meta.url);
 const __dirname = dirname(__filename);
-const CONFIG_PATH = join(__dirname, 'parser-config.json');
+// ! engine อยู่ใน test/SEE แต่ config ตัวจริงอยู่ที่เดียวกับ grammar (src/grammars/shared)
+const CONFIG_PATH = join(__dirname, '..', '..', 'src', 'grammars', 'shared', 'parser-config.json');
 
 let PARSER_CONFIG;
 try {
@@ -61,6 +66,37 @@ try {
 
 // ! Configuration must be loaded from external file - no fallback allowed
 
+// ! ข้อความของแต่ละประเภทจาก classifyHardcodedLiteral()
+const HARDCODE_CATEGORY_LABELS = {
+    credential: 'credential',
+    apiKey: 'API key/token',
+    connection: 'connection string',
+    url: 'URL/endpoint',
+    secret: 'high-entropy secret'
+};
+
+// ! parseModuleSurface(): keyword ที่เริ่ม statement ระดับ module ที่ symbol index สนใจ
+const SURFACE_STATEMENT_KEYWORDS = new Set(['import', 'export', 'const', 'let', 'var', 'function', 'class', 'async']);
+const SURFACE_OPENERS = new Set(['(', '[', '{']);
+const SURFACE_CLOSERS = new Set([')', ']', '}']);
+const SURFACE_DECLARATOR_FOLLOWERS = new Set(['=', ',', ';']);
+const SURFACE_FUNCTION_FOLLOWERS = new Set(['(']);
+const SURFACE_CLASS_FOLLOWERS = new Set(['{', 'extends']);
+
+// ! method ที่ทำงานให้กฎแต่ละข้อ - attachProfiler() ห่อเฉพาะ method เหล่านี้เพื่อจับเวลาต่อกฎ
+const RULE_CHECK_METHODS = {
+    [RULE_IDS.NO_MOCKING]: ['checkMockingInAST', 'detectMockingViolations'],
+    [RULE_IDS.NO_HARDCODE]: ['checkHardcodeInAST', 'checkNumericHardcodeInAST', 'detectHardcodeViolations'],
+    [RULE_IDS.NO_SILENT_FALLBACKS]: [
+        'checkSilentFallbacksInAST',
+        'checkLogicalFallbacksInAST',
+        'checkAsyncFunctionWithoutTryCatch',
+        'detectSilentFallbackViolations'
+    ],
+    [RULE_IDS.NO_INTERNAL_CACHING]: ['checkCachingInAST', 'checkCachingPropertyInAST', 'checkMemoizationInAST', 'detectCachingViolations'],
+    [RULE_IDS.NO_EMOJI]: ['checkEmojiInAST', 'detectEmojiViolations']
+};
+
 // ! ══════════════════════════════════════════════════════════════════════════════════════════════════════════
 // !  TOKENIZER: NOW USING BINARY COMPUTATION TOKENIZER
 // ! ══════════════════════════════════════════════════════════════════════════════════════════════════════════
@@ -159,6 +195,8 @@ class AdvancedStructureParser extends StructureParser {
             sourceType: 'module',          // ! ประเภทไฟล์: module (มี import/export)
             comments: []                   // ! เก็บ comments (ถ้ามี)
         };
+        this.surfaceMode = false;          // ! true = parseModuleSurface() (declaration อ่านแค่ชื่อ + รูป initializer)
+        this.statementSink = null;         // ! arena mode: รับ statement ทีละตัวแทนการเก็บใน ast.body
     }
 
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
@@ -180,7 +218,11 @@ class AdvancedStructureParser extends StructureParser {
             try {
                 const statement = this.parseStatement();
                 if (statement) {
-                    this.ast.body.push(statement);
+                    if (this.statementSink) {
+                        this.statementSink(statement);
+                    } else {
+                        this.ast.body.push(statement);
+                    }
                     statementCount++;
                 }
             } catch (error) {
@@ -201,7 +243,7 @@ class AdvancedStructureParser extends StructureParser {
         
         this.ast.end = this.tokens.length - 1;
         
-        console.log(`AST Built: ${this.ast.body.length} top-level statements (processed ${statementCount})`);
+        console.log(`AST Built: ${statementCount} top-level statements`);
         return this.ast;
     }
 
@@ -317,6 +359,7 @@ class AdvancedStructureParser extends StructureParser {
         do {
             const declaration = {
                 type: 'VariableDeclarator',                     // ! แต่ละตัวแปรเป็น VariableDeclarator
+                start: this.current,                            // ! ตำแหน่งเริ่มต้น (ชื่อตัวแปร)
                 id: this.parseIdentifier(),                     // ! ชื่อตัวแปร (เช่น 'x')
                 init: null                                      // ! ค่าเริ่มต้น (ถ้ามี = จะใส่ตรงนี้)
             };
@@ -343,73 +386,418 @@ class AdvancedStructureParser extends StructureParser {
     }
 
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
-    // ! โซนที่ 5.5: IMPORT/EXPORT PARSERS (ชั่วคราว)
+    // ! โซนที่ 5.5: IMPORT/EXPORT PARSERS
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
-    // ! งานที่ทำ: ข้าม import/export statements ไปก่อน (ยังไม่ได้ implement เต็มรูปแบบ)
+    // ! งานที่ทำ: แปลง import/export  ESTree node (ImportDeclaration, ExportNamedDeclaration,
+    // !  ExportDefaultDeclaration, ExportAllDeclaration) - project symbol index อ่านจาก node เหล่านี้
+    // !  
+    // ! parseImportDeclaration()
+    // !  - import x from 'a' / import { a as b } from 'a' / import * as ns from 'a' / import 'a'
+    // !  - import(...) และ import.meta เป็น expression  ส่งต่อ parseExpressionStatement()
+    // !  
+    // ! parseExportDeclaration()
+    // !  - export const/function/class ...  declaration ผ่าน parseExportedDeclaration()
+    // !  - export { a as b } [from 'a'] / export * [as ns] from 'a' / export default ...
+    // !  
+    // ! surfaceMode (parseModuleSurface): declaration อ่านแค่ชื่อ + รูปของ initializer
+    // !  ข้าม body ด้วยการนับวงเล็บ - ไม่ต้อง parse function body ทั้งไฟล์
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
     
     parseImportDeclaration() {
-        console.warn('[Parser] Skipping ImportDeclaration (not yet implemented).');
         const start = this.current;
-        
-        // ! ข้าม 'import' keyword
-        this.advance();
-        
-        // ! วนข้าม Token ไปเรื่อยๆ จนกว่าจะเจอ Semicolon (;) หรือเจอ 'from'
-        while (!this.isAtEnd() && !this.match(';') && this.peek().value !== 'from') {
-            this.advance();
+        const keyword = this.consume('import');
+
+        // ! import('x') / import.meta.url - ไม่ใช่ declaration
+        if (this.match('(', '.')) {
+            this.current = start;
+            return this.parseExpressionStatement();
         }
-        
-        // ! ถ้าเจอ 'from' ให้ข้ามไปอ่าน string path
-        if (this.peek()?.value === 'from') {
-            this.advance(); // ! ข้าม 'from'
-            if (this.peek()?.type === 'STRING') {
-                this.advance(); // ! ข้าม string path
+
+        const specifiers = [];
+        if (this.peek()?.type !== 'STRING') {
+            if (this.peek()?.type === 'IDENTIFIER') {
+                specifiers.push({ type: 'ImportDefaultSpecifier', local: this.parseIdentifier() });
+                if (this.match(',')) this.advance();
             }
+            if (this.matchOperator('*')) {
+                this.advance();
+                this.consume('as');
+                specifiers.push({ type: 'ImportNamespaceSpecifier', local: this.parseIdentifier() });
+            } else if (this.match('{')) {
+                this.advance();
+                this.skipComments();
+                while (!this.match('}') && !this.isAtEnd()) {
+                    const imported = this.parseModuleExportName();
+                    let local = imported;
+                    if (this.match('as')) {
+                        this.advance();
+                        local = this.parseIdentifier();
+                    }
+                    specifiers.push({ type: 'ImportSpecifier', imported, local });
+                    this.skipComments();
+                    if (!this.match(',')) break;
+                    this.advance();
+                    this.skipComments();
+                }
+                this.consume('}');
+            }
+            this.consume('from');
         }
-        
-        // ! ข้าม semicolon ถ้ามี
-        if (this.match(';')) {
-            this.advance();
-        }
-        
-        // ! คืนค่า ImportDeclaration node แบบชั่วคราว
+
+        const source = this.parseModuleSource();
+        this.consumeSemicolon();
         return {
             type: 'ImportDeclaration',
-            specifiers: [],
-            source: { type: 'Literal', value: 'unknown' },
-            location: { start, end: this.current }
+            start: start,
+            end: this.current - 1,
+            specifiers: specifiers,
+            source: source,
+            loc: { start: keyword.location }
         };
     }
-    
+
     parseExportDeclaration() {
-        console.warn('[Parser] Skipping ExportDeclaration (not yet implemented).');
         const start = this.current;
-        
-        // ! ข้าม 'export' keyword
+        const keyword = this.consume('export');
+        const loc = { start: keyword.location };
+
+        // ! export default <function | class | expression>
+        if (this.match('default')) {
+            this.advance();
+            const declaration = this.match('function', 'class', 'async')
+                ? this.parseExportedDeclaration()
+                : this.parseExportedExpression();
+            return { type: 'ExportDefaultDeclaration', start, end: this.current - 1, declaration, loc };
+        }
+
+        // ! export * from 'a' / export * as ns from 'a'
+        if (this.matchOperator('*')) {
+            this.advance();
+            let exported = null;
+            if (this.match('as')) {
+                this.advance();
+                exported = this.parseModuleExportName();
+            }
+            this.consume('from');
+            const source = this.parseModuleSource();
+            this.consumeSemicolon();
+            return { type: 'ExportAllDeclaration', start, end: this.current - 1, exported, source, loc };
+        }
+
+        // ! export { a, b as c } [from 'a']
+        if (this.match('{')) {
+            this.advance();
+            this.skipComments();
+            const specifiers = [];
+            while (!this.match('}') && !this.isAtEnd()) {
+                const local = this.parseModuleExportName();
+                let exported = local;
+                if (this.match('as')) {
+                    this.advance();
+                    exported = this.parseModuleExportName();
+                }
+                specifiers.push({ type: 'ExportSpecifier', local, exported });
+                this.skipComments();
+                if (!this.match(',')) break;
+                this.advance();
+                this.skipComments();
+            }
+            this.consume('}');
+            let source = null;
+            if (this.match('from')) {
+                this.advance();
+                source = this.parseModuleSource();
+            }
+            this.consumeSemicolon();
+            return { type: 'ExportNamedDeclaration', start, end: this.current - 1, declaration: null, specifiers, source, loc };
+        }
+
+        // ! export const x = ... / export function f() {} / export class K {}
+        const declaration = this.parseExportedDeclaration();
+        if (!declaration) {
+            throw new Error(`Expected declaration after 'export' but got '${this.peek()?.value || 'EOF'}'`);
+        }
+        return { type: 'ExportNamedDeclaration', start, end: this.current - 1, declaration, specifiers: [], source: null, loc };
+    }
+
+    parseExportedDeclaration() {
+        if (this.surfaceMode) {
+            return this.parseDeclarationSurface();
+        }
+        // ! export default function () {} - function ไม่มีชื่อ
+        if (this.match('function') && this.tokens[this.current + 1]?.value === '(') {
+            const start = this.current;
+            this.advance();
+            const params = this.parseParameterList();
+            const body = this.parseBlockStatement();
+            return { type: 'FunctionDeclaration', start, end: this.current - 1, id: null, params, body, generator: false, async: false };
+        }
+        return this.parseStatement();
+    }
+
+    parseExportedExpression() {
+        if (this.surfaceMode) {
+            return this.parseInitializerSurface();
+        }
+        const expression = this.parseExpression();
+        this.consumeSemicolon();
+        return expression;
+    }
+
+    parseModuleSource() {
+        const token = this.peek();
+        if (token?.type !== 'STRING') {
+            throw new Error(`Expected module specifier string but got '${token?.value || 'EOF'}'`);
+        }
         this.advance();
-        
-        // ! ตรวจสอบว่าเป็น export default หรือไม่
-        if (this.peek()?.value === 'default') {
-            this.advance(); // ! ข้าม 'default'
+        return { type: 'Literal', value: token.value.slice(1, -1), raw: token.value };
+    }
+
+    parseModuleExportName() {
+        // ! import { "a-b" as c } - ชื่อ export เป็น string ได้
+        const token = this.peek();
+        if (token?.type === 'STRING') {
+            this.advance();
+            return { type: 'Identifier', name: token.value.slice(1, -1) };
         }
-        
-        // ! วนข้าม Token ไปเรื่อยๆ จนกว่าจะเจอ Semicolon (;)
-        while (!this.isAtEnd() && !this.match(';')) {
+        return this.parseIdentifier();
+    }
+
+    // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
+    // ! โซนที่ 5.6: MODULE SURFACE - parseModuleSurface()
+    // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
+    // ! งานที่ทำ: อ่านเฉพาะ statement ระดับบนสุดที่ project symbol index ต้องใช้
+    // !  - import / export ทุกแบบ (node เดียวกับ parse() เต็ม)
+    // !  - const/let/var/function/class ระดับ module: ชื่อ + รูปของ initializer
+    // !    (new Map()  NewExpression{callee}, {...}  ObjectExpression, f()  CallExpression)
+    // !  - token ที่อยู่ในวงเล็บ (depth > 0) ข้ามด้วยการนับ ( [ { เท่านั้น
+    // !  - ImportMemberCall { object, method }: ชื่อที่ import มาถูกเรียก method ที่ไหนก็ได้ในไฟล์
+    // !    (results.get(k), seen.add(x)) - กฎข้ามไฟล์ใช้แยก cache ออกจาก registry ที่อ่านอย่างเดียว
+    // !  
+    // ! ไม่ขึ้นกับ Tier 0 และไม่ขึ้นกับการ parse body - ใช้ได้ทุกไฟล์ที่ tokenize ผ่าน
+    // ! ราคา: เดิน token stream สองรอบ (ไม่สร้าง AST ของ function body)
+    // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
+    parseModuleSurface() {
+        this.surfaceMode = true;
+        const body = [];
+        let depth = 0;
+        let previous = null;
+
+        while (!this.isAtEnd()) {
+            const token = this.peek();
+            if (token.type === 'COMMENT') {
+                this.advance();
+                continue;
+            }
+            if (depth === 0 && token.type === 'KEYWORD' && SURFACE_STATEMENT_KEYWORDS.has(token.value) &&
+                this.isSurfaceStatementStart(previous, token)) {
+                const start = this.current;
+                const node = token.value === 'import' || token.value === 'export'
+                    ? this.parseModuleStatementSurface(token.value)
+                    : this.parseDeclarationSurface();
+                if (node) {
+                    body.push(node);
+                    previous = this.tokens[this.current - 1];
+                    continue;
+                }
+                this.current = start;
+            }
+            if (SURFACE_OPENERS.has(token.value) && token.type === 'PUNCTUATION') depth++;
+            else if (SURFACE_CLOSERS.has(token.value) && token.type === 'PUNCTUATION' && depth > 0) depth--;
+            previous = token;
             this.advance();
         }
-        
-        // ! ข้าม semicolon ถ้ามี
-        if (this.match(';')) {
+        body.push(...this.collectImportMemberCalls(body));
+        return body;
+    }
+
+    /**
+     * <imported>.<method>( ทุกจุดในไฟล์ (รวมใน function body ที่ surface ข้าม) - หนึ่ง node ต่อคู่ object/method
+     * a.results.get() ไม่นับ (results ไม่ใช่ binding ที่ import มา)
+     */
+    collectImportMemberCalls(body) {
+        const importedLocals = new Set();
+        for (const node of body) {
+            if (node.type !== 'ImportDeclaration') continue;
+            for (const specifier of node.specifiers) importedLocals.add(specifier.local.name);
+        }
+        if (importedLocals.size === 0) return [];
+
+        const calls = new Map();
+        const tokens = this.tokens;
+        for (let index = 0; index + 3 < tokens.length; index++) {
+            const token = tokens[index];
+            if (token.type !== 'IDENTIFIER' || !importedLocals.has(token.value)) continue;
+            if (index > 0 && tokens[index - 1].value === '.') continue;
+            // ! property หลัง '.' เป็นชื่อได้ทั้ง IDENTIFIER และ KEYWORD (get / set เป็น keyword ของ accessor)
+            const property = tokens[index + 2];
+            if (tokens[index + 1].value !== '.' || (property.type !== 'IDENTIFIER' && property.type !== 'KEYWORD') ||
+                tokens[index + 3].value !== '(') continue;
+            const key = `${token.value}.${property.value}`;
+            if (!calls.has(key)) {
+                calls.set(key, { type: 'ImportMemberCall', object: token.value, method: property.value, loc: { start: token.location } });
+            }
+        }
+        return Array.from(calls.values());
+    }
+
+    parseModuleStatementSurface(keyword) {
+        if (keyword === 'import') {
+            // ! import(...) / import.meta ระดับบนสุด - ไม่ใช่ declaration
+            const next = this.tokens[this.current + 1];
+            if (next && (next.value === '(' || next.value === '.')) return null;
+            return this.parseImportDeclaration();
+        }
+        return this.parseExportDeclaration();
+    }
+
+    /**
+     * token แรกของ statement ใหม่: ต้นไฟล์, หลัง ; หรือ }, หรือขึ้นบรรทัดใหม่โดยบรรทัดก่อนไม่ได้ค้าง operator / comma
+     */
+    isSurfaceStatementStart(previous, token) {
+        if (!previous) return true;
+        if (previous.type === 'PUNCTUATION' && (previous.value === ';' || previous.value === '}')) return true;
+        return previous.location.line < token.location.line && previous.type !== 'OPERATOR' && previous.value !== ',';
+    }
+
+    parseDeclarationSurface() {
+        const start = this.current;
+        const token = this.peek();
+        const loc = { start: token.location };
+
+        if (token.value === 'const' || token.value === 'let' || token.value === 'var') {
             this.advance();
+            const declarations = [];
+            do {
+                let id = null;
+                if (this.isSurfaceBindingName(SURFACE_DECLARATOR_FOLLOWERS)) {
+                    id = this.parseIdentifier();
+                } else if (this.match('{', '[')) {
+                    this.skipBalancedSurface();                 // ! destructuring - ไม่มีชื่อเดียวให้ index
+                } else {
+                    return null;                                // ! let เป็นชื่อตัวแปร ฯลฯ
+                }
+                let init = null;
+                if (this.matchOperator('=')) {
+                    this.advance();
+                    init = this.parseInitializerSurface();
+                }
+                if (id) declarations.push({ type: 'VariableDeclarator', id, init });
+            } while (this.match(',') && this.advance());
+            this.consumeSemicolon();
+            return { type: 'VariableDeclaration', start, end: this.current - 1, declarations, kind: token.value, loc };
         }
-        
-        // ! คืนค่า ExportDeclaration node แบบชั่วคราว
-        return {
-            type: 'ExportDefaultDeclaration',
-            declaration: { type: 'Identifier', name: 'unknown' },
-            location: { start, end: this.current }
-        };
+
+        let isAsync = false;
+        if (token.value === 'async') {
+            this.advance();
+            if (!this.match('function')) return null;           // ! async arrow ระดับบนสุด - ไม่ใช่ declaration
+            isAsync = true;
+        }
+        if (this.match('function')) {
+            this.advance();
+            const generator = this.matchOperator('*');
+            if (generator) this.advance();
+            const id = this.isSurfaceBindingName(SURFACE_FUNCTION_FOLLOWERS) ? this.parseIdentifier() : null;
+            if (!this.match('(')) return null;
+            this.skipBalancedSurface();                         // ! (params)
+            if (!this.match('{')) return null;
+            this.skipBalancedSurface();                         // ! { body }
+            return { type: 'FunctionDeclaration', start, end: this.current - 1, id, params: [], body: null, generator, async: isAsync, loc };
+        }
+        if (this.match('class')) {
+            this.advance();
+            const id = this.isSurfaceBindingName(SURFACE_CLASS_FOLLOWERS) ? this.parseIdentifier() : null;
+            while (!this.isAtEnd() && !this.match('{')) {       // ! extends <expression>
+                if (this.match('(', '[')) this.skipBalancedSurface();
+                else this.advance();
+            }
+            if (this.isAtEnd()) return null;
+            this.skipBalancedSurface();                         // ! { class body }
+            return { type: 'ClassDeclaration', start, end: this.current - 1, id, superClass: null, body: null, loc };
+        }
+        return null;
+    }
+
+    /**
+     * ชื่อที่ประกาศได้: IDENTIFIER หรือ contextual keyword (meta, from, of ...) ที่ตามด้วย token ที่ declaration คาดไว้
+     */
+    isSurfaceBindingName(followers) {
+        const token = this.peek();
+        if (token?.type === 'IDENTIFIER') return true;
+        const next = this.tokens[this.current + 1];
+        return token?.type === 'KEYWORD' && (!next || followers.has(next.value) || next.location.line > token.location.line);
+    }
+
+    /**
+     * รูปของ initializer (ไม่ใช่ expression เต็ม) แล้วข้ามไปจนจบ expression ที่ depth 0
+     */
+    parseInitializerSurface() {
+        this.skipComments();
+        const first = this.peek();
+        const next = this.tokens[this.current + 1];
+        let shape = { type: 'Expression' };
+        if (!first) {
+            throw new Error("Expected expression but got 'EOF'");
+        }
+        if (first.value === 'new' && next?.type === 'IDENTIFIER') {
+            shape = { type: 'NewExpression', callee: { type: 'Identifier', name: next.value } };
+        } else if (first.type === 'PUNCTUATION' && first.value === '{') {
+            shape = { type: 'ObjectExpression' };
+        } else if (first.type === 'PUNCTUATION' && first.value === '[') {
+            shape = { type: 'ArrayExpression' };
+        } else if (first.value === 'function' || (first.value === 'async' && next?.value === 'function')) {
+            shape = { type: 'FunctionExpression' };
+        } else if (first.type === 'IDENTIFIER' && next?.value === '=>') {
+            shape = { type: 'ArrowFunctionExpression' };
+        } else if (first.type === 'IDENTIFIER' && next?.value === '(') {
+            shape = { type: 'CallExpression', callee: { type: 'Identifier', name: first.value } };
+        } else if (first.type === 'IDENTIFIER') {
+            shape = { type: 'Identifier', name: first.value };
+        } else if (first.type === 'STRING' || first.type === 'NUMBER') {
+            shape = { type: 'Literal', raw: first.value };
+        }
+        this.skipExpressionSurface();
+        return shape;
+    }
+
+    /**
+     * ข้าม expression: หยุดที่ , หรือ ; ระดับเดียวกัน หรือ keyword ต้น statement บนบรรทัดใหม่ (ASI)
+     */
+    skipExpressionSurface() {
+        let previous = null;
+        while (!this.isAtEnd()) {
+            const token = this.peek();
+            if (token.type === 'PUNCTUATION') {
+                if (token.value === ',' || token.value === ';') return;
+                if (SURFACE_CLOSERS.has(token.value)) return;
+                if (SURFACE_OPENERS.has(token.value)) {
+                    this.skipBalancedSurface();
+                    previous = this.tokens[this.current - 1];
+                    continue;
+                }
+            }
+            if (previous && token.type === 'KEYWORD' && SURFACE_STATEMENT_KEYWORDS.has(token.value) &&
+                this.isSurfaceStatementStart(previous, token)) {
+                return;
+            }
+            if (token.type !== 'COMMENT') previous = token;
+            this.advance();
+        }
+    }
+
+    /**
+     * ข้ามวงเล็บหนึ่งคู่ ( [ { รวมทุกอย่างที่ซ้อนอยู่ข้างใน (token ปัจจุบันต้องเป็นวงเล็บเปิด)
+     */
+    skipBalancedSurface() {
+        let depth = 0;
+        do {
+            const token = this.advance();
+            if (token.type === 'PUNCTUATION') {
+                if (SURFACE_OPENERS.has(token.value)) depth++;
+                else if (SURFACE_CLOSERS.has(token.value)) depth--;
+            }
+        } while (depth > 0 && !this.isAtEnd());
     }
 
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
@@ -419,12 +807,12 @@ class AdvancedStructureParser extends StructureParser {
     // !  
     // ! parseExpression()  เรียก parseAssignmentExpression()
     // !  
-    // ! parseAssignmentExpression() (บรรทัด 342-356)
+    // ! parseAssignmentExpression() (บรรทัด 825-843)
     // !  - จัดการ assignment operators: =, +=, -=, *=, /=
     // !  - precedence ต่ำสุด (ทำงานทีหลังสุด)
     // !  - ตัวอย่าง: x = 5, y += 10
     // !  
-    // ! parseLogicalExpression() (บรรทัด 358-375)
+    // ! parseLogicalExpression() (บรรทัด 845-863)
     // !  - จัดการ logical operators: &&, ||, ??
     // !  - precedence สูงกว่า assignment
     // !  - ตัวอย่าง: x && y, a || b, c ?? d
@@ -444,6 +832,7 @@ class AdvancedStructureParser extends StructureParser {
             
             return {
                 type: 'AssignmentExpression',                   // ! ประเภท AST node
+                start: left.start,                              // ! ตำแหน่งเริ่มต้น = token แรกของด้านซ้าย
                 operator: operator,                             // ! operator: '=', '+=', '-=', etc.
                 left: left,                                     // ! ด้านซ้าย (ตัวแปรที่จะถูก assign)
                 right: right                                    // ! ด้านขวา (ค่าที่จะ assign)
@@ -463,6 +852,7 @@ class AdvancedStructureParser extends StructureParser {
             
             left = {
                 type: 'LogicalExpression',                      // ! ประเภท AST node
+                start: left.start,                              // ! ตำแหน่งเริ่มต้น = token แรกของด้านซ้าย
                 operator: operator,                             // ! operator: '&&', '||', '??'
                 left: left,                                     // ! ด้านซ้าย (อาจเป็น LogicalExpression ซ้อน)
                 right: right                                    // ! ด้านขวา
@@ -520,9 +910,11 @@ class AdvancedStructureParser extends StructureParser {
         // ! ยอมรับทั้ง IDENTIFIER และ KEYWORD (เพราะใน JS keywords สามารถใช้เป็น property name ได้)
         // ! เช่น: import.meta, obj.class, foo.return
         if (token && (token.type === 'IDENTIFIER' || token.type === 'KEYWORD')) {
+            const start = this.current;
             this.advance();
             return {
                 type: 'Identifier',
+                start,
                 name: token.value
             };
         }
@@ -604,6 +996,7 @@ class AdvancedStructureParser extends StructureParser {
             
             return {
                 type: 'ExpressionStatement',                    // ! ประเภท AST node
+                start: expr.start,                              // ! ตำแหน่งเริ่มต้น = token แรกของ expression
                 expression: expr                                // ! expression ที่อ่านได้
             };
         } catch (error) {
@@ -636,21 +1029,21 @@ class AdvancedStructureParser extends StructureParser {
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
     // ! งานที่ทำ: แปลง equality และ comparison operators ตาม operator precedence
     // !  
-    // ! parseEqualityExpression() (บรรทัด 576-592)
+    // ! parseEqualityExpression() (บรรทัด 1053-1071)
     // !  - จัดการ equality operators: ==, !=, ===, !==
     // !  - precedence: สูงกว่า logical แต่ต่ำกว่า relational
     // !  - ตัวอย่าง: x === y, a !== b
     // !  - สร้าง BinaryExpression node
     // !  - รองรับ chain: x === y !== z (แม้ไม่ค่อยใช้)
     // !  
-    // ! parseRelationalExpression() (บรรทัด 595-611)
+    // ! parseRelationalExpression() (บรรทัด 1074-1092)
     // !  - จัดการ relational operators: <, >, <=, >=
     // !  - precedence: สูงกว่า equality แต่ต่ำกว่า additive
     // !  - ตัวอย่าง: x < y, a >= b
     // !  - สร้าง BinaryExpression node
     // !  - รองรับ chain: x < y < z (แม้ว่าใน JS จะทำงานแปลกๆ)
     // !  
-    // ! parseAdditiveExpression() (บรรทัด 614-628)
+    // ! parseAdditiveExpression() (บรรทัด 1095-1113)
     // !  - จัดการ additive operators: +, -
     // !  - precedence: สูงกว่า relational แต่ต่ำกว่า multiplicative
     // !  - ตัวอย่าง: x + y, a - b
@@ -667,6 +1060,7 @@ class AdvancedStructureParser extends StructureParser {
             
             left = {
                 type: 'BinaryExpression',                       // ! ประเภท AST node
+                start: left.start,                              // ! ตำแหน่งเริ่มต้น = token แรกของด้านซ้าย
                 operator: operator,                             // ! operator: '==', '!=', '===', '!=='
                 left: left,                                     // ! ด้านซ้าย (อาจเป็น BinaryExpression ซ้อน)
                 right: right                                    // ! ด้านขวา
@@ -687,6 +1081,7 @@ class AdvancedStructureParser extends StructureParser {
             
             left = {
                 type: 'BinaryExpression',                       // ! ประเภท AST node
+                start: left.start,                              // ! ตำแหน่งเริ่มต้น = token แรกของด้านซ้าย
                 operator: operator,                             // ! operator: '<', '>', '<=', '>='
                 left: left,                                     // ! ด้านซ้าย (อาจเป็น BinaryExpression ซ้อน)
                 right: right                                    // ! ด้านขวา
@@ -707,6 +1102,7 @@ class AdvancedStructureParser extends StructureParser {
             
             left = {
                 type: 'BinaryExpression',                       // ! ประเภท AST node
+                start: left.start,                              // ! ตำแหน่งเริ่มต้น = token แรกของด้านซ้าย
                 operator: operator,                             // ! operator: '+', '-'
                 left: left,                                     // ! ด้านซ้าย (อาจเป็น BinaryExpression ซ้อน)
                 right: right                                    // ! ด้านขวา
@@ -721,14 +1117,14 @@ class AdvancedStructureParser extends StructureParser {
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
     // ! งานที่ทำ: แปลง multiplicative และ unary operators
     // !  
-    // ! parseMultiplicativeExpression() (บรรทัด 721-738)
+    // ! parseMultiplicativeExpression() (บรรทัด 1135-1153)
     // !  - จัดการ multiplicative operators: *, /, %
     // !  - precedence: สูงกว่า additive แต่ต่ำกว่า unary
     // !  - ตัวอย่าง: x * y, a / b, c % d
     // !  - สร้าง BinaryExpression node
     // !  - รองรับ chain: x * y / z % w
     // !  
-    // ! parseUnaryExpression() (บรรทัด 741-757)
+    // ! parseUnaryExpression() (บรรทัด 1156-1173)
     // !  - จัดการ unary operators: !, -, +, typeof, void, delete
     // !  - precedence: สูงที่สุดใน operators
     // !  - ตัวอย่าง: !x, -y, +z, typeof foo, delete obj.prop
@@ -746,6 +1142,7 @@ class AdvancedStructureParser extends StructureParser {
             
             left = {
                 type: 'BinaryExpression',                       // ! ประเภท AST node
+                start: left.start,                              // ! ตำแหน่งเริ่มต้น = token แรกของด้านซ้าย
                 operator: operator,                             // ! operator: '*', '/', '%'
                 left: left,                                     // ! ด้านซ้าย (อาจเป็น BinaryExpression ซ้อน)
                 right: right                                    // ! ด้านขวา
@@ -759,11 +1156,13 @@ class AdvancedStructureParser extends StructureParser {
     parseUnaryExpression() {
         // ! ตรวจสอบว่าเป็น unary operator หรือไม่
         if (this.matchOperator('!', '-', '+') || this.match('typeof', 'void', 'delete')) {
+            const start = this.current;                         // ! บันทึกตำแหน่งเริ่มต้น (operator)
             const operator = this.advance().value;              // ! อ่าน operator (!, -, +, typeof, void, delete)
             const argument = this.parseUnaryExpression();       // ! อ่าน argument (รองรับ nested: !!x, -(-y))
             
             return {
                 type: 'UnaryExpression',                        // ! ประเภท AST node
+                start: start,                                   // ! ตำแหน่งเริ่มต้น
                 operator: operator,                             // ! operator: '!', '-', '+', 'typeof', 'void', 'delete'
                 prefix: true,                                   // ! prefix (อยู่หน้า argument)
                 argument: argument                              // ! argument (สิ่งที่ถูก unary operate)
@@ -796,6 +1195,7 @@ class AdvancedStructureParser extends StructureParser {
     // !  - รองรับ chain: obj.method(x)[0].property()
     // ! ═══════════════════════════════════════════════════════════════════════════════════════════════
     parsePostfixExpression() {
+        const start = this.current;                             // ! บันทึกตำแหน่งเริ่มต้น (token แรกของ chain)
         let left = this.parsePrimaryExpression();               // ! อ่าน primary expression ก่อน (literal, identifier, etc.)
         
         // ! วนตรวจสอบ postfix operators ต่อเนื่อง
@@ -806,6 +1206,7 @@ class AdvancedStructureParser extends StructureParser {
                 const property = this.parseIdentifier();        // ! อ่าน property name (identifier)
                 left = {
                     type: 'MemberExpression',                   // ! ประเภท AST node
+                    start: start,                               // ! ตำแหน่งเริ่มต้น
                     object: left,                               // ! object (ด้านซ้าย)
                     property: property,                         // ! property (ชื่อ property)
                     computed: false                             // ! false = dot notation (obj.prop)
@@ -818,6 +1219,7 @@ class AdvancedStructureParser extends StructureParser {
                 this.consume(']');                              // ! ต้องมี ']' ปิด
                 left = {
                     type: 'MemberExpression',                   // ! ประเภท AST node
+                    start: start,                               // ! ตำแหน่งเริ่มต้น
                     object: left,                               // ! object (ด้านซ้าย)
                     property: property,                         // ! property (expression)
                     computed: true                              // ! true = bracket notation (obj[key])
@@ -828,6 +1230,7 @@ class AdvancedStructureParser extends StructureParser {
                 const args = this.parseArgumentList();          // ! อ่าน arguments จาก (...)
                 left = {
                     type: 'CallExpression',                     // ! ประเภท AST node
+                    start: start,                               // ! ตำแหน่งเริ่มต้น
                     callee: left,                               // ! callee (function ที่จะเรียก)
                     arguments: args                             // ! arguments (รายการ arguments)
                 };
@@ -885,6 +1288,8 @@ class AdvancedStructureParser extends StructureParser {
             this.advance(); // Skip comment
             return this.parsePrimaryExpression(); // Try next token
         }
+
+        const start = this.current;                             // ! บันทึกตำแหน่งเริ่มต้น
         
         // ! 0. NEW Expression (new Constructor())
         if (token.type === 'KEYWORD' && token.value === 'new') {
@@ -892,6 +1297,7 @@ class AdvancedStructureParser extends StructureParser {
             const callee = this.parsePostfixExpression();       // ! อ่าน constructor (เช่น ErrorHandler())
             return {
                 type: 'NewExpression',                          // ! ประเภท AST node
+                start: start,                                   // ! ตำแหน่งเริ่มต้น ('new')
                 callee: callee,                                 // ! constructor ที่จะสร้าง
                 arguments: []                                   // ! arguments (อาจจะว่างหรือมีก็ได้)
             };
@@ -902,6 +1308,7 @@ class AdvancedStructureParser extends StructureParser {
             this.advance();                                     // ! กิน number token
             return {
                 type: 'Literal',                                // ! ประเภท AST node
+                start: start,                                   // ! ตำแหน่งเริ่มต้น
                 value: parseFloat(token.value),                 // ! แปลง string  number
                 raw: token.value                                // ! เก็บ raw string ไว้
             };
@@ -912,11 +1319,28 @@ class AdvancedStructureParser extends StructureParser {
             this.advance();                                     // ! กิน string token
             return {
                 type: 'Literal',                                // ! ประเภท AST node
+                start: start,                                   // ! ตำแหน่งเริ่มต้น
                 value: token.value.slice(1, -1),                // ! เอา quotes ออก ('hello'  hello)
                 raw: token.value                                // ! เก็บ raw string ไว้ (พร้อม quotes)
             };
         }
-        
+
+        // ! 2.1 REGEX Literals (/pattern/flags - tokenizer ตัดสิน '/' ด้วย disambiguation table)
+        if (token.type === 'REGEX') {
+            this.advance();                                     // ! กิน regex token
+            const flagsStart = token.value.lastIndexOf('/');    // ! '/' ตัวสุดท้ายปิด pattern เสมอ
+            return {
+                type: 'Literal',                                // ! ESTree: RegExpLiteral = Literal + regex
+                start: start,                                   // ! ตำแหน่งเริ่มต้น
+                value: null,                                    // ! ไม่สร้าง RegExp จริงตอน parse
+                raw: token.value,
+                regex: {
+                    pattern: token.value.slice(1, flagsStart),
+                    flags: token.value.slice(flagsStart + 1)
+                }
+            };
+        }
+
         // ! 3. IDENTIFIERS
         if (token.type === 'IDENTIFIER') {
             return this.parseIdentifier();                      // ! เรียก parseIdentifier() เพื่อสร้าง Identifier node
@@ -936,6 +1360,7 @@ class AdvancedStructureParser extends StructureParser {
             this.advance(); // ! ข้าม keyword ไป
             return {
                 type: 'Identifier',
+                start,
                 name: `__${token.value}_placeholder__`
             };
         }
@@ -1210,14 +1635,14 @@ class SmartFileAnalyzer {
 // !     * maxAnalysisCount
 // !     * maxASTNodes
 // !  
-// !  ZONE 2: analyzeCode() - MAIN ANALYSIS METHOD (บรรทัด 1737-1795)
+// !  ZONE 2: analyzeCode() - MAIN ANALYSIS METHOD (บรรทัด 1848-1969)
 // !   - CIRCUIT BREAKER: ป้องกัน memory overflow
 // !   - Tokenize code
 // !   - Build full AST with AdvancedStructureParser
 // !   - Traverse AST เพื่อตรวจจับ violations
 // !   - Return violations
 // !  
-// !  ZONE 3: traverseAST() - AST WALKER (บรรทัด 1800-1857)
+// !  ZONE 3: traverseAST() - AST WALKER (บรรทัด 1983-2027)
 // !   - เดิน AST tree แบบ recursive
 // !   - ตรวจสอบแต่ละ node type
 // !   - เรียก violation checkers:
@@ -1233,7 +1658,7 @@ class SmartFileAnalyzer {
 // !   - checkNumericHardcodeInAST(): hardcoded numbers
 // !   - checkSilentFallbacksInAST(): empty catch, || fallbacks
 // !   - checkLogicalFallbacksInAST(): || [], || {}
-// !   - checkPromiseCatchFallbacks(): .catch(() => {})
+// !   - structuralMatcher.match(): structuralQueries ของ rule pack (เช่น .catch(() => {}))
 // !   - checkAsyncFunctionWithoutTryCatch()
 // !   - checkCachingInAST(): cache variables
 // !   - checkMemoizationInAST(): memoize functions
@@ -1307,6 +1732,60 @@ class SmartParserEngine {
             this.maxAnalysisCount = memoryConfig.maxAnalysisCount;
             this.maxASTNodes = memoryConfig.maxASTNodes;
             this.analysisCount = 0;
+
+            // ! AST representation: 'object' (nested ESTree objects) หรือ 'arena' (typed arrays)
+            const astMode = engineConfig.astMode;
+            if (astMode !== 'object' && astMode !== 'arena') {
+                throw new Error(`Configuration astMode must be 'object' or 'arena', got: ${astMode}`);
+            }
+            this.astMode = astMode;
+
+            // ! NO_EMOJI: compile ช่วง codepoint ครั้งเดียวต่อ engine (ไม่สร้าง RegExp ต่อ node)
+            const emojiRanges = actualConfig.ruleChecking?.customPatterns?.emojiRanges;
+            if (!emojiRanges) {
+                throw new Error('Configuration missing ruleChecking.customPatterns.emojiRanges');
+            }
+            this.emojiScanner = EmojiScanner.fromConfig(emojiRanges);
+
+            // ! NO_HARDCODE: keyword / prefix / TLD compile เป็น automaton ครั้งเดียวต่อ engine
+            this.literalClassifier = LiteralClassifier.fromConfig(actualConfig.ruleChecking.customPatterns);
+
+            // ! Tier 0: feature bitmap จาก token stream  ข้าม parse เมื่อไม่มีกฎที่เปิดอยู่ข้อใดต้องการ AST
+            const prefilterConfig = actualConfig.lexicalPrefilter;
+            if (!prefilterConfig || typeof prefilterConfig.enabled !== 'boolean') {
+                throw new Error('Configuration missing lexicalPrefilter.enabled');
+            }
+            // ! กฎที่เปิด: ตาม rules ที่ส่งเข้ามา (createSmartParserEngine) - ไม่ระบุ = ทั้ง 5 ข้อ
+            this.enabledRules = actualConfig.rules
+                ? Object.values(RULE_IDS).filter(ruleId => actualConfig.rules[ruleId])
+                : Object.values(RULE_IDS);
+
+            // ! structuralQueries ของทุกกฎ compile เป็น matcher เดียว - checkNode() เรียกครั้งเดียวต่อ node
+            const queryConfig = actualConfig.structuralQueries;
+            if (!queryConfig || !queryConfig.typeAliases) {
+                throw new Error('Configuration missing structuralQueries.typeAliases');
+            }
+            this.structuralMatcher = StructuralMatcher.fromRules(actualConfig.rules, this.enabledRules, queryConfig.typeAliases);
+            this.structuralMatcher.attachLocator((node) => this.locationOf(node));
+
+            // ! query ที่ไม่มี anchor (ข้อความ / regex บังคับ) ตัด parse ล่วงหน้าไม่ได้ = ปิด Tier 0
+            this.prefilterEnabled = prefilterConfig.enabled && this.structuralMatcher.unanchored === 0;
+            this.lexicalPrefilter = new LexicalPrefilter({
+                vocabulary: prefilterConfig.vocabulary,
+                isHardcodedLiteral: (value) => this.classifyHardcodedLiteral(value).length > 0,
+                isSuspiciousNumber: (value) => this.isSuspiciousNumber(value),
+                emojiScanner: this.emojiScanner,
+                structuralAnchors: this.structuralMatcher.size > 0 ? this.structuralMatcher.anchors : null
+            });
+            this.prefilterMask = LexicalPrefilter.triggerMaskFor(this.enabledRules) |
+                (this.structuralMatcher.size > 0 ? FEATURES.STRUCTURAL_ANCHOR : 0);
+            this.prefilterStats = { analyzed: 0, parseSkipped: 0 };
+            // ! ScanProfiler (--profile) - null = ไม่วัดอะไรเลย
+            this.profiler = null;
+            // ! Project symbol index: เปิดด้วย enableSymbolCollection() - ปิด = ไม่เดิน module surface
+            this.collectSymbols = false;
+            // ! token stream ของไฟล์ที่กำลังวิเคราะห์ - locationOf() แปลง node.start (index ของ token) เป็น line/column
+            this.currentTokens = null;
             
             console.log(`SmartParserEngine configured: maxTokens=${this.maxTokensPerAnalysis}, maxMemory=${Math.round(this.maxMemoryUsage/1024/1024)}MB, maxAST=${this.maxASTNodes}`);
             console.log(' GrammarIndex has been successfully integrated into the Smart Parser Engine.');
@@ -1324,8 +1803,51 @@ class SmartParserEngine {
 
 
 
+    /**
+     * ติดตั้ง ScanProfiler: stage ใน analyzeCode() + wrapper จับเวลารอบ method ของแต่ละกฎ
+     * wrapper เป็น own property ของ instance นี้เท่านั้น (prototype ไม่ถูกแตะ)
+     */
+    attachProfiler(profiler) {
+        if (this.profiler) {
+            throw new Error('SmartParserEngine already has a profiler attached');
+        }
+        for (const [ruleId, methods] of Object.entries(RULE_CHECK_METHODS)) {
+            for (const method of methods) {
+                const original = this[method];
+                if (typeof original !== 'function') {
+                    throw new Error(`SmartParserEngine.attachProfiler: missing rule method ${method}`);
+                }
+                this[method] = function profiledRuleMethod(...args) {
+                    const start = process.hrtime.bigint();
+                    try {
+                        return original.apply(this, args);
+                    } finally {
+                        profiler.recordRule(ruleId, method, start);
+                    }
+                };
+            }
+        }
+        this.structuralMatcher.attachProfiler(profiler);
+        this.profiler = profiler;
+    }
+
+    /**
+     * ให้ analyzeCode() คืน moduleSurface (import/export/declaration ระดับบนสุด) สำหรับ project symbol index
+     */
+    enableSymbolCollection() {
+        this.collectSymbols = true;
+    }
+
+    /**
+     * statement ระดับ module จาก token stream เดิม (ไม่ tokenize ซ้ำ, ไม่ขึ้นกับ Tier 0)
+     */
+    collectModuleSurface(tokens) {
+        return new AdvancedStructureParser(tokens, this.grammarIndex).parseModuleSurface();
+    }
+
     analyzeCode(code) {
         console.log('Smart Parser Engine: Starting AST analysis...');
+        const profiler = this.profiler;
         
         // ! WHY: Circuit breaker prevents infinite loops or recursive attacks that could
         // ! exhaust server memory. This is critical for production security.
@@ -1345,24 +1867,67 @@ class SmartParserEngine {
         console.log('Target: Parse entire file with OUR OWN tokenizer...');
 
         let allViolations = [];
+        let moduleSurface = null;
         
         try {
             // !  Step 1: Tokenize ด้วย JavaScriptTokenizer ของเราเอง
             console.log('Step 1: Tokenizing with OUR JavaScriptTokenizer...');
+            const tokenizeMark = profiler && profiler.startStage();
             const tokens = this.tokenizer.tokenize(code);
+            if (profiler) profiler.endStage('tokenize', tokenizeMark);
+            this.currentTokens = tokens;
             console.log(`SUCCESS: Tokenized into ${tokens.length} tokens`);
+
+            // !  Step 1.2: module surface สำหรับ project symbol index (ก่อน Tier 0 - ทุกไฟล์ต้องมี)
+            if (this.collectSymbols) {
+                const symbolsMark = profiler && profiler.startStage();
+                moduleSurface = this.collectModuleSurface(tokens);
+                if (profiler) profiler.endStage('symbols', symbolsMark);
+            }
+            
+            // !  Step 1.5: Tier-0 lexical prefilter - ไม่มี trigger ของกฎใดเลย = ไม่ต้องสร้าง AST
+            this.prefilterStats.analyzed++;
+            if (this.prefilterEnabled) {
+                const prefilterMark = profiler && profiler.startStage();
+                const features = this.lexicalPrefilter.computeFeatures(tokens, this.prefilterMask);
+                if (profiler) profiler.endStage('prefilter', prefilterMark);
+                if ((features & this.prefilterMask) === 0) {
+                    this.prefilterStats.parseSkipped++;
+                    return {
+                        violations: [],
+                        parseSuccess: true,
+                        parseSkipped: true,
+                        moduleSurface
+                    };
+                }
+            }
             
             // !  Step 2: สร้าง Full AST ด้วย AdvancedStructureParser ของเราเอง!
             console.log('Step 2: Building Full AST with OUR AdvancedStructureParser...');
+            const parseMark = profiler && profiler.startStage();
             const structureParser = new AdvancedStructureParser(tokens, this.grammarIndex);
+            // ! arena mode: statement ที่ parse เสร็จถูก pack ลง arena ทันทีแล้วทิ้ง object
+            // ! object tree ทั้งไฟล์ไม่เคยอยู่ครบพร้อม arena (peak = arena + statement ที่ใหญ่ที่สุด)
+            let arena = null;
+            if (this.astMode === 'arena') {
+                arena = AstArena.open(structureParser.ast, this.maxASTNodes + 1);
+                structureParser.statementSink = (statement) => arena.append(0, 'body', statement);
+            }
             const ast = structureParser.parse(); // Returns complete AST like Babel/Acorn!
-
-            // ! Safe check for AST structure
-            const nodeCount = ast?.body?.length || 0;
-            console.log(` SUCCESS: Built Full AST with ${nodeCount} top-level nodes`);
+            if (arena) arena.close(ast.end);
+            if (profiler) profiler.endStage('parse', parseMark);
 
             // !  Step 4: เดินสำรวจ AST และตรวจจับ violations
-            const violations = this.traverseAST(ast, code);
+            let violations;
+            if (arena) {
+                const traverseMark = profiler && profiler.startStage();
+                violations = this.traverseArena(arena);
+                if (profiler) profiler.endStage('traverse', traverseMark);
+            } else {
+                const traverseMark = profiler && profiler.startStage();
+                violations = this.traverseAST(ast, code);
+                if (profiler) profiler.endStage('traverse', traverseMark);
+            }
             allViolations.push(...violations);
                 
         } catch (parseError) {
@@ -1376,6 +1941,8 @@ class SmartParserEngine {
                 message: 'Parser encountered unimplemented syntax pattern'
             });
             
+            // ! parse เต็มไม่ผ่านแต่ import/export ของไฟล์ยังใช้ได้ - symbol index ไม่ขาดไฟล์นี้
+            if (moduleSurface) parseError.moduleSurface = moduleSurface;
             // ! Re-throw เพื่อหยุดการทำงาน (FAIL FAST, FAIL LOUD)
             throw parseError;
             // WHY: Use ERROR_TYPES from constants.js instead of hardcoding (NO_HARDCODE compliance)
@@ -1387,6 +1954,8 @@ class SmartParserEngine {
                 source: code.substring(0, 200) + '...',
                 learningNote: 'Add this token/syntax to JavaScriptTokenizer'
             });
+        } finally {
+            this.currentTokens = null;
         }
 
         console.log(` Smart Parser Engine: Found ${allViolations.length} violations via AST`);
@@ -1394,11 +1963,21 @@ class SmartParserEngine {
         // !  FIX: Return object ที่มี violations property เพื่อให้ cli.js อ่านได้ถูกต้อง
         return {
             violations: allViolations,
-            parseSuccess: allViolations.length === 0
+            parseSuccess: allViolations.length === 0,
+            moduleSurface
         };
     }
 
 
+    // !  ตำแหน่งของ node = location ของ token แรกของ node
+    // !  parser ตั้ง loc ให้เฉพาะบาง declaration แต่ทุก node (object และ arena) มี start = index ใน token stream
+    // !  token.location มาจาก LineIndex ของ tokenizer อยู่แล้ว - ไม่ต้องแปลง offset ใหม่
+    locationOf(node) {
+        if (node.loc?.start) return node.loc.start;
+        const token = this.currentTokens ? this.currentTokens[node.start] : undefined;
+        return token?.location ? token.location : DEFAULT_LOCATION;
+    }
+
     // !  เดินสำรวจ AST Tree เพื่อตรวจจับ Violations (หัวใจของระบบ)
 
     traverseAST(astNode, sourceCode = '') {
@@ -1412,61 +1991,8 @@ class SmartParserEngine {
             nodeCount++;
             
             try {
-                // ! === ตรวจสอบกฎทั้ง 5 ข้อผ่าน AST Nodes ===
-                
-                // !  NO_MOCKING Detection
-                if (currentNode.type === 'CallExpression') {
-                    this.checkMockingInAST(currentNode, violations);
-                }
-                
-                // ! NO_HARDCODE Detection  
-                if (currentNode.type === 'Literal' || currentNode.type === 'StringLiteral') {
-                    this.checkHardcodeInAST(currentNode, violations);
-                    this.checkNumericHardcodeInAST(currentNode, violations);
-                }
-                
-                // ! NO_SILENT_FALLBACKS Detection
-                if (currentNode.type === 'CatchClause') {
-                    this.checkSilentFallbacksInAST(currentNode, violations);
-                }
-                
-                // ! Logical OR fallbacks (data || [])
-                if (currentNode.type === 'LogicalExpression' && currentNode.operator === '||') {
-                    this.checkLogicalFallbacksInAST(currentNode, violations);
-                }
-                
-                // ! Promise catch with empty handler
-                if (currentNode.type === 'CallExpression' && 
-                    currentNode.callee?.type === 'MemberExpression' && 
-                    currentNode.callee?.property?.name === 'catch') {
-                    this.checkPromiseCatchFallbacks(currentNode, violations);
-                }
-                
-                // ! Async function without try-catch
-                if (currentNode.type === 'FunctionDeclaration' && currentNode.async === true) {
-                    this.checkAsyncFunctionWithoutTryCatch(currentNode, violations);
-                }
-                
-                // !  NO_INTERNAL_CACHING Detection
-                if (currentNode.type === 'VariableDeclarator' || currentNode.type === 'AssignmentExpression') {
-                    this.checkCachingInAST(currentNode, violations);
-                }
-                
-                // ! this.cache property detection
-                if (currentNode.type === 'MemberExpression') {
-                    this.checkCachingPropertyInAST(currentNode, violations);
-                }
-                
-                // ! Memoization function calls
-                if (currentNode.type === 'CallExpression') {
-                    this.checkMemoizationInAST(currentNode, violations);
-                }
-                
-                // ! NO_EMOJI Detection
-                if (currentNode.type === 'Literal' || currentNode.type === 'TemplateElement') {
-                    this.checkEmojiInAST(currentNode, violations);
-                }
-                
+                this.checkNode(currentNode, violations);
+
                 // ! เดินทางไปยัง Child Nodes
                 for (const key in currentNode) {
                     const value = currentNode[key];
@@ -1500,6 +2026,85 @@ class SmartParserEngine {
         return violations;
     }
 
+    // !  Dispatch กฎทั้ง 5 ข้อสำหรับ node เดียว (ใช้ร่วมกันระหว่าง traverseAST และ traverseArena)
+    checkNode(node, violations) {
+        // ! === ตรวจสอบกฎทั้ง 5 ข้อผ่าน AST Nodes ===
+        
+        // !  NO_MOCKING Detection
+        if (node.type === 'CallExpression') {
+            this.checkMockingInAST(node, violations);
+        }
+        
+        // ! NO_HARDCODE Detection  
+        if (node.type === 'Literal' || node.type === 'StringLiteral') {
+            this.checkHardcodeInAST(node, violations);
+            this.checkNumericHardcodeInAST(node, violations);
+        }
+        
+        // ! NO_SILENT_FALLBACKS Detection
+        if (node.type === 'CatchClause') {
+            this.checkSilentFallbacksInAST(node, violations);
+        }
+        
+        // ! Logical OR fallbacks (data || [])
+        if (node.type === 'LogicalExpression' && node.operator === '||') {
+            this.checkLogicalFallbacksInAST(node, violations);
+        }
+        
+        // ! Async function without try-catch
+        if (node.type === 'FunctionDeclaration' && node.async === true) {
+            this.checkAsyncFunctionWithoutTryCatch(node, violations);
+        }
+        
+        // !  NO_INTERNAL_CACHING Detection
+        if (node.type === 'VariableDeclarator' || node.type === 'AssignmentExpression') {
+            this.checkCachingInAST(node, violations);
+        }
+        
+        // ! this.cache property detection
+        if (node.type === 'MemberExpression') {
+            this.checkCachingPropertyInAST(node, violations);
+        }
+        
+        // ! Memoization function calls
+        if (node.type === 'CallExpression') {
+            this.checkMemoizationInAST(node, violations);
+        }
+        
+        // ! NO_EMOJI Detection
+        if (node.type === 'Literal' || node.type === 'TemplateElement') {
+            this.checkEmojiInAST(node, violations);
+        }
+
+        // ! Structural queries ของ rule pack (ทุกกฎรวมเป็น matcher เดียว - ดูแค่ bucket ของ node.type)
+        this.structuralMatcher.match(node, violations);
+    }
+
+    // !  เดิน Arena AST แบบ linear scan (pre-order เหมือน walk() แต่ไม่ต้อง for...in ทุก property)
+    traverseArena(arena) {
+        const violations = [];
+        const limit = Math.min(arena.count, this.maxASTNodes + 1);
+
+        for (let index = 0; index < limit; index++) {
+            const node = new ArenaNodeView(arena, index);
+            try {
+                this.checkNode(node, violations);
+            } catch (traverseError) {
+                // ! NO_SILENT_FALLBACKS: ส่ง error ไป ErrorHandler กลาง
+                errorHandler.handleError(traverseError, {
+                    source: 'SmartParserEngine',
+                    method: 'traverseArena',
+                    nodeType: node.type,
+                    severity: 'CRITICAL',
+                    context: 'Arena AST traversal failed - cannot continue reliably'
+                });
+                throw new Error(`AST traversal failed at node ${node.type}: ${traverseError.message}`);
+            }
+        }
+
+        return violations;
+    }
+
     checkMockingInAST(node, violations) {
         try {
             // ! jest.mock(), sinon.stub(), chai.spy()
@@ -1510,7 +2115,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_MOCKING,
                     severity: SEVERITY_LEVELS.CRITICAL,
                     message: `AST: ${node.callee.object?.name}.${node.callee.property.name}() detected`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
 
@@ -1520,7 +2125,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_MOCKING,
                     severity: SEVERITY_LEVELS.CRITICAL,
                     message: `AST: ${node.callee.object?.name}.spyOn() detected`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
 
@@ -1530,7 +2135,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_MOCKING,
                     severity: SEVERITY_LEVELS.CRITICAL,
                     message: `AST: Mock method ${node.callee.property.name}() detected`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
         } catch (error) {
@@ -1547,62 +2152,14 @@ class SmartParserEngine {
     checkHardcodeInAST(node, violations) {
         try {
             if (!node.value) return;
-            const value = node.value.toString();
-            const lowerValue = value.toLowerCase();
-
-            // ! ใช้ patterns จาก config แทน hardcode
-            const ruleConfig = PARSER_CONFIG.ruleChecking;
-            if (!ruleConfig || !ruleConfig.customPatterns) {
-                throw new Error('Parser configuration ruleChecking.customPatterns section is required');
-            }
-            const credentialKeywords = ruleConfig.customPatterns.credentialKeywords;
-            const connectionPatterns = ruleConfig.customPatterns.connectionStringPatterns;
-            
-            // ! Credential detection
-            if (credentialKeywords.some(keyword => lowerValue.includes(keyword))) {
-                violations.push({
-                    ruleId: RULE_IDS.NO_HARDCODE,
-                    severity: SEVERITY_LEVELS.CRITICAL,
-                    message: `AST: Hardcoded credential: "${node.value}"`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
-                });
-            }
-            
-            // ! API Key patterns (sk_live_, pk_test_, etc.)
-            const apiKeyMinLength = ruleConfig.customPatterns.apiKeyMinLength;
-            const hexMinLength = ruleConfig.customPatterns.hexMinLength;
-            const alphanumericMinLength = ruleConfig.customPatterns.alphanumericMinLength;
-            
-            if (lowerValue.match(new RegExp(`^(sk_|pk_|api_|key_|secret_)[a-z0-9_]{${apiKeyMinLength},}$`)) ||
-                lowerValue.match(new RegExp(`^[a-f0-9]{${hexMinLength},}$`)) ||
-                (lowerValue.match(new RegExp(`^[a-zA-Z0-9]{${alphanumericMinLength},}$`)) && value.length > alphanumericMinLength)) {
-                violations.push({
-                    ruleId: RULE_IDS.NO_HARDCODE,
-                    severity: SEVERITY_LEVELS.CRITICAL,
-                    message: `AST: Hardcoded API key/token: "${node.value}"`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
-                });
-            }
+            const location = this.locationOf(node);
 
-            // ! Connection string detection
-            if (connectionPatterns.some(pattern => lowerValue.includes(pattern))) {
-                violations.push({
-                    ruleId: RULE_IDS.NO_HARDCODE,
-                    severity: SEVERITY_LEVELS.CRITICAL,
-                    message: `AST: Hardcoded connection string: "${node.value}"`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
-                });
-            }
-            
-            // ! URL detection (https://api.production.com/v1)
-            if (lowerValue.match(/^https?:\/\/.*\.(com|org|net|io).*\//) || 
-                lowerValue.includes('production') || 
-                lowerValue.includes('staging')) {
+            for (const category of this.classifyHardcodedLiteral(node.value.toString())) {
                 violations.push({
                     ruleId: RULE_IDS.NO_HARDCODE,
                     severity: SEVERITY_LEVELS.CRITICAL,
-                    message: `AST: Hardcoded URL/endpoint: "${node.value}"`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    message: `AST: Hardcoded ${HARDCODE_CATEGORY_LABELS[category]}: "${node.value}"`,
+                    location
                 });
             }
         } catch (error) {
@@ -1616,23 +2173,22 @@ class SmartParserEngine {
         }
     }
 
+    // ! จัดประเภท literal ที่เป็น hardcode - ใช้ร่วมกันระหว่าง checkHardcodeInAST และ LexicalPrefilter
+    // ! (trigger ของ tier-0 จึงตรงกับสิ่งที่ AST checker จะรายงานเสมอ)
+    // ! LiteralClassifier: loop เดียวต่อ literal (keyword, prefix, class ตัวอักษร, entropy)
+    classifyHardcodedLiteral(value) {
+        return this.literalClassifier.classify(value);
+    }
+
     checkNumericHardcodeInAST(node, violations) {
         try {
             if (node.type === 'Literal' && typeof node.value === 'number') {
-                // ! ใช้ config แทน hardcoded array
-                const ruleConfig = PARSER_CONFIG.ruleChecking;
-                if (!ruleConfig || !ruleConfig.customPatterns) {
-                    throw new Error('Parser configuration ruleChecking.customPatterns section is required');
-                }
-                const suspiciousNumbers = ruleConfig.customPatterns.suspiciousNumbers;
-                const minThreshold = PARSER_CONFIG.astTraversal.minHardcodedNumberThreshold;
-                
-                if (suspiciousNumbers.includes(node.value) && node.value > minThreshold) {
+                if (this.isSuspiciousNumber(node.value)) {
                     violations.push({
                         ruleId: RULE_IDS.NO_HARDCODE,
                         severity: SEVERITY_LEVELS.CRITICAL, 
                         message: `AST: Hardcoded numeric value: ${node.value} (should use configuration)`,
-                        location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                        location: this.locationOf(node)
                     });
                 }
             }
@@ -1647,6 +2203,17 @@ class SmartParserEngine {
         }
     }
 
+    isSuspiciousNumber(value) {
+        // ! ใช้ config แทน hardcoded array
+        const ruleConfig = PARSER_CONFIG.ruleChecking;
+        if (!ruleConfig || !ruleConfig.customPatterns) {
+            throw new Error('Parser configuration ruleChecking.customPatterns section is required');
+        }
+        const suspiciousNumbers = ruleConfig.customPatterns.suspiciousNumbers;
+        const minThreshold = PARSER_CONFIG.astTraversal.minHardcodedNumberThreshold;
+        return suspiciousNumbers.includes(value) && value > minThreshold;
+    }
+
     checkSilentFallbacksInAST(node, violations) {
         try {
             // ! ตรวจสอบ catch block ว่าเป็น silent fallback หรือไม่
@@ -1659,7 +2226,7 @@ class SmartParserEngine {
                         ruleId: RULE_IDS.NO_SILENT_FALLBACKS,
                         severity: SEVERITY_LEVELS.CRITICAL,
                         message: 'AST: Empty catch block detected - silent error handling',
-                        location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                        location: this.locationOf(node)
                     });
                 }
 
@@ -1674,7 +2241,7 @@ class SmartParserEngine {
                                 ruleId: RULE_IDS.NO_SILENT_FALLBACKS,
                                 severity: SEVERITY_LEVELS.CRITICAL,
                                 message: 'AST: Silent return in catch block detected',
-                                location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                                location: this.locationOf(node)
                             });
                         }
                     }
@@ -1707,7 +2274,7 @@ class SmartParserEngine {
                         ruleId: RULE_IDS.NO_SILENT_FALLBACKS,
                         severity: SEVERITY_LEVELS.CRITICAL,
                         message: 'AST: Silent fallback with || operator detected',
-                        location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                        location: this.locationOf(node)
                     });
                 }
             }
@@ -1722,38 +2289,6 @@ class SmartParserEngine {
         }
     }
 
-    checkPromiseCatchFallbacks(node, violations) {
-        try {
-            // ! ตรวจสอบ .catch() handlers
-            if (node.arguments && node.arguments.length > 0) {
-                const handler = node.arguments[0];
-
-                // ! Empty function handler: .catch(() => {})
-                if (handler.type === 'ArrowFunctionExpression' || handler.type === 'FunctionExpression') {
-                    const body = handler.body;
-
-                    // ! Empty block statement
-                    if (body.type === 'BlockStatement' && body.body.length === 0) {
-                        violations.push({
-                            ruleId: RULE_IDS.NO_SILENT_FALLBACKS,
-                            severity: SEVERITY_LEVELS.CRITICAL,
-                            message: 'AST: Empty Promise catch handler detected',
-                            location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
-                        });
-                    }
-                }
-            }
-        } catch (error) {
-            errorHandler.handleError(error, {
-                source: 'SmartParserEngine',
-                method: 'checkPromiseCatchFallbacks',
-                severity: 'CRITICAL',
-                context: 'Bug in validation logic for Promise catch detection'
-            });
-            throw error;
-        }
-    }
-
     checkAsyncFunctionWithoutTryCatch(node, violations) {
         try {
             // ! ตรวจสอบ async function ที่มี await แต่ไม่มี try-catch
@@ -1775,7 +2310,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_SILENT_FALLBACKS,
                     severity: SEVERITY_LEVELS.CRITICAL,
                     message: 'AST: Async function with await but no error handling detected',
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
         } catch (error) {
@@ -1791,6 +2326,16 @@ class SmartParserEngine {
 
     traverseNodeForPatterns(node, callback) {
         if (!node) return;
+
+        // ! Arena node: descendants อยู่ติดกันใน [index, subtreeEnd) - ไม่ต้อง recurse
+        if (node instanceof ArenaNodeView) {
+            node.arena.forEachInSubtree(node.index, callback);
+            return;
+        }
+        if (Array.isArray(node)) {
+            node.forEach(item => this.traverseNodeForPatterns(item, callback));
+            return;
+        }
         
         callback(node);
 
@@ -1820,7 +2365,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_INTERNAL_CACHING,
                     severity: SEVERITY_LEVELS.WARNING,
                     message: `AST: Potential caching variable: "${varName}"`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
         } catch (error) {
@@ -1844,7 +2389,7 @@ class SmartParserEngine {
                         ruleId: RULE_IDS.NO_INTERNAL_CACHING,
                         severity: SEVERITY_LEVELS.WARNING,
                         message: `AST: Caching property detected: "${node.property.name}"`,
-                        location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                        location: this.locationOf(node)
                     });
                 }
             }
@@ -1872,7 +2417,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_INTERNAL_CACHING,
                     severity: SEVERITY_LEVELS.WARNING,
                     message: 'AST: Lodash memoize() function detected',
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
 
@@ -1882,7 +2427,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_INTERNAL_CACHING,
                     severity: SEVERITY_LEVELS.WARNING,
                     message: 'AST: Memoize function call detected',
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
 
@@ -1892,7 +2437,7 @@ class SmartParserEngine {
                     ruleId: RULE_IDS.NO_INTERNAL_CACHING,
                     severity: SEVERITY_LEVELS.WARNING,
                     message: 'AST: React useMemo() detected - internal memoization',
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    location: this.locationOf(node)
                 });
             }
         } catch (error) {
@@ -1918,28 +2463,15 @@ class SmartParserEngine {
                 return; // ! Only check actual string literals
             }
             
-            // ! Read emoji pattern from configuration (NO_HARDCODE compliance)
-            const emojiRegexStr = this.config?.ruleChecking?.customPatterns?.emojiRegex || '';
-            if (!emojiRegexStr) {
-                return; // ! Skip if no configuration
-            }
-            
-            const emojiPattern = new RegExp(emojiRegexStr, 'gu');
-            
-            emojiPattern.lastIndex = 0; // ! Reset regex state
-            let match;
-            while ((match = emojiPattern.exec(text)) !== null) {
+            // ! ใช้ EmojiScanner ที่ compile ไว้ตอนสร้าง engine - string ที่เป็น ASCII ล้วนผ่านไปใน loop เดียว
+            this.emojiScanner.scan(text, (emoji) => {
                 violations.push({
                     ruleId: RULE_IDS.NO_EMOJI,
                     severity: SEVERITY_LEVELS.WARNING,
-                    message: `AST: Emoji detected: "${match[0]}"`,
-                    location: node.loc?.start ? node.loc.start : DEFAULT_LOCATION
+                    message: `AST: Emoji detected: "${emoji}"`,
+                    location: this.locationOf(node)
                 });
-                
-                if (emojiPattern.lastIndex === match.index) {
-                    emojiPattern.lastIndex++;
-                }
-            }
+            });
         } catch (error) {
             errorHandler.handleError(error, {
                 source: 'SmartParserEngine',
@@ -1958,7 +2490,7 @@ class SmartParserEngine {
         const violations = [];
         
         // ! NO_EMOJI Detection - ตรวจทุก STRING และ COMMENT token
-        violations.push(...this.detectEmojiViolations(tokens));
+        violations.push(...this.detectEmojiViolations(tokens, code));
         
         // !   NO_HARDCODE Detection - ตรวจ STRING และ NUMBER token
         violations.push(...this.detectHardcodeViolations(tokens));
@@ -1978,38 +2510,25 @@ class SmartParserEngine {
 
     // !  ตรวจจับ Emoji (Memory Safe)
 
-    detectEmojiViolations(tokens) {
+    detectEmojiViolations(tokens, code) {
         const violations = [];
         
-        // ! MEMORY PROTECTION: ใช้แค่ regex หลักเพื่อป้องกัน memory leak รวม checkmark และ symbols
-        const primaryEmojiPattern = /[\u{1F600}-\u{1F64F}]|[\u{1F300}-\u{1F5FF}]|[\u{1F680}-\u{1F6FF}]|[\u{2600}-\u{26FF}]|[\u{2700}-\u{27BF}]|[\u{2702}-\u{27B0}]|[\u{2194}-\u{21AA}]|[\u{231A}-\u{23FA}]|[\u{FE00}-\u{FE0F}]/gu;
-        
-        let checkedTokens = 0;
-        const maxTokensToCheck = PARSER_CONFIG.astTraversal.maxTokensToCheck;
-        
-        tokens.forEach(token => {
-            if (checkedTokens >= maxTokensToCheck) return;
-            
-            if (token.type === 'STRING' || token.type === 'COMMENT') {
-                checkedTokens++;
-                
-                // ! Reset regex state to prevent infinite loops
-                primaryEmojiPattern.lastIndex = 0;
-                
-                let match;
-                let matchCount = 0;
-                const maxEmojiMatches = PARSER_CONFIG.astTraversal.maxEmojiMatches;
-                while ((match = primaryEmojiPattern.exec(token.value)) !== null && matchCount < maxEmojiMatches) {
-                    violations.push({
-                        ruleId: RULE_IDS.NO_EMOJI,
-                        severity: SEVERITY_LEVELS.ERROR,
-                        message: `Emoji "${match[0]}" found in ${token.type.toLowerCase()}`,
-                        location: token.location,
-                        emoji: match[0]
-                    });
-                    matchCount++;
-                }
+        // ! สแกนทั้งไฟล์ (string, comment, template, identifier) ในรอบเดียว - ไม่มี token cap
+        // ! ไฟล์ที่ไม่มี emoji ไม่สร้าง object ใดๆ เลย  LineIndex สร้างเมื่อเจอ emoji ตัวแรกเท่านั้น
+        let lineIndex = null;
+        this.emojiScanner.scan(code, (emoji, index) => {
+            if (!lineIndex) {
+                lineIndex = tokens.lineIndex && tokens.lineIndex.source === code
+                    ? tokens.lineIndex
+                    : new LineIndex(code);
             }
+            violations.push({
+                ruleId: RULE_IDS.NO_EMOJI,
+                severity: SEVERITY_LEVELS.ERROR,
+                message: `Emoji "${emoji}" found in source`,
+                location: lineIndex.absoluteToLineColumn(index),
+                emoji: emoji
+            });
         });
         
         return violations;
@@ -2137,8 +2656,9 @@ class SmartParserEngine {
             return violations;
         }
         
-        // ! สร้าง code string จาก tokens
-        const codeString = tokens.map(token => token.value || '').join(' ');
+        // ! สร้าง code string จาก tokens (พร้อมตาราง offset ของแต่ละ token สำหรับย้อนหา location)
+        const joinedText = new JoinedTokenText(tokens);
+        const codeString = joinedText.text;
         
         // ! ตรวจสอบแต่ละ pattern จาก GrammarIndex
         silentFallbackPatterns.forEach((pattern, patternIndex) => {
@@ -2163,16 +2683,13 @@ class SmartParserEngine {
                 while ((match = regex.exec(codeString)) !== null && matchCount < maxMatches) {
                     matchCount++;
                     
-                    const lineNumber = this.estimateLineFromMatch(tokens, match.index);
+                    const location = this.locationFromMatch(joinedText, match.index);
                     
                     violations.push({
                         ruleId: RULE_IDS.NO_SILENT_FALLBACKS,
                         severity: pattern.severity || 'ERROR',
                         message: `Silent fallback detected: ${pattern.name}`,
-                        location: { 
-                            line: lineNumber,
-                            column: 1 
-                        }
+                        location: location
                     });
                     
                     if (regex.lastIndex === match.index) {
@@ -2559,38 +3076,17 @@ class SmartParserEngine {
         return violations;
     }
 
-    // ! Helper: ประมาณการ line number จาก string position ใน match
-    estimateLineFromMatch(tokens, matchIndex) {
-        if (!tokens || tokens.length === 0) {
-            console.warn(`Could not estimate line number: no tokens provided for match at index ${matchIndex}`);
-            return -1; // ! ไม่สามารถหา line number ได้
-        }
-        
-        let currentPosition = 0;
-        
-        for (let i = 0; i < tokens.length; i++) {
-            const token = tokens[i];
-            const tokenLength = (token.value ? token.value.length : 0) + 1;
-            
-            if (currentPosition + tokenLength >= matchIndex) {
-                if (token.location && token.location.line) {
-                    return token.location.line;
-                }
-                console.warn(`Could not estimate line number: token at index ${i} has no location data for match at index ${matchIndex}`);
-                return -1;
-            }
-            
-            currentPosition += tokenLength;
+    // ! Helper: หา location ของ token ที่ regex match ตกอยู่ (binary search บนตาราง offset)
+    // ! token.location มาจาก LineIndex ที่ tokenizer สร้างไว้ - ไม่ต้องเดิน token ทั้ง array ต่อ match
+    locationFromMatch(joinedText, matchIndex) {
+        const token = joinedText.tokenAt(matchIndex);
+        if (!token) {
+            throw new Error(`Could not locate match at index ${matchIndex}: no tokens provided`);
         }
-        
-        const lastToken = tokens[tokens.length - 1];
-        if (lastToken && lastToken.location && lastToken.location.line) {
-            return lastToken.location.line;
+        if (!token.location) {
+            throw new Error(`Could not locate match at index ${matchIndex}: token "${token.value}" has no location (tokens must come from the tokenizer)`);
         }
-
-        // ! ไม่สามารถหา line number ได้, ควรแจ้งให้ทราบ
-        console.warn(`Could not estimate line number for match at index ${matchIndex}: no valid location data found`);
-        return -1;
+        return token.location;
     }
 }
 